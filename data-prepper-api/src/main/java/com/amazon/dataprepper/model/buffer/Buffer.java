@@ -53,4 +53,26 @@ public interface Buffer<T extends Record<?>> {
     void checkpoint(CheckpointState checkpointState);
 
     boolean isEmpty();
+
+    /**
+     * Returns an estimate of the number of records which can currently be written without waiting. Sources may use
+     * it to reject requests before doing work for records which the buffer cannot accept.
+     *
+     * @return the estimated remaining capacity, or {@link Integer#MAX_VALUE} if the buffer does not track its capacity
+     * @since 1.5
+     */
+    default int getRemainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the maximum number of records the buffer can hold. Sources may use it to reject requests which can never
+     * be written, regardless of how long they wait.
+     *
+     * @return the total capacity, or {@link Integer#MAX_VALUE} if the buffer does not track its capacity
+     * @since 1.5
+     */
+    default int getMaxCapacity() {
+        return Integer.MAX_VALUE;
+    }
 }
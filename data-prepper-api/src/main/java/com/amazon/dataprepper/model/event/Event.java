@@ -40,6 +40,28 @@ public interface Event {
      */
     <T> T get(String key, Class<T> clazz);
 
+    /**
+     * Moves the value of a key to another key without converting it, removing the source key and replacing any value
+     * of the destination key
+     *
+     * @param fromKey the key of the value to move
+     * @param toKey the key to move the value to
+     * @return true if the source key exists and its value was moved, otherwise false
+     * @since 1.5
+     */
+    boolean move(String fromKey, String toKey);
+
+    /**
+     * Copies the value of a key to another key without converting it, replacing any value of the destination key.
+     * The copy is independent of the source value.
+     *
+     * @param fromKey the key of the value to copy
+     * @param toKey the key to copy the value to
+     * @return true if the source key exists and its value was copied, otherwise false
+     * @since 1.5
+     */
+    boolean copy(String fromKey, String toKey);
+
     /**
      * Retrieves the given key from the Event as a List
      *
@@ -21,12 +21,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -64,6 +63,15 @@ public class JacksonEvent implements Event {
 
     static final int MAX_KEY_LENGTH = 2048;
 
+    static final int MAX_RESOLVED_KEYS = 1024;
+
+    /**
+     * Keys which have been validated, with their JsonPointers. Processors use the same configured keys for every Event,
+     * so each key is resolved once and shared by all Events and processors. Once the cache is full, further keys are
+     * resolved on every use, so keys taken from the data of the Events cannot grow it without bound.
+     */
+    private static final Map<String, ResolvedKey> RESOLVED_KEYS = new ConcurrentHashMap<>();
+
     static final String MESSAGE_KEY = "message";
 
     static final String EVENT_TYPE = "event";
@@ -94,6 +102,8 @@ public class JacksonEvent implements Event {
 
         if (data == null) {
             return mapper.valueToTree(new HashMap<>());
+        } else if (data instanceof JsonNode) {
+            return (JsonNode) data;
         } else if (data instanceof String) {
             try {
                 return mapper.readTree((String) data);
@@ -117,26 +127,23 @@ public class JacksonEvent implements Event {
     @Override
     public void put(final String key, final Object value) {
 
-        final String trimmedKey = checkAndTrimKey(key);
+        putNode(resolveKey(key), mapper.valueToTree(value));
+    }
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
+    private void putNode(final ResolvedKey resolvedKey, final JsonNode valueNode) {
+        final String[] keys = resolvedKey.pathKeys;
 
         JsonNode parentNode = jsonNode;
-
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        for (int i = 0; i < keys.length; i++) {
+            if (i == keys.length - 1) {
+                setNode(parentNode, keys[i], valueNode);
+            } else if (!keys[i].isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, keys[i]);
             }
         }
     }
 
-    private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
-        final JsonNode valueNode = mapper.valueToTree(value);
+    private void setNode(final JsonNode parentNode, final String leafKey, final JsonNode valueNode) {
         if (StringUtils.isNumeric(leafKey)) {
             ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
         } else {
@@ -164,9 +171,7 @@ public class JacksonEvent implements Event {
     @Override
     public <T> T get(final String key, final Class<T> clazz) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(resolveKey(key));
         if (node.isMissingNode()) {
             return null;
         }
@@ -174,9 +179,8 @@ public class JacksonEvent implements Event {
         return mapNodeToObject(key, node, clazz);
     }
 
-    private JsonNode getNode(final String key) {
-        final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+    private JsonNode getNode(final ResolvedKey resolvedKey) {
+        return jsonNode.at(resolvedKey.jsonPointer);
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -188,6 +192,51 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Moves the value of a key to another key. The value is moved as a JSON node, without being converted to and from
+     * Java objects.
+     * @param fromKey the key of the value to move
+     * @param toKey the key to move the value to
+     * @return true if the source key exists and its value was moved, otherwise false
+     * @since 1.5
+     */
+    @Override
+    public boolean move(final String fromKey, final String toKey) {
+        final ResolvedKey resolvedFromKey = resolveKey(fromKey);
+        final ResolvedKey resolvedToKey = resolveKey(toKey);
+
+        final JsonNode node = getNode(resolvedFromKey);
+        if (node.isMissingNode()) {
+            return false;
+        }
+        if (!resolvedFromKey.trimmedKey.equals(resolvedToKey.trimmedKey)) {
+            deleteNode(resolvedFromKey);
+            putNode(resolvedToKey, node);
+        }
+        return true;
+    }
+
+    /**
+     * Copies the value of a key to another key. The value is copied as a JSON node, without being converted to and
+     * from Java objects.
+     * @param fromKey the key of the value to copy
+     * @param toKey the key to copy the value to
+     * @return true if the source key exists and its value was copied, otherwise false
+     * @since 1.5
+     */
+    @Override
+    public boolean copy(final String fromKey, final String toKey) {
+        final ResolvedKey resolvedFromKey = resolveKey(fromKey);
+        final ResolvedKey resolvedToKey = resolveKey(toKey);
+
+        final JsonNode node = getNode(resolvedFromKey);
+        if (node.isMissingNode()) {
+            return false;
+        }
+        putNode(resolvedToKey, node.deepCopy());
+        return true;
+    }
+
     /**
      * Retrieves the given key from the Event as a List
      * @param key the value to retrieve from
@@ -199,9 +248,7 @@ public class JacksonEvent implements Event {
     @Override
     public <T> List<T> getList(final String key, final Class<T> clazz) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(resolveKey(key));
         if (node.isMissingNode()) {
             return null;
         }
@@ -219,11 +266,6 @@ public class JacksonEvent implements Event {
         }
     }
 
-    private JsonPointer toJsonPointer(final String key) {
-        String jsonPointerExpression = SEPARATOR + key;
-        return JsonPointer.compile(jsonPointerExpression);
-    }
-
     /**
      * Deletes the key from the event.
      *
@@ -232,20 +274,14 @@ public class JacksonEvent implements Event {
     @Override
     public void delete(final String key) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        deleteNode(resolveKey(key));
+    }
 
-        JsonNode baseNode = jsonNode;
-        String leafKey = trimmedKey;
-
-        if (index != -1) {
-            final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
-            leafKey = trimmedKey.substring(index + 1);
-        }
+    private void deleteNode(final ResolvedKey resolvedKey) {
+        final JsonNode baseNode = resolvedKey.parentJsonPointer == null ? jsonNode : jsonNode.at(resolvedKey.parentJsonPointer);
 
         if (!baseNode.isMissingNode()) {
-            ((ObjectNode) baseNode).remove(leafKey);
+            ((ObjectNode) baseNode).remove(resolvedKey.leafKey);
         }
     }
 
@@ -262,18 +298,14 @@ public class JacksonEvent implements Event {
     @Override
     public boolean containsKey(final String key) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(resolveKey(key));
 
         return !node.isMissingNode();
     }
 
     @Override
     public boolean isValueAList(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(resolveKey(key));
 
         return node.isArray();
     }
@@ -283,9 +315,19 @@ public class JacksonEvent implements Event {
         return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
     }
 
-    private String checkAndTrimKey(final String key) {
+    private ResolvedKey resolveKey(final String key) {
+        checkNotNull(key, "key cannot be null");
+        final ResolvedKey cachedResolvedKey = RESOLVED_KEYS.get(key);
+        if (cachedResolvedKey != null) {
+            return cachedResolvedKey;
+        }
+
         checkKey(key);
-        return trimKey(key);
+        final ResolvedKey resolvedKey = new ResolvedKey(trimKey(key));
+        if (RESOLVED_KEYS.size() < MAX_RESOLVED_KEYS) {
+            RESOLVED_KEYS.putIfAbsent(key, resolvedKey);
+        }
+        return resolvedKey;
     }
 
     private void checkKey(final String key) {
@@ -335,6 +377,26 @@ public class JacksonEvent implements Event {
         return true;
     }
 
+    /**
+     * A validated and trimmed key with the JsonPointers and path needed to read, write and delete it.
+     */
+    private static class ResolvedKey {
+        private final String trimmedKey;
+        private final JsonPointer jsonPointer;
+        private final JsonPointer parentJsonPointer;
+        private final String leafKey;
+        private final String[] pathKeys;
+
+        private ResolvedKey(final String trimmedKey) {
+            this.trimmedKey = trimmedKey;
+            jsonPointer = JsonPointer.compile(SEPARATOR + trimmedKey);
+            final int index = trimmedKey.lastIndexOf(SEPARATOR);
+            parentJsonPointer = index == -1 ? null : JsonPointer.compile(SEPARATOR + trimmedKey.substring(0, index));
+            leafKey = trimmedKey.substring(index + 1);
+            pathKeys = trimmedKey.split(SEPARATOR);
+        }
+    }
+
     /**
      * Constructs an empty builder.
      * @return a builder
@@ -403,7 +465,7 @@ public class JacksonEvent implements Event {
         }
 
         /**
-         * Sets the data of the event.
+         * Sets the data of the event. A {@link JsonNode} is used as the event data as is, without being copied.
          * @param data the data
          * @since 1.2
          */
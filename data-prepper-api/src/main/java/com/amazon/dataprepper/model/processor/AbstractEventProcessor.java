@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.processor;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+
+import java.util.Collection;
+
+/**
+ * @since 1.5
+ * Abstract implementation of a {@link FusableProcessor}. Extensions of this class implement the processing of a
+ * single Event in the processEvent function, which is applied to every Event of the batch when the processor is
+ * executed on its own. doExecute is final because fused processors only call processEvent, so any other batch
+ * behavior would be skipped once the processor is fused.
+ */
+public abstract class AbstractEventProcessor extends AbstractProcessor<Record<Event>, Record<Event>> implements FusableProcessor {
+
+    protected AbstractEventProcessor(final PluginMetrics pluginMetrics) {
+        super(pluginMetrics);
+    }
+
+    @Override
+    public final Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
+        for (final Record<Event> record : records) {
+            processEvent(record.getData());
+        }
+        return records;
+    }
+
+    @Override
+    public void recordFusedExecution(final int recordCount, final long elapsedNanos) {
+        recordExecution(recordCount, recordCount, elapsedNanos);
+    }
+}
@@ -14,6 +14,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @since 1.2
@@ -57,6 +58,19 @@ public abstract class AbstractProcessor<InputRecord extends Record<?>, OutputRec
         return result;
     }
 
+    /**
+     * Records the metrics of a batch which was processed without calling {@link #execute(Collection)}.
+     *
+     * @param recordsIn Number of records received
+     * @param recordsOut Number of records returned
+     * @param elapsedNanos Time spent processing the records
+     */
+    void recordExecution(final int recordsIn, final int recordsOut, final long elapsedNanos) {
+        recordsInCounter.increment(recordsIn);
+        timeElapsedTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        recordsOutCounter.increment(recordsOut);
+    }
+
     /**
      * @since 1.2
      * This function should implement the processing logic of the processor
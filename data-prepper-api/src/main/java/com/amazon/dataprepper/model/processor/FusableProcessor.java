@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.processor;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+
+/**
+ * @since 1.5
+ * A {@link Processor} which modifies each {@link Event} in place, independently of the other Events of the batch,
+ * and returns the records it receives. Consecutive fusable processors are run by the pipeline as a single operator
+ * which makes one pass over the batch, applying each processor to an Event before moving to the next Event.
+ */
+public interface FusableProcessor extends Processor<Record<Event>, Record<Event>> {
+
+    /**
+     * @since 1.5
+     * Processes a single Event in place.
+     *
+     * @param event The Event to process
+     */
+    void processEvent(Event event);
+
+    /**
+     * @since 1.5
+     * Records the metrics of a batch which was processed through {@link #processEvent(Event)} as part of a fused
+     * operator, instead of through {@link #execute(java.util.Collection)}.
+     *
+     * @param recordCount Number of records in the batch
+     * @param elapsedNanos Time spent in {@link #processEvent(Event)} for the Events of the batch
+     */
+    void recordFusedExecution(int recordCount, long elapsedNanos);
+}
@@ -186,6 +186,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
     public static class Builder extends JacksonEvent.Builder<Builder> {
 
         private final Map<String, Object> data;
+        private ObjectNode jsonNode;
 
         public Builder() {
             data = new HashMap();
@@ -376,15 +377,33 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Sets all fields of the span from a JSON object which was already built, for example by a decoder writing
+         * the span in a single pass. The JSON object becomes the span data without being copied, and fields set
+         * through the other builder methods are ignored.
+         * @param jsonNode the span fields
+         * @since 1.5
+         */
+        public Builder withJsonNode(final ObjectNode jsonNode) {
+            this.jsonNode = jsonNode;
+            return this;
+        }
+
         /**
          * Returns a newly created {@link JacksonSpan}
          * @return a JacksonSpan
          * @since 1.2
          */
         public JacksonSpan build() {
-            validateParameters();
-            checkAndSetDefaultValues();
-            this.withData(data);
+            if (jsonNode != null) {
+                validateJsonNode();
+                checkAndSetDefaultJsonNodeValues();
+                this.withData(jsonNode);
+            } else {
+                validateParameters();
+                checkAndSetDefaultValues();
+                this.withData(data);
+            }
             this.withEventType(EventType.TRACE.toString());
             return new JacksonSpan(this);
         }
@@ -406,6 +425,48 @@ public class JacksonSpan extends JacksonEvent implements Span {
             });
         }
 
+        private void validateJsonNode() {
+            REQUIRED_KEYS.forEach(key -> {
+                checkState(jsonNode.has(key), key + " need to be assigned");
+            });
+
+            REQUIRED_NON_EMPTY_KEYS.forEach(key -> {
+                final JsonNode value = jsonNode.get(key);
+                checkNotNull(isMissingOrNull(value) ? null : value, key + " cannot be null");
+                checkArgument(!value.asText().isEmpty(),  key + " cannot be an empty string");
+            });
+
+            REQUIRED_NON_NULL_KEYS.forEach(key -> {
+                final JsonNode value = jsonNode.get(key);
+                checkNotNull(isMissingOrNull(value) ? null : value, key + " cannot be null");
+            });
+        }
+
+        private boolean isMissingOrNull(final JsonNode value) {
+            return value == null || value.isNull();
+        }
+
+        private void checkAndSetDefaultJsonNodeValues() {
+            if (!jsonNode.has(ATTRIBUTES_KEY)) {
+                jsonNode.putObject(ATTRIBUTES_KEY);
+            }
+            if (!jsonNode.has(DROPPED_ATTRIBUTES_COUNT_KEY)) {
+                jsonNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
+            }
+            if (!jsonNode.has(LINKS_KEY)) {
+                jsonNode.putArray(LINKS_KEY);
+            }
+            if (!jsonNode.has(DROPPED_LINKS_COUNT_KEY)) {
+                jsonNode.put(DROPPED_LINKS_COUNT_KEY, 0);
+            }
+            if (!jsonNode.has(EVENTS_KEY)) {
+                jsonNode.putArray(EVENTS_KEY);
+            }
+            if (!jsonNode.has(DROPPED_EVENTS_COUNT_KEY)) {
+                jsonNode.put(DROPPED_EVENTS_COUNT_KEY, 0);
+            }
+        }
+
         private void checkAndSetDefaultValues() {
             data.computeIfAbsent(ATTRIBUTES_KEY, k -> new HashMap<>());
             data.putIfAbsent(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
@@ -7,6 +7,9 @@ package org.opensearch.dataprepper.expression;
 
 import com.amazon.dataprepper.model.event.Event;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * @since 1.3
  * ExpressionEvaluator interface to abstract the parse and evaluate implementations.
@@ -25,4 +28,26 @@ public interface ExpressionEvaluator<T> {
      * @throws ExpressionEvaluationException if unable to evaluate or coerce the statement result to type T
      */
     T evaluate(final String statement, final Event context);
+
+    /**
+     * @since 1.5
+     * Parse and evaluate the statement string once for every context of a batch. Implementations may evaluate the
+     * batch column by column, which is faster than calling {@link #evaluate(String, Event)} for each context.
+     *
+     * @param statement string to be parsed and evaluated
+     * @param contexts events used to resolve external references in the statement
+     * @return set with bit i set when the statement evaluated to true for the context at index i
+     *
+     * @throws ExpressionEvaluationException if unable to evaluate the statement for any of the contexts. Callers which
+     * need to handle failures per context should fall back to {@link #evaluate(String, Event)}.
+     */
+    default BitSet evaluateBatch(final String statement, final List<Event> contexts) {
+        final BitSet results = new BitSet(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            if (Boolean.TRUE.equals(evaluate(statement, contexts.get(i)))) {
+                results.set(i);
+            }
+        }
+        return results;
+    }
 }
@@ -5,6 +5,8 @@
 
 package com.amazon.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -190,6 +193,18 @@ public class JacksonEventTest {
         assertThat(result, is(nullValue()));
     }
 
+    @Test
+    public void testPutGetAndDelete_withMoreKeysThanAreResolvedOnce() {
+        for (int i = 0; i < JacksonEvent.MAX_RESOLVED_KEYS * 2; i++) {
+            final String key = "nested" + i + "/key" + i;
+            event.put(key, i);
+
+            assertThat(event.get(key, Integer.class), is(equalTo(i)));
+            event.delete(key);
+            assertThat(event.containsKey(key), is(false));
+        }
+    }
+
     @Test
     public void testOverwritingExistingKey() {
         final String key = "foo/bar";
@@ -237,6 +252,78 @@ public class JacksonEventTest {
         assertThat(result, is(nullValue()));
     }
 
+    @Test
+    public void testMove_withNestedValue() {
+        final Map<String, Object> value = Collections.singletonMap("bar", UUID.randomUUID().toString());
+        event.put("foo", value);
+
+        final boolean moved = event.move("foo", "baz/qux");
+
+        assertThat(moved, is(true));
+        assertThat(event.containsKey("foo"), is(false));
+        assertThat(event.get("baz/qux", Map.class), is(equalTo(value)));
+    }
+
+    @Test
+    public void testMove_intoChildOfItself() {
+        final String value = UUID.randomUUID().toString();
+        event.put("foo", value);
+
+        assertThat(event.move("foo", "foo/bar"), is(true));
+
+        assertThat(event.get("foo/bar", String.class), is(equalTo(value)));
+    }
+
+    @Test
+    public void testMove_toSameKey() {
+        final String value = UUID.randomUUID().toString();
+        event.put("foo", value);
+
+        assertThat(event.move("foo", "/foo"), is(true));
+
+        assertThat(event.get("foo", String.class), is(equalTo(value)));
+    }
+
+    @Test
+    public void testMove_withNullValue() {
+        event.put("foo", null);
+
+        assertThat(event.move("foo", "bar"), is(true));
+
+        assertThat(event.containsKey("foo"), is(false));
+        assertThat(event.containsKey("bar"), is(true));
+        assertThat(event.get("bar", Object.class), is(nullValue()));
+    }
+
+    @Test
+    public void testMove_withNonexistentKey() {
+        event.put("bar", "value");
+
+        assertThat(event.move("foo", "bar"), is(false));
+
+        assertThat(event.get("bar", String.class), is(equalTo("value")));
+    }
+
+    @Test
+    public void testCopy_isIndependentOfSource() {
+        final String value = UUID.randomUUID().toString();
+        event.put("foo/bar", value);
+
+        final boolean copied = event.copy("foo", "baz");
+        event.put("baz/bar", "changed");
+
+        assertThat(copied, is(true));
+        assertThat(event.get("foo/bar", String.class), is(equalTo(value)));
+        assertThat(event.get("baz/bar", String.class), is(equalTo("changed")));
+    }
+
+    @Test
+    public void testCopy_withNonexistentKey() {
+        assertThat(event.copy("foo", "bar"), is(false));
+
+        assertThat(event.containsKey("bar"), is(false));
+    }
+
     @Test
     public void testContainsKey_withKey() {
         final String key = "foo";
@@ -456,6 +543,22 @@ public class JacksonEventTest {
         assertThat(event.get("foo", String.class), is(equalTo("bar")));
     }
 
+    @Test
+    public void testBuild_withJsonNodeData() {
+
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode();
+        jsonNode.put("foo", "bar");
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonNode)
+                .getThis()
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(((JacksonEvent) event).getJsonNode(), is(sameInstance(jsonNode)));
+    }
+
     @Test
     public void testBuild_withInvalidStringData() {
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.processor;
+
+import com.amazon.dataprepper.metrics.MetricNames;
+import com.amazon.dataprepper.metrics.MetricsTestUtil;
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Statistic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AbstractEventProcessorTest {
+    private static final String PROCESSOR_NAME = "testEventProcessor";
+    private static final String PIPELINE_NAME = "testPipeline";
+
+    private List<Record<Event>> records;
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+        records = Arrays.asList(createRecord(), createRecord());
+    }
+
+    @Test
+    void execute_processes_every_event_and_returns_the_same_records() {
+        final EventProcessorImpl processor = new EventProcessorImpl(PluginMetrics.fromNames(PROCESSOR_NAME, PIPELINE_NAME));
+
+        final Collection<Record<Event>> result = processor.execute(records);
+
+        assertThat(result, sameInstance(records));
+        for (final Record<Event> record : records) {
+            assertThat(record.getData().get("processed", Boolean.class), equalTo(true));
+        }
+        assertThat(getMeasurement(MetricNames.RECORDS_IN, Statistic.COUNT), equalTo(2.0));
+        assertThat(getMeasurement(MetricNames.RECORDS_OUT, Statistic.COUNT), equalTo(2.0));
+        assertThat(getMeasurement(MetricNames.TIME_ELAPSED, Statistic.COUNT), equalTo(1.0));
+    }
+
+    @Test
+    void doExecute_is_final_so_fused_execution_matches_standalone_execution() throws NoSuchMethodException {
+        final int modifiers = AbstractEventProcessor.class.getMethod("doExecute", Collection.class).getModifiers();
+
+        assertThat(Modifier.isFinal(modifiers), is(true));
+    }
+
+    @Test
+    void recordFusedExecution_records_the_batch_metrics() {
+        final EventProcessorImpl processor = new EventProcessorImpl(PluginMetrics.fromNames(PROCESSOR_NAME, PIPELINE_NAME));
+
+        processor.recordFusedExecution(5, TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertThat(getMeasurement(MetricNames.RECORDS_IN, Statistic.COUNT), equalTo(5.0));
+        assertThat(getMeasurement(MetricNames.RECORDS_OUT, Statistic.COUNT), equalTo(5.0));
+        assertThat(getMeasurement(MetricNames.TIME_ELAPSED, Statistic.COUNT), equalTo(1.0));
+        assertThat(getMeasurement(MetricNames.TIME_ELAPSED, Statistic.TOTAL_TIME), equalTo(0.2));
+    }
+
+    private static double getMeasurement(final String metricName, final Statistic statistic) {
+        final List<Measurement> measurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PROCESSOR_NAME).add(metricName).toString());
+        return MetricsTestUtil.getMeasurementFromList(measurements, statistic).getValue();
+    }
+
+    private static Record<Event> createRecord() {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .build());
+    }
+
+    private static class EventProcessorImpl extends AbstractEventProcessor {
+        EventProcessorImpl(final PluginMetrics pluginMetrics) {
+            super(pluginMetrics);
+        }
+
+        @Override
+        public void processEvent(final Event event) {
+            event.put("processed", true);
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
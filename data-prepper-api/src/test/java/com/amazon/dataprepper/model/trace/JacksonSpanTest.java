@@ -9,6 +9,7 @@ import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -473,4 +474,83 @@ public class JacksonSpanTest {
 
         assertThrows(NullPointerException.class, builder::build);
     }
+
+    private ObjectNode createSpanJsonNode() {
+        final ObjectNode jsonNode = mapper.createObjectNode();
+        jsonNode.put("traceId", TEST_TRACE_ID);
+        jsonNode.put("spanId", TEST_SPAN_ID);
+        jsonNode.put("traceState", TEST_TRACE_STATE);
+        jsonNode.put("parentSpanId", TEST_PARENT_SPAN_ID);
+        jsonNode.put("name", TEST_NAME);
+        jsonNode.put("serviceName", TEST_SERVICE_NAME);
+        jsonNode.put("kind", TEST_KIND);
+        jsonNode.put("startTime", TEST_START_TIME);
+        jsonNode.put("endTime", TEST_END_TIME);
+        jsonNode.put("traceGroup", TEST_TRACE_GROUP);
+        jsonNode.put("durationInNanos", TEST_DURATION_IN_NANOS);
+        jsonNode.set("traceGroupFields", mapper.valueToTree(defaultTraceGroupFields));
+        return jsonNode;
+    }
+
+    @Test
+    public void testBuilder_withJsonNode_createsSpan() {
+        final JacksonSpan span = JacksonSpan.builder()
+                .withJsonNode(createSpanJsonNode())
+                .build();
+
+        assertThat(span.getTraceId(), is(equalTo(TEST_TRACE_ID)));
+        assertThat(span.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+        assertThat(span.getName(), is(equalTo(TEST_NAME)));
+        assertThat(span.getServiceName(), is(equalTo(TEST_SERVICE_NAME)));
+        assertThat(span.getTraceGroup(), is(equalTo(TEST_TRACE_GROUP)));
+        assertThat(span.getDurationInNanos(), is(equalTo(TEST_DURATION_IN_NANOS)));
+        assertThat(span.getTraceGroupFields(), is(equalTo(defaultTraceGroupFields)));
+        assertThat(span.getMetadata().getEventType(), is(equalTo("TRACE")));
+    }
+
+    @Test
+    public void testBuilder_withJsonNode_createsSpanWithDefaultValues() {
+        final JacksonSpan span = JacksonSpan.builder()
+                .withJsonNode(createSpanJsonNode())
+                .build();
+
+        assertThat(span.getAttributes(), is(equalTo(new HashMap<>())));
+        assertThat(span.getDroppedAttributesCount(), is(equalTo(0)));
+        assertThat(span.getLinks(), is(equalTo(new LinkedList<>())));
+        assertThat(span.getDroppedLinksCount(), is(equalTo(0)));
+        assertThat(span.getEvents(), is(equalTo(new LinkedList<>())));
+        assertThat(span.getDroppedEventsCount(), is(equalTo(0)));
+    }
+
+    @Test
+    public void testBuilder_withJsonNode_missingTraceGroupKey_throwsIllegalStateException() {
+        final ObjectNode jsonNode = createSpanJsonNode();
+        jsonNode.remove("traceGroup");
+        final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withJsonNode_withEmptyTraceId_throwsIllegalArgumentException() {
+        final ObjectNode jsonNode = createSpanJsonNode();
+        jsonNode.put("traceId", "");
+        final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withJsonNode_withNullName_throwsNullPointerException() {
+        final ObjectNode jsonNode = createSpanJsonNode();
+        jsonNode.putNull("name");
+        final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+        assertThrows(NullPointerException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withJsonNode_missingDurationInNanos_throwsNullPointerException() {
+        final ObjectNode jsonNode = createSpanJsonNode();
+        jsonNode.remove("durationInNanos");
+        final JacksonSpan.Builder builder = JacksonSpan.builder().withJsonNode(jsonNode);
+        assertThrows(NullPointerException.class, builder::build);
+    }
 }
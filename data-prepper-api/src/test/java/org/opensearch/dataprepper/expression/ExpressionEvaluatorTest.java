@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ExpressionEvaluatorTest {
+
+    @Test
+    void testEvaluateBatchEvaluatesEachContext() {
+        final Event trueEvent = mock(Event.class);
+        final Event falseEvent = mock(Event.class);
+        final ExpressionEvaluator<Boolean> objectUnderTest = (statement, context) -> context == trueEvent;
+        final List<Event> events = Arrays.asList(trueEvent, falseEvent, trueEvent);
+
+        final BitSet results = objectUnderTest.evaluateBatch("statement", events);
+
+        assertThat(results.get(0), is(true));
+        assertThat(results.get(1), is(false));
+        assertThat(results.get(2), is(true));
+    }
+
+    @Test
+    void testEvaluateBatchWithNonBooleanResults() {
+        final ExpressionEvaluator<Object> objectUnderTest = (statement, context) -> "true";
+
+        final BitSet results = objectUnderTest.evaluateBatch("statement", Collections.singletonList(mock(Event.class)));
+
+        assertThat(results.isEmpty(), is(true));
+    }
+
+    @Test
+    void testEvaluateBatchThrowsWhenAnyContextFails() {
+        final ExpressionEvaluator<Boolean> objectUnderTest = (statement, context) -> {
+            throw new ExpressionEvaluationException("failed", null);
+        };
+
+        assertThrows(ExpressionEvaluationException.class,
+                () -> objectUnderTest.evaluateBatch("statement", Collections.singletonList(mock(Event.class))));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.date;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.processor.date.DateProcessor;
+import com.amazon.dataprepper.plugins.processor.date.DateProcessorConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Benchmarks the date processor on timestamps which all match the last configured pattern, either as the only pattern
+ * or after a pattern which does not match.
+ */
+@State(Scope.Thread)
+public class DateProcessorBenchmarks {
+    private static final String TIMESTAMP_PATTERN = "dd/MMM/yyyy:HH:mm:ss Z";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN, Locale.ROOT)
+            .withZone(ZoneOffset.ofHours(-7));
+    private static final Instant FIRST_TIMESTAMP = Instant.parse("2000-10-10T20:55:36Z");
+
+    @Param({"single_pattern", "second_pattern"})
+    private String patterns;
+
+    @Param("100")
+    private int batchSize;
+
+    private DateProcessor dateProcessor;
+    private Collection<Record<Event>> records;
+
+    @Setup(Level.Trial)
+    public void setupDateProcessor() {
+        final Map<String, Object> match = new HashMap<>();
+        match.put("key", "logDate");
+        match.put("patterns", "single_pattern".equals(patterns)
+                ? Collections.singletonList(TIMESTAMP_PATTERN)
+                : Arrays.asList("yyyy-MM-dd'T'HH:mm:ss", TIMESTAMP_PATTERN));
+        final Map<String, Object> settings = Collections.singletonMap("match", Collections.singletonList(match));
+        final DateProcessorConfig dateProcessorConfig = new ObjectMapper().convertValue(settings, DateProcessorConfig.class);
+
+        final Validator validator = Validation.byDefaultProvider()
+                .configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory()
+                .getValidator();
+        final Set<ConstraintViolation<DateProcessorConfig>> violations = validator.validate(dateProcessorConfig);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Invalid date processor configuration: " + violations);
+        }
+
+        dateProcessor = new DateProcessor(PluginMetrics.fromNames("date", "benchmark"), dateProcessorConfig);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupRecords() {
+        records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("logDate", TIMESTAMP_FORMATTER.format(FIRST_TIMESTAMP.plusSeconds(i))))
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Collection<Record<Event>> benchmarkExecute() {
+        return dateProcessor.execute(records);
+    }
+}
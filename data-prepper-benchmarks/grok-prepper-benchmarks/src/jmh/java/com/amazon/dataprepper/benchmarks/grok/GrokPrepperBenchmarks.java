@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.grok;
+
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.prepper.grok.GrokPrepper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmarks the grok prepper on the logs sent by the VariousGrokPatternsSimulation load test, with and without a
+ * timeout, and with patterns starting with literal text which the logs do not contain configured before the pattern
+ * which matches.
+ */
+@State(Scope.Thread)
+public class GrokPrepperBenchmarks {
+    private static final String TIMESTAMP = "10/Oct/2000:13:55:36 -0700";
+    private static final List<String> LOGS = Arrays.asList(
+            "127.0.0.1 - Marita [" + TIMESTAMP + "] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+            "127.0.0.1 - Rosaline [" + TIMESTAMP + "] \"PUT /apache_pb.gif HTTP/1.0\" 202 2326",
+            "127.0.0.1 - Talbot [" + TIMESTAMP + "] \"POST /apache_pb.gif HTTP/1.0\" 400 2326",
+            "127.0.0.1 - Adriene [" + TIMESTAMP + "] \"DELETE /apache_pb.gif HTTP/1.0\" 404 2326",
+            "I should fail the grok parser");
+
+    @Param({"0", "30000"})
+    private int timeoutMillis;
+
+    @Param({"1", "4"})
+    private int patternsPerKey;
+
+    @Param("100")
+    private int batchSize;
+
+    private GrokPrepper grokPrepper;
+    private Collection<Record<Event>> records;
+
+    @Setup(Level.Trial)
+    public void setupGrokPrepper() {
+        final List<String> patterns = new ArrayList<>();
+        for (final String method : Arrays.asList("PATCH", "HEAD", "OPTIONS").subList(0, patternsPerKey - 1)) {
+            patterns.add(method + " %{URIPATHPARAM:request} HTTP/%{NUMBER:httpversion}");
+        }
+        patterns.add("%{COMMONAPACHELOG}");
+
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("match", Collections.singletonMap("log", patterns));
+        settings.put("timeout_millis", timeoutMillis);
+        final PluginSetting pluginSetting = new PluginSetting("grok", settings);
+        pluginSetting.setPipelineName("benchmark");
+        grokPrepper = new GrokPrepper(pluginSetting);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupRecords() {
+        records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("log", LOGS.get(i % LOGS.size())))
+                    .build()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownGrokPrepper() {
+        grokPrepper.shutdown();
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Collection<Record<Event>> benchmarkExecute() {
+        return grokPrepper.execute(records);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.keyvalue;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.processor.keyvalue.KeyValueProcessor;
+import com.amazon.dataprepper.plugins.processor.keyvalue.KeyValueProcessorConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmarks the key_value processor on access logs written as space separated key/value pairs, either with
+ * field_split_characters, which parses with a single pass over the log, or with the equivalent field_delimiter_regex,
+ * which splits with regular expressions.
+ */
+@State(Scope.Thread)
+public class KeyValueProcessorBenchmarks {
+    private static final List<String> LOGS = Arrays.asList(
+            "time=2000-10-10T13:55:36-07:00 remote_addr=127.0.0.1 user=Marita method=GET uri=/apache_pb.gif " +
+                    "protocol=HTTP/1.0 status=200 bytes=2326 request_time=0.003 referer=\"-\" " +
+                    "user_agent=\"Mozilla/5.0 (X11; Linux x86_64; rv:98.0) Gecko/20100101 Firefox/98.0\"",
+            "time=2000-10-10T13:55:37-07:00 remote_addr=10.0.4.21 user=Rosaline method=PUT uri=/api/items/42 " +
+                    "protocol=HTTP/1.1 status=202 bytes=512 request_time=0.027 referer=\"https://example.com/items\" " +
+                    "user_agent=\"curl/7.79.1\"",
+            "time=2000-10-10T13:55:38-07:00 remote_addr=192.168.0.7 user=- method=POST uri=/login?next=/home " +
+                    "protocol=HTTP/1.1 status=400 bytes=128 request_time=0.112 referer=\"-\" " +
+                    "user_agent=\"Mozilla/5.0 (Macintosh; Intel Mac OS X 12_3) AppleWebKit/605.1.15 Safari/605.1.15\"");
+
+    @Param({"field_split_characters", "field_delimiter_regex"})
+    private String fieldDelimiterSetting;
+
+    @Param("100")
+    private int batchSize;
+
+    private KeyValueProcessor keyValueProcessor;
+    private Collection<Record<Event>> records;
+
+    @Setup(Level.Trial)
+    public void setupKeyValueProcessor() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(fieldDelimiterSetting, " ");
+        if ("field_delimiter_regex".equals(fieldDelimiterSetting)) {
+            settings.put("field_split_characters", "");
+        }
+        final KeyValueProcessorConfig keyValueProcessorConfig = new ObjectMapper().convertValue(settings, KeyValueProcessorConfig.class);
+        keyValueProcessor = new KeyValueProcessor(PluginMetrics.fromNames("key_value", "benchmark"), keyValueProcessorConfig);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupRecords() {
+        records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("message", LOGS.get(i % LOGS.size())))
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Collection<Record<Event>> benchmarkExecute() {
+        return keyValueProcessor.execute(records);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.otel.codec;
+
+import com.amazon.dataprepper.model.trace.Span;
+import com.amazon.dataprepper.plugins.otel.codec.OTelProtoCodec;
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationLibrary;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.InstrumentationLibrarySpans;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class OTelProtoDecoderBenchmarks {
+    private static final Random RANDOM = new Random();
+    private static final int NUM_SERVICES = 4;
+    private static final long START_TIME_UNIX_NANO = 1598013600000000321L;
+    private static final String[] SPAN_ATTRIBUTE_KEYS = {
+            "http.method", "http.url", "http.status_code", "http.user_agent", "net.peer.ip",
+            "net.peer.port", "db.system", "db.statement", "thread.id", "thread.name"
+    };
+
+    @Param({"10", "100", "1000"})
+    private int spansPerRequest;
+
+    private final OTelProtoCodec.OTelProtoDecoder oTelProtoDecoder = new OTelProtoCodec.OTelProtoDecoder();
+    private final OTelProtoCodec.OTelProtoJsonNodeDecoder oTelProtoJsonNodeDecoder = new OTelProtoCodec.OTelProtoJsonNodeDecoder();
+    private ExportTraceServiceRequest exportTraceServiceRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final ExportTraceServiceRequest.Builder requestBuilder = ExportTraceServiceRequest.newBuilder();
+        final byte[] traceId = getRandomBytes(16);
+        final byte[] rootSpanId = getRandomBytes(8);
+        for (int service = 0; service < NUM_SERVICES; service++) {
+            final InstrumentationLibrarySpans.Builder librarySpansBuilder = InstrumentationLibrarySpans.newBuilder()
+                    .setInstrumentationLibrary(InstrumentationLibrary.newBuilder()
+                            .setName("io.opentelemetry.auto.spring-webmvc-3.1")
+                            .setVersion("0.8.0"));
+            for (int i = service; i < spansPerRequest; i += NUM_SERVICES) {
+                librarySpansBuilder.addSpans(createSpan(traceId, i == 0 ? new byte[0] : rootSpanId, i));
+            }
+            requestBuilder.addResourceSpans(ResourceSpans.newBuilder()
+                    .setResource(Resource.newBuilder()
+                            .addAttributes(stringAttribute("service.name", "service-" + service))
+                            .addAttributes(stringAttribute("telemetry.sdk.language", "java"))
+                            .addAttributes(stringAttribute("telemetry.sdk.name", "opentelemetry"))
+                            .addAttributes(stringAttribute("telemetry.sdk.version", "1.0.1"))
+                            .addAttributes(stringAttribute("host.name", UUID.randomUUID().toString())))
+                    .addInstrumentationLibrarySpans(librarySpansBuilder));
+        }
+        exportTraceServiceRequest = requestBuilder.build();
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public List<Span> benchmarkOTelProtoDecoder() {
+        return oTelProtoDecoder.parseExportTraceServiceRequest(exportTraceServiceRequest);
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public List<Span> benchmarkOTelProtoJsonNodeDecoder() {
+        return oTelProtoJsonNodeDecoder.parseExportTraceServiceRequest(exportTraceServiceRequest);
+    }
+
+    private io.opentelemetry.proto.trace.v1.Span createSpan(final byte[] traceId, final byte[] parentSpanId, final int index) {
+        final long startTime = START_TIME_UNIX_NANO + index * 1_000_000L;
+        final io.opentelemetry.proto.trace.v1.Span.Builder spanBuilder = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                .setTraceId(ByteString.copyFrom(traceId))
+                .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                .setParentSpanId(ByteString.copyFrom(parentSpanId))
+                .setName("/operation-" + (index % 20))
+                .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                .setStartTimeUnixNano(startTime)
+                .setEndTimeUnixNano(startTime + RANDOM.nextInt(1_000_000_000))
+                .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_OK));
+        for (final String key : SPAN_ATTRIBUTE_KEYS) {
+            spanBuilder.addAttributes(stringAttribute(key, UUID.randomUUID().toString()));
+        }
+        spanBuilder.addAttributes(KeyValue.newBuilder().setKey("http.response_content_length")
+                .setValue(AnyValue.newBuilder().setIntValue(RANDOM.nextInt(100_000))));
+        if (index % 10 == 0) {
+            spanBuilder.addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                    .setName("exception")
+                    .setTimeUnixNano(startTime + 1_000L)
+                    .addAttributes(stringAttribute("exception.type", "java.lang.IllegalStateException"))
+                    .addAttributes(stringAttribute("exception.message", UUID.randomUUID().toString())));
+        }
+        return spanBuilder.build();
+    }
+
+    private KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private byte[] getRandomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.processor.FusableProcessor;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+import com.google.common.base.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs consecutive {@link FusableProcessor}s as a single operator. Each Event of the batch is processed by all of the
+ * fused processors before moving on to the next Event, so the batch is traversed once instead of once per processor.
+ * Each fused processor records the time spent in its own processEvent calls, so the timeElapsed metrics of the fused
+ * processors add up to the time of the pass.
+ */
+@SuppressWarnings("rawtypes")
+class FusedProcessor implements Processor<Record<Event>, Record<Event>> {
+    private static final Logger LOG = LoggerFactory.getLogger(FusedProcessor.class);
+
+    private final FusableProcessor[] processors;
+    private final Ticker ticker;
+
+    FusedProcessor(final List<FusableProcessor> processors) {
+        this(processors, Ticker.systemTicker());
+    }
+
+    FusedProcessor(final List<FusableProcessor> processors, final Ticker ticker) {
+        this.processors = processors.toArray(new FusableProcessor[0]);
+        this.ticker = ticker;
+    }
+
+    /**
+     * Replaces every run of two or more adjacent {@link FusableProcessor}s with a single {@link FusedProcessor}.
+     *
+     * @param processors The processors of a worker, in execution order
+     * @return The processors to execute, in the same order
+     */
+    static List<Processor> fuseAdjacent(final List<Processor> processors) {
+        final List<Processor> fusedProcessors = new ArrayList<>(processors.size());
+        final List<FusableProcessor> run = new ArrayList<>();
+        for (final Processor processor : processors) {
+            if (processor instanceof FusableProcessor) {
+                run.add((FusableProcessor) processor);
+            } else {
+                addRun(run, fusedProcessors);
+                fusedProcessors.add(processor);
+            }
+        }
+        addRun(run, fusedProcessors);
+        return fusedProcessors;
+    }
+
+    private static void addRun(final List<FusableProcessor> run, final List<Processor> fusedProcessors) {
+        if (run.size() == 1) {
+            fusedProcessors.add(run.get(0));
+        } else if (run.size() > 1) {
+            LOG.info("Fusing {} consecutive processors into a single pass per event", run.size());
+            fusedProcessors.add(new FusedProcessor(run));
+        }
+        run.clear();
+    }
+
+    @Override
+    public Collection<Record<Event>> execute(final Collection<Record<Event>> records) {
+        final long[] elapsedNanos = new long[processors.length];
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            long startNanos = ticker.read();
+            for (int i = 0; i < processors.length; i++) {
+                processors[i].processEvent(event);
+                final long endNanos = ticker.read();
+                elapsedNanos[i] += endNanos - startNanos;
+                startNanos = endNanos;
+            }
+        }
+        for (int i = 0; i < processors.length; i++) {
+            processors[i].recordFusedExecution(records.size(), elapsedNanos[i]);
+        }
+        return records;
+    }
+
+    @Override
+    public void prepareForShutdown() {
+        for (final FusableProcessor processor : processors) {
+            processor.prepareForShutdown();
+        }
+    }
+
+    @Override
+    public boolean isReadyForShutdown() {
+        for (final FusableProcessor processor : processors) {
+            if (!processor.isReadyForShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void shutdown() {
+        for (final FusableProcessor processor : processors) {
+            processor.shutdown();
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class ProcessWorker implements Runnable {
             final Collection<Sink> sinks,
             final Pipeline pipeline) {
         this.readBuffer = readBuffer;
-        this.processors = processors;
+        this.processors = FusedProcessor.fuseAdjacent(processors);
         this.sinks = sinks;
         this.pipeline = pipeline;
     }
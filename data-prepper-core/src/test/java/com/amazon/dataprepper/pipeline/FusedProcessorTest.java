@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.processor.FusableProcessor;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("rawtypes")
+@ExtendWith(MockitoExtension.class)
+class FusedProcessorTest {
+    @Mock
+    private FusableProcessor firstProcessor;
+
+    @Mock
+    private FusableProcessor secondProcessor;
+
+    @Mock
+    private Processor otherProcessor;
+
+    @Mock
+    private Ticker ticker;
+
+    private Event firstEvent;
+    private Event secondEvent;
+    private List<Record<Event>> records;
+
+    @BeforeEach
+    void setUp() {
+        firstEvent = mock(Event.class);
+        secondEvent = mock(Event.class);
+        records = Arrays.asList(new Record<>(firstEvent), new Record<>(secondEvent));
+    }
+
+    private FusedProcessor createObjectUnderTest() {
+        return new FusedProcessor(Arrays.asList(firstProcessor, secondProcessor));
+    }
+
+    @Test
+    void execute_applies_all_processors_to_each_event_before_the_next_event() {
+        final Collection<Record<Event>> result = createObjectUnderTest().execute(records);
+
+        assertThat(result, sameInstance(records));
+        final InOrder inOrder = inOrder(firstProcessor, secondProcessor);
+        inOrder.verify(firstProcessor).processEvent(firstEvent);
+        inOrder.verify(secondProcessor).processEvent(firstEvent);
+        inOrder.verify(firstProcessor).processEvent(secondEvent);
+        inOrder.verify(secondProcessor).processEvent(secondEvent);
+        inOrder.verify(firstProcessor).recordFusedExecution(eq(2), anyLong());
+        inOrder.verify(secondProcessor).recordFusedExecution(eq(2), anyLong());
+        verify(firstProcessor, never()).execute(records);
+        verify(secondProcessor, never()).execute(records);
+    }
+
+    @Test
+    void execute_records_the_time_spent_in_each_processor() {
+        when(ticker.read()).thenReturn(0L, 10L, 30L, 100L, 103L, 107L);
+
+        new FusedProcessor(Arrays.asList(firstProcessor, secondProcessor), ticker).execute(records);
+
+        verify(firstProcessor).recordFusedExecution(2, 13L);
+        verify(secondProcessor).recordFusedExecution(2, 24L);
+    }
+
+    @Test
+    void shutdown_methods_are_delegated_to_all_processors() {
+        final FusedProcessor objectUnderTest = createObjectUnderTest();
+        when(firstProcessor.isReadyForShutdown()).thenReturn(true);
+        when(secondProcessor.isReadyForShutdown()).thenReturn(true);
+
+        objectUnderTest.prepareForShutdown();
+        assertThat(objectUnderTest.isReadyForShutdown(), is(true));
+        objectUnderTest.shutdown();
+
+        verify(firstProcessor).prepareForShutdown();
+        verify(secondProcessor).prepareForShutdown();
+        verify(firstProcessor).shutdown();
+        verify(secondProcessor).shutdown();
+    }
+
+    @Test
+    void isReadyForShutdown_is_false_when_any_processor_is_not_ready() {
+        when(firstProcessor.isReadyForShutdown()).thenReturn(false);
+
+        assertThat(createObjectUnderTest().isReadyForShutdown(), is(false));
+    }
+
+    @Test
+    void fuseAdjacent_fuses_runs_of_fusable_processors() {
+        final FusableProcessor lastProcessor = mock(FusableProcessor.class);
+
+        final List<Processor> fused = FusedProcessor.fuseAdjacent(
+                Arrays.asList(firstProcessor, secondProcessor, otherProcessor, lastProcessor));
+
+        assertThat(fused.size(), equalTo(3));
+        assertThat(fused.get(0), instanceOf(FusedProcessor.class));
+        assertThat(fused.get(1), sameInstance(otherProcessor));
+        assertThat(fused.get(2), sameInstance(lastProcessor));
+
+        fused.get(0).execute(Collections.singletonList(new Record<>(firstEvent)));
+        verify(firstProcessor).processEvent(firstEvent);
+        verify(secondProcessor).processEvent(firstEvent);
+    }
+
+    @Test
+    void fuseAdjacent_fuses_trailing_run() {
+        final List<Processor> fused = FusedProcessor.fuseAdjacent(
+                Arrays.asList(otherProcessor, firstProcessor, secondProcessor));
+
+        assertThat(fused.size(), equalTo(2));
+        assertThat(fused.get(0), sameInstance(otherProcessor));
+        assertThat(fused.get(1), instanceOf(FusedProcessor.class));
+    }
+
+    @Test
+    void fuseAdjacent_without_fusable_processors_returns_the_processors() {
+        final List<Processor> processors = Arrays.asList(otherProcessor, mock(Processor.class));
+
+        assertThat(FusedProcessor.fuseAdjacent(processors), equalTo(processors));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since 1.5
+ * Parses an expression with a {@link Parser} for {@link ParseTree}s and compiles the result with an
+ * {@link ExpressionCompiler}. Compiled expressions are cached by statement in a bounded cache shared by all
+ * {@link ConditionalExpressionEvaluator}s, so a statement is compiled once no matter how many processors use it.
+ * Parsing is thread-safe and each statement is compiled by a single thread while other threads wait for the result.
+ */
+@Named
+class CompiledExpressionParser implements Parser<EvaluatorNode> {
+    static final String METRICS_PIPELINE_NAME = "core";
+    static final String METRICS_COMPONENT_NAME = "expression";
+    static final String COMPILED_EXPRESSION_CACHE_HITS = "compiledExpressionCacheHits";
+    static final String COMPILED_EXPRESSION_CACHE_MISSES = "compiledExpressionCacheMisses";
+    static final String EXPRESSION_COMPILE_TIME = "expressionCompileTime";
+    static final long DEFAULT_MAXIMUM_CACHED_EXPRESSIONS = 10_000;
+
+    private final LoadingCache<String, EvaluatorNode> cache;
+    private final Parser<ParseTree> parser;
+    private final ExpressionCompiler compiler;
+    private final Counter cacheHitsCounter;
+    private final Counter cacheMissesCounter;
+    private final Timer compileTimer;
+
+    @Inject
+    public CompiledExpressionParser(final Parser<ParseTree> parser, final ExpressionCompiler compiler) {
+        this(parser, compiler, PluginMetrics.fromNames(METRICS_COMPONENT_NAME, METRICS_PIPELINE_NAME),
+                DEFAULT_MAXIMUM_CACHED_EXPRESSIONS);
+    }
+
+    CompiledExpressionParser(final Parser<ParseTree> parser,
+                             final ExpressionCompiler compiler,
+                             final PluginMetrics pluginMetrics,
+                             final long maximumCachedExpressions) {
+        this.parser = parser;
+        this.compiler = compiler;
+        cacheHitsCounter = pluginMetrics.counter(COMPILED_EXPRESSION_CACHE_HITS);
+        cacheMissesCounter = pluginMetrics.counter(COMPILED_EXPRESSION_CACHE_MISSES);
+        compileTimer = pluginMetrics.timer(EXPRESSION_COMPILE_TIME);
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumCachedExpressions)
+                .build(CacheLoader.from(this::compile));
+    }
+
+    /**
+     * @since 1.5
+     *
+     * Check if cache already has a compiled expression available for the given statement. If yes, return from cache
+     * otherwise parse and compile expression, cache and return result. Statements which fail to parse are not cached.
+     *
+     * @param expression String to be parsed
+     * @return root node of the compiled expression
+     * @throws ParseTreeCompositeException thrown when ANTLR parser creates an exception event
+     */
+    @Override
+    public EvaluatorNode parse(final String expression) throws ParseTreeCompositeException {
+        final EvaluatorNode cachedEvaluatorNode = cache.getIfPresent(expression);
+        if (cachedEvaluatorNode != null) {
+            cacheHitsCounter.increment();
+            return cachedEvaluatorNode;
+        }
+
+        try {
+            return cache.getUnchecked(expression);
+        } catch (final UncheckedExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private EvaluatorNode compile(final String expression) {
+        cacheMissesCounter.increment();
+        final long startTime = System.nanoTime();
+        final ParseTree parseTree;
+        synchronized (parser) {
+            parseTree = parser.parse(expression);
+        }
+        final EvaluatorNode evaluatorNode = compiler.compile(parseTree);
+        compileTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        return evaluatorNode;
+    }
+}
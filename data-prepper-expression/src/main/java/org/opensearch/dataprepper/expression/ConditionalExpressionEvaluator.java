@@ -6,27 +6,24 @@
 package org.opensearch.dataprepper.expression;
 
 import com.amazon.dataprepper.model.event.Event;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
-import org.springframework.context.annotation.Scope;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Public class that {@link com.amazon.dataprepper.model.processor.Processor},
  * {@link com.amazon.dataprepper.model.sink.Sink} and data-prepper-core objects can use to evaluate statements.
+ * The evaluator holds no per-statement state, so a single instance is shared by all plugins and process workers.
  */
 @Named
-@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
-    private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private final Parser<EvaluatorNode> parser;
 
     @Inject
-    public ConditionalExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public ConditionalExpressionEvaluator(final Parser<EvaluatorNode> parser) {
         this.parser = parser;
-        this.evaluator = evaluator;
     }
 
     /**
@@ -37,8 +34,8 @@ class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
     @Override
     public Boolean evaluate(final String statement, final Event context) {
         try {
-            final ParseTree parseTree = parser.parse(statement);
-            final Object result = evaluator.evaluate(parseTree, context);
+            final EvaluatorNode evaluatorNode = parser.parse(statement);
+            final Object result = evaluatorNode.evaluate(context);
 
             if (result instanceof Boolean) {
                 return (Boolean) result;
@@ -51,4 +48,39 @@ class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
             throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The compiled statement is evaluated column by column: each JSON Pointer is resolved for the whole batch before
+     * operators are applied, operators whose operands are the same for every context are applied once, and AND/OR
+     * skip their right operand for the contexts already decided by the left operand.
+     *
+     * @throws ExpressionEvaluationException if unable to evaluate or coerce the statement result to Boolean for any
+     * of the contexts
+     */
+    @Override
+    public BitSet evaluateBatch(final String statement, final List<Event> contexts) {
+        try {
+            final EvaluatorNode evaluatorNode = parser.parse(statement);
+            final BitSet selection = new BitSet(contexts.size());
+            selection.set(0, contexts.size());
+            final Object[] results = evaluatorNode.evaluate(contexts, selection);
+
+            final BitSet booleanResults = new BitSet(contexts.size());
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] instanceof Boolean) {
+                    booleanResults.set(i, (Boolean) results[i]);
+                }
+                else {
+                    throw new ClassCastException("Unexpected expression return type of " +
+                            (results[i] == null ? null : results[i].getClass()));
+                }
+            }
+            return booleanResults;
+        }
+        catch (final Exception exception) {
+            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+        }
+    }
 }
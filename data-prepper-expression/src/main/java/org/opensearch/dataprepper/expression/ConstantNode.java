@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * @since 1.5
+ * Literal, or sub-expression of literals, coerced once at compile time.
+ */
+class ConstantNode implements EvaluatorNode {
+    private final Object value;
+
+    ConstantNode(final Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return value;
+    }
+
+    @Override
+    public Object[] evaluate(final List<Event> events, final BitSet selection) {
+        final Object[] results = new Object[events.size()];
+        for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+            results[i] = value;
+        }
+        return results;
+    }
+}
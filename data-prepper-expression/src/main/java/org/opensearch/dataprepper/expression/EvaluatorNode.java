@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * @since 1.5
+ * Node of an expression compiled by {@link ExpressionCompiler}. Evaluating the root node of a compiled expression
+ * evaluates the whole expression against an {@link Event} without walking the parse tree.
+ */
+interface EvaluatorNode {
+    /**
+     * @param event event used to resolve JSON Pointers in the expression
+     * @return result of the node, may be null if a JSON Pointer does not resolve to a value
+     */
+    Object evaluate(final Event event);
+
+    /**
+     * Evaluates the node column by column for a batch of events. Nodes evaluate each of their operands once for the
+     * whole batch before applying their own operation, and may skip events or whole operands when the result is
+     * already known.
+     *
+     * @param events batch of events used to resolve JSON Pointers in the expression
+     * @param selection indices of the events to evaluate
+     * @return a new array the size of the batch holding the result for each selected event. Values at indices which
+     * are not selected are undefined.
+     */
+    default Object[] evaluate(final List<Event> events, final BitSet selection) {
+        final Object[] results = new Object[events.size()];
+        for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+            results[i] = evaluate(events.get(i));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.google.common.collect.ImmutableSet;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @since 1.5
+ * Lowers a {@link ParseTree} once into a tree of {@link EvaluatorNode}s so evaluating an expression no longer walks
+ * the parse tree with a {@link ParseTreeEvaluatorListener} for every event.
+ *
+ * Literals are coerced at compile time, operators are resolved from the {@link OperatorProvider} once, AND and OR
+ * skip their right operand when the left operand determines the result, and operators whose operands are all
+ * constant are folded into a single constant. Regex literals are compiled to a {@link Pattern} and set initializers
+ * of literals are built into an immutable set once.
+ */
+@Named
+class ExpressionCompiler {
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+
+    @Inject
+    public ExpressionCompiler(final OperatorProvider operatorProvider, final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+    }
+
+    /**
+     * @param parseTree parse tree created by a {@link ParseTreeParser}
+     * @return root node of the compiled expression
+     * @throws ExpressionCoercionException if the parse tree contains a terminal which cannot be evaluated
+     */
+    public EvaluatorNode compile(final ParseTree parseTree) {
+        if (parseTree instanceof TerminalNode) {
+            return compileTerminal((TerminalNode) parseTree);
+        }
+
+        final ParserRuleContext ctx = (ParserRuleContext) parseTree;
+        switch (ctx.getRuleIndex()) {
+            case DataPrepperExpressionParser.RULE_conditionalExpression:
+            case DataPrepperExpressionParser.RULE_equalityOperatorExpression:
+            case DataPrepperExpressionParser.RULE_regexOperatorExpression:
+            case DataPrepperExpressionParser.RULE_relationalOperatorExpression:
+            case DataPrepperExpressionParser.RULE_setOperatorExpression:
+                return ctx.getChildCount() == 3 ? compileBinaryOperation(ctx) : compile(ctx.getChild(0));
+            case DataPrepperExpressionParser.RULE_unaryOperatorExpression:
+                return ctx.getChildCount() == 2 ? compileUnaryOperation(ctx) : compile(ctx.getChild(0));
+            case DataPrepperExpressionParser.RULE_parenthesesExpression:
+                return compile(ctx.getChild(1));
+            case DataPrepperExpressionParser.RULE_setInitializer:
+                return compileSetInitializer(ctx);
+            default:
+                return compile(ctx.getChild(0));
+        }
+    }
+
+    private EvaluatorNode compileTerminal(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        final String nodeStringValue = node.getText();
+        switch (nodeType) {
+            case DataPrepperExpressionParser.EscapedJsonPointer:
+                return new JsonPointerNode(nodeStringValue.substring(1, nodeStringValue.length() - 1), coercionService);
+            case DataPrepperExpressionParser.JsonPointer:
+                return new JsonPointerNode(nodeStringValue, coercionService);
+            default:
+                return new ConstantNode(coercionService.coercePrimaryTerminalNode(node, null));
+        }
+    }
+
+    private EvaluatorNode compileBinaryOperation(final ParserRuleContext ctx) {
+        final int symbol = ((ParserRuleContext) ctx.getChild(1)).getStart().getType();
+        final Operator<?> operator = operatorProvider.getOperator(symbol);
+        final EvaluatorNode leftOperand = compile(ctx.getChild(0));
+        final EvaluatorNode rightOperand = isRegexMatchOperator(symbol) ?
+                compilePattern(compile(ctx.getChild(2))) : compile(ctx.getChild(2));
+        final String statement = getPartialStatementFromContext(ctx);
+
+        final OperatorNode operatorNode;
+        if (symbol == DataPrepperExpressionParser.AND) {
+            operatorNode = new ShortCircuitOperatorNode((Operator<Boolean>) operator, leftOperand, rightOperand, statement, false);
+        }
+        else if (symbol == DataPrepperExpressionParser.OR) {
+            operatorNode = new ShortCircuitOperatorNode((Operator<Boolean>) operator, leftOperand, rightOperand, statement, true);
+        }
+        else {
+            operatorNode = new OperatorNode(operator, new EvaluatorNode[] {leftOperand, rightOperand}, statement);
+        }
+        return foldConstants(operatorNode, leftOperand, rightOperand);
+    }
+
+    private EvaluatorNode compileUnaryOperation(final ParserRuleContext ctx) {
+        final int symbol = ((ParserRuleContext) ctx.getChild(0)).getStart().getType();
+        final Operator<?> operator = operatorProvider.getOperator(symbol);
+        final EvaluatorNode operand = compile(ctx.getChild(1));
+
+        final OperatorNode operatorNode = new OperatorNode(
+                operator, new EvaluatorNode[] {operand}, getPartialStatementFromContext(ctx));
+        return foldConstants(operatorNode, operand);
+    }
+
+    private EvaluatorNode compileSetInitializer(final ParserRuleContext ctx) {
+        final List<EvaluatorNode> members = new ArrayList<>();
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            final ParseTree child = ctx.getChild(i);
+            if (child instanceof ParserRuleContext) {
+                members.add(compile(child));
+            }
+        }
+        if (members.stream().allMatch(member -> member instanceof ConstantNode)) {
+            final ImmutableSet.Builder<Object> set = ImmutableSet.builder();
+            members.forEach(member -> set.add(member.evaluate(null)));
+            return new ConstantNode(set.build());
+        }
+        return new SetInitializerNode(members.toArray(new EvaluatorNode[0]));
+    }
+
+    private boolean isRegexMatchOperator(final int symbol) {
+        return symbol == DataPrepperExpressionParser.MATCH_REGEX_PATTERN ||
+                symbol == DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN;
+    }
+
+    /**
+     * Compiles a regex literal once. Invalid patterns are not compiled so the failure is reported when the expression
+     * is evaluated.
+     */
+    private EvaluatorNode compilePattern(final EvaluatorNode regexOperand) {
+        if (regexOperand instanceof ConstantNode) {
+            try {
+                return new ConstantNode(Pattern.compile((String) regexOperand.evaluate(null)));
+            } catch (final PatternSyntaxException e) {
+                return regexOperand;
+            }
+        }
+        return regexOperand;
+    }
+
+    /**
+     * Replaces an operator node with a constant when all of its operands are constant. Operations which fail are not
+     * folded so the failure is reported when the expression is evaluated.
+     */
+    private EvaluatorNode foldConstants(final OperatorNode operatorNode, final EvaluatorNode ... operands) {
+        for (final EvaluatorNode operand : operands) {
+            if (!(operand instanceof ConstantNode)) {
+                return operatorNode;
+            }
+        }
+        try {
+            return new ConstantNode(operatorNode.evaluate(null));
+        } catch (final ExpressionEvaluationException e) {
+            return operatorNode;
+        }
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+}
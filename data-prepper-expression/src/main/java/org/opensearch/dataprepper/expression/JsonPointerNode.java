@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+/**
+ * @since 1.5
+ * Resolves a JSON Pointer against the event. Quotes of escaped JSON Pointers are removed at compile time.
+ */
+class JsonPointerNode implements EvaluatorNode {
+    private final String jsonPointer;
+    private final ParseTreeCoercionService coercionService;
+
+    JsonPointerNode(final String jsonPointer, final ParseTreeCoercionService coercionService) {
+        this.jsonPointer = jsonPointer;
+        this.coercionService = coercionService;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return coercionService.resolveJsonPointerValue(jsonPointer, event);
+    }
+
+    String getJsonPointer() {
+        return jsonPointer;
+    }
+}
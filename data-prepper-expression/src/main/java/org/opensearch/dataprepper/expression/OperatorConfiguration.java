@@ -15,10 +15,17 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 
 @Named
 class OperatorConfiguration {
-    public final BiPredicate<Object, Object> regexEquals = (x, y) -> ((String) x).matches((String) y);
+    private static final int MAX_CACHED_REGEX_PATTERNS = 1000;
+
+    private final RegexPatternCache regexPatternCache = new RegexPatternCache(MAX_CACHED_REGEX_PATTERNS);
+    public final BiPredicate<Object, Object> regexEquals = (x, y) -> {
+        final Pattern pattern = y instanceof Pattern ? (Pattern) y : regexPatternCache.getPattern((String) y);
+        return pattern.matcher((String) x).matches();
+    };
     public final BiPredicate<Object, Object> equals = Objects::equals;
     public final BiPredicate<Object, Object> inSet = (x, y) -> ((Set<?>) y).contains(x);
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @since 1.5
+ * Applies an {@link Operator} to the results of its operand nodes. When evaluating a batch and every operand has the
+ * same value for all selected events, the operator is applied once for the whole batch.
+ */
+class OperatorNode implements EvaluatorNode {
+    private final Operator<?> operator;
+    private final EvaluatorNode[] operands;
+    private final String statement;
+
+    /**
+     * @param operator operator to apply
+     * @param operands nodes evaluated in order for the operator arguments
+     * @param statement part of the input statement the node was compiled from, used in error messages
+     */
+    OperatorNode(final Operator<?> operator, final EvaluatorNode[] operands, final String statement) {
+        this.operator = operator;
+        this.operands = operands;
+        this.statement = statement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object[] args = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            args[i] = operands[i].evaluate(event);
+        }
+        return apply(args);
+    }
+
+    @Override
+    public Object[] evaluate(final List<Event> events, final BitSet selection) {
+        final Object[][] operandResults = new Object[operands.length][];
+        boolean isConstant = true;
+        for (int i = 0; i < operands.length; i++) {
+            operandResults[i] = operands[i].evaluate(events, selection);
+            isConstant = isConstant && isConstant(operandResults[i], selection);
+        }
+
+        final Object[] results = new Object[events.size()];
+        if (isConstant && !selection.isEmpty()) {
+            final Object result = apply(argumentsAt(operandResults, selection.nextSetBit(0)));
+            for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+                results[i] = result;
+            }
+        }
+        else {
+            for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+                results[i] = apply(argumentsAt(operandResults, i));
+            }
+        }
+        return results;
+    }
+
+    private static Object[] argumentsAt(final Object[][] operandResults, final int index) {
+        final Object[] args = new Object[operandResults.length];
+        for (int i = 0; i < operandResults.length; i++) {
+            args[i] = operandResults[i][index];
+        }
+        return args;
+    }
+
+    private static boolean isConstant(final Object[] column, final BitSet selection) {
+        final int first = selection.nextSetBit(0);
+        for (int i = selection.nextSetBit(first + 1); i >= 0; i = selection.nextSetBit(i + 1)) {
+            if (column[i] != column[first] && !Objects.equals(column[i], column[first])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected Object apply(final Object ... args) {
+        try {
+            return operator.evaluate(args);
+        } catch (final Exception e) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statement, e);
+        }
+    }
+
+    EvaluatorNode[] getOperands() {
+        return operands;
+    }
+}
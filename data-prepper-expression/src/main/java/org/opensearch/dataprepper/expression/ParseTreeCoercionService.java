@@ -55,7 +55,7 @@ class ParseTreeCoercionService {
         throw new ExpressionCoercionException("Unable to cast " + obj.getClass().getName() + " into " + clazz.getName());
     }
 
-    private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
+    public Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
         final Object value = event.get(jsonPointer, Object.class);
         if (value == null) {
             return null;
@@ -18,18 +18,16 @@ import org.springframework.context.annotation.Scope;
 
 import javax.inject.Inject;
 import javax.inject.Named;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
- * Handles interaction with ANTLR generated parser and lexer classes and caches results.
+ * Handles interaction with ANTLR generated parser and lexer classes. Instances are not thread-safe, results are cached
+ * by {@link CompiledExpressionParser}.
  */
 @Named
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 class ParseTreeParser implements Parser<ParseTree> {
     private static final String MISSING_PARSER_ERROR_LISTENER_MESSAGE =
             "Expected DataPrepperExpressionParser to have error listener of type ParserErrorListener but none were found.";
-    private final Map<String, ParseTree> cache = new HashMap<>();
     private final ParserErrorListener errorListener;
     private final Lexer lexer;
     private final DataPrepperExpressionParser parser;
@@ -84,8 +82,7 @@ class ParseTreeParser implements Parser<ParseTree> {
     /**
      * @since 1.3
      *
-     * Check if cache already has a parse tree available for the given statement. If yes, return from cache otherwise
-     * parse expression, cache and return result.
+     * Parse expression and return result.
      *
      * @param expression String to be parsed
      * @return ParseTree data structure containing a hierarchy of the tokens found while parsing.
@@ -93,13 +90,6 @@ class ParseTreeParser implements Parser<ParseTree> {
      */
     @Override
     public ParseTree parse(final String expression) throws ParseTreeCompositeException {
-        if (cache.containsKey(expression)) {
-            return cache.get(expression);
-        }
-        else {
-            final ParseTree parseTree = createParseTree(expression);
-            cache.put(expression, parseTree);
-            return parseTree;
-        }
+        return createParseTree(expression);
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @since 1.5
+ * Bounded cache of compiled regular expressions for patterns which are only known when an expression is evaluated,
+ * such as a pattern resolved from a JSON Pointer. The least recently used patterns are evicted first.
+ */
+class RegexPatternCache {
+    private final Cache<String, Pattern> patterns;
+
+    RegexPatternCache(final long maximumSize) {
+        patterns = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * @param regex regular expression to compile
+     * @return the compiled pattern, compiling it only if it is not cached
+     * @throws PatternSyntaxException if the regular expression is not valid
+     */
+    Pattern getPattern(final String regex) throws PatternSyntaxException {
+        Pattern pattern = patterns.getIfPresent(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            patterns.put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    long size() {
+        return patterns.size();
+    }
+}
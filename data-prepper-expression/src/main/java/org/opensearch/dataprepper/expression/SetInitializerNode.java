@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @since 1.5
+ * Builds the set of a set initializer, such as {200, /status}, from the results of its member nodes.
+ */
+class SetInitializerNode implements EvaluatorNode {
+    private final EvaluatorNode[] members;
+
+    SetInitializerNode(final EvaluatorNode[] members) {
+        this.members = members;
+    }
+
+    @Override
+    public Set<Object> evaluate(final Event event) {
+        final Set<Object> set = new HashSet<>();
+        for (final EvaluatorNode member : members) {
+            set.add(member.evaluate(event));
+        }
+        return set;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * @since 1.5
+ * Binary conditional operator which skips the right operand when the left operand alone determines the result,
+ * such as false for AND and true for OR. When evaluating a batch, the right operand is only evaluated for the events
+ * the left operand did not determine, and not at all when the left operand determines every event.
+ */
+class ShortCircuitOperatorNode extends OperatorNode {
+    private final EvaluatorNode leftOperand;
+    private final EvaluatorNode rightOperand;
+    private final Boolean shortCircuitResult;
+
+    ShortCircuitOperatorNode(final Operator<Boolean> operator,
+                             final EvaluatorNode leftOperand,
+                             final EvaluatorNode rightOperand,
+                             final String statement,
+                             final Boolean shortCircuitResult) {
+        super(operator, new EvaluatorNode[] {leftOperand, rightOperand}, statement);
+        this.leftOperand = leftOperand;
+        this.rightOperand = rightOperand;
+        this.shortCircuitResult = shortCircuitResult;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object leftValue = leftOperand.evaluate(event);
+        if (shortCircuitResult.equals(leftValue)) {
+            return shortCircuitResult;
+        }
+        return apply(leftValue, rightOperand.evaluate(event));
+    }
+
+    @Override
+    public Object[] evaluate(final List<Event> events, final BitSet selection) {
+        final Object[] results = leftOperand.evaluate(events, selection);
+        final BitSet undetermined = new BitSet(events.size());
+        for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+            if (!shortCircuitResult.equals(results[i])) {
+                undetermined.set(i);
+            }
+        }
+        if (undetermined.isEmpty()) {
+            return results;
+        }
+
+        final Object[] rightResults = rightOperand.evaluate(events, undetermined);
+        for (int i = undetermined.nextSetBit(0); i >= 0; i = undetermined.nextSetBit(i + 1)) {
+            results[i] = apply(results[i], rightResults[i]);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledExpressionParserTest {
+    @Mock
+    private Parser<ParseTree> parser;
+    @Mock
+    private ExpressionCompiler compiler;
+    @Mock
+    private PluginMetrics pluginMetrics;
+    @Mock
+    private Counter cacheHitsCounter;
+    @Mock
+    private Counter cacheMissesCounter;
+    @Mock
+    private Timer compileTimer;
+
+    private CompiledExpressionParser objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        when(pluginMetrics.counter(CompiledExpressionParser.COMPILED_EXPRESSION_CACHE_HITS)).thenReturn(cacheHitsCounter);
+        when(pluginMetrics.counter(CompiledExpressionParser.COMPILED_EXPRESSION_CACHE_MISSES)).thenReturn(cacheMissesCounter);
+        when(pluginMetrics.timer(CompiledExpressionParser.EXPRESSION_COMPILE_TIME)).thenReturn(compileTimer);
+
+        objectUnderTest = new CompiledExpressionParser(parser, compiler, pluginMetrics, 2);
+    }
+
+    @Test
+    void testDefaultConstructor() {
+        final CompiledExpressionParser compiledExpressionParser = new CompiledExpressionParser(parser, compiler);
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(evaluatorNode).when(compiler).compile(eq(parseTree));
+
+        assertThat(compiledExpressionParser.parse(statement), is(evaluatorNode));
+    }
+
+    @Test
+    void testParseCompilesParseTree() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(evaluatorNode).when(compiler).compile(eq(parseTree));
+
+        assertThat(objectUnderTest.parse(statement), is(evaluatorNode));
+        verify(cacheMissesCounter).increment();
+        verify(compileTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void testParseReturnsCachedCompiledExpression() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(evaluatorNode).when(compiler).compile(eq(parseTree));
+
+        objectUnderTest.parse(statement);
+
+        assertThat(objectUnderTest.parse(statement), is(evaluatorNode));
+        verify(parser, times(1)).parse(eq(statement));
+        verify(compiler, times(1)).compile(eq(parseTree));
+        verify(cacheMissesCounter, times(1)).increment();
+        verify(cacheHitsCounter, times(1)).increment();
+    }
+
+    @Test
+    void testParseEvictsWhenCacheIsFull() {
+        final List<String> statements = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final String statement = UUID.randomUUID().toString();
+            final ParseTree parseTree = mock(ParseTree.class);
+            doReturn(parseTree).when(parser).parse(eq(statement));
+            doReturn(mock(EvaluatorNode.class)).when(compiler).compile(eq(parseTree));
+            statements.add(statement);
+            objectUnderTest.parse(statement);
+        }
+
+        objectUnderTest.parse(statements.get(0));
+
+        verify(parser, times(2)).parse(eq(statements.get(0)));
+        verify(cacheMissesCounter, times(4)).increment();
+    }
+
+    @Test
+    void testParserExceptionIsNotCached() {
+        final String statement = UUID.randomUUID().toString();
+        doThrow(new ParseTreeCompositeException(Collections.singletonList(new RuntimeException())))
+                .when(parser).parse(eq(statement));
+
+        assertThrows(ParseTreeCompositeException.class, () -> objectUnderTest.parse(statement));
+        assertThrows(ParseTreeCompositeException.class, () -> objectUnderTest.parse(statement));
+        verify(parser, times(2)).parse(eq(statement));
+        verify(compiler, times(0)).compile(any());
+    }
+
+    @Test
+    void testConcurrentParseCompilesOnce() throws Exception {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(evaluatorNode).when(compiler).compile(eq(parseTree));
+
+        final int numberOfThreads = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<EvaluatorNode>> futures = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return objectUnderTest.parse(statement);
+            }));
+        }
+        startLatch.countDown();
+
+        for (final Future<EvaluatorNode> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS), is(evaluatorNode));
+        }
+        executorService.shutdown();
+        verify(parser, times(1)).parse(eq(statement));
+        verify(compiler, times(1)).compile(eq(parseTree));
+    }
+}
@@ -14,12 +14,18 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
-import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -47,10 +53,36 @@ class ConditionalExpressionEvaluatorIT {
     }
 
     @Test
-    void testConditionalExpressionEvaluatorBeanNotSingleton() {
+    void testConditionalExpressionEvaluatorBeanSingleton() {
         final ConditionalExpressionEvaluator instanceA = applicationContext.getBean(ConditionalExpressionEvaluator.class);
         final ConditionalExpressionEvaluator instanceB = applicationContext.getBean(ConditionalExpressionEvaluator.class);
-        assertThat(instanceA, not(is(instanceB)));
+        assertThat(instanceA, is(instanceB));
+    }
+
+    @Test
+    void testCompiledExpressionParserBeanSharedByEvaluators() {
+        final CompiledExpressionParser instanceA = applicationContext.getBean(CompiledExpressionParser.class);
+        final CompiledExpressionParser instanceB = applicationContext.getBean(CompiledExpressionParser.class);
+        assertThat(instanceA, is(instanceB));
+    }
+
+    @Test
+    void testConditionalExpressionEvaluatorConcurrentEvaluation() throws Exception {
+        final int numberOfThreads = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        final List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads * 100; i++) {
+            final ConditionalExpressionEvaluator evaluator = applicationContext.getBean(ConditionalExpressionEvaluator.class);
+            final int statusCode = i % 2 == 0 ? 200 : 500;
+            final String statement = "/status_code == 500 and /thread != " + (i % numberOfThreads);
+            futures.add(executorService.submit(() ->
+                    evaluator.evaluate(statement, event("{\"status_code\": " + statusCode + ", \"thread\": -1}"))));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(10, TimeUnit.SECONDS), is(i % 2 != 0));
+        }
+        executorService.shutdown();
     }
 
     @ParameterizedTest
@@ -63,6 +95,30 @@ class ConditionalExpressionEvaluatorIT {
         assertThat(actual, is(expected));
     }
 
+    @ParameterizedTest
+    @MethodSource("validExpressionArguments")
+    void testConditionalExpressionEvaluatorBatch(final String expression, final Event event, final Boolean expected) {
+        final ConditionalExpressionEvaluator evaluator = applicationContext.getBean(ConditionalExpressionEvaluator.class);
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(event);
+        }
+
+        final BitSet actual = evaluator.evaluateBatch(expression, events);
+
+        assertThat(actual.cardinality(), is(expected ? events.size() : 0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidExpressionArguments")
+    void testConditionalExpressionEvaluatorBatchThrows(final String expression, final Event event) {
+        final ConditionalExpressionEvaluator evaluator = applicationContext.getBean(ConditionalExpressionEvaluator.class);
+        final List<Event> events = new ArrayList<>();
+        events.add(event);
+
+        assertThrows(RuntimeException.class, () -> evaluator.evaluateBatch(expression, events));
+    }
+
     @ParameterizedTest
     @MethodSource("invalidExpressionArguments")
     void testConditionalExpressionEvaluatorThrows(final String expression, final Event event) {
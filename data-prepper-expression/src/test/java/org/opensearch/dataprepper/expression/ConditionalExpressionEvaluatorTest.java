@@ -6,13 +6,15 @@
 package org.opensearch.dataprepper.expression;
 
 import com.amazon.dataprepper.model.event.Event;
-import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -23,50 +25,47 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ConditionalExpressionEvaluatorTest {
 
     @Mock
-    private Parser<ParseTree> parser;
-    @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private Parser<EvaluatorNode> parser;
     @InjectMocks
     private ConditionalExpressionEvaluator statementEvaluator;
 
     @Test
     void testGivenValidParametersThenEvaluatorResultReturned() {
         final String statement = UUID.randomUUID().toString();
-        final ParseTree parseTree = mock(ParseTree.class);
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
         final Event event = mock(Event.class);
         final Boolean expected = true;
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expected).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(evaluatorNode).when(parser).parse(eq(statement));
+        doReturn(expected).when(evaluatorNode).evaluate(eq(event));
 
         final Boolean actual = statementEvaluator.evaluate(statement, event);
 
         assertThat(actual, is(expected));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(evaluatorNode).evaluate(eq(event));
     }
 
     @Test
     void testGivenUnexpectedEvaluatorResultTypeThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
-        final ParseTree parseTree = mock(ParseTree.class);
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
         final Event event = mock(Event.class);
         final Object result = mock(Object.class);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(result).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(evaluatorNode).when(parser).parse(eq(statement));
+        doReturn(result).when(evaluatorNode).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(evaluatorNode).evaluate(eq(event));
     }
 
     @Test
@@ -78,21 +77,73 @@ class ConditionalExpressionEvaluatorTest {
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
     }
 
     @Test
     void testGivenEvaluatorThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
-        final ParseTree parseTree = mock(ParseTree.class);
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
         final Event event = mock(Event.class);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(evaluatorNode).when(parser).parse(eq(statement));
+        doThrow(new RuntimeException()).when(evaluatorNode).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(evaluatorNode).evaluate(eq(event));
+    }
+
+    @Test
+    void testGivenBatchThenEvaluatorResultsReturned() {
+        final String statement = UUID.randomUUID().toString();
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
+        final List<Event> events = Arrays.asList(mock(Event.class), mock(Event.class), mock(Event.class));
+        final BitSet expectedSelection = new BitSet();
+        expectedSelection.set(0, events.size());
+
+        doReturn(evaluatorNode).when(parser).parse(eq(statement));
+        doReturn(new Object[] {true, false, true}).when(evaluatorNode).evaluate(eq(events), eq(expectedSelection));
+
+        final BitSet actual = statementEvaluator.evaluateBatch(statement, events);
+
+        assertThat(actual.get(0), is(true));
+        assertThat(actual.get(1), is(false));
+        assertThat(actual.get(2), is(true));
+        assertThat(actual.cardinality(), is(2));
+    }
+
+    @Test
+    void testGivenBatchWithUnexpectedEvaluatorResultTypeThenExceptionThrown() {
+        final String statement = UUID.randomUUID().toString();
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
+        final List<Event> events = Arrays.asList(mock(Event.class), mock(Event.class));
+
+        doReturn(evaluatorNode).when(parser).parse(eq(statement));
+        doReturn(new Object[] {true, 5}).when(evaluatorNode).evaluate(eq(events), any(BitSet.class));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateBatch(statement, events));
+    }
+
+    @Test
+    void testGivenBatchWithNullEvaluatorResultThenExceptionThrown() {
+        final String statement = UUID.randomUUID().toString();
+        final EvaluatorNode evaluatorNode = mock(EvaluatorNode.class);
+        final List<Event> events = Arrays.asList(mock(Event.class), mock(Event.class));
+
+        doReturn(evaluatorNode).when(parser).parse(eq(statement));
+        doReturn(new Object[] {null, true}).when(evaluatorNode).evaluate(eq(events), any(BitSet.class));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateBatch(statement, events));
+    }
+
+    @Test
+    void testGivenBatchAndParserThrowsExceptionThenExceptionThrown() {
+        final String statement = UUID.randomUUID().toString();
+
+        doThrow(new RuntimeException()).when(parser).parse(eq(statement));
+
+        assertThrows(ExpressionEvaluationException.class,
+                () -> statementEvaluator.evaluateBatch(statement, Arrays.asList(mock(Event.class))));
     }
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpressionCompilerTest {
+    private Parser<ParseTree> parser;
+    private ParseTreeEvaluator parseTreeEvaluator;
+    private ExpressionCompiler objectUnderTest;
+
+    @BeforeEach
+    void beforeEach() {
+        final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.refresh();
+
+        parser = applicationContext.getBean(ParseTreeParser.class);
+        parseTreeEvaluator = applicationContext.getBean(ParseTreeEvaluator.class);
+        objectUnderTest = applicationContext.getBean(ExpressionCompiler.class);
+    }
+
+    private Object compileAndEvaluate(final String statement, final Event event) {
+        return objectUnderTest.compile(parser.parse(statement)).evaluate(event);
+    }
+
+    @ParameterizedTest
+    @MethodSource("validExpressionArguments")
+    void testCompiledExpressionMatchesParseTreeEvaluator(final String statement, final Event event) {
+        final Object expected = parseTreeEvaluator.evaluate(parser.parse(statement), event);
+
+        assertThat(compileAndEvaluate(statement, event), equalTo(expected));
+    }
+
+    @Test
+    void testAndSkipsRightOperandWhenLeftOperandIsFalse() {
+        final Event event = event("{\"success\": false}");
+
+        assertThat(compileAndEvaluate("/success and /missing", event), is(false));
+        assertThrows(ExpressionEvaluationException.class, () -> compileAndEvaluate("true and /missing", event));
+    }
+
+    @Test
+    void testOrSkipsRightOperandWhenLeftOperandIsTrue() {
+        final Event event = event("{\"success\": true}");
+
+        assertThat(compileAndEvaluate("/success or /missing", event), is(true));
+        assertThrows(ExpressionEvaluationException.class, () -> compileAndEvaluate("false or /missing", event));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-5 == -5", "not (1 < 2)", "(true or false) and 3.14 > 3", "true == (1 != 2)"})
+    void testConstantOperationsAreFolded(final String statement) {
+        final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse(statement));
+
+        assertThat(evaluatorNode, instanceOf(ConstantNode.class));
+    }
+
+    @Test
+    void testFailingConstantOperationIsNotFolded() {
+        final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse("5 and true"));
+
+        assertThat(evaluatorNode, instanceOf(ShortCircuitOperatorNode.class));
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> evaluatorNode.evaluate(event("{}")));
+        assertThat(exception.getMessage(), containsString("5 and true"));
+    }
+
+    @Test
+    void testEscapedJsonPointerQuotesAreRemoved() {
+        final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse("\"/status code\""));
+
+        assertThat(evaluatorNode, instanceOf(JsonPointerNode.class));
+        assertThat(((JsonPointerNode) evaluatorNode).getJsonPointer(), equalTo("/status code"));
+    }
+
+    @Test
+    void testSetInitializer() {
+        final Event event = event("{\"status_code\": 201, \"expected\": 201}");
+
+        assertThat(compileAndEvaluate("/status_code in {200, 201, 204}", event), is(true));
+        assertThat(compileAndEvaluate("/status_code not in {200, /expected}", event), is(false));
+    }
+
+    @Test
+    void testSetInitializerOfLiteralsIsBuiltOnce() {
+        final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse("{200, 201, 204}"));
+
+        assertThat(evaluatorNode, instanceOf(ConstantNode.class));
+        final Object set = evaluatorNode.evaluate(null);
+        assertThat(set, instanceOf(Set.class));
+        assertThat(((Set<?>) set).contains(201), is(true));
+        assertThat(evaluatorNode.evaluate(null), sameInstance(set));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/message =~ \"a.*\"", "/message !~ \"a.*\""})
+    void testRegexLiteralIsCompiledOnce(final String statement) {
+        final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse(statement));
+
+        assertThat(evaluatorNode, instanceOf(OperatorNode.class));
+        final EvaluatorNode regexOperand = ((OperatorNode) evaluatorNode).getOperands()[1];
+        assertThat(regexOperand, instanceOf(ConstantNode.class));
+        assertThat(regexOperand.evaluate(null), instanceOf(Pattern.class));
+    }
+
+    @Test
+    void testInvalidRegexLiteralThrowsOnEvaluate() {
+        final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse("/message =~ \"*\""));
+
+        assertThrows(ExpressionEvaluationException.class, () -> evaluatorNode.evaluate(event("{\"message\": \"a\"}")));
+    }
+
+    @Test
+    void testRegexFromJsonPointer() {
+        final Event event = event("{\"message\": \"abc\", \"pattern\": \"a.*\"}");
+
+        assertThat(compileAndEvaluate("/message =~ /pattern", event), is(true));
+        assertThat(compileAndEvaluate("/message !~ /pattern", event), is(false));
+    }
+
+    @Test
+    void testBatchEvaluationMatchesEventEvaluation() {
+        final List<Event> events = Arrays.asList(
+                event("{\"status_code\": 200, \"success\": true, \"message\": \"an error\"}"),
+                event("{\"status_code\": 500, \"success\": false, \"message\": \"ok\"}"),
+                event("{\"status_code\": 404, \"success\": true, \"message\": \"not found\"}"),
+                event("{\"status_code\": 500, \"success\": true, \"message\": \"an error\"}"));
+        final BitSet selection = new BitSet();
+        selection.set(0, events.size());
+
+        final List<String> statements = Arrays.asList(
+                "true",
+                "/status_code == 500",
+                "/status_code != 500 and /success",
+                "/success or /status_code >= 500",
+                "/missing == /also_missing",
+                "/status_code in {200, 404} or (/success and /message =~ \".*error.*\")",
+                "/status_code not in {200, /status_code}",
+                "/success and -/status_code < -300",
+                "not /success");
+
+        for (final String statement : statements) {
+            final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse(statement));
+            final Object[] results = evaluatorNode.evaluate(events, selection);
+
+            for (int i = 0; i < events.size(); i++) {
+                assertThat(statement, results[i], equalTo(evaluatorNode.evaluate(events.get(i))));
+            }
+        }
+    }
+
+    @Test
+    void testBatchEvaluationOnlyEvaluatesSelectedEvents() {
+        final List<Event> events = Arrays.asList(event("{\"status_code\": 200}"), event("{\"status_code\": 500}"));
+        final BitSet selection = new BitSet();
+        selection.set(1);
+
+        final Object[] results = objectUnderTest.compile(parser.parse("/status_code == 500")).evaluate(events, selection);
+
+        assertThat(results[0], equalTo(null));
+        assertThat(results[1], equalTo(true));
+    }
+
+    @Test
+    void testBatchEvaluationWithEmptySelection() {
+        final List<Event> events = Arrays.asList(event("{\"status_code\": 200}"), event("{\"status_code\": 500}"));
+
+        final Object[] results = objectUnderTest.compile(parser.parse("/status_code == 500")).evaluate(events, new BitSet());
+
+        assertThat(results.length, equalTo(2));
+        assertThat(results[0], equalTo(null));
+        assertThat(results[1], equalTo(null));
+    }
+
+    @Test
+    void testBatchEvaluationSkipsRightOperandWhenLeftOperandDecidesBatch() {
+        final List<Event> events = Arrays.asList(event("{\"success\": false}"), event("{\"success\": false}"));
+        final BitSet selection = new BitSet();
+        selection.set(0, events.size());
+
+        final Object[] results = objectUnderTest.compile(parser.parse("/success and /missing")).evaluate(events, selection);
+
+        assertThat(results[0], equalTo(false));
+        assertThat(results[1], equalTo(false));
+    }
+
+    @Test
+    void testBatchEvaluationThrowsWhenAnyEventFails() {
+        final List<Event> events = Arrays.asList(event("{\"success\": false}"), event("{\"success\": true}"));
+        final BitSet selection = new BitSet();
+        selection.set(0, events.size());
+
+        final EvaluatorNode evaluatorNode = objectUnderTest.compile(parser.parse("/success and /missing"));
+
+        assertThrows(ExpressionEvaluationException.class, () -> evaluatorNode.evaluate(events, selection));
+    }
+
+    @Test
+    void testUnsupportedTerminalThrowsOnCompile() {
+        final ParseTree parseTree = parser.parse("${variable} == true");
+
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compile(parseTree));
+    }
+
+    private static Stream<Arguments> validExpressionArguments() {
+        return Stream.of(
+                Arguments.of("true", event("{}")),
+                Arguments.of("/status_code == 200", event("{\"status_code\": 200}")),
+                Arguments.of("/status_code != 300", event("{\"status_code\": 200}")),
+                Arguments.of("/status_code == 200", event("{}")),
+                Arguments.of("/success == /status_code", event("{\"success\": true, \"status_code\": 200}")),
+                Arguments.of("/pi == 3.14159", event("{\"pi\": 3.14159}")),
+                Arguments.of("true == (/is_cool == true)", event("{\"is_cool\": true}")),
+                Arguments.of("not /is_cool", event("{\"is_cool\": true}")),
+                Arguments.of("/status_code < 300", event("{\"status_code\": 200}")),
+                Arguments.of("/status_code <= 0", event("{\"status_code\": 200}")),
+                Arguments.of("/status_code > 0", event("{\"status_code\": 200}")),
+                Arguments.of("/status_code >= 300", event("{\"status_code\": 200}")),
+                Arguments.of("-/status_code == -200", event("{\"status_code\": 200}")),
+                Arguments.of("/success and /status_code == 200", event("{\"success\": true, \"status_code\": 200}")),
+                Arguments.of("/success or /status_code == 200", event("{\"success\": false, \"status_code\": 200}")),
+                Arguments.of("(/success == true) or (/status_code == 200)", event("{\"success\": false, \"status_code\": 200}")),
+                Arguments.of("/message =~ \".*error.*\"", event("{\"message\": \"an error occurred\"}")),
+                Arguments.of("/message !~ \".*error.*\"", event("{\"message\": \"an error occurred\"}")),
+                Arguments.of("/logs/2/should_drop", event("{\"logs\": [{}, {}, {\"should_drop\": true}]}")),
+                Arguments.of("/response == \"OK\"", event("{\"response\": \"OK\"}"))
+        );
+    }
+
+    private static Event event(final String data) {
+        return JacksonEvent.builder().withEventType("event").withData(data).build();
+    }
+}
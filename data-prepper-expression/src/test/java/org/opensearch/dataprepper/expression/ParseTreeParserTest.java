@@ -81,7 +81,7 @@ class ParseTreeParserTest {
     }
 
     @Test
-    void testCacheGivenMultipleExpressionCalls() throws ParseTreeCompositeException {
+    void testNoCacheGivenMultipleExpressionCalls() throws ParseTreeCompositeException {
         final ParseTree expected = mock(DataPrepperExpressionParser.ExpressionContext.class);
         doReturn(expected).when(parser).expression();
 
@@ -91,10 +91,10 @@ class ParseTreeParserTest {
         parseTree = parseTreeParser.parse(VALID_STATEMENT);
         assertThat(parseTree, is(expected));
 
-        verify(errorListener).isErrorFound();
+        verify(errorListener, times(2)).isErrorFound();
 
-        // Verify parser.expression() called 1 time
-        verify(parser).expression();
+        // Caching is done by CompiledExpressionParser
+        verify(parser, times(2)).expression();
     }
 
     @Test
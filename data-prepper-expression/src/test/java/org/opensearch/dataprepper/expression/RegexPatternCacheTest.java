@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegexPatternCacheTest {
+
+    @Test
+    void testGetPatternCompilesPattern() {
+        final RegexPatternCache objectUnderTest = new RegexPatternCache(10);
+
+        final Pattern pattern = objectUnderTest.getPattern("a.*");
+
+        assertThat(pattern.pattern(), equalTo("a.*"));
+        assertThat(pattern.matcher("abc").matches(), is(true));
+    }
+
+    @Test
+    void testGetPatternReturnsCachedPattern() {
+        final RegexPatternCache objectUnderTest = new RegexPatternCache(10);
+
+        final Pattern pattern = objectUnderTest.getPattern("a.*");
+
+        assertThat(objectUnderTest.getPattern("a.*"), sameInstance(pattern));
+        assertThat(objectUnderTest.size(), equalTo(1L));
+    }
+
+    @Test
+    void testGetPatternIsBounded() {
+        final RegexPatternCache objectUnderTest = new RegexPatternCache(2);
+
+        for (int i = 0; i < 10; i++) {
+            objectUnderTest.getPattern("a{" + i + "}");
+        }
+
+        assertThat(objectUnderTest.size(), equalTo(2L));
+    }
+
+    @Test
+    void testGetPatternWithInvalidPatternThrows() {
+        final RegexPatternCache objectUnderTest = new RegexPatternCache(10);
+
+        assertThrows(PatternSyntaxException.class, () -> objectUnderTest.getPattern("*"));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+}
@@ -5,6 +5,9 @@
 
 package com.amazon.dataprepper.plugins.processor.aggregate;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Implementing classes are able to be passed to the functions of {@link com.amazon.dataprepper.plugins.processor.aggregate.AggregateAction}
  * @since 1.3
@@ -16,4 +19,12 @@ public interface AggregateActionInput {
      * @since 1.3
      */
     GroupState getGroupState();
+
+    /**
+     * @return The values of the identification keys shared by all Events in the group, by identification key
+     * @since 1.5
+     */
+    default Map<Object, Object> getIdentificationKeys() {
+        return Collections.emptyMap();
+    }
 }
@@ -17,15 +17,14 @@ import java.util.concurrent.locks.Lock;
 /**
  * An {@link AggregateAction} contains two functons, {@link AggregateAction#concludeGroup(AggregateActionInput)} and {@link AggregateAction#handleEvent(Event, AggregateActionInput)},
  * that potentially modify a shared state that needs to be synchronized between multiple worker threads. These two functions should not be called on the same {@link AggregateGroup} at the same time,
- * and this class enforces that behavior using the two {@link java.util.concurrent.locks.ReentrantLock} that belong to each {@link AggregateGroup}.
+ * and this class enforces that behavior using the striped lock that {@link AggregateGroupManager#getGroupLock(AggregateIdentificationKeysHasher.IdentificationHash)} provides for each group.
  * The synchronization is designed to hold the following conditions:
  *
  * <ol>
  *     <li>The critical sections of concludeGroup and handleEventForGroup should not be entered at the same time</li>
- *     <li>If a thread is trying to enter the critical section for concludeGroup, no new threads should be able to attempt to enter the critical section for handleEventForGroup.
- *         This condition is achieved using a turnstile synchronization pattern that locks and then immediately unlocks the concludeGroupLock</li>
- *     <li>If multiple threads try to conclude the same {@link AggregateGroup} at the same time, only one should gain access to the critical section for concludeGroup, and
- *     the remaining threads should immediately return from concludeGroup</li>
+ *     <li>If multiple threads try to conclude the same {@link AggregateGroup}, only the first should conclude it. The remaining threads find that the group was
+ *     reset and return from concludeGroup without concluding it again</li>
+ *     <li>A group is closed once it has been concluded, even if concluding it failed, since it has been removed from the expiry queue of the {@link AggregateGroupManager}</li>
  * </ol>
  * @since 1.3
  */
@@ -50,39 +49,31 @@ class AggregateActionSynchronizer {
     }
 
     Optional<Event> concludeGroup(final AggregateIdentificationKeysHasher.IdentificationHash hash, final AggregateGroup aggregateGroup) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
+        final Lock groupLock = aggregateGroupManager.getGroupLock(hash);
 
         Optional<Event> concludeGroupEvent = Optional.empty();
-        if (concludeGroupLock.tryLock()) {
-            handleEventForGroupLock.lock();
-
-            try {
-                if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration())) {
-                    LOG.debug("Start critical section in concludeGroup");
-                    concludeGroupEvent = aggregateAction.concludeGroup(aggregateGroup);
-                    aggregateGroupManager.closeGroup(hash, aggregateGroup);
-                }
-            } catch (final Exception e) {
-                LOG.debug("Error while concluding group: ", e);
-                actionConcludeGroupEventsProcessingErrors.increment();
-            } finally {
-                handleEventForGroupLock.unlock();
-                concludeGroupLock.unlock();
+        groupLock.lock();
+        try {
+            if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration())) {
+                LOG.debug("Start critical section in concludeGroup");
+                concludeGroupEvent = aggregateAction.concludeGroup(aggregateGroup);
+                aggregateGroupManager.closeGroup(hash, aggregateGroup);
             }
+        } catch (final Exception e) {
+            LOG.debug("Error while concluding group: ", e);
+            actionConcludeGroupEventsProcessingErrors.increment();
+            aggregateGroupManager.closeGroup(hash, aggregateGroup);
+        } finally {
+            groupLock.unlock();
         }
         return concludeGroupEvent;
     }
 
     AggregateActionResponse handleEventForGroup(final Event event, final AggregateIdentificationKeysHasher.IdentificationHash hash, final AggregateGroup aggregateGroup) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
-
-        concludeGroupLock.lock();
-        concludeGroupLock.unlock();
+        final Lock groupLock = aggregateGroupManager.getGroupLock(hash);
 
         AggregateActionResponse handleEventResponse;
-        handleEventForGroupLock.lock();
+        groupLock.lock();
         try {
             LOG.debug("Start critical section in handleEventForGroup");
             handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
@@ -92,7 +83,7 @@ class AggregateActionSynchronizer {
             actionHandleEventsProcessingErrors.increment();
             handleEventResponse = new AggregateActionResponse(event);
         } finally {
-            handleEventForGroupLock.unlock();
+            groupLock.unlock();
         }
 
         return handleEventResponse;
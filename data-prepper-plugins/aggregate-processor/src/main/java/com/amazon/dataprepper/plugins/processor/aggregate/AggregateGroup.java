@@ -7,37 +7,65 @@ package com.amazon.dataprepper.plugins.processor.aggregate;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Collections;
+import java.util.Map;
 
 class AggregateGroup implements AggregateActionInput {
-    private final GroupState groupState;
-    private Instant groupStart;
-    private final Lock concludeGroupLock;
-    private final Lock handleEventForGroupLock;
+    private final Map<Object, Object> identificationKeys;
+    private GroupState groupState;
+    private volatile Instant groupStart;
+    private byte[] spilledGroupState;
+    private GroupStateSpiller groupStateSpiller;
 
 
     AggregateGroup() {
+        this(Collections.emptyMap());
+    }
+
+    AggregateGroup(final Map<Object, Object> identificationKeys) {
+        this.identificationKeys = identificationKeys;
         this.groupState = new DefaultGroupState();
         this.groupStart = Instant.now();
-        this.concludeGroupLock = new ReentrantLock();
-        this.handleEventForGroupLock = new ReentrantLock();
     }
 
+    /**
+     * Restores the group state first if it was spilled.
+     */
     public GroupState getGroupState() {
+        if (spilledGroupState != null) {
+            final byte[] groupStateToRestore = spilledGroupState;
+            spilledGroupState = null;
+            groupState = groupStateSpiller.restore(groupStateToRestore);
+        }
         return groupState;
     }
 
+    @Override
+    public Map<Object, Object> getIdentificationKeys() {
+        return identificationKeys;
+    }
+
     Instant getGroupStart() {
         return groupStart;
     }
 
-    Lock getConcludeGroupLock() {
-        return concludeGroupLock;
+    boolean isGroupStateSpilled() {
+        return spilledGroupState != null;
     }
 
-    Lock getHandleEventForGroupLock() {
-        return handleEventForGroupLock;
+    /**
+     * Replaces the group state with its serialized form, unless it is empty, already spilled, or cannot be spilled.
+     */
+    void spillGroupState(final GroupStateSpiller groupStateSpiller) {
+        if (spilledGroupState != null || groupState.isEmpty()) {
+            return;
+        }
+        final byte[] spilled = groupStateSpiller.spill(groupState);
+        if (spilled != null) {
+            this.spilledGroupState = spilled;
+            this.groupStateSpiller = groupStateSpiller;
+            this.groupState = new DefaultGroupState();
+        }
     }
 
     boolean shouldConcludeGroup(final Duration groupDuration) {
@@ -46,6 +74,10 @@ class AggregateGroup implements AggregateActionInput {
 
     void resetGroup() {
         groupStart = Instant.now();
+        if (spilledGroupState != null) {
+            groupStateSpiller.discard(spilledGroupState);
+            spilledGroupState = null;
+        }
         groupState.clear();
     }
 }
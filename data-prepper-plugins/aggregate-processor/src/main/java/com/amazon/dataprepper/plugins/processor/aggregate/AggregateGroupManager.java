@@ -6,29 +6,59 @@
 package com.amazon.dataprepper.plugins.processor.aggregate;
 
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Striped;
 
 import java.time.Duration;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
 
+/**
+ * Tracks the open {@link AggregateGroup}s. Since every group lives for the same group duration, groups are kept in an
+ * expiry queue in the order they were opened, so finding the groups to conclude only visits the groups which are due
+ * instead of scanning every open group. Access to a group is synchronized with one of a fixed number of striped locks
+ * rather than with locks owned by each group. The state of groups which have not been used recently may be spilled
+ * into a serialized form by a {@link GroupStateSpiller}.
+ */
 class AggregateGroupManager {
+    static final int LOCK_STRIPES = 1024;
 
     private final Map<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final Queue<Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup>> groupExpiryQueue = new ConcurrentLinkedQueue<>();
+    private final Striped<Lock> groupLocks = Striped.lock(LOCK_STRIPES);
     private final Duration groupDuration;
+    private final GroupStateSpiller groupStateSpiller;
 
     AggregateGroupManager(final Duration groupDuration) {
+        this(groupDuration, 0, 0);
+    }
+
+    AggregateGroupManager(final Duration groupDuration, final long maxResidentGroups, final long maxSpilledGroupStateBytes) {
         this.groupDuration = groupDuration;
+        this.groupStateSpiller = new GroupStateSpiller(maxResidentGroups, maxSpilledGroupStateBytes, this::getGroupLock);
     }
 
     AggregateGroup getAggregateGroup(final AggregateIdentificationKeysHasher.IdentificationHash identificationHash) {
-        return allGroups.computeIfAbsent(identificationHash, (hash) -> new AggregateGroup());
+        return allGroups.computeIfAbsent(identificationHash, (hash) -> {
+            final AggregateGroup aggregateGroup = new AggregateGroup(hash.getIdentificationKeysMap());
+            addToExpiryQueue(hash, aggregateGroup);
+            return aggregateGroup;
+        });
     }
 
+    /**
+     * Removes the due groups from the expiry queue. Each due group is returned to a single caller, which is then
+     * expected to conclude it.
+     */
     List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup>> getGroupsToConclude() {
         final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration)) {
+        Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup> groupEntry;
+        while ((groupEntry = groupExpiryQueue.peek()) != null && groupEntry.getValue().shouldConcludeGroup(groupDuration)) {
+            if (groupExpiryQueue.remove(groupEntry) && allGroups.get(groupEntry.getKey()) == groupEntry.getValue()) {
                 groupsToConclude.add(groupEntry);
             }
         }
@@ -37,18 +67,45 @@ class AggregateGroupManager {
 
     void closeGroup(final AggregateIdentificationKeysHasher.IdentificationHash hash, final AggregateGroup group) {
         allGroups.remove(hash, group);
+        groupStateSpiller.removeGroup(group);
         group.resetGroup();
     }
 
     void putGroupWithHash(final AggregateIdentificationKeysHasher.IdentificationHash hash, final AggregateGroup group) {
-        allGroups.put(hash, group);
+        if (allGroups.get(hash) != group && allGroups.put(hash, group) != group) {
+            addToExpiryQueue(hash, group);
+        }
+        groupStateSpiller.recordGroupAccess(hash, group);
+    }
+
+    /**
+     * @return The lock which synchronizes handling events for and concluding the group with the given hash
+     */
+    Lock getGroupLock(final AggregateIdentificationKeysHasher.IdentificationHash hash) {
+        return groupLocks.get(hash);
     }
 
     long getAllGroupsSize() {
         return allGroups.size();
     }
 
+    long getResidentGroupsSize() {
+        return Math.max(allGroups.size() - groupStateSpiller.getSpilledGroupsCount(), 0);
+    }
+
+    long getSpilledGroupsSize() {
+        return groupStateSpiller.getSpilledGroupsCount();
+    }
+
+    long getSpilledGroupStateBytes() {
+        return groupStateSpiller.getSpilledBytes();
+    }
+
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    private void addToExpiryQueue(final AggregateIdentificationKeysHasher.IdentificationHash hash, final AggregateGroup group) {
+        groupExpiryQueue.add(new AbstractMap.SimpleImmutableEntry<>(hash, group));
+    }
 }
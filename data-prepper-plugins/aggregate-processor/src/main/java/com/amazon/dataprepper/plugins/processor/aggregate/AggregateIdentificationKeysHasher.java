@@ -6,31 +6,97 @@
 package com.amazon.dataprepper.plugins.processor.aggregate;
 
 import com.amazon.dataprepper.model.event.Event;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Creates the {@link IdentificationHash} of an Event from the values of the identification keys. Scalar values are
+ * read directly from the Event's nodes, so only object and array values need to be converted.
+ */
 class AggregateIdentificationKeysHasher {
-    private final List<String> identificationKeys;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String[] identificationKeys;
+
     AggregateIdentificationKeysHasher(final List<String> identificationKeys) {
-        this.identificationKeys = identificationKeys;
+        this.identificationKeys = identificationKeys.toArray(new String[0]);
     }
 
     IdentificationHash createIdentificationKeyHashFromEvent(final Event event) {
-        final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysHash.put(identificationKey, event.get(identificationKey, Object.class));
+        final Object[] identificationValues = new Object[identificationKeys.length];
+        for (int i = 0; i < identificationKeys.length; i++) {
+            identificationValues[i] = toIdentificationValue(event.get(identificationKeys[i], JsonNode.class));
+        }
+        return new IdentificationHash(identificationKeys, identificationValues);
+    }
+
+    private static Object toIdentificationValue(final JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
         }
-        return new IdentificationHash(identificationKeysHash);
+        return OBJECT_MAPPER.convertValue(node, Object.class);
     }
 
+    /**
+     * The values of the identification keys of an Event, in the order of the identification keys, along with a
+     * 64-bit hash of the values which is computed once.
+     */
     public static class IdentificationHash {
-        private final Map<Object, Object> hash;
+        private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+        private static final String[] NO_IDENTIFICATION_KEYS = new String[0];
+
+        private final String[] identificationKeys;
+        private final Object[] identificationValues;
+        private final long hash;
+
+        IdentificationHash(final Object[] identificationValues) {
+            this(NO_IDENTIFICATION_KEYS, identificationValues);
+        }
+
+        IdentificationHash(final String[] identificationKeys, final Object[] identificationValues) {
+            this.identificationKeys = identificationKeys;
+            this.identificationValues = identificationValues;
+            this.hash = computeHash(identificationValues);
+        }
+
+        /**
+         * @return The identification values by identification key, or an empty map if the identification keys are not known
+         */
+        Map<Object, Object> getIdentificationKeysMap() {
+            if (identificationKeys.length == 0) {
+                return Collections.emptyMap();
+            }
+            final Map<Object, Object> identificationKeysMap = new LinkedHashMap<>();
+            for (int i = 0; i < identificationKeys.length; i++) {
+                identificationKeysMap.put(identificationKeys[i], identificationValues[i]);
+            }
+            return Collections.unmodifiableMap(identificationKeysMap);
+        }
 
-        IdentificationHash(final Map<Object, Object> hash) {
-            this.hash = hash;
+        private static long computeHash(final Object[] identificationValues) {
+            long hash = identificationValues.length;
+            for (final Object identificationValue : identificationValues) {
+                hash = (hash ^ Objects.hashCode(identificationValue)) * HASH_MULTIPLIER;
+                hash ^= hash >>> 32;
+            }
+            return hash;
         }
 
         @Override
@@ -38,12 +104,12 @@ class AggregateIdentificationKeysHasher {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             IdentificationHash that = (IdentificationHash) o;
-            return Objects.equals(hash, that.hash);
+            return hash == that.hash && Arrays.equals(identificationValues, that.identificationValues);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(hash);
+            return (int) (hash ^ (hash >>> 32));
         }
     }
 }
@@ -34,6 +34,9 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     static final String ACTION_CONCLUDE_GROUP_EVENTS_OUT = "actionConcludeGroupEventsOut";
     static final String ACTION_CONCLUDE_GROUP_EVENTS_DROPPED = "actionConcludeGroupEventsDropped";
     static final String CURRENT_AGGREGATE_GROUPS = "currentAggregateGroups";
+    static final String RESIDENT_AGGREGATE_GROUPS = "residentAggregateGroups";
+    static final String SPILLED_AGGREGATE_GROUPS = "spilledAggregateGroups";
+    static final String SPILLED_AGGREGATE_GROUP_STATE_BYTES = "spilledAggregateGroupStateBytes";
 
     private final Counter actionHandleEventsOutCounter;
     private final Counter actionHandleEventsDroppedCounter;
@@ -47,7 +50,8 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @DataPrepperPluginConstructor
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory) {
-        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration()),
+        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration(), aggregateProcessorConfig.getMaxResidentGroups(),
+                aggregateProcessorConfig.getMaxSpilledGroupStateBytes()),
                 new AggregateIdentificationKeysHasher(aggregateProcessorConfig.getIdentificationKeys()), new AggregateActionSynchronizer.AggregateActionSynchronizerProvider());
     }
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final AggregateGroupManager aggregateGroupManager,
@@ -65,6 +69,9 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.actionHandleEventsDroppedCounter = pluginMetrics.counter(ACTION_HANDLE_EVENTS_DROPPED);
 
         pluginMetrics.gauge(CURRENT_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getAllGroupsSize);
+        pluginMetrics.gauge(RESIDENT_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getResidentGroupsSize);
+        pluginMetrics.gauge(SPILLED_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getSpilledGroupsSize);
+        pluginMetrics.gauge(SPILLED_AGGREGATE_GROUP_STATE_BYTES, aggregateGroupManager, AggregateGroupManager::getSpilledGroupStateBytes);
     }
 
     private AggregateAction loadAggregateAction(final PluginFactory pluginFactory) {
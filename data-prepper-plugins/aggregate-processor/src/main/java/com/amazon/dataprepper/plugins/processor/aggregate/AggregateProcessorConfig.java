@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.processor.aggregate;
 
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
@@ -16,6 +17,8 @@ import java.util.List;
 public class AggregateProcessorConfig {
 
     static int DEFAULT_GROUP_DURATION_SECONDS = 180;
+    static int DEFAULT_MAX_RESIDENT_GROUPS = 0;
+    static long DEFAULT_MAX_SPILLED_GROUP_STATE_BYTES = 0;
 
     @JsonProperty("identification_keys")
     @NotEmpty
@@ -36,6 +39,22 @@ public class AggregateProcessorConfig {
         return groupDuration;
     }
 
+    @JsonProperty("max_resident_groups")
+    @Min(0)
+    private int maxResidentGroups = DEFAULT_MAX_RESIDENT_GROUPS;
+
+    @JsonProperty("max_spilled_group_state_bytes")
+    @Min(0)
+    private long maxSpilledGroupStateBytes = DEFAULT_MAX_SPILLED_GROUP_STATE_BYTES;
+
     public PluginModel getAggregateAction() { return aggregateAction; }
 
+    public int getMaxResidentGroups() {
+        return maxResidentGroups;
+    }
+
+    public long getMaxSpilledGroupStateBytes() {
+        return maxSpilledGroupStateBytes;
+    }
+
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+/**
+ * Keeps the {@link GroupState} of at most a maximum number of recently used {@link AggregateGroup}s as objects. When
+ * a group is evicted from the recently used groups, its state is serialized into a compact byte array, which replaces
+ * the objects of the state. The state is restored the next time an {@link AggregateAction} gets it, so actions are not
+ * aware of spilling. Group states which cannot be serialized, groups which are in use by another thread when evicted,
+ * and groups whose serialized state would exceed the maximum spilled bytes stay resident.
+ * <p>
+ * A maximum of 0 resident groups disables spilling, and every group state stays resident.
+ */
+class GroupStateSpiller {
+    private static final Logger LOG = LoggerFactory.getLogger(GroupStateSpiller.class);
+
+    private final Cache<AggregateGroup, AggregateIdentificationKeysHasher.IdentificationHash> residentGroups;
+    private final Function<AggregateIdentificationKeysHasher.IdentificationHash, Lock> groupLockProvider;
+    private final AtomicLong spilledGroups = new AtomicLong();
+    private final AtomicLong spilledBytes = new AtomicLong();
+    private final long maxSpilledBytes;
+
+    /**
+     * @param maxResidentGroups Maximum number of recently used groups whose state is kept as objects, or 0 to keep
+     *                          every group state as objects
+     * @param maxSpilledBytes Maximum total size of the serialized group states, or 0 for no limit
+     * @param groupLockProvider Provides the lock which must be held while a group state is spilled
+     */
+    GroupStateSpiller(final long maxResidentGroups, final long maxSpilledBytes,
+                      final Function<AggregateIdentificationKeysHasher.IdentificationHash, Lock> groupLockProvider) {
+        this.maxSpilledBytes = maxSpilledBytes;
+        this.groupLockProvider = groupLockProvider;
+        this.residentGroups = maxResidentGroups > 0 ? CacheBuilder.newBuilder()
+                .maximumSize(maxResidentGroups)
+                .removalListener(this::onResidentGroupRemoval)
+                .build() : null;
+    }
+
+    /**
+     * Records that the group was used, which may spill the state of the least recently used groups. Must be called
+     * while holding the lock of the group.
+     */
+    void recordGroupAccess(final AggregateIdentificationKeysHasher.IdentificationHash hash, final AggregateGroup aggregateGroup) {
+        if (residentGroups != null) {
+            residentGroups.put(aggregateGroup, hash);
+        }
+    }
+
+    /**
+     * Stops tracking a group which was closed.
+     */
+    void removeGroup(final AggregateGroup aggregateGroup) {
+        if (residentGroups != null) {
+            residentGroups.invalidate(aggregateGroup);
+        }
+    }
+
+    /**
+     * @return The serialized group state, or null if the group state cannot be serialized or would exceed the maximum
+     * spilled bytes
+     */
+    byte[] spill(final GroupState groupState) {
+        if (maxSpilledBytes > 0 && spilledBytes.get() >= maxSpilledBytes) {
+            return null;
+        }
+
+        final byte[] serializedGroupState;
+        try (final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+             final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(groupState);
+            objectOutputStream.flush();
+            serializedGroupState = byteArrayOutputStream.toByteArray();
+        } catch (final IOException e) {
+            LOG.debug("Unable to serialize group state, keeping it on the heap: ", e);
+            return null;
+        }
+
+        if (!reserveSpilledBytes(serializedGroupState.length)) {
+            LOG.debug("Spilling a group state of {} bytes would exceed the maximum of {} spilled bytes, keeping it resident",
+                    serializedGroupState.length, maxSpilledBytes);
+            return null;
+        }
+        spilledGroups.incrementAndGet();
+        return serializedGroupState;
+    }
+
+    private boolean reserveSpilledBytes(final int bytes) {
+        long currentSpilledBytes;
+        do {
+            currentSpilledBytes = spilledBytes.get();
+            if (maxSpilledBytes > 0 && currentSpilledBytes + bytes > maxSpilledBytes) {
+                return false;
+            }
+        } while (!spilledBytes.compareAndSet(currentSpilledBytes, currentSpilledBytes + bytes));
+        return true;
+    }
+
+    /**
+     * Reads back a group state which was spilled, and stops accounting for its serialized bytes.
+     *
+     * @throws IllegalStateException if the group state cannot be deserialized
+     */
+    GroupState restore(final byte[] spilledGroupState) {
+        discard(spilledGroupState);
+
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(spilledGroupState))) {
+            return (GroupState) objectInputStream.readObject();
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to restore spilled group state", e);
+        }
+    }
+
+    /**
+     * Stops accounting for the serialized bytes of a group state which is no longer needed.
+     */
+    void discard(final byte[] spilledGroupState) {
+        spilledGroups.decrementAndGet();
+        spilledBytes.addAndGet(-spilledGroupState.length);
+    }
+
+    long getSpilledGroupsCount() {
+        return spilledGroups.get();
+    }
+
+    long getSpilledBytes() {
+        return spilledBytes.get();
+    }
+
+    private void onResidentGroupRemoval(final RemovalNotification<AggregateGroup, AggregateIdentificationKeysHasher.IdentificationHash> notification) {
+        if (!notification.wasEvicted()) {
+            return;
+        }
+        final Lock groupLock = groupLockProvider.apply(notification.getValue());
+        if (groupLock.tryLock()) {
+            try {
+                notification.getKey().spillGroupState(this);
+            } finally {
+                groupLock.unlock();
+            }
+        }
+    }
+}
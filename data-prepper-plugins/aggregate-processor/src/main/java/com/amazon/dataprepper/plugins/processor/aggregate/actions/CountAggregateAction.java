@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateAction;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+
+import java.util.Optional;
+
+/**
+ * An AggregateAction that counts the Events of a group and drops them. When the group is concluded, a single Event
+ * with the identification keys of the group and the count is created.
+ * @since 1.5
+ */
+@DataPrepperPlugin(name = "count", pluginType = AggregateAction.class, pluginConfigurationType = CountAggregateActionConfig.class)
+public class CountAggregateAction implements AggregateAction {
+    static final String GROUP_STATE_COUNT = "GROUP_STATE_COUNT";
+
+    private final String countKey;
+
+    @DataPrepperPluginConstructor
+    public CountAggregateAction(final CountAggregateActionConfig countAggregateActionConfig) {
+        this.countKey = countAggregateActionConfig.getCountKey();
+    }
+
+    @Override
+    public AggregateActionResponse handleEvent(final Event event, final AggregateActionInput aggregateActionInput) {
+        final long[] count = (long[]) aggregateActionInput.getGroupState().computeIfAbsent(GROUP_STATE_COUNT, key -> new long[1]);
+        count[0]++;
+        return AggregateActionResponse.nullEventResponse();
+    }
+
+    @Override
+    public Optional<Event> concludeGroup(final AggregateActionInput aggregateActionInput) {
+        final long[] count = (long[]) aggregateActionInput.getGroupState().get(GROUP_STATE_COUNT);
+        if (count == null) {
+            return Optional.empty();
+        }
+
+        final Event event = GroupEvents.createEventWithIdentificationKeys(aggregateActionInput);
+        event.put(countKey, count[0]);
+        return Optional.of(event);
+    }
+}
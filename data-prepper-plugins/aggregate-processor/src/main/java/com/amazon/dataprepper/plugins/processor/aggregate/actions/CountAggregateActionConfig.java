@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+
+public class CountAggregateActionConfig {
+    static final String DEFAULT_COUNT_KEY = "count";
+
+    @JsonProperty("count_key")
+    @NotEmpty
+    private String countKey = DEFAULT_COUNT_KEY;
+
+    public String getCountKey() {
+        return countKey;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+
+import java.util.Map;
+
+/**
+ * Creates the Events which summarize a group when it is concluded.
+ * @since 1.5
+ */
+final class GroupEvents {
+    static final String EVENT_TYPE = "event";
+
+    private GroupEvents() {
+    }
+
+    /**
+     * @return A new Event containing the identification keys of the group
+     */
+    static Event createEventWithIdentificationKeys(final AggregateActionInput aggregateActionInput) {
+        final Event event = JacksonEvent.builder()
+                .withEventType(EVENT_TYPE)
+                .build();
+        for (final Map.Entry<Object, Object> identificationKey : aggregateActionInput.getIdentificationKeys().entrySet()) {
+            event.put(identificationKey.getKey().toString(), identificationKey.getValue());
+        }
+        return event;
+    }
+}
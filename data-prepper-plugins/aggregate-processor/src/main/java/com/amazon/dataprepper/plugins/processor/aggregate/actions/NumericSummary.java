@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import java.io.Serializable;
+
+/**
+ * Primitive accumulators for the values of a numeric key in a group: the count, sum, minimum and maximum, along with
+ * a {@link QuantileSketch} when percentiles are requested.
+ * @since 1.5
+ */
+class NumericSummary implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final QuantileSketch quantileSketch;
+
+    /**
+     * @param quantileSketch The sketch to add values to, or null if quantiles are not needed
+     */
+    NumericSummary(final QuantileSketch quantileSketch) {
+        this.quantileSketch = quantileSketch;
+    }
+
+    void add(final double value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (quantileSketch != null) {
+            quantileSketch.add(value);
+        }
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    double getSum() {
+        return sum;
+    }
+
+    double getMin() {
+        return min;
+    }
+
+    double getMax() {
+        return max;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100
+     * @return The estimated value at the percentile, bounded by the exact minimum and maximum
+     */
+    double getPercentile(final double percentile) {
+        return Math.min(Math.max(quantileSketch.getQuantile(percentile / 100), min), max);
+    }
+}
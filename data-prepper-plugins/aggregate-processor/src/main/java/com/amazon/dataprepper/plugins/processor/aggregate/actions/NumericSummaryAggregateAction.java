@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateAction;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An AggregateAction that accumulates the numeric values of a key for the Events of a group and drops the Events.
+ * When the group is concluded, a single Event is created with the identification keys of the group, and a summary
+ * of the count, sum, minimum, maximum and percentiles of the values. Events without a numeric value for the key
+ * are dropped without being counted.
+ * @since 1.5
+ */
+@DataPrepperPlugin(name = "numeric_summary", pluginType = AggregateAction.class, pluginConfigurationType = NumericSummaryAggregateActionConfig.class)
+public class NumericSummaryAggregateAction implements AggregateAction {
+    static final String GROUP_STATE_SUMMARY = "GROUP_STATE_SUMMARY";
+    static final String COUNT_KEY = "count";
+    static final String SUM_KEY = "sum";
+    static final String MIN_KEY = "min";
+    static final String MAX_KEY = "max";
+    static final String PERCENTILES_KEY = "percentiles";
+    static final String PERCENTILE_PREFIX = "p";
+
+    private final String key;
+    private final String summaryKey;
+    private final double[] percentiles;
+    private final String[] percentileNames;
+    private final double relativeAccuracy;
+    private final int maxBuckets;
+
+    @DataPrepperPluginConstructor
+    public NumericSummaryAggregateAction(final NumericSummaryAggregateActionConfig numericSummaryAggregateActionConfig) {
+        this.key = numericSummaryAggregateActionConfig.getKey();
+        this.summaryKey = numericSummaryAggregateActionConfig.getSummaryKey();
+        this.relativeAccuracy = numericSummaryAggregateActionConfig.getRelativeAccuracy();
+        this.maxBuckets = numericSummaryAggregateActionConfig.getMaxBuckets();
+
+        final List<Double> configuredPercentiles = numericSummaryAggregateActionConfig.getPercentiles();
+        this.percentiles = new double[configuredPercentiles.size()];
+        this.percentileNames = new String[configuredPercentiles.size()];
+        for (int i = 0; i < percentiles.length; i++) {
+            percentiles[i] = configuredPercentiles.get(i);
+            percentileNames[i] = PERCENTILE_PREFIX + BigDecimal.valueOf(percentiles[i]).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    @Override
+    public AggregateActionResponse handleEvent(final Event event, final AggregateActionInput aggregateActionInput) {
+        final JsonNode valueNode = event.get(key, JsonNode.class);
+        if (valueNode != null && valueNode.isNumber()) {
+            final NumericSummary numericSummary = (NumericSummary) aggregateActionInput.getGroupState()
+                    .computeIfAbsent(GROUP_STATE_SUMMARY, stateKey -> createNumericSummary());
+            numericSummary.add(valueNode.doubleValue());
+        }
+        return AggregateActionResponse.nullEventResponse();
+    }
+
+    @Override
+    public Optional<Event> concludeGroup(final AggregateActionInput aggregateActionInput) {
+        final NumericSummary numericSummary = (NumericSummary) aggregateActionInput.getGroupState().get(GROUP_STATE_SUMMARY);
+        if (numericSummary == null) {
+            return Optional.empty();
+        }
+
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put(COUNT_KEY, numericSummary.getCount());
+        summary.put(SUM_KEY, numericSummary.getSum());
+        summary.put(MIN_KEY, numericSummary.getMin());
+        summary.put(MAX_KEY, numericSummary.getMax());
+        if (percentiles.length > 0) {
+            final Map<String, Object> percentileValues = new LinkedHashMap<>();
+            for (int i = 0; i < percentiles.length; i++) {
+                percentileValues.put(percentileNames[i], numericSummary.getPercentile(percentiles[i]));
+            }
+            summary.put(PERCENTILES_KEY, percentileValues);
+        }
+
+        final Event event = GroupEvents.createEventWithIdentificationKeys(aggregateActionInput);
+        event.put(summaryKey, summary);
+        return Optional.of(event);
+    }
+
+    private NumericSummary createNumericSummary() {
+        return new NumericSummary(percentiles.length > 0 ? new QuantileSketch(relativeAccuracy, maxBuckets) : null);
+    }
+}
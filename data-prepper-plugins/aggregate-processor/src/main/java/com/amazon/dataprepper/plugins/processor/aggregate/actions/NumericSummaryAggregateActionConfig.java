@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class NumericSummaryAggregateActionConfig {
+    static final String DEFAULT_SUMMARY_KEY = "summary";
+    static final List<Double> DEFAULT_PERCENTILES = Arrays.asList(50.0, 90.0, 99.0);
+    static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    static final int DEFAULT_MAX_BUCKETS = 2048;
+
+    @JsonProperty("key")
+    @NotEmpty
+    private String key;
+
+    @JsonProperty("summary_key")
+    @NotEmpty
+    private String summaryKey = DEFAULT_SUMMARY_KEY;
+
+    @JsonProperty("percentiles")
+    @NotNull
+    private List<Double> percentiles = DEFAULT_PERCENTILES;
+
+    @JsonProperty("relative_accuracy")
+    private double relativeAccuracy = DEFAULT_RELATIVE_ACCURACY;
+
+    @JsonProperty("max_buckets")
+    @Min(1)
+    private int maxBuckets = DEFAULT_MAX_BUCKETS;
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getSummaryKey() {
+        return summaryKey;
+    }
+
+    public List<Double> getPercentiles() {
+        return percentiles;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    @AssertTrue(message = "percentiles must be between 0 and 100")
+    boolean isPercentilesValid() {
+        return percentiles == null || percentiles.stream().allMatch(percentile -> percentile != null && percentile >= 0 && percentile <= 100);
+    }
+
+    @AssertTrue(message = "relative_accuracy must be between 0 and 1 exclusive")
+    boolean isRelativeAccuracyValid() {
+        return relativeAccuracy > 0 && relativeAccuracy < 1;
+    }
+}
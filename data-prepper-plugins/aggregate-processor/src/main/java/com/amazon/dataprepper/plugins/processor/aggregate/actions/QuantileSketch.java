@@ -0,0 +1,185 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A mergeable quantile sketch with a relative accuracy guarantee, in the style of DDSketch. Values are counted in
+ * logarithmically sized buckets held in a primitive array, so the quantiles it returns are within the relative
+ * accuracy of the exact quantiles, as long as the number of buckets stays under the maximum. When a value would
+ * exceed the maximum number of buckets, the lowest buckets are collapsed into one, which only loses accuracy for the
+ * lowest quantiles.
+ * <p>
+ * Negative values are counted in a second set of buckets, and values close to zero are counted as zero.
+ *
+ * @since 1.5
+ */
+class QuantileSketch implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+
+    private final double gamma;
+    private final double logGamma;
+    private final int maxBuckets;
+    private final Buckets positiveBuckets;
+    private final Buckets negativeBuckets;
+    private long zeroCount;
+
+    /**
+     * @param relativeAccuracy Relative accuracy of the quantiles, between 0 and 1 exclusive
+     * @param maxBuckets Maximum number of buckets for positive values, and for negative values
+     */
+    QuantileSketch(final double relativeAccuracy, final int maxBuckets) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be between 0 and 1 exclusive");
+        }
+        if (maxBuckets < 1) {
+            throw new IllegalArgumentException("maxBuckets must be positive");
+        }
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxBuckets = maxBuckets;
+        this.positiveBuckets = new Buckets();
+        this.negativeBuckets = new Buckets();
+    }
+
+    void add(final double value) {
+        if (value > MIN_INDEXABLE_VALUE) {
+            positiveBuckets.increment(index(value), 1, maxBuckets);
+        } else if (value < -MIN_INDEXABLE_VALUE) {
+            negativeBuckets.increment(index(-value), 1, maxBuckets);
+        } else {
+            zeroCount++;
+        }
+    }
+
+    /**
+     * Adds the counts of another sketch with the same relative accuracy to this sketch.
+     */
+    void merge(final QuantileSketch other) {
+        if (other.gamma != gamma) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracies");
+        }
+        positiveBuckets.merge(other.positiveBuckets, maxBuckets);
+        negativeBuckets.merge(other.negativeBuckets, maxBuckets);
+        zeroCount += other.zeroCount;
+    }
+
+    long getCount() {
+        return positiveBuckets.totalCount + negativeBuckets.totalCount + zeroCount;
+    }
+
+    /**
+     * @param quantile The quantile, between 0 and 1 inclusive
+     * @return The estimated value at the quantile, or NaN if the sketch is empty
+     */
+    double getQuantile(final double quantile) {
+        final long count = getCount();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        final long rank = (long) (Math.min(Math.max(quantile, 0), 1) * (count - 1));
+
+        if (rank < negativeBuckets.totalCount) {
+            final long reverseRank = negativeBuckets.totalCount - 1 - rank;
+            return -value(negativeBuckets.indexAtRank(reverseRank));
+        }
+        if (rank < negativeBuckets.totalCount + zeroCount) {
+            return 0;
+        }
+        return value(positiveBuckets.indexAtRank(rank - negativeBuckets.totalCount - zeroCount));
+    }
+
+    private int index(final double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private double value(final int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /**
+     * Counts by bucket index, for the contiguous range of indexes starting at {@link #minIndex}.
+     */
+    private static class Buckets implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private long[] counts = new long[0];
+        private int minIndex;
+        private long totalCount;
+
+        void increment(final int index, final long count, final int maxBuckets) {
+            if (counts.length == 0) {
+                counts = new long[1];
+                minIndex = index;
+            }
+            int targetIndex = index;
+            if (index < minIndex) {
+                final int requiredBuckets = minIndex + counts.length - index;
+                if (requiredBuckets > maxBuckets) {
+                    targetIndex = minIndex + counts.length - maxBuckets;
+                    if (targetIndex < minIndex) {
+                        grow(targetIndex, minIndex + counts.length - 1);
+                    }
+                } else {
+                    grow(index, minIndex + counts.length - 1);
+                }
+            } else if (index >= minIndex + counts.length) {
+                final int requiredBuckets = index - minIndex + 1;
+                if (requiredBuckets > maxBuckets) {
+                    collapseLowestBuckets(index - maxBuckets + 1);
+                }
+                grow(minIndex, index);
+            }
+            counts[targetIndex - minIndex] += count;
+            totalCount += count;
+        }
+
+        void merge(final Buckets other, final int maxBuckets) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] > 0) {
+                    increment(other.minIndex + i, other.counts[i], maxBuckets);
+                }
+            }
+        }
+
+        /**
+         * @param rank A rank lower than the total count
+         */
+        int indexAtRank(final long rank) {
+            int i = 0;
+            long seen = counts[0];
+            while (seen <= rank) {
+                i++;
+                seen += counts[i];
+            }
+            return minIndex + i;
+        }
+
+        private void grow(final int newMinIndex, final int newMaxIndex) {
+            final long[] newCounts = new long[newMaxIndex - newMinIndex + 1];
+            System.arraycopy(counts, 0, newCounts, minIndex - newMinIndex, counts.length);
+            counts = newCounts;
+            minIndex = newMinIndex;
+        }
+
+        private void collapseLowestBuckets(final int newMinIndex) {
+            final int collapsedBuckets = Math.min(newMinIndex - minIndex, counts.length);
+            long collapsedCount = 0;
+            for (int i = 0; i < collapsedBuckets; i++) {
+                collapsedCount += counts[i];
+            }
+            final long[] remainingCounts = collapsedBuckets < counts.length
+                    ? Arrays.copyOfRange(counts, collapsedBuckets, counts.length)
+                    : new long[1];
+            remainingCounts[0] += collapsedCount;
+            counts = remainingCounts;
+            minIndex = newMinIndex;
+        }
+    }
+}
@@ -52,10 +52,7 @@ public class AggregateActionSynchronizerTest {
     private AggregateActionResponse aggregateActionResponse;
 
     @Mock
-    private Lock concludeGroupLock;
-
-    @Mock
-    private Lock handleEventForGroupLock;
+    private Lock groupLock;
 
     @Mock
     private Event event;
@@ -71,14 +68,12 @@ public class AggregateActionSynchronizerTest {
 
     @BeforeEach
     void setup() {
-        doNothing().when(handleEventForGroupLock).lock();
-        doNothing().when(handleEventForGroupLock).unlock();
-        doNothing().when(concludeGroupLock).unlock();
+        doNothing().when(groupLock).lock();
+        doNothing().when(groupLock).unlock();
         doNothing().when(aggregateGroupManager).putGroupWithHash(identificationHash, aggregateGroup);
         doNothing().when(aggregateGroupManager).closeGroup(identificationHash, aggregateGroup);
         when(aggregateGroupManager.getGroupDuration()).thenReturn(Duration.ZERO);
-        when(aggregateGroup.getConcludeGroupLock()).thenReturn(concludeGroupLock);
-        when(aggregateGroup.getHandleEventForGroupLock()).thenReturn(handleEventForGroupLock);
+        when(aggregateGroupManager.getGroupLock(identificationHash)).thenReturn(groupLock);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(true);
 
         when(pluginMetrics.counter(AggregateActionSynchronizer.ACTION_HANDLE_EVENTS_PROCESSING_ERRORS)).thenReturn(actionHandleEventsProcessingErrors);
@@ -91,53 +86,35 @@ public class AggregateActionSynchronizerTest {
     }
 
     @Test
-    void concludeGroup_with_tryLock_false_returns_empty_optional() {
-        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(false);
-
-        final Optional<Event> concludeGroupEvent = objectUnderTest.concludeGroup(identificationHash, aggregateGroup);
-
-        verifyNoInteractions(handleEventForGroupLock);
-        verifyNoInteractions(aggregateAction);
-        verifyNoInteractions(aggregateGroupManager);
-        verify(concludeGroupLock, times(0)).unlock();
-
-        assertThat(concludeGroupEvent, equalTo(Optional.empty()));
-    }
-
-    @Test
-    void concludeGroup_with_tryLock_true_calls_expected_functions_and_returns_correct_event() {
+    void concludeGroup_calls_expected_functions_and_returns_correct_event() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenReturn(Optional.of(event));
 
         final Optional<Event> concludeGroupEvent = objectUnderTest.concludeGroup(identificationHash, aggregateGroup);
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, aggregateGroupManager, concludeGroupLock);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(groupLock, aggregateAction, aggregateGroupManager);
+        inOrder.verify(groupLock).lock();
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
         inOrder.verify(aggregateGroupManager).closeGroup(identificationHash, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(groupLock).unlock();
 
         assertThat(concludeGroupEvent.isPresent(), equalTo(true));
         assertThat(concludeGroupEvent.get(), equalTo(event));
     }
 
     @Test
-    void locks_are_unlocked_and_empty_optional_returned_when_aggregateAction_concludeGroup_throws_exception() {
+    void lock_is_unlocked_group_closed_and_empty_optional_returned_when_aggregateAction_concludeGroup_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenThrow(RuntimeException.class);
 
         final Optional<Event> concludeGroupEvent = objectUnderTest.concludeGroup(identificationHash, aggregateGroup);
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, concludeGroupLock, actionConcludeGroupEventsProcessingErrors);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(groupLock, aggregateAction, aggregateGroupManager, actionConcludeGroupEventsProcessingErrors);
+        inOrder.verify(groupLock).lock();
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
         inOrder.verify(actionConcludeGroupEventsProcessingErrors).increment();
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroupManager).closeGroup(identificationHash, aggregateGroup);
+        inOrder.verify(groupLock).unlock();
 
         assertThat(concludeGroupEvent, equalTo(Optional.empty()));
     }
@@ -149,31 +126,27 @@ public class AggregateActionSynchronizerTest {
 
         final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationHash, aggregateGroup);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateAction, aggregateGroupManager);
-        inOrder.verify(concludeGroupLock).lock();
-        inOrder.verify(concludeGroupLock).unlock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(groupLock, aggregateAction, aggregateGroupManager);
+        inOrder.verify(groupLock).lock();
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
         inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationHash, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(groupLock).unlock();
 
         assertThat(handleEventResponse, equalTo(aggregateActionResponse));
     }
 
     @Test
-    void locks_are_unlocked_and_event_returned_when_aggregateAction_handleEvent_throws_exception() {
+    void lock_is_unlocked_and_event_returned_when_aggregateAction_handleEvent_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
         when(aggregateAction.handleEvent(event, aggregateGroup)).thenThrow(RuntimeException.class);
 
         final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationHash, aggregateGroup);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateAction, actionHandleEventsProcessingErrors);
-        inOrder.verify(concludeGroupLock).lock();
-        inOrder.verify(concludeGroupLock).unlock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(groupLock, aggregateAction, actionHandleEventsProcessingErrors);
+        inOrder.verify(groupLock).lock();
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
         inOrder.verify(actionHandleEventsProcessingErrors).increment();
-        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(groupLock).unlock();
 
         assertThat(handleEventResponse, notNullValue());
         assertThat(handleEventResponse.getEvent(), equalTo(event));
@@ -182,21 +155,17 @@ public class AggregateActionSynchronizerTest {
     @Test
     void conclude_group_with_should_conclude_group_false_returns_empty_optional() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(false);
 
         final Optional<Event> concludeGroupEvent = objectUnderTest.concludeGroup(identificationHash, aggregateGroup);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateGroup, aggregateGroupManager);
-        inOrder.verify(concludeGroupLock).tryLock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(groupLock, aggregateGroup);
+        inOrder.verify(groupLock).lock();
         inOrder.verify(aggregateGroup).shouldConcludeGroup(any(Duration.class));
-        inOrder.verify(aggregateGroupManager, times(0)).getGroupDuration();
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(groupLock).unlock();
 
         verifyNoInteractions(aggregateAction);
-
+        verify(aggregateGroupManager, times(0)).closeGroup(identificationHash, aggregateGroup);
 
         assertThat(concludeGroupEvent, equalTo(Optional.empty()));
     }
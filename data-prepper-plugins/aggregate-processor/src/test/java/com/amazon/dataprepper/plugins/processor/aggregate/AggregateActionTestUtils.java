@@ -5,20 +5,33 @@
 
 package com.amazon.dataprepper.plugins.processor.aggregate;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 public class AggregateActionTestUtils {
     public static class TestAggregateActionInput implements AggregateActionInput {
         private final GroupState groupState;
+        private final Map<Object, Object> identificationKeys;
 
         public TestAggregateActionInput() {
+            this(Collections.emptyMap());
+        }
+
+        public TestAggregateActionInput(final Map<Object, Object> identificationKeys) {
             this.groupState = new AggregateActionTestUtils.TestGroupState();
+            this.identificationKeys = identificationKeys;
         }
 
         @Override
         public GroupState getGroupState() {
             return groupState;
         }
+
+        @Override
+        public Map<Object, Object> getIdentificationKeys() {
+            return identificationKeys;
+        }
     }
 
     public static class TestGroupState extends HashMap<Object, Object> implements GroupState {
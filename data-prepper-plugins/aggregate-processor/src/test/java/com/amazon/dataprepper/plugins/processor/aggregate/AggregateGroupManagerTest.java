@@ -10,18 +10,21 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AggregateGroupManagerTest {
@@ -34,10 +37,7 @@ public class AggregateGroupManagerTest {
 
     @BeforeEach
     void setup() {
-        final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
-
-        identificationHash = new AggregateIdentificationKeysHasher.IdentificationHash(identificationKeysHash);
+        identificationHash = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{UUID.randomUUID().toString()});
     }
 
     private AggregateGroupManager createObjectUnderTest() {
@@ -51,6 +51,7 @@ public class AggregateGroupManagerTest {
         final AggregateGroup emptyAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationHash);
         assertThat(emptyAggregateGroup, notNullValue());
         assertThat(emptyAggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(emptyAggregateGroup.getIdentificationKeys(), equalTo(identificationHash.getIdentificationKeysMap()));
 
         final AggregateGroup secondAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationHash);
         assertThat(secondAggregateGroup, notNullValue());
@@ -108,4 +109,101 @@ public class AggregateGroupManagerTest {
         assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude));
         assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude));
     }
+
+    @Test
+    void getGroupsToConclude_returns_each_due_group_once() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationHash);
+
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude();
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getKey(), equalTo(identificationHash));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    void getGroupsToConclude_stops_at_first_group_which_is_not_due() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
+        when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
+        final AggregateGroup groupToConclude = mock(AggregateGroup.class);
+
+        aggregateGroupManager.putGroupWithHash(mock(AggregateIdentificationKeysHasher.IdentificationHash.class), groupToNotConclude);
+        aggregateGroupManager.putGroupWithHash(mock(AggregateIdentificationKeysHasher.IdentificationHash.class), groupToConclude);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(), equalTo(Collections.emptyList()));
+        verify(groupToConclude, never()).shouldConcludeGroup(TEST_GROUP_DURATION);
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_group_which_was_replaced() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final AggregateGroup replacedGroup = aggregateGroupManager.getAggregateGroup(identificationHash);
+        final AggregateGroup newGroup = new AggregateGroup();
+        aggregateGroupManager.putGroupWithHash(identificationHash, newGroup);
+
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude();
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(newGroup)));
+        assertThat(groupsToConclude.get(0).getValue(), not(sameInstance(replacedGroup)));
+    }
+
+    @Test
+    void putGroupWithHash_after_closeGroup_returns_group_to_conclude_again() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationHash);
+        assertThat(aggregateGroupManager.getGroupsToConclude().size(), equalTo(1));
+        aggregateGroupManager.closeGroup(identificationHash, aggregateGroup);
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+
+        aggregateGroupManager.putGroupWithHash(identificationHash, aggregateGroup);
+        aggregateGroupManager.putGroupWithHash(identificationHash, aggregateGroup);
+
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationHash, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude();
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void getGroupLock_returns_same_lock_for_equal_hashes() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final String identificationValue = UUID.randomUUID().toString();
+        final AggregateIdentificationKeysHasher.IdentificationHash equalHash = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{identificationValue});
+        final AggregateIdentificationKeysHasher.IdentificationHash otherEqualHash = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{identificationValue});
+
+        assertThat(aggregateGroupManager.getGroupLock(equalHash), notNullValue());
+        assertThat(aggregateGroupManager.getGroupLock(equalHash), is(sameInstance(aggregateGroupManager.getGroupLock(otherEqualHash))));
+    }
+
+    @Test
+    void putGroupWithHash_beyond_maxResidentGroups_spills_least_recently_used_group_state() {
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, 1, 0);
+
+        final AggregateGroup firstGroup = aggregateGroupManager.getAggregateGroup(identificationHash);
+        firstGroup.getGroupState().put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateGroupManager.putGroupWithHash(identificationHash, firstGroup);
+
+        final AggregateIdentificationKeysHasher.IdentificationHash secondHash = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{UUID.randomUUID().toString()});
+        final AggregateGroup secondGroup = aggregateGroupManager.getAggregateGroup(secondHash);
+        aggregateGroupManager.putGroupWithHash(secondHash, secondGroup);
+
+        assertThat(firstGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(2L));
+        assertThat(aggregateGroupManager.getResidentGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getSpilledGroupStateBytes(), greaterThan(0L));
+
+        aggregateGroupManager.closeGroup(identificationHash, firstGroup);
+
+        assertThat(aggregateGroupManager.getResidentGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+        assertThat(aggregateGroupManager.getSpilledGroupStateBytes(), equalTo(0L));
+    }
 }
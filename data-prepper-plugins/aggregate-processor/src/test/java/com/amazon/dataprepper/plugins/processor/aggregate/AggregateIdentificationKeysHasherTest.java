@@ -9,12 +9,18 @@ import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.event.JacksonEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
@@ -41,10 +47,12 @@ public class AggregateIdentificationKeysHasherTest {
     void createIdentificationKeyHashFromEvent_returns_expected_IdentficationHash() {
         aggregateIdentificationKeysHasher = createObjectUnderTest();
         final Map<Object, Object> eventMap = new HashMap<>();
-        eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
-        eventMap.put("secondIdentificationKey", UUID.randomUUID().toString());
+        final String firstValue = UUID.randomUUID().toString();
+        final String secondValue = UUID.randomUUID().toString();
+        eventMap.put("firstIdentificationKey", firstValue);
+        eventMap.put("secondIdentificationKey", secondValue);
 
-        final AggregateIdentificationKeysHasher.IdentificationHash expectedResult = new AggregateIdentificationKeysHasher.IdentificationHash(new HashMap<>(eventMap));
+        final AggregateIdentificationKeysHasher.IdentificationHash expectedResult = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{firstValue, secondValue});
 
         eventMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
 
@@ -61,12 +69,10 @@ public class AggregateIdentificationKeysHasherTest {
     void createIdentificationKeysHashFromEvent_where_Event_does_not_contain_one_of_the_identification_keys_returns_expected_Map() {
         aggregateIdentificationKeysHasher = createObjectUnderTest();
         final Map<Object, Object> eventMap = new HashMap<>();
-        eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
+        final String firstValue = UUID.randomUUID().toString();
+        eventMap.put("firstIdentificationKey", firstValue);
 
-        final Map<Object, Object> mapForExpectedHash = new HashMap<>(eventMap);
-        mapForExpectedHash.put("secondIdentificationKey", null);
-
-        final AggregateIdentificationKeysHasher.IdentificationHash expectedResult = new AggregateIdentificationKeysHasher.IdentificationHash(mapForExpectedHash);
+        final AggregateIdentificationKeysHasher.IdentificationHash expectedResult = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{firstValue, null});
 
         eventMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
 
@@ -124,4 +130,77 @@ public class AggregateIdentificationKeysHasherTest {
 
         assertThat(result, is(not(equalTo(secondResult))));
     }
+
+    @ParameterizedTest
+    @MethodSource("identificationValues")
+    void createIdentificationKeyHashFromEvent_returns_IdentificationHash_with_values_of_each_type(final Object identificationValue) {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        final Map<String, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", identificationValue);
+        eventMap.put("secondIdentificationKey", null);
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final AggregateIdentificationKeysHasher.IdentificationHash result = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromEvent(event);
+        final AggregateIdentificationKeysHasher.IdentificationHash expectedResult = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{identificationValue, null});
+
+        assertThat(result, equalTo(expectedResult));
+        assertThat(result.hashCode(), equalTo(expectedResult.hashCode()));
+    }
+
+    private static Stream<Object> identificationValues() {
+        return Stream.of(
+                UUID.randomUUID().toString(),
+                new Random().nextInt(),
+                new Random().nextLong(),
+                new Random().nextDouble(),
+                true,
+                Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()),
+                Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void identification_hashes_with_values_in_different_order_are_not_considered_equal() {
+        final String firstValue = UUID.randomUUID().toString();
+        final String secondValue = UUID.randomUUID().toString();
+
+        final AggregateIdentificationKeysHasher.IdentificationHash result = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{firstValue, secondValue});
+        final AggregateIdentificationKeysHasher.IdentificationHash secondResult = new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{secondValue, firstValue});
+
+        assertThat(result, is(not(equalTo(secondResult))));
+        assertThat(result, is(not(equalTo(null))));
+        assertThat(result, equalTo(result));
+    }
+
+    @Test
+    void createIdentificationKeyHashFromEvent_returns_IdentificationHash_with_identification_keys_map() {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        final String firstValue = UUID.randomUUID().toString();
+        final Map<String, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", firstValue);
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final Map<Object, Object> expectedIdentificationKeys = new HashMap<>();
+        expectedIdentificationKeys.put("firstIdentificationKey", firstValue);
+        expectedIdentificationKeys.put("secondIdentificationKey", null);
+
+        final AggregateIdentificationKeysHasher.IdentificationHash result = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromEvent(event);
+
+        assertThat(result.getIdentificationKeysMap(), equalTo(expectedIdentificationKeys));
+    }
+
+    @Test
+    void getIdentificationKeysMap_without_identification_keys_returns_empty_map() {
+        final AggregateIdentificationKeysHasher.IdentificationHash identificationHash =
+                new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{UUID.randomUUID().toString()});
+
+        assertThat(identificationHash.getIdentificationKeysMap(), equalTo(Collections.emptyMap()));
+    }
 }
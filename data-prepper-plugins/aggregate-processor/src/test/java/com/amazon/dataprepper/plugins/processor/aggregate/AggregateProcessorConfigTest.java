@@ -18,5 +18,7 @@ public class AggregateProcessorConfigTest {
         final AggregateProcessorConfig aggregateConfig = new AggregateProcessorConfig();
 
         assertThat(aggregateConfig.getGroupDuration(), equalTo(Duration.ofSeconds(AggregateProcessorConfig.DEFAULT_GROUP_DURATION_SECONDS)));
+        assertThat(aggregateConfig.getMaxResidentGroups(), equalTo(AggregateProcessorConfig.DEFAULT_MAX_RESIDENT_GROUPS));
+        assertThat(aggregateConfig.getMaxSpilledGroupStateBytes(), equalTo(AggregateProcessorConfig.DEFAULT_MAX_SPILLED_GROUP_STATE_BYTES));
     }
 }
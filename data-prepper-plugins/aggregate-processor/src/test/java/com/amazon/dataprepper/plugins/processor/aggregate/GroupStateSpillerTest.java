@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GroupStateSpillerTest {
+
+    private GroupStateSpiller createObjectUnderTest(final long maxResidentGroups) {
+        return createObjectUnderTest(maxResidentGroups, 0);
+    }
+
+    private GroupStateSpiller createObjectUnderTest(final long maxResidentGroups, final long maxSpilledBytes) {
+        return new GroupStateSpiller(maxResidentGroups, maxSpilledBytes, hash -> new ReentrantLock());
+    }
+
+    private AggregateGroup createGroupWithState(final Map<Object, Object> state) {
+        final AggregateGroup aggregateGroup = new AggregateGroup();
+        aggregateGroup.getGroupState().putAll(state);
+        return aggregateGroup;
+    }
+
+    private AggregateIdentificationKeysHasher.IdentificationHash createHash() {
+        return new AggregateIdentificationKeysHasher.IdentificationHash(new Object[]{UUID.randomUUID().toString()});
+    }
+
+    private Map<Object, Object> createState() {
+        final Map<Object, Object> state = new HashMap<>();
+        state.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        state.put(UUID.randomUUID().toString(), Collections.singletonList(UUID.randomUUID().toString()));
+        return state;
+    }
+
+    @Test
+    void recordGroupAccess_with_spilling_disabled_keeps_every_group_resident() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(0);
+        final AggregateGroup firstGroup = createGroupWithState(createState());
+        final AggregateGroup secondGroup = createGroupWithState(createState());
+
+        objectUnderTest.recordGroupAccess(createHash(), firstGroup);
+        objectUnderTest.recordGroupAccess(createHash(), secondGroup);
+        objectUnderTest.removeGroup(firstGroup);
+
+        assertThat(firstGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(secondGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+        assertThat(objectUnderTest.getSpilledBytes(), equalTo(0L));
+    }
+
+    @Test
+    void recordGroupAccess_beyond_maxResidentGroups_spills_least_recently_used_group_which_is_restored_on_access() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final Map<Object, Object> firstState = createState();
+        final AggregateGroup firstGroup = createGroupWithState(firstState);
+        final AggregateGroup secondGroup = createGroupWithState(createState());
+
+        objectUnderTest.recordGroupAccess(createHash(), firstGroup);
+        objectUnderTest.recordGroupAccess(createHash(), secondGroup);
+
+        assertThat(firstGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(secondGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(1L));
+        assertThat(objectUnderTest.getSpilledBytes(), greaterThan(0L));
+
+        assertThat(firstGroup.getGroupState(), equalTo(firstState));
+        assertThat(firstGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+        assertThat(objectUnderTest.getSpilledBytes(), equalTo(0L));
+    }
+
+    @Test
+    void removeGroup_does_not_spill_group() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final AggregateGroup aggregateGroup = createGroupWithState(createState());
+
+        objectUnderTest.recordGroupAccess(createHash(), aggregateGroup);
+        objectUnderTest.removeGroup(aggregateGroup);
+
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+    }
+
+    @Test
+    void evicted_group_which_is_locked_by_another_thread_stays_resident() {
+        final Lock groupLock = mock(Lock.class);
+        when(groupLock.tryLock()).thenReturn(false);
+        final GroupStateSpiller objectUnderTest = new GroupStateSpiller(1, 0, hash -> groupLock);
+        final AggregateGroup firstGroup = createGroupWithState(createState());
+
+        objectUnderTest.recordGroupAccess(createHash(), firstGroup);
+        objectUnderTest.recordGroupAccess(createHash(), createGroupWithState(createState()));
+
+        assertThat(firstGroup.isGroupStateSpilled(), equalTo(false));
+        verify(groupLock, never()).unlock();
+    }
+
+    @Test
+    void group_with_empty_state_is_not_spilled() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final AggregateGroup emptyGroup = new AggregateGroup();
+
+        objectUnderTest.recordGroupAccess(createHash(), emptyGroup);
+        objectUnderTest.recordGroupAccess(createHash(), createGroupWithState(createState()));
+
+        assertThat(emptyGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+    }
+
+    @Test
+    void spillGroupState_of_spilled_group_does_nothing() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final AggregateGroup aggregateGroup = createGroupWithState(createState());
+
+        aggregateGroup.spillGroupState(objectUnderTest);
+        aggregateGroup.spillGroupState(objectUnderTest);
+
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(1L));
+    }
+
+    @Test
+    void group_state_which_cannot_be_serialized_stays_resident() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final AggregateGroup aggregateGroup = createGroupWithState(Collections.singletonMap(UUID.randomUUID().toString(), new Object()));
+
+        aggregateGroup.spillGroupState(objectUnderTest);
+
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+        assertThat(objectUnderTest.getSpilledBytes(), equalTo(0L));
+    }
+
+    @Test
+    void group_state_beyond_maxSpilledBytes_stays_resident_until_spilled_bytes_are_released() {
+        final Map<Object, Object> firstState = createState();
+        final long firstStateBytes = createObjectUnderTest(1).spill(createGroupWithState(firstState).getGroupState()).length;
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1, firstStateBytes);
+        final AggregateGroup firstGroup = createGroupWithState(firstState);
+        final Map<Object, Object> secondState = createState();
+        final AggregateGroup secondGroup = createGroupWithState(secondState);
+
+        firstGroup.spillGroupState(objectUnderTest);
+        secondGroup.spillGroupState(objectUnderTest);
+
+        assertThat(firstGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(secondGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(secondGroup.getGroupState(), equalTo(secondState));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(1L));
+        assertThat(objectUnderTest.getSpilledBytes(), equalTo(firstStateBytes));
+
+        assertThat(firstGroup.getGroupState(), equalTo(firstState));
+        secondGroup.spillGroupState(objectUnderTest);
+
+        assertThat(secondGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(1L));
+    }
+
+    @Test
+    void resetGroup_discards_spilled_group_state() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final AggregateGroup aggregateGroup = createGroupWithState(createState());
+        aggregateGroup.spillGroupState(objectUnderTest);
+
+        aggregateGroup.resetGroup();
+
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+        assertThat(objectUnderTest.getSpilledBytes(), equalTo(0L));
+    }
+
+    @Test
+    void restore_with_invalid_spilled_group_state_throws_IllegalStateException() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final byte[] spilledGroupState = objectUnderTest.spill(new DefaultGroupState());
+        final byte[] invalidGroupState = new byte[spilledGroupState.length];
+
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.restore(invalidGroupState));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+        assertThat(objectUnderTest.getSpilledBytes(), equalTo(0L));
+    }
+
+    @Test
+    void spill_then_restore_returns_equal_group_state() {
+        final GroupStateSpiller objectUnderTest = createObjectUnderTest(1);
+        final GroupState groupState = new DefaultGroupState();
+        groupState.putAll(createState());
+
+        final byte[] spilledGroupState = objectUnderTest.spill(groupState);
+        assertThat(objectUnderTest.getSpilledBytes(), equalTo((long) spilledGroupState.length));
+
+        final GroupState restoredGroupState = objectUnderTest.restore(spilledGroupState);
+
+        assertThat(restoredGroupState, equalTo(groupState));
+        assertThat(objectUnderTest.getSpilledGroupsCount(), equalTo(0L));
+    }
+}
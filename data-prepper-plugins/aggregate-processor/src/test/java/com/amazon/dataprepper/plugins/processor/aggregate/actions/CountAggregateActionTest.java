@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CountAggregateActionTest {
+    @Mock
+    private CountAggregateActionConfig countAggregateActionConfig;
+
+    private String countKey;
+
+    @BeforeEach
+    void setup() {
+        countKey = UUID.randomUUID().toString();
+    }
+
+    private CountAggregateAction createObjectUnderTest() {
+        when(countAggregateActionConfig.getCountKey()).thenReturn(countKey);
+        return new CountAggregateAction(countAggregateActionConfig);
+    }
+
+    private Event buildEvent() {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()))
+                .build();
+    }
+
+    @Test
+    void handleEvent_drops_events_and_concludeGroup_returns_event_with_identification_keys_and_count() {
+        final CountAggregateAction objectUnderTest = createObjectUnderTest();
+        final Map<Object, Object> identificationKeys = new HashMap<>();
+        identificationKeys.put("sourceIp", UUID.randomUUID().toString());
+        identificationKeys.put("status", new Random().nextInt(500));
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+
+        final int numberOfEvents = new Random().nextInt(10) + 1;
+        for (int i = 0; i < numberOfEvents; i++) {
+            final AggregateActionResponse aggregateActionResponse = objectUnderTest.handleEvent(buildEvent(), aggregateActionInput);
+            assertThat(aggregateActionResponse.getEvent(), equalTo(null));
+        }
+
+        final Optional<Event> result = objectUnderTest.concludeGroup(aggregateActionInput);
+
+        final Map<String, Object> expectedEventMap = new HashMap<>();
+        expectedEventMap.put("sourceIp", identificationKeys.get("sourceIp"));
+        expectedEventMap.put("status", identificationKeys.get("status"));
+        expectedEventMap.put(countKey, (long) numberOfEvents);
+
+        assertThat(result.isPresent(), equalTo(true));
+        assertThat(result.get().getMetadata().getEventType(), equalTo(GroupEvents.EVENT_TYPE));
+        assertThat(result.get().toMap(), equalTo(expectedEventMap));
+    }
+
+    @Test
+    void concludeGroup_without_events_returns_empty_optional() {
+        final CountAggregateAction objectUnderTest = createObjectUnderTest();
+
+        final Optional<Event> result = objectUnderTest.concludeGroup(new AggregateActionTestUtils.TestAggregateActionInput());
+
+        assertThat(result, equalTo(Optional.empty()));
+    }
+
+    @Test
+    void default_count_key_is_count() {
+        assertThat(new CountAggregateActionConfig().getCountKey(), equalTo(CountAggregateActionConfig.DEFAULT_COUNT_KEY));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NumericSummaryAggregateActionConfigTest {
+    @Test
+    void testDefault() {
+        final NumericSummaryAggregateActionConfig objectUnderTest = new NumericSummaryAggregateActionConfig();
+
+        assertThat(objectUnderTest.getKey(), nullValue());
+        assertThat(objectUnderTest.getSummaryKey(), equalTo(NumericSummaryAggregateActionConfig.DEFAULT_SUMMARY_KEY));
+        assertThat(objectUnderTest.getPercentiles(), equalTo(NumericSummaryAggregateActionConfig.DEFAULT_PERCENTILES));
+        assertThat(objectUnderTest.getRelativeAccuracy(), equalTo(NumericSummaryAggregateActionConfig.DEFAULT_RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getMaxBuckets(), equalTo(NumericSummaryAggregateActionConfig.DEFAULT_MAX_BUCKETS));
+        assertThat(objectUnderTest.isPercentilesValid(), equalTo(true));
+        assertThat(objectUnderTest.isRelativeAccuracyValid(), equalTo(true));
+    }
+
+    @Test
+    void isPercentilesValid_returns_false_for_percentiles_out_of_range() throws NoSuchFieldException, IllegalAccessException {
+        final NumericSummaryAggregateActionConfig objectUnderTest = new NumericSummaryAggregateActionConfig();
+
+        reflectivelySetField(objectUnderTest, "percentiles", Arrays.asList(50.0, 100.1));
+        assertThat(objectUnderTest.isPercentilesValid(), equalTo(false));
+
+        reflectivelySetField(objectUnderTest, "percentiles", Collections.singletonList(-1.0));
+        assertThat(objectUnderTest.isPercentilesValid(), equalTo(false));
+
+        reflectivelySetField(objectUnderTest, "percentiles", Collections.singletonList(null));
+        assertThat(objectUnderTest.isPercentilesValid(), equalTo(false));
+
+        reflectivelySetField(objectUnderTest, "percentiles", null);
+        assertThat(objectUnderTest.isPercentilesValid(), equalTo(true));
+    }
+
+    @Test
+    void isRelativeAccuracyValid_returns_false_for_relative_accuracy_out_of_range() throws NoSuchFieldException, IllegalAccessException {
+        final NumericSummaryAggregateActionConfig objectUnderTest = new NumericSummaryAggregateActionConfig();
+
+        reflectivelySetField(objectUnderTest, "relativeAccuracy", 0.0);
+        assertThat(objectUnderTest.isRelativeAccuracyValid(), equalTo(false));
+
+        reflectivelySetField(objectUnderTest, "relativeAccuracy", 1.0);
+        assertThat(objectUnderTest.isRelativeAccuracyValid(), equalTo(false));
+    }
+
+    private void reflectivelySetField(final NumericSummaryAggregateActionConfig config, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
+        final Field field = NumericSummaryAggregateActionConfig.class.getDeclaredField(fieldName);
+        try {
+            field.setAccessible(true);
+            field.set(config, value);
+        } finally {
+            field.setAccessible(false);
+        }
+    }
+}
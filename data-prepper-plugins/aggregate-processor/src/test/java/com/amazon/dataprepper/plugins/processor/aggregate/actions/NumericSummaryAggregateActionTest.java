@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import com.amazon.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NumericSummaryAggregateActionTest {
+    private static final String KEY = "latency";
+
+    @Mock
+    private NumericSummaryAggregateActionConfig numericSummaryAggregateActionConfig;
+
+    private String summaryKey;
+
+    @BeforeEach
+    void setup() {
+        summaryKey = UUID.randomUUID().toString();
+    }
+
+    private NumericSummaryAggregateAction createObjectUnderTest(final List<Double> percentiles) {
+        when(numericSummaryAggregateActionConfig.getKey()).thenReturn(KEY);
+        when(numericSummaryAggregateActionConfig.getSummaryKey()).thenReturn(summaryKey);
+        when(numericSummaryAggregateActionConfig.getPercentiles()).thenReturn(percentiles);
+        when(numericSummaryAggregateActionConfig.getRelativeAccuracy()).thenReturn(NumericSummaryAggregateActionConfig.DEFAULT_RELATIVE_ACCURACY);
+        when(numericSummaryAggregateActionConfig.getMaxBuckets()).thenReturn(NumericSummaryAggregateActionConfig.DEFAULT_MAX_BUCKETS);
+        return new NumericSummaryAggregateAction(numericSummaryAggregateActionConfig);
+    }
+
+    private Event buildEvent(final Object value) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(KEY, value))
+                .build();
+    }
+
+    @Test
+    void handleEvent_drops_events_and_concludeGroup_returns_summary_of_numeric_values() {
+        final NumericSummaryAggregateAction objectUnderTest = createObjectUnderTest(Arrays.asList(50.0, 99.9));
+        final Map<Object, Object> identificationKeys = Collections.singletonMap("sourceIp", UUID.randomUUID().toString());
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+
+        for (int i = 1; i <= 1000; i++) {
+            final AggregateActionResponse aggregateActionResponse = objectUnderTest.handleEvent(buildEvent(i % 2 == 0 ? i : (double) i), aggregateActionInput);
+            assertThat(aggregateActionResponse.getEvent(), equalTo(null));
+        }
+        assertThat(objectUnderTest.handleEvent(buildEvent(UUID.randomUUID().toString()), aggregateActionInput).getEvent(), equalTo(null));
+        assertThat(objectUnderTest.handleEvent(buildEvent(null), aggregateActionInput).getEvent(), equalTo(null));
+
+        final Optional<Event> result = objectUnderTest.concludeGroup(aggregateActionInput);
+
+        assertThat(result.isPresent(), equalTo(true));
+        assertThat(result.get().get("sourceIp", String.class), equalTo(identificationKeys.get("sourceIp")));
+        final Map<String, Object> summary = result.get().get(summaryKey, Map.class);
+        assertThat(summary.get(NumericSummaryAggregateAction.COUNT_KEY), equalTo(1000L));
+        assertThat(summary.get(NumericSummaryAggregateAction.SUM_KEY), equalTo(500500.0));
+        assertThat(summary.get(NumericSummaryAggregateAction.MIN_KEY), equalTo(1.0));
+        assertThat(summary.get(NumericSummaryAggregateAction.MAX_KEY), equalTo(1000.0));
+
+        final Map<String, Object> percentiles = (Map<String, Object>) summary.get(NumericSummaryAggregateAction.PERCENTILES_KEY);
+        assertThat(percentiles.keySet(), equalTo(new HashSet<>(Arrays.asList("p50", "p99.9"))));
+        assertThat((Double) percentiles.get("p50"), closeTo(500.0, 500.0 * NumericSummaryAggregateActionConfig.DEFAULT_RELATIVE_ACCURACY));
+        assertThat((Double) percentiles.get("p99.9"), closeTo(999.0, 999.0 * NumericSummaryAggregateActionConfig.DEFAULT_RELATIVE_ACCURACY));
+    }
+
+    @Test
+    void concludeGroup_without_percentiles_returns_summary_without_percentiles() {
+        final NumericSummaryAggregateAction objectUnderTest = createObjectUnderTest(Collections.emptyList());
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput();
+
+        objectUnderTest.handleEvent(buildEvent(5), aggregateActionInput);
+
+        final Optional<Event> result = objectUnderTest.concludeGroup(aggregateActionInput);
+
+        assertThat(result.isPresent(), equalTo(true));
+        final Map<String, Object> summary = result.get().get(summaryKey, Map.class);
+        assertThat(summary.get(NumericSummaryAggregateAction.COUNT_KEY), equalTo(1L));
+        assertThat(summary, not(hasKey(NumericSummaryAggregateAction.PERCENTILES_KEY)));
+    }
+
+    @Test
+    void concludeGroup_without_numeric_values_returns_empty_optional() {
+        final NumericSummaryAggregateAction objectUnderTest = createObjectUnderTest(Collections.emptyList());
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput();
+
+        objectUnderTest.handleEvent(buildEvent(UUID.randomUUID().toString()), aggregateActionInput);
+
+        assertThat(objectUnderTest.concludeGroup(aggregateActionInput), equalTo(Optional.empty()));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QuantileSketchTest {
+    private static final double RELATIVE_ACCURACY = 0.01;
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 0.25, 0.5, 0.9, 0.99, 1})
+    void getQuantile_is_within_relative_accuracy(final double quantile) {
+        final QuantileSketch objectUnderTest = new QuantileSketch(RELATIVE_ACCURACY, 2048);
+        for (int i = 1; i <= 10_000; i++) {
+            objectUnderTest.add(i);
+        }
+
+        final double expected = 1 + Math.floor(quantile * 9_999);
+        assertThat(objectUnderTest.getQuantile(quantile), closeTo(expected, expected * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getCount(), equalTo(10_000L));
+    }
+
+    @Test
+    void getQuantile_with_negative_and_zero_values() {
+        final QuantileSketch objectUnderTest = new QuantileSketch(RELATIVE_ACCURACY, 2048);
+        for (int i = -100; i <= 100; i++) {
+            objectUnderTest.add(i);
+        }
+
+        assertThat(objectUnderTest.getQuantile(0), closeTo(-100, 100 * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getQuantile(0.25), closeTo(-50, 50 * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getQuantile(0.5), equalTo(0.0));
+        assertThat(objectUnderTest.getQuantile(0.75), closeTo(50, 50 * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getQuantile(1), closeTo(100, 100 * RELATIVE_ACCURACY));
+    }
+
+    @Test
+    void getQuantile_of_empty_sketch_returns_NaN() {
+        assertThat(Double.isNaN(new QuantileSketch(RELATIVE_ACCURACY, 2048).getQuantile(0.5)), equalTo(true));
+    }
+
+    @Test
+    void add_beyond_maxBuckets_collapses_lowest_buckets_and_keeps_highest_quantiles_accurate() {
+        final QuantileSketch increasing = new QuantileSketch(RELATIVE_ACCURACY, 10);
+        final QuantileSketch decreasing = new QuantileSketch(RELATIVE_ACCURACY, 10);
+        for (int i = 1; i <= 1000; i++) {
+            increasing.add(i);
+            decreasing.add(1001 - i);
+        }
+
+        for (final QuantileSketch objectUnderTest : new QuantileSketch[]{increasing, decreasing}) {
+            assertThat(objectUnderTest.getCount(), equalTo(1000L));
+            assertThat(objectUnderTest.getQuantile(1), closeTo(1000, 1000 * RELATIVE_ACCURACY));
+            assertThat(objectUnderTest.getQuantile(0), lessThanOrEqualTo(objectUnderTest.getQuantile(0.5)));
+        }
+        assertThat(increasing.getQuantile(0.5), equalTo(decreasing.getQuantile(0.5)));
+    }
+
+    @Test
+    void add_far_below_collapsed_range_counts_value_in_lowest_bucket() {
+        final QuantileSketch objectUnderTest = new QuantileSketch(RELATIVE_ACCURACY, 2);
+        objectUnderTest.add(1000);
+        objectUnderTest.add(1);
+        objectUnderTest.add(0.001);
+
+        assertThat(objectUnderTest.getCount(), equalTo(3L));
+        assertThat(objectUnderTest.getQuantile(1), closeTo(1000, 1000 * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getQuantile(0), equalTo(objectUnderTest.getQuantile(0.5)));
+    }
+
+    @Test
+    void add_far_above_collapsed_range_collapses_all_lower_buckets() {
+        final QuantileSketch objectUnderTest = new QuantileSketch(RELATIVE_ACCURACY, 2);
+        objectUnderTest.add(1);
+        objectUnderTest.add(1000);
+
+        assertThat(objectUnderTest.getCount(), equalTo(2L));
+        assertThat(objectUnderTest.getQuantile(0), closeTo(1000, 1000 * RELATIVE_ACCURACY * 3));
+        assertThat(objectUnderTest.getQuantile(1), closeTo(1000, 1000 * RELATIVE_ACCURACY));
+    }
+
+    @Test
+    void merge_combines_counts_of_both_sketches() {
+        final QuantileSketch objectUnderTest = new QuantileSketch(RELATIVE_ACCURACY, 2048);
+        final QuantileSketch other = new QuantileSketch(RELATIVE_ACCURACY, 2048);
+        for (int i = 1; i <= 5000; i++) {
+            objectUnderTest.add(i);
+            other.add(-i);
+        }
+        other.add(0);
+        other.add(10_000);
+
+        objectUnderTest.merge(other);
+
+        assertThat(objectUnderTest.getCount(), equalTo(10_002L));
+        assertThat(objectUnderTest.getQuantile(0), closeTo(-5000, 5000 * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getQuantile(1), closeTo(10_000, 10_000 * RELATIVE_ACCURACY));
+    }
+
+    @Test
+    void merge_with_different_relative_accuracy_throws_IllegalArgumentException() {
+        final QuantileSketch objectUnderTest = new QuantileSketch(RELATIVE_ACCURACY, 2048);
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new QuantileSketch(0.02, 2048)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 1, -0.5})
+    void constructor_with_invalid_relative_accuracy_throws_IllegalArgumentException(final double relativeAccuracy) {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(relativeAccuracy, 2048));
+    }
+
+    @Test
+    void constructor_with_invalid_maxBuckets_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(RELATIVE_ACCURACY, 0));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.armeria.admission;
+
+import com.amazon.dataprepper.model.buffer.Buffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An additive-increase/multiplicative-decrease limit on the number of requests a source processes at once, driven by
+ * the buffer. The limit shrinks when a buffer write takes longer than half of the write timeout, times out, or leaves
+ * the buffer without the remaining capacity for another write of the same size. It grows by one for each other write
+ * made while at least half of the limit was in use. A source therefore sheds load while the buffer is draining slowly,
+ * before its writes reach the buffer timeout.
+ *
+ * @since 1.5
+ */
+public class AdaptiveConcurrencyLimit {
+    static final double LATENCY_THRESHOLD_RATIO = 0.5;
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final Buffer<?> buffer;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    /**
+     * @param buffer The buffer the source writes to
+     * @param minLimit The limit never shrinks below this number of requests
+     * @param maxLimit The initial limit, which never grows beyond this number of requests
+     * @param bufferWriteTimeoutInMillis The timeout of the source's buffer writes
+     */
+    public AdaptiveConcurrencyLimit(final Buffer<?> buffer,
+                                    final int minLimit,
+                                    final int maxLimit,
+                                    final long bufferWriteTimeoutInMillis) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(String.format(
+                    "The concurrency limits must satisfy 1 <= minLimit <= maxLimit, but were %d and %d.", minLimit, maxLimit));
+        }
+        this.buffer = buffer;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = (long) (TimeUnit.MILLISECONDS.toNanos(bufferWriteTimeoutInMillis) * LATENCY_THRESHOLD_RATIO);
+        this.limit = maxLimit;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            final int currentInFlight = inFlight.get();
+            if (currentInFlight >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(currentInFlight, currentInFlight + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a request which did not write to the buffer, without changing the limit.
+     */
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Releases a request and adjusts the limit by its buffer write.
+     *
+     * @param bufferWriteNanos The time the buffer write took
+     * @param timedOut Whether the buffer write timed out
+     * @param recordCount The number of records the request wrote
+     */
+    void release(final long bufferWriteNanos, final boolean timedOut, final int recordCount) {
+        final int inFlightBeforeRelease = inFlight.getAndDecrement();
+        if (timedOut || bufferWriteNanos > latencyThresholdNanos || buffer.getRemainingCapacity() < recordCount) {
+            decrease();
+        } else if (inFlightBeforeRelease * 2 >= limit) {
+            increase();
+        }
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+
+    /**
+     * @return The current number of requests which may be processed at once
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return The number of requests currently being processed
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.armeria.admission;
+
+import com.amazon.dataprepper.model.buffer.Buffer;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Decides whether a request is admitted before a source decodes it. A request is rejected when the buffer does not
+ * have the remaining capacity for the records it will produce, when the total size of the requests in flight would
+ * exceed the configured limit, or when the requests in flight reach the {@link AdaptiveConcurrencyLimit}. Rejected
+ * requests should be retried by the client after {@link #getRetryAfterMillis()}.
+ *
+ * @since 1.5
+ */
+public class AdmissionController {
+    /**
+     * gRPC metadata key which tells clients how long to wait before retrying.
+     */
+    public static final Metadata.Key<String> RETRY_PUSHBACK_MS_KEY =
+            Metadata.Key.of("grpc-retry-pushback-ms", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final Buffer<?> buffer;
+    private final boolean checkBufferCapacity;
+    private final int maxInFlightRequestBytes;
+    private final Semaphore inFlightRequestBytes;
+    private final long retryAfterMillis;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    /**
+     * @param buffer The buffer the source writes to
+     * @param checkBufferCapacity Whether to reject requests for which the buffer does not have remaining capacity
+     * @param maxInFlightRequestBytes Maximum total size in bytes of the requests in flight, or 0 for no limit
+     * @param retryAfterMillis Time clients should wait before retrying a rejected request
+     */
+    public AdmissionController(final Buffer<?> buffer,
+                               final boolean checkBufferCapacity,
+                               final int maxInFlightRequestBytes,
+                               final long retryAfterMillis) {
+        this(buffer, checkBufferCapacity, maxInFlightRequestBytes, retryAfterMillis, null);
+    }
+
+    /**
+     * @param buffer The buffer the source writes to
+     * @param checkBufferCapacity Whether to reject requests for which the buffer does not have remaining capacity
+     * @param maxInFlightRequestBytes Maximum total size in bytes of the requests in flight, or 0 for no limit
+     * @param retryAfterMillis Time clients should wait before retrying a rejected request
+     * @param concurrencyLimit Limit on the number of requests in flight, or null for no limit
+     */
+    public AdmissionController(final Buffer<?> buffer,
+                               final boolean checkBufferCapacity,
+                               final int maxInFlightRequestBytes,
+                               final long retryAfterMillis,
+                               final AdaptiveConcurrencyLimit concurrencyLimit) {
+        this.buffer = buffer;
+        this.checkBufferCapacity = checkBufferCapacity;
+        this.maxInFlightRequestBytes = maxInFlightRequestBytes;
+        this.inFlightRequestBytes = maxInFlightRequestBytes > 0 ? new Semaphore(maxInFlightRequestBytes) : null;
+        this.retryAfterMillis = retryAfterMillis;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * Attempts to admit a request. An admitted request must be closed once it is processed to release its size from
+     * the in-flight limit.
+     *
+     * @param requestSizeInBytes The serialized size of the request. A request larger than the in-flight limit is
+     *                           admitted only when no other request is in flight.
+     * @param recordCount The number of records the request will write to the buffer
+     * @return The admission, which may have been rejected
+     */
+    public Admission tryAdmit(final int requestSizeInBytes, final int recordCount) {
+        if (checkBufferCapacity && buffer.getMaxCapacity() < recordCount) {
+            return Admission.tooLarge(String.format(
+                    "Request has %d records, which is more than the buffer capacity of %d.", recordCount, buffer.getMaxCapacity()));
+        }
+        if (checkBufferCapacity && buffer.getRemainingCapacity() < recordCount) {
+            return Admission.rejected(String.format(
+                    "Buffer does not have enough capacity left for %d records, retry after %d ms.", recordCount, retryAfterMillis));
+        }
+        int permits = 0;
+        if (inFlightRequestBytes != null) {
+            permits = Math.min(Math.max(requestSizeInBytes, 1), maxInFlightRequestBytes);
+            if (!inFlightRequestBytes.tryAcquire(permits)) {
+                return Admission.rejected(String.format(
+                        "Too many requests in flight, retry after %d ms.", retryAfterMillis));
+            }
+        }
+        if (concurrencyLimit != null && !concurrencyLimit.tryAcquire()) {
+            if (inFlightRequestBytes != null) {
+                inFlightRequestBytes.release(permits);
+            }
+            return Admission.rejected(String.format(
+                    "Too many concurrent requests for the current buffer latency, retry after %d ms.", retryAfterMillis));
+        }
+        return Admission.admitted(inFlightRequestBytes, permits, concurrencyLimit);
+    }
+
+    /**
+     * @return Time clients should wait before retrying a rejected request
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /**
+     * @return Total size in bytes of the admitted requests which are still in flight
+     */
+    public int getInFlightRequestBytes() {
+        return inFlightRequestBytes == null ? 0 : maxInFlightRequestBytes - inFlightRequestBytes.availablePermits();
+    }
+
+    /**
+     * @return The current limit on the number of requests in flight, or 0 if there is no limit
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit == null ? 0 : concurrencyLimit.getLimit();
+    }
+
+    /**
+     * @return A {@link Status#RESOURCE_EXHAUSTED} exception for the rejected admission, carrying the retry delay in
+     * the {@link #RETRY_PUSHBACK_MS_KEY} trailer
+     */
+    public StatusException createRejectionException(final Admission admission) {
+        final Metadata trailers = new Metadata();
+        trailers.put(RETRY_PUSHBACK_MS_KEY, Long.toString(retryAfterMillis));
+        return Status.RESOURCE_EXHAUSTED.withDescription(admission.getRejectionReason()).asException(trailers);
+    }
+
+    /**
+     * The result of {@link #tryAdmit(int, int)}.
+     */
+    public static class Admission implements AutoCloseable {
+        private final boolean admitted;
+        private final boolean tooLarge;
+        private final String rejectionReason;
+        private final Semaphore inFlightRequestBytes;
+        private final int permits;
+        private final AdaptiveConcurrencyLimit concurrencyLimit;
+        private boolean bufferWriteRecorded;
+        private long bufferWriteNanos;
+        private boolean bufferWriteTimedOut;
+        private int bufferWriteRecordCount;
+        private boolean closed;
+
+        private Admission(final boolean admitted, final boolean tooLarge, final String rejectionReason,
+                          final Semaphore inFlightRequestBytes, final int permits,
+                          final AdaptiveConcurrencyLimit concurrencyLimit) {
+            this.admitted = admitted;
+            this.tooLarge = tooLarge;
+            this.rejectionReason = rejectionReason;
+            this.inFlightRequestBytes = inFlightRequestBytes;
+            this.permits = permits;
+            this.concurrencyLimit = concurrencyLimit;
+        }
+
+        private static Admission admitted(final Semaphore inFlightRequestBytes, final int permits,
+                                          final AdaptiveConcurrencyLimit concurrencyLimit) {
+            return new Admission(true, false, null, inFlightRequestBytes, permits, concurrencyLimit);
+        }
+
+        private static Admission rejected(final String rejectionReason) {
+            return new Admission(false, false, rejectionReason, null, 0, null);
+        }
+
+        private static Admission tooLarge(final String rejectionReason) {
+            return new Admission(false, true, rejectionReason, null, 0, null);
+        }
+
+        public boolean isAdmitted() {
+            return admitted;
+        }
+
+        /**
+         * @return Whether the request was rejected because it has more records than the buffer can ever hold, so
+         * retrying it cannot succeed
+         */
+        public boolean isTooLarge() {
+            return tooLarge;
+        }
+
+        public String getRejectionReason() {
+            return rejectionReason;
+        }
+
+        /**
+         * Records the buffer write of the request, which adjusts the {@link AdaptiveConcurrencyLimit} when the
+         * admission is closed. Requests which fail before writing to the buffer should not record a write.
+         *
+         * @param bufferWriteNanos The time the buffer write took
+         * @param timedOut Whether the buffer write timed out
+         * @param recordCount The number of records the request wrote
+         */
+        public void recordBufferWrite(final long bufferWriteNanos, final boolean timedOut, final int recordCount) {
+            this.bufferWriteRecorded = true;
+            this.bufferWriteNanos = bufferWriteNanos;
+            this.bufferWriteTimedOut = timedOut;
+            this.bufferWriteRecordCount = recordCount;
+        }
+
+        @Override
+        public void close() {
+            if (!closed && inFlightRequestBytes != null) {
+                inFlightRequestBytes.release(permits);
+            }
+            if (!closed && concurrencyLimit != null) {
+                if (bufferWriteRecorded) {
+                    concurrencyLimit.release(bufferWriteNanos, bufferWriteTimedOut, bufferWriteRecordCount);
+                } else {
+                    concurrencyLimit.release();
+                }
+            }
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.armeria.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A blocking task executor for Armeria servers which runs each task on its own virtual thread, so that tasks
+ * blocked on buffer writes do not hold a platform thread. At most a fixed number of tasks run at once; the other
+ * tasks wait for a permit on their virtual thread and are counted by {@link #getPendingTaskCount()}.
+ * <p>
+ * Only tasks to run immediately are run on virtual threads. Delayed and periodic tasks run on a single platform
+ * thread, as Armeria only schedules short housekeeping tasks on the blocking task executor.
+ * <p>
+ * Virtual threads require Java 21, so they are created through reflection. Use {@link #isSupported()} or
+ * {@link #create(int, boolean)} to fall back to platform threads on older JVMs.
+ *
+ * @since 1.5
+ */
+public class VirtualThreadBlockingTaskExecutor extends ScheduledThreadPoolExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadBlockingTaskExecutor.class);
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+    private final ExecutorService taskExecutor;
+    private final int maxRunningTasks;
+    private final Semaphore runningTasks;
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+
+    /**
+     * @param maxRunningTasks The maximum number of tasks which run at once
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public VirtualThreadBlockingTaskExecutor(final int maxRunningTasks) {
+        this(checkMaxRunningTasks(maxRunningTasks), newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @param maxRunningTasks The maximum number of tasks which run at once
+     * @param taskExecutor The executor which starts a thread for each task, which is shut down with this executor
+     */
+    VirtualThreadBlockingTaskExecutor(final int maxRunningTasks, final ExecutorService taskExecutor) {
+        super(1);
+        this.taskExecutor = Objects.requireNonNull(taskExecutor);
+        this.maxRunningTasks = checkMaxRunningTasks(maxRunningTasks);
+        this.runningTasks = new Semaphore(maxRunningTasks);
+    }
+
+    /**
+     * @return Whether the JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates the blocking task executor of a source.
+     *
+     * @param threadCount The number of platform threads, which is also the maximum number of tasks running at once
+     *                    on virtual threads
+     * @param useVirtualThreads Whether to run tasks on virtual threads when the JVM supports them
+     * @return A {@link VirtualThreadBlockingTaskExecutor} if virtual threads are requested and supported, or else a
+     * {@link ScheduledThreadPoolExecutor} with {@code threadCount} platform threads
+     */
+    public static ScheduledThreadPoolExecutor create(final int threadCount, final boolean useVirtualThreads) {
+        if (useVirtualThreads) {
+            try {
+                return new VirtualThreadBlockingTaskExecutor(threadCount);
+            } catch (final UnsupportedOperationException e) {
+                LOG.warn("Virtual threads are not supported by this JVM, falling back to {} platform threads.", threadCount, e);
+            }
+        }
+        return new ScheduledThreadPoolExecutor(threadCount);
+    }
+
+    /**
+     * @return The number of tasks waiting for another task to finish before they run
+     */
+    public int getPendingTaskCount() {
+        return pendingTasks.get();
+    }
+
+    /**
+     * @return The number of tasks which are running
+     */
+    public int getRunningTaskCount() {
+        return maxRunningTasks - runningTasks.availablePermits();
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        Objects.requireNonNull(command);
+        if (isShutdown()) {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+            return;
+        }
+        pendingTasks.incrementAndGet();
+        try {
+            taskExecutor.execute(() -> runWithPermit(command));
+        } catch (final RejectedExecutionException e) {
+            pendingTasks.decrementAndGet();
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+        }
+    }
+
+    @Override
+    public Future<?> submit(final Runnable task) {
+        final FutureTask<Void> futureTask = new FutureTask<>(task, null);
+        execute(futureTask);
+        return futureTask;
+    }
+
+    @Override
+    public <T> Future<T> submit(final Runnable task, final T result) {
+        final FutureTask<T> futureTask = new FutureTask<>(task, result);
+        execute(futureTask);
+        return futureTask;
+    }
+
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) {
+        final FutureTask<T> futureTask = new FutureTask<>(task);
+        execute(futureTask);
+        return futureTask;
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        taskExecutor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> tasks = new ArrayList<>(super.shutdownNow());
+        tasks.addAll(taskExecutor.shutdownNow());
+        return tasks;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return super.isTerminated() && taskExecutor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        return super.awaitTermination(timeout, unit)
+                && taskExecutor.awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void runWithPermit(final Runnable command) {
+        runningTasks.acquireUninterruptibly();
+        pendingTasks.decrementAndGet();
+        try {
+            command.run();
+        } finally {
+            runningTasks.release();
+        }
+    }
+
+    private static Method findNewVirtualThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static int checkMaxRunningTasks(final int maxRunningTasks) {
+        if (maxRunningTasks < 1) {
+            throw new IllegalArgumentException("maxRunningTasks must be at least 1.");
+        }
+        return maxRunningTasks;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM.");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException("Unable to create a virtual thread executor.", e);
+        }
+    }
+}
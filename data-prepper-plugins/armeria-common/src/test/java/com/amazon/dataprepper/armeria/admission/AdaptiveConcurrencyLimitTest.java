@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.armeria.admission;
+
+import com.amazon.dataprepper.model.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConcurrencyLimitTest {
+    private static final long BUFFER_WRITE_TIMEOUT_MILLIS = 1000;
+    private static final long FAST_WRITE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_WRITE_NANOS = TimeUnit.MILLISECONDS.toNanos(600);
+
+    @Mock
+    private Buffer<?> buffer;
+
+    private AdaptiveConcurrencyLimit createObjectUnderTest(final int minLimit, final int maxLimit) {
+        lenient().when(buffer.getRemainingCapacity()).thenReturn(100);
+        return new AdaptiveConcurrencyLimit(buffer, minLimit, maxLimit, BUFFER_WRITE_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    void constructor_withInvalidLimits_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(buffer, 0, 10, BUFFER_WRITE_TIMEOUT_MILLIS));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(buffer, 5, 4, BUFFER_WRITE_TIMEOUT_MILLIS));
+    }
+
+    @Test
+    void tryAcquire_rejectsAtLimitUntilReleased() {
+        final AdaptiveConcurrencyLimit objectUnderTest = createObjectUnderTest(1, 2);
+
+        assertThat(objectUnderTest.getLimit(), equalTo(2));
+        assertThat(objectUnderTest.tryAcquire(), is(true));
+        assertThat(objectUnderTest.tryAcquire(), is(true));
+        assertThat(objectUnderTest.tryAcquire(), is(false));
+        assertThat(objectUnderTest.getInFlight(), equalTo(2));
+
+        objectUnderTest.release();
+
+        assertThat(objectUnderTest.getInFlight(), equalTo(1));
+        assertThat(objectUnderTest.tryAcquire(), is(true));
+    }
+
+    @Test
+    void release_withoutBufferWrite_keepsLimit() {
+        final AdaptiveConcurrencyLimit objectUnderTest = createObjectUnderTest(1, 10);
+
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release();
+
+        assertThat(objectUnderTest.getLimit(), equalTo(10));
+        verifyNoInteractions(buffer);
+    }
+
+    @Test
+    void release_withSlowBufferWrite_decreasesLimitDownToMinLimit() {
+        final AdaptiveConcurrencyLimit objectUnderTest = createObjectUnderTest(5, 10);
+
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(SLOW_WRITE_NANOS, false, 1);
+        assertThat(objectUnderTest.getLimit(), equalTo(9));
+
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.tryAcquire();
+            objectUnderTest.release(SLOW_WRITE_NANOS, false, 1);
+        }
+        assertThat(objectUnderTest.getLimit(), equalTo(5));
+    }
+
+    @Test
+    void release_withTimedOutBufferWrite_decreasesLimit() {
+        final AdaptiveConcurrencyLimit objectUnderTest = createObjectUnderTest(1, 10);
+
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(FAST_WRITE_NANOS, true, 1);
+
+        assertThat(objectUnderTest.getLimit(), equalTo(9));
+    }
+
+    @Test
+    void release_withoutBufferCapacityForAnotherWrite_decreasesLimit() {
+        final AdaptiveConcurrencyLimit objectUnderTest = createObjectUnderTest(1, 10);
+
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(FAST_WRITE_NANOS, false, 101);
+
+        assertThat(objectUnderTest.getLimit(), equalTo(9));
+    }
+
+    @Test
+    void release_withFastBufferWrites_increasesLimitUpToMaxLimitOnlyWhileInUse() {
+        final AdaptiveConcurrencyLimit objectUnderTest = createObjectUnderTest(1, 4);
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(SLOW_WRITE_NANOS, false, 1);
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(SLOW_WRITE_NANOS, false, 1);
+        assertThat(objectUnderTest.getLimit(), equalTo(3));
+
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(FAST_WRITE_NANOS, false, 1);
+        assertThat(objectUnderTest.getLimit(), equalTo(3));
+
+        objectUnderTest.tryAcquire();
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(FAST_WRITE_NANOS, false, 1);
+        objectUnderTest.release(FAST_WRITE_NANOS, false, 1);
+        assertThat(objectUnderTest.getLimit(), equalTo(4));
+
+        objectUnderTest.tryAcquire();
+        objectUnderTest.tryAcquire();
+        objectUnderTest.release(FAST_WRITE_NANOS, false, 1);
+        assertThat(objectUnderTest.getLimit(), equalTo(4));
+    }
+}
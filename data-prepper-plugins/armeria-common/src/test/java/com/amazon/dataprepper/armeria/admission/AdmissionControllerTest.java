@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.armeria.admission;
+
+import com.amazon.dataprepper.model.buffer.Buffer;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControllerTest {
+    private static final long RETRY_AFTER_MILLIS = 500;
+
+    @Mock
+    private Buffer<?> buffer;
+
+    @Test
+    void tryAdmit_withoutLimits_admitsWithoutCheckingBuffer() {
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, false, 0, RETRY_AFTER_MILLIS);
+
+        try (final AdmissionController.Admission admission = objectUnderTest.tryAdmit(1_000_000, 1_000)) {
+            assertThat(admission.isAdmitted(), is(true));
+        }
+        verifyNoInteractions(buffer);
+        assertThat(objectUnderTest.getInFlightRequestBytes(), equalTo(0));
+    }
+
+    @Test
+    void tryAdmit_withEnoughBufferCapacity_admits() {
+        when(buffer.getMaxCapacity()).thenReturn(100);
+        when(buffer.getRemainingCapacity()).thenReturn(10);
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, true, 0, RETRY_AFTER_MILLIS);
+
+        assertThat(objectUnderTest.tryAdmit(100, 10).isAdmitted(), is(true));
+    }
+
+    @Test
+    void tryAdmit_withoutEnoughBufferCapacity_rejects() {
+        when(buffer.getMaxCapacity()).thenReturn(100);
+        when(buffer.getRemainingCapacity()).thenReturn(9);
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, true, 0, RETRY_AFTER_MILLIS);
+
+        final AdmissionController.Admission admission = objectUnderTest.tryAdmit(100, 10);
+
+        assertThat(admission.isAdmitted(), is(false));
+        assertThat(admission.isTooLarge(), is(false));
+        assertThat(admission.getRejectionReason(), notNullValue());
+    }
+
+    @Test
+    void tryAdmit_withMoreRecordsThanBufferCapacity_rejectsAsTooLarge() {
+        when(buffer.getMaxCapacity()).thenReturn(9);
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, true, 0, RETRY_AFTER_MILLIS);
+
+        final AdmissionController.Admission admission = objectUnderTest.tryAdmit(100, 10);
+
+        assertThat(admission.isAdmitted(), is(false));
+        assertThat(admission.isTooLarge(), is(true));
+        assertThat(admission.getRejectionReason(), notNullValue());
+        verify(buffer, never()).getRemainingCapacity();
+    }
+
+    @Test
+    void tryAdmit_beyondInFlightRequestBytes_rejectsUntilClosed() {
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, false, 1000, RETRY_AFTER_MILLIS);
+
+        final AdmissionController.Admission first = objectUnderTest.tryAdmit(600, 1);
+        assertThat(first.isAdmitted(), is(true));
+        assertThat(objectUnderTest.getInFlightRequestBytes(), equalTo(600));
+        assertThat(objectUnderTest.tryAdmit(600, 1).isAdmitted(), is(false));
+
+        first.close();
+        first.close();
+
+        assertThat(objectUnderTest.getInFlightRequestBytes(), equalTo(0));
+        assertThat(objectUnderTest.tryAdmit(600, 1).isAdmitted(), is(true));
+    }
+
+    @Test
+    void tryAdmit_requestLargerThanInFlightRequestBytes_admittedWhenNoneInFlight() {
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, false, 1000, RETRY_AFTER_MILLIS);
+
+        final AdmissionController.Admission admission = objectUnderTest.tryAdmit(5000, 1);
+
+        assertThat(admission.isAdmitted(), is(true));
+        assertThat(objectUnderTest.getInFlightRequestBytes(), equalTo(1000));
+        assertThat(objectUnderTest.tryAdmit(1, 1).isAdmitted(), is(false));
+    }
+
+    @Test
+    void tryAdmit_atConcurrencyLimit_rejectsUntilClosed() {
+        final AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(buffer, 1, 1, 1000);
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, false, 1000, RETRY_AFTER_MILLIS, concurrencyLimit);
+
+        final AdmissionController.Admission first = objectUnderTest.tryAdmit(100, 1);
+        assertThat(first.isAdmitted(), is(true));
+        final AdmissionController.Admission second = objectUnderTest.tryAdmit(100, 1);
+        assertThat(second.isAdmitted(), is(false));
+        assertThat(second.getRejectionReason(), notNullValue());
+        assertThat(objectUnderTest.getInFlightRequestBytes(), equalTo(100));
+
+        first.close();
+        first.close();
+
+        assertThat(concurrencyLimit.getInFlight(), equalTo(0));
+        assertThat(objectUnderTest.tryAdmit(100, 1).isAdmitted(), is(true));
+    }
+
+    @Test
+    void close_withRecordedBufferWrite_adjustsConcurrencyLimit() {
+        final AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(buffer, 1, 10, 1000);
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, false, 0, RETRY_AFTER_MILLIS, concurrencyLimit);
+
+        try (final AdmissionController.Admission admission = objectUnderTest.tryAdmit(100, 1)) {
+            admission.recordBufferWrite(0, true, 1);
+        }
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(9));
+        assertThat(concurrencyLimit.getInFlight(), equalTo(0));
+    }
+
+    @Test
+    void getConcurrencyLimit_withoutConcurrencyLimit_returnsZero() {
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, false, 0, RETRY_AFTER_MILLIS);
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(0));
+    }
+
+    @Test
+    void createRejectionException_includesRetryPushback() {
+        when(buffer.getMaxCapacity()).thenReturn(100);
+        when(buffer.getRemainingCapacity()).thenReturn(0);
+        final AdmissionController objectUnderTest = new AdmissionController(buffer, true, 0, RETRY_AFTER_MILLIS);
+
+        final StatusException exception = objectUnderTest.createRejectionException(objectUnderTest.tryAdmit(100, 1));
+
+        assertThat(exception.getStatus().getCode(), equalTo(Status.Code.RESOURCE_EXHAUSTED));
+        assertThat(exception.getTrailers().get(AdmissionController.RETRY_PUSHBACK_MS_KEY), equalTo(Long.toString(RETRY_AFTER_MILLIS)));
+        assertThat(objectUnderTest.getRetryAfterMillis(), equalTo(RETRY_AFTER_MILLIS));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.armeria.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadBlockingTaskExecutorTest {
+    private ExecutorService taskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        taskExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskExecutor.shutdownNow();
+    }
+
+    @Test
+    void create_withoutVirtualThreads_returnsPlatformThreadPool() {
+        final ScheduledThreadPoolExecutor executor = VirtualThreadBlockingTaskExecutor.create(4, false);
+
+        assertThat(executor, not(instanceOf(VirtualThreadBlockingTaskExecutor.class)));
+        assertThat(executor.getCorePoolSize(), equalTo(4));
+        executor.shutdown();
+    }
+
+    @Test
+    void create_withVirtualThreadsOnUnsupportedJvm_returnsPlatformThreadPool() {
+        assumeFalse(VirtualThreadBlockingTaskExecutor.isSupported());
+
+        final ScheduledThreadPoolExecutor executor = VirtualThreadBlockingTaskExecutor.create(4, true);
+
+        assertThat(executor, not(instanceOf(VirtualThreadBlockingTaskExecutor.class)));
+        assertThat(executor.getCorePoolSize(), equalTo(4));
+        executor.shutdown();
+    }
+
+    @Test
+    void constructor_onUnsupportedJvm_throws() {
+        assumeFalse(VirtualThreadBlockingTaskExecutor.isSupported());
+
+        assertThrows(UnsupportedOperationException.class, () -> new VirtualThreadBlockingTaskExecutor(4));
+    }
+
+    @Test
+    void create_withVirtualThreadsOnSupportedJvm_returnsVirtualThreadExecutor() {
+        assumeTrue(VirtualThreadBlockingTaskExecutor.isSupported());
+
+        final ScheduledThreadPoolExecutor executor = VirtualThreadBlockingTaskExecutor.create(4, true);
+
+        assertThat(executor, instanceOf(VirtualThreadBlockingTaskExecutor.class));
+        executor.shutdown();
+    }
+
+    @Test
+    void constructor_withInvalidMaxRunningTasks_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new VirtualThreadBlockingTaskExecutor(0));
+        assertThrows(IllegalArgumentException.class, () -> new VirtualThreadBlockingTaskExecutor(0, taskExecutor));
+    }
+
+    @Test
+    void submit_beyondMaxRunningTasks_waitsForRunningTask() throws Exception {
+        final VirtualThreadBlockingTaskExecutor objectUnderTest = new VirtualThreadBlockingTaskExecutor(1, taskExecutor);
+        final CountDownLatch firstTaskStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstTask = new CountDownLatch(1);
+
+        final Future<?> firstTask = objectUnderTest.submit(() -> {
+            firstTaskStarted.countDown();
+            releaseFirstTask.await();
+            return null;
+        });
+        assertThat(firstTaskStarted.await(1, TimeUnit.SECONDS), is(true));
+        final Future<String> secondTask = objectUnderTest.submit(() -> "second");
+
+        assertThat(objectUnderTest.getRunningTaskCount(), equalTo(1));
+        assertThat(objectUnderTest.getPendingTaskCount(), equalTo(1));
+        assertThat(secondTask.isDone(), is(false));
+
+        releaseFirstTask.countDown();
+        firstTask.get(1, TimeUnit.SECONDS);
+        assertThat(secondTask.get(1, TimeUnit.SECONDS), equalTo("second"));
+        assertThat(objectUnderTest.getPendingTaskCount(), equalTo(0));
+
+        objectUnderTest.shutdown();
+        assertThat(objectUnderTest.awaitTermination(1, TimeUnit.SECONDS), is(true));
+        assertThat(taskExecutor.isTerminated(), is(true));
+    }
+
+    @Test
+    void submit_withFailingTask_releasesItsPermit() throws Exception {
+        final VirtualThreadBlockingTaskExecutor objectUnderTest = new VirtualThreadBlockingTaskExecutor(1, taskExecutor);
+
+        final Future<?> failingTask = objectUnderTest.submit(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        assertThrows(ExecutionException.class, () -> failingTask.get(1, TimeUnit.SECONDS));
+        assertThat(objectUnderTest.submit(() -> "next").get(1, TimeUnit.SECONDS), equalTo("next"));
+        objectUnderTest.shutdown();
+    }
+
+    @Test
+    void execute_afterShutdown_throws() {
+        final VirtualThreadBlockingTaskExecutor objectUnderTest = new VirtualThreadBlockingTaskExecutor(1, taskExecutor);
+        objectUnderTest.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.execute(() -> { }));
+    }
+
+    @Test
+    void execute_whenTaskExecutorRejects_throwsWithoutPendingTask() {
+        final VirtualThreadBlockingTaskExecutor objectUnderTest = new VirtualThreadBlockingTaskExecutor(1, taskExecutor);
+        taskExecutor.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.execute(() -> { }));
+        assertThat(objectUnderTest.getPendingTaskCount(), equalTo(0));
+        objectUnderTest.shutdown();
+    }
+}
@@ -47,6 +47,7 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final String PLUGIN_NAME = "bounded_blocking";
     private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_FAIR_WRITES = "fair_writes";
 
     private final int bufferCapacity;
     private final int batchSize;
@@ -63,11 +64,25 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        this(bufferCapacity, batchSize, pipelineName, false);
+    }
+
+    /**
+     * Creates a BlockingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     * @param fairWrites     whether space is given to writers in the order they started waiting for it, so writers
+     *                       of many records are not starved by writers of fewer records
+     * @since 1.5
+     */
+    public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName, final boolean fairWrites) {
         super("BlockingBuffer", pipelineName);
         this.bufferCapacity = bufferCapacity;
         this.batchSize = batchSize;
         this.blockingQueue = new LinkedBlockingQueue<>(bufferCapacity);
-        this.capacitySemaphore = new Semaphore(bufferCapacity);
+        this.capacitySemaphore = new Semaphore(bufferCapacity, fairWrites);
         this.pipelineName = pipelineName;
     }
 
@@ -84,7 +99,8 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
                         .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
                 pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
-                pluginSetting.getPipelineName());
+                pluginSetting.getPipelineName(),
+                pluginSetting.getBooleanOrDefault(ATTRIBUTE_FAIR_WRITES, false));
     }
 
     public BlockingBuffer(final String pipelineName) {
@@ -179,6 +195,16 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         capacitySemaphore.release(numCheckedRecords);
     }
 
+    @Override
+    public int getRemainingCapacity() {
+        return capacitySemaphore.availablePermits();
+    }
+
+    @Override
+    public int getMaxCapacity() {
+        return bufferCapacity;
+    }
+
     @Override
     public boolean isEmpty() {
         return blockingQueue.isEmpty() && getRecordsInFlight() == 0;
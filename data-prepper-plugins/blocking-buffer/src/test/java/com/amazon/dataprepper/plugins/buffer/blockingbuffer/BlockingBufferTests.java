@@ -31,6 +31,7 @@ import static org.junit.Assert.assertTrue;
 public class BlockingBufferTests {
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
     private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_FAIR_WRITES = "fair_writes";
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
     private static final int TEST_BATCH_SIZE = 3;
     private static final int TEST_BUFFER_SIZE = 13;
@@ -103,6 +104,21 @@ public class BlockingBufferTests {
         assertThrows(TimeoutException.class, () -> blockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
     }
 
+    @Test
+    public void testGetRemainingCapacity() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        assertThat(blockingBuffer.getRemainingCapacity(), equalTo(TEST_BUFFER_SIZE));
+
+        blockingBuffer.writeAll(generateBatchRecords(TEST_BATCH_SIZE), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getRemainingCapacity(), equalTo(TEST_BUFFER_SIZE - TEST_BATCH_SIZE));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(blockingBuffer.getRemainingCapacity(), equalTo(TEST_BUFFER_SIZE - TEST_BATCH_SIZE));
+        blockingBuffer.checkpoint(readResult.getValue());
+        assertThat(blockingBuffer.getRemainingCapacity(), equalTo(TEST_BUFFER_SIZE));
+    }
+
     @Test
     public void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
         // Given
@@ -157,6 +173,47 @@ public class BlockingBufferTests {
         assertEquals(2, readCheckResult.getKey().size());
     }
 
+    @Test
+    public void testWriteWithFairWritesDoesNotOvertakeWaitingWriteAll() throws Exception {
+        // Given
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, 2);
+        settings.put(ATTRIBUTE_BATCH_SIZE, 1);
+        settings.put(ATTRIBUTE_FAIR_WRITES, true);
+        final PluginSetting pluginSetting = new PluginSetting("bounded_blocking", settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        final Thread waitingWriter = startWriterWaitingForFullBuffer(blockingBuffer);
+
+        // When
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+
+        // Then
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("OVERTAKING"), TEST_WRITE_TIMEOUT));
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        waitingWriter.join(TEST_BATCH_READ_TIMEOUT);
+        assertFalse(waitingWriter.isAlive());
+        assertThat(blockingBuffer.getRemainingCapacity(), is(0));
+    }
+
+    @Test
+    public void testWriteWithoutFairWritesOvertakesWaitingWriteAll() throws Exception {
+        // Given
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, 1, TEST_PIPELINE_NAME);
+        final Thread waitingWriter = startWriterWaitingForFullBuffer(blockingBuffer);
+
+        // When
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+
+        // Then
+        blockingBuffer.write(new Record<>("OVERTAKING"), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getRemainingCapacity(), is(0));
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        waitingWriter.join(TEST_BATCH_READ_TIMEOUT);
+        assertFalse(waitingWriter.isAlive());
+    }
+
     @Test
     public void testReadEmptyBuffer() {
         final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
@@ -227,6 +284,22 @@ public class BlockingBufferTests {
         return testSettings;
     }
 
+    private Thread startWriterWaitingForFullBuffer(final BlockingBuffer<Record<String>> blockingBuffer) throws Exception {
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        final Thread waitingWriter = new Thread(() -> {
+            try {
+                blockingBuffer.writeAll(generateBatchRecords(2), TEST_BATCH_READ_TIMEOUT);
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        waitingWriter.start();
+        while (waitingWriter.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+        return waitingWriter;
+    }
+
     private Collection<Record<String>> generateBatchRecords(final int numRecords) {
         final Collection<Record<String>> results = new ArrayList<>();
         for (int i = 0; i < numRecords; i++) {
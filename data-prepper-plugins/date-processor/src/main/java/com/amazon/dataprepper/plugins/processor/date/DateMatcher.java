@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Parses the timestamps of one {@link DateProcessorConfig.DateMatch} entry. The timestamps of a key usually all have
+ * the same pattern, so the pattern which matched most recently on a thread is tried before the others. If the previous
+ * timestamp of the thread matched, that pattern is expected to match again and is parsed with
+ * {@link TimestampParser#parseLikelyMatch(String)}.
+ * The number of timestamps each pattern matched is counted, which shows the order the patterns should be configured in.
+ */
+class DateMatcher {
+    private final String key;
+    private final String destination;
+    private final List<TimestampParser> timestampParsers;
+    private final List<Counter> patternMatchCounters;
+    private final DateTimeFormatter outputFormatter;
+    private final ThreadLocal<LastTimestamp> lastTimestamp = ThreadLocal.withInitial(LastTimestamp::new);
+
+    /**
+     * @param key The key of the timestamps to parse
+     * @param destination The key to store the formatted timestamps in
+     * @param timestampParsers The parsers of the configured patterns, in the configured order
+     * @param patternMatchCounters The counters of timestamps matched by each pattern, in the same order as the parsers
+     * @param outputFormatter The formatter of the stored timestamps
+     */
+    DateMatcher(final String key,
+                final String destination,
+                final List<TimestampParser> timestampParsers,
+                final List<Counter> patternMatchCounters,
+                final DateTimeFormatter outputFormatter) {
+        this.key = key;
+        this.destination = destination;
+        this.timestampParsers = timestampParsers;
+        this.patternMatchCounters = patternMatchCounters;
+        this.outputFormatter = outputFormatter;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getDestination() {
+        return destination;
+    }
+
+    /**
+     * @param sourceTimestamp The timestamp to parse
+     * @return The timestamp formatted with the output formatter, or null if none of the patterns match
+     */
+    String format(final String sourceTimestamp) {
+        final LastTimestamp last = lastTimestamp.get();
+        if (!sourceTimestamp.equals(last.sourceTimestamp) && !parseWithAnyPattern(sourceTimestamp, last)) {
+            return null;
+        }
+
+        patternMatchCounters.get(last.patternIndex).increment();
+        return last.formattedTimestamp;
+    }
+
+    private boolean parseWithAnyPattern(final String sourceTimestamp, final LastTimestamp last) {
+        final int firstPatternIndex = last.patternIndex;
+        final TimestampParser firstParser = timestampParsers.get(firstPatternIndex);
+        final Instant firstInstant = last.matched
+                ? firstParser.parseLikelyMatch(sourceTimestamp)
+                : firstParser.parse(sourceTimestamp);
+        if (storeIfMatched(sourceTimestamp, firstPatternIndex, firstInstant, last)) {
+            return true;
+        }
+
+        for (int patternIndex = 0; patternIndex < timestampParsers.size(); patternIndex++) {
+            if (patternIndex != firstPatternIndex
+                    && storeIfMatched(sourceTimestamp, patternIndex, timestampParsers.get(patternIndex).parse(sourceTimestamp), last)) {
+                return true;
+            }
+        }
+        last.matched = false;
+        return false;
+    }
+
+    private boolean storeIfMatched(final String sourceTimestamp, final int patternIndex, final Instant instant, final LastTimestamp last) {
+        if (instant == null) {
+            return false;
+        }
+
+        last.sourceTimestamp = sourceTimestamp;
+        last.patternIndex = patternIndex;
+        last.formattedTimestamp = outputFormatter.format(instant);
+        last.matched = true;
+        return true;
+    }
+
+    /**
+     * The last timestamp formatted on a thread. Logs often contain runs of events with the same timestamp, which
+     * are then formatted only once. The pattern which matched it is tried first for the next timestamp of the thread,
+     * and matched records whether the most recent timestamp parsed on the thread matched any pattern.
+     */
+    private static class LastTimestamp {
+        private String sourceTimestamp;
+        private int patternIndex;
+        private String formattedTimestamp;
+        private boolean matched;
+    }
+}
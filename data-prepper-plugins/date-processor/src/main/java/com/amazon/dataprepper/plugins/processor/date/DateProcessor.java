@@ -18,10 +18,10 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,12 +31,20 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private static final Logger LOG = LoggerFactory.getLogger(DateProcessor.class);
     private static final String OUTPUT_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
 
+    static final String ISO8601_PATTERN = "ISO8601";
+    static final String EPOCH_SECOND_PATTERN = "epoch_second";
+    static final String EPOCH_MILLI_PATTERN = "epoch_milli";
+
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
+    static final String DATE_PROCESSING_PATTERN_MATCH = "dateProcessingPatternMatch";
+    static final String KEY_TAG = "key";
+    static final String PATTERN_TAG = "pattern";
 
-    private String keyToParse;
-    private List<DateTimeFormatter> dateTimeFormatters;
+    private final List<DateMatcher> dateMatchers = new ArrayList<>();
     private final DateProcessorConfig dateProcessorConfig;
+    private final DateTimeFormatter outputFormatter;
+    private final PluginMetrics pluginMetrics;
 
     private final Counter dateProcessingMatchSuccessCounter;
     private final Counter dateProcessingMatchFailureCounter;
@@ -45,9 +53,11 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public DateProcessor(PluginMetrics pluginMetrics, final DateProcessorConfig dateProcessorConfig) {
         super(pluginMetrics);
         this.dateProcessorConfig = dateProcessorConfig;
+        this.pluginMetrics = pluginMetrics;
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
+        outputFormatter = DateTimeFormatter.ofPattern(OUTPUT_FORMAT).withZone(dateProcessorConfig.getDestinationZoneId());
 
         if (dateProcessorConfig.getMatch() != null)
             extractKeyAndFormatters();
@@ -56,18 +66,18 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         for(final Record<Event> record : records) {
-            String zonedDateTime = null;
-
-            if (Boolean.TRUE.equals(dateProcessorConfig.getFromTimeReceived()))
-                zonedDateTime =  getDateTimeFromTimeReceived(record);
+            if (Boolean.TRUE.equals(dateProcessorConfig.getFromTimeReceived())) {
+                record.getData().put(dateProcessorConfig.getDestination(), getDateTimeFromTimeReceived(record));
+                continue;
+            }
 
-            else if (keyToParse != null && !keyToParse.isEmpty()) {
-                zonedDateTime = getDateTimeFromMatch(record);
+            for (final DateMatcher dateMatcher : dateMatchers) {
+                final String zonedDateTime = getDateTimeFromMatch(record, dateMatcher);
                 populateDateProcessorMetrics(zonedDateTime);
-            }
 
-            if (zonedDateTime != null)
-                record.getData().put(dateProcessorConfig.getDestination(), zonedDateTime);
+                if (zonedDateTime != null)
+                    record.getData().put(dateMatcher.getDestination(), zonedDateTime);
+            }
         }
         return records;
     }
@@ -81,8 +91,32 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
-            keyToParse = entry.getKey();
-            dateTimeFormatters = entry.getPatterns().stream().map(this::getSourceFormatter).collect(Collectors.toList());
+            final String keyToParse = entry.getKey();
+            if (keyToParse == null || keyToParse.isEmpty())
+                continue;
+
+            final List<TimestampParser> timestampParsers = entry.getPatterns().stream()
+                    .map(this::getTimestampParser)
+                    .collect(Collectors.toList());
+            final List<Counter> patternMatchCounters = entry.getPatterns().stream()
+                    .map(pattern -> pluginMetrics.counterWithTags(DATE_PROCESSING_PATTERN_MATCH, KEY_TAG, keyToParse, PATTERN_TAG, pattern))
+                    .collect(Collectors.toList());
+            final String destination = entry.getDestination() != null ? entry.getDestination() : dateProcessorConfig.getDestination();
+
+            dateMatchers.add(new DateMatcher(keyToParse, destination, timestampParsers, patternMatchCounters, outputFormatter));
+        }
+    }
+
+    private TimestampParser getTimestampParser(final String pattern) {
+        switch (pattern) {
+            case ISO8601_PATTERN:
+                return new Iso8601TimestampParser(dateProcessorConfig.getSourceZoneId());
+            case EPOCH_SECOND_PATTERN:
+                return EpochTimestampParser.ofSeconds();
+            case EPOCH_MILLI_PATTERN:
+                return EpochTimestampParser.ofMilliseconds();
+            default:
+                return new FormatterTimestampParser(getSourceFormatter(pattern));
         }
     }
 
@@ -107,18 +141,21 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private String getDateTimeFromTimeReceived(final Record<Event> record) {
         final Instant timeReceived = record.getData().getMetadata().getTimeReceived();
-        return timeReceived.atZone(dateProcessorConfig.getDestinationZoneId()).format(getOutputFormatter());
+        return outputFormatter.format(timeReceived);
     }
 
-    private String getDateTimeFromMatch(final Record<Event> record) {
-        final String sourceTimestamp = getSourceTimestamp(record);
+    private String getDateTimeFromMatch(final Record<Event> record, final DateMatcher dateMatcher) {
+        final String sourceTimestamp = getSourceTimestamp(record, dateMatcher.getKey());
         if (sourceTimestamp == null)
             return null;
 
-        return getFormattedDateTimeString(sourceTimestamp);
+        final String formattedTimestamp = dateMatcher.format(sourceTimestamp);
+        if (formattedTimestamp == null)
+            LOG.debug("Unable to parse {} with any of the provided patterns", sourceTimestamp);
+        return formattedTimestamp;
     }
 
-    private String getSourceTimestamp(final Record<Event> record) {
+    private String getSourceTimestamp(final Record<Event> record, final String keyToParse) {
         try {
             return record.getData().get(keyToParse, String.class);
         } catch (Exception e) {
@@ -127,23 +164,6 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         }
     }
 
-    private String getFormattedDateTimeString(final String sourceTimestamp) {
-        for (DateTimeFormatter formatter : dateTimeFormatters) {
-            try {
-                return ZonedDateTime.parse(sourceTimestamp, formatter).format(getOutputFormatter().withZone(dateProcessorConfig.getDestinationZoneId()));
-            } catch (Exception ignored) {
-
-            }
-        }
-
-        LOG.debug("Unable to parse {} with any of the provided patterns", sourceTimestamp);
-        return null;
-    }
-
-    private DateTimeFormatter getOutputFormatter() {
-        return DateTimeFormatter.ofPattern(OUTPUT_FORMAT);
-    }
-
     @Override
     public void prepareForShutdown() {
 
@@ -24,6 +24,8 @@ public class DateProcessorConfig {
         private String key;
         @JsonProperty("patterns")
         private List<String> patterns;
+        @JsonProperty("destination")
+        private String destination;
 
         public DateMatch() {
         }
@@ -40,6 +42,10 @@ public class DateProcessorConfig {
         public List<String> getPatterns() {
             return patterns;
         }
+
+        public String getDestination() {
+            return destination;
+        }
     }
 
     @JsonProperty("from_time_received")
@@ -141,13 +147,13 @@ public class DateProcessorConfig {
         return Boolean.TRUE.equals(fromTimeReceived) ^ match != null;
     }
 
-    @AssertTrue(message = "match can have a minimum and maximum of 1 entry and at least one pattern.")
+    @AssertTrue(message = "match must have at least one entry and each entry must have at least one pattern.")
     boolean isValidMatch() {
         if (match != null) {
-            if (match.size() != 1)
+            if (match.isEmpty())
                 return false;
 
-            return match.get(0).getPatterns() != null && !match.get(0).getPatterns().isEmpty();
+            return match.stream().allMatch(dateMatch -> dateMatch.getPatterns() != null && !dateMatch.getPatterns().isEmpty());
         }
         return true;
     }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import java.time.Instant;
+
+/**
+ * Parses timestamps written as the number of seconds or milliseconds since the epoch. Seconds may have a fraction
+ * of up to nine digits.
+ */
+class EpochTimestampParser implements TimestampParser {
+    private static final int MAX_SECONDS_DIGITS = 15;
+    private static final int MAX_MILLISECONDS_DIGITS = 18;
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private final boolean milliseconds;
+
+    private EpochTimestampParser(final boolean milliseconds) {
+        this.milliseconds = milliseconds;
+    }
+
+    static EpochTimestampParser ofSeconds() {
+        return new EpochTimestampParser(false);
+    }
+
+    static EpochTimestampParser ofMilliseconds() {
+        return new EpochTimestampParser(true);
+    }
+
+    @Override
+    public Instant parse(final String timestamp) {
+        final int length = timestamp.length();
+        final boolean negative = length > 0 && timestamp.charAt(0) == '-';
+        int position = negative ? 1 : 0;
+
+        final int integerStart = position;
+        long value = 0;
+        while (position < length && isDigit(timestamp.charAt(position))) {
+            value = value * 10 + (timestamp.charAt(position) - '0');
+            position++;
+        }
+        final int integerDigits = position - integerStart;
+        if (integerDigits == 0 || integerDigits > (milliseconds ? MAX_MILLISECONDS_DIGITS : MAX_SECONDS_DIGITS)) {
+            return null;
+        }
+
+        if (milliseconds) {
+            return position == length ? Instant.ofEpochMilli(negative ? -value : value) : null;
+        }
+
+        long nanos = 0;
+        if (position < length && timestamp.charAt(position) == '.') {
+            position++;
+            final int fractionStart = position;
+            long scale = 100_000_000;
+            while (position < length && isDigit(timestamp.charAt(position)) && position - fractionStart < MAX_FRACTION_DIGITS) {
+                nanos += (timestamp.charAt(position) - '0') * scale;
+                scale /= 10;
+                position++;
+            }
+            if (position == fractionStart) {
+                return null;
+            }
+        }
+        if (position != length) {
+            return null;
+        }
+        return negative ? Instant.ofEpochSecond(-value, -nanos) : Instant.ofEpochSecond(value, nanos);
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
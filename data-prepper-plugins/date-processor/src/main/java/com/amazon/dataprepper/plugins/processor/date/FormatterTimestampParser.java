@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parses timestamps with a {@link DateTimeFormatter}. A timestamp is first parsed without resolving it, which reports
+ * a mismatch through the {@link ParsePosition} instead of an exception, so only timestamps which match the pattern
+ * are resolved. Timestamps which likely match are resolved directly, as checking them first would parse them twice.
+ */
+class FormatterTimestampParser implements TimestampParser {
+    private final DateTimeFormatter dateTimeFormatter;
+
+    FormatterTimestampParser(final DateTimeFormatter dateTimeFormatter) {
+        this.dateTimeFormatter = dateTimeFormatter;
+    }
+
+    @Override
+    public Instant parse(final String timestamp) {
+        final ParsePosition parsePosition = new ParsePosition(0);
+        if (dateTimeFormatter.parseUnresolved(timestamp, parsePosition) == null || parsePosition.getIndex() != timestamp.length()) {
+            return null;
+        }
+
+        return parseLikelyMatch(timestamp);
+    }
+
+    @Override
+    public Instant parseLikelyMatch(final String timestamp) {
+        try {
+            return ZonedDateTime.parse(timestamp, dateTimeFormatter).toInstant();
+        } catch (final DateTimeException e) {
+            return null;
+        }
+    }
+}
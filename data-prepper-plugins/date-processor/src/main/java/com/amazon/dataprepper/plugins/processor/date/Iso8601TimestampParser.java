@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Parses ISO-8601 timestamps of the form {@code yyyy-MM-ddTHH:mm:ss}, where the {@code T} may also be a space,
+ * followed by an optional fraction of up to nine digits and an optional {@code Z}, {@code +HH:mm} or
+ * {@code -HH:mm} offset.
+ * Timestamps without an offset are in the source zone.
+ * <p>
+ * Logs usually contain many timestamps within the same second, so each thread keeps the seconds prefix of the last
+ * timestamp it parsed and only parses the fraction and offset when the next timestamp has the same prefix.
+ */
+class Iso8601TimestampParser implements TimestampParser {
+    private static final int SECONDS_PREFIX_LENGTH = 19;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int[] FRACTION_SCALES = {
+            100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private final ZoneId sourceZoneId;
+    private final ThreadLocal<SecondsPrefix> lastSecondsPrefix = ThreadLocal.withInitial(SecondsPrefix::new);
+
+    Iso8601TimestampParser(final ZoneId sourceZoneId) {
+        this.sourceZoneId = sourceZoneId;
+    }
+
+    @Override
+    public Instant parse(final String timestamp) {
+        final int length = timestamp.length();
+        if (length < SECONDS_PREFIX_LENGTH || !hasSecondsPrefixShape(timestamp)) {
+            return null;
+        }
+
+        int position = SECONDS_PREFIX_LENGTH;
+        int nanos = 0;
+        if (position < length && (timestamp.charAt(position) == '.' || timestamp.charAt(position) == ',')) {
+            position++;
+            final int fractionStart = position;
+            while (position < length && isDigit(timestamp.charAt(position)) && position - fractionStart < MAX_FRACTION_DIGITS) {
+                nanos += digitAt(timestamp, position) * FRACTION_SCALES[position - fractionStart];
+                position++;
+            }
+            if (position == fractionStart) {
+                return null;
+            }
+        }
+
+        ZoneOffset offset = null;
+        if (position < length) {
+            final char offsetSign = timestamp.charAt(position);
+            if (offsetSign == 'Z') {
+                offset = ZoneOffset.UTC;
+                position++;
+            } else if ((offsetSign == '+' || offsetSign == '-') && length - position == 6
+                    && timestamp.charAt(position + 3) == ':'
+                    && areDigits(timestamp, position + 1, position + 3) && areDigits(timestamp, position + 4, length)) {
+                final int hours = twoDigitsAt(timestamp, position + 1);
+                final int minutes = twoDigitsAt(timestamp, position + 4);
+                try {
+                    offset = offsetSign == '+'
+                            ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                            : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+                } catch (final DateTimeException e) {
+                    return null;
+                }
+                position = length;
+            }
+        }
+        if (position != length) {
+            return null;
+        }
+
+        final SecondsPrefix secondsPrefix = getSecondsPrefix(timestamp);
+        if (secondsPrefix == null) {
+            return null;
+        }
+        final long epochSecond = offset == null ? secondsPrefix.sourceZoneEpochSecond : secondsPrefix.localDateTime.toEpochSecond(offset);
+        return Instant.ofEpochSecond(epochSecond, nanos);
+    }
+
+    private SecondsPrefix getSecondsPrefix(final String timestamp) {
+        final SecondsPrefix secondsPrefix = lastSecondsPrefix.get();
+        if (secondsPrefix.prefix != null && timestamp.regionMatches(0, secondsPrefix.prefix, 0, SECONDS_PREFIX_LENGTH)) {
+            return secondsPrefix;
+        }
+
+        final LocalDateTime localDateTime;
+        try {
+            localDateTime = LocalDateTime.of(
+                    twoDigitsAt(timestamp, 0) * 100 + twoDigitsAt(timestamp, 2),
+                    twoDigitsAt(timestamp, 5),
+                    twoDigitsAt(timestamp, 8),
+                    twoDigitsAt(timestamp, 11),
+                    twoDigitsAt(timestamp, 14),
+                    twoDigitsAt(timestamp, 17));
+        } catch (final DateTimeException e) {
+            return null;
+        }
+        secondsPrefix.prefix = timestamp.substring(0, SECONDS_PREFIX_LENGTH);
+        secondsPrefix.localDateTime = localDateTime;
+        secondsPrefix.sourceZoneEpochSecond = localDateTime.atZone(sourceZoneId).toEpochSecond();
+        return secondsPrefix;
+    }
+
+    private static boolean hasSecondsPrefixShape(final String timestamp) {
+        return areDigits(timestamp, 0, 4) && timestamp.charAt(4) == '-'
+                && areDigits(timestamp, 5, 7) && timestamp.charAt(7) == '-'
+                && areDigits(timestamp, 8, 10) && (timestamp.charAt(10) == 'T' || timestamp.charAt(10) == ' ')
+                && areDigits(timestamp, 11, 13) && timestamp.charAt(13) == ':'
+                && areDigits(timestamp, 14, 16) && timestamp.charAt(16) == ':'
+                && areDigits(timestamp, 17, 19);
+    }
+
+    private static boolean areDigits(final String timestamp, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(timestamp.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int digitAt(final String timestamp, final int index) {
+        return timestamp.charAt(index) - '0';
+    }
+
+    private static int twoDigitsAt(final String timestamp, final int index) {
+        return digitAt(timestamp, index) * 10 + digitAt(timestamp, index + 1);
+    }
+
+    private static class SecondsPrefix {
+        private String prefix;
+        private LocalDateTime localDateTime;
+        private long sourceZoneEpochSecond;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import java.time.Instant;
+
+/**
+ * Parses timestamps of one pattern configured for the date processor.
+ */
+interface TimestampParser {
+    /**
+     * @param timestamp The timestamp to parse
+     * @return The instant of the timestamp, or null if the timestamp does not match the pattern. Implementations
+     * should not throw for timestamps which do not match, since patterns are tried in order for every event.
+     */
+    Instant parse(String timestamp);
+
+    /**
+     * Parses a timestamp which likely matches the pattern, because the previous timestamp of the key matched it.
+     * Implementations may parse such timestamps faster at the cost of parsing timestamps which do not match slower.
+     *
+     * @param timestamp The timestamp to parse
+     * @return The instant of the timestamp, or null if the timestamp does not match the pattern
+     */
+    default Instant parseLikelyMatch(final String timestamp) {
+        return parse(timestamp);
+    }
+}
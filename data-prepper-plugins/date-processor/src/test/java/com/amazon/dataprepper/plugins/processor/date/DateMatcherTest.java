@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DateMatcherTest {
+    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC);
+
+    @Mock
+    private TimestampParser firstParser;
+
+    @Mock
+    private TimestampParser secondParser;
+
+    @Mock
+    private Counter firstPatternMatchCounter;
+
+    @Mock
+    private Counter secondPatternMatchCounter;
+
+    private DateMatcher createObjectUnderTest() {
+        return new DateMatcher("logDate", "@timestamp", Arrays.asList(firstParser, secondParser),
+                Arrays.asList(firstPatternMatchCounter, secondPatternMatchCounter), OUTPUT_FORMATTER);
+    }
+
+    @Test
+    void getKey_and_getDestination_return_configured_values() {
+        final DateMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getKey(), equalTo("logDate"));
+        assertThat(objectUnderTest.getDestination(), equalTo("@timestamp"));
+    }
+
+    @Test
+    void format_tries_last_matched_pattern_first() {
+        when(secondParser.parse("first")).thenReturn(Instant.ofEpochSecond(1));
+        when(secondParser.parseLikelyMatch("second")).thenReturn(Instant.ofEpochSecond(2));
+        final DateMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.format("first"), equalTo("1970-01-01T00:00:01Z"));
+        assertThat(objectUnderTest.format("second"), equalTo("1970-01-01T00:00:02Z"));
+
+        verify(firstParser).parse("first");
+        verify(firstParser, never()).parse("second");
+        verify(secondParser, never()).parse("second");
+        verify(secondPatternMatchCounter, times(2)).increment();
+        verifyNoInteractions(firstPatternMatchCounter);
+    }
+
+    @Test
+    void format_falls_back_to_other_patterns_when_last_matched_pattern_does_not_match() {
+        when(firstParser.parse("first")).thenReturn(null);
+        when(secondParser.parse("first")).thenReturn(Instant.ofEpochSecond(1));
+        when(secondParser.parseLikelyMatch("second")).thenReturn(null);
+        when(firstParser.parse("second")).thenReturn(Instant.ofEpochSecond(2));
+        final DateMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.format("first"), equalTo("1970-01-01T00:00:01Z"));
+        assertThat(objectUnderTest.format("second"), equalTo("1970-01-01T00:00:02Z"));
+
+        verify(firstPatternMatchCounter).increment();
+        verify(secondPatternMatchCounter).increment();
+    }
+
+    @Test
+    void format_repeated_timestamp_parses_once() {
+        when(firstParser.parse("first")).thenReturn(Instant.ofEpochSecond(1));
+        final DateMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.format("first"), equalTo("1970-01-01T00:00:01Z"));
+        assertThat(objectUnderTest.format("first"), equalTo("1970-01-01T00:00:01Z"));
+
+        verify(firstParser).parse("first");
+        verify(firstPatternMatchCounter, times(2)).increment();
+        verifyNoInteractions(secondParser);
+    }
+
+    @Test
+    void format_returns_null_when_no_pattern_matches() {
+        final DateMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.format("first"), nullValue());
+
+        verify(firstParser).parse("first");
+        verify(secondParser).parse("first");
+        verifyNoInteractions(firstPatternMatchCounter, secondPatternMatchCounter);
+    }
+
+    @Test
+    void format_after_timestamp_which_does_not_match_checks_last_matched_pattern_again() {
+        when(firstParser.parse("first")).thenReturn(Instant.ofEpochSecond(1));
+        when(firstParser.parseLikelyMatch("invalid")).thenReturn(null);
+        when(firstParser.parse("second")).thenReturn(Instant.ofEpochSecond(2));
+        final DateMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.format("first"), equalTo("1970-01-01T00:00:01Z"));
+        assertThat(objectUnderTest.format("invalid"), nullValue());
+        assertThat(objectUnderTest.format("second"), equalTo("1970-01-01T00:00:02Z"));
+
+        verify(secondParser).parse("invalid");
+        verify(firstParser, never()).parseLikelyMatch("second");
+        verify(firstPatternMatchCounter, times(2)).increment();
+    }
+
+    @Test
+    void format_on_another_thread_does_not_use_the_last_matched_pattern_of_this_thread() throws InterruptedException {
+        when(secondParser.parse("first")).thenReturn(Instant.ofEpochSecond(1));
+        when(firstParser.parse("second")).thenReturn(Instant.ofEpochSecond(2));
+        final DateMatcher objectUnderTest = createObjectUnderTest();
+        final AtomicReference<String> formattedOnOtherThread = new AtomicReference<>();
+
+        assertThat(objectUnderTest.format("first"), equalTo("1970-01-01T00:00:01Z"));
+        final Thread otherThread = new Thread(() -> formattedOnOtherThread.set(objectUnderTest.format("second")));
+        otherThread.start();
+        otherThread.join();
+
+        assertThat(formattedOnOtherThread.get(), equalTo("1970-01-01T00:00:02Z"));
+        verify(secondParser, never()).parseLikelyMatch("second");
+        verify(firstPatternMatchCounter).increment();
+        verify(secondPatternMatchCounter).increment();
+    }
+}
@@ -77,12 +77,24 @@ class DateProcessorConfigTest {
         }
 
         @Test
-        void isValidMatch_should_return_false_if_match_has_multiple_entries() throws NoSuchFieldException, IllegalAccessException {
+        void isValidMatch_should_return_true_if_match_has_multiple_entries() throws NoSuchFieldException, IllegalAccessException {
             when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(random));
 
             List<DateProcessorConfig.DateMatch> dateMatches = Arrays.asList(mockDateMatch, mockDateMatch);
             reflectivelySetField(dateProcessorConfig, "match", dateMatches);
 
+            assertThat(dateProcessorConfig.isValidMatch(), equalTo(true));
+        }
+
+        @Test
+        void isValidMatch_should_return_false_if_any_entry_has_zero_patterns() throws NoSuchFieldException, IllegalAccessException {
+            when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(random));
+            final DateProcessorConfig.DateMatch dateMatchWithoutPatterns = mock(DateProcessorConfig.DateMatch.class);
+            when(dateMatchWithoutPatterns.getPatterns()).thenReturn(Collections.emptyList());
+
+            List<DateProcessorConfig.DateMatch> dateMatches = Arrays.asList(mockDateMatch, dateMatchWithoutPatterns);
+            reflectivelySetField(dateProcessorConfig, "match", dateMatches);
+
             assertThat(dateProcessorConfig.isValidMatch(), equalTo(false));
         }
 
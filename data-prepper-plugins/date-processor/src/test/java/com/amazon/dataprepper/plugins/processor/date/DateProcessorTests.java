@@ -28,6 +28,8 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -35,7 +37,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -59,6 +64,9 @@ class DateProcessorTests {
     @Mock
     private Counter dateProcessingMatchFailureCounter;
 
+    @Mock
+    private Counter dateProcessingPatternMatchCounter;
+
     private DateProcessor dateProcessor;
     private Map<String, Object> testData;
     private LocalDateTime expectedDateTime;
@@ -76,6 +84,9 @@ class DateProcessorTests {
         lenient().when(mockDateProcessorConfig.getDestination()).thenReturn(dateProcessorConfig.getDestination());
         lenient().when(pluginMetrics.counter(DateProcessor.DATE_PROCESSING_MATCH_SUCCESS)).thenReturn(dateProcessingMatchSuccessCounter);
         lenient().when(pluginMetrics.counter(DateProcessor.DATE_PROCESSING_MATCH_FAILURE)).thenReturn(dateProcessingMatchFailureCounter);
+        lenient().when(pluginMetrics.counterWithTags(eq(DateProcessor.DATE_PROCESSING_PATTERN_MATCH),
+                eq(DateProcessor.KEY_TAG), anyString(), eq(DateProcessor.PATTERN_TAG), anyString()))
+                .thenReturn(dateProcessingPatternMatchCounter);
 
         expectedDateTime = LocalDateTime.now();
     }
@@ -361,6 +372,156 @@ class DateProcessorTests {
         verify(dateProcessingMatchSuccessCounter, times(1)).increment();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {DateProcessor.ISO8601_PATTERN, DateProcessor.EPOCH_SECOND_PATTERN, DateProcessor.EPOCH_MILLI_PATTERN})
+    void match_with_special_patterns_test(String pattern) {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("America/New_York"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+
+        dateProcessor = createObjectUnderTest();
+
+        final Instant instant = expectedDateTime.atZone(mockDateProcessorConfig.getSourceZoneId()).toInstant();
+        final String timestamp;
+        if (DateProcessor.ISO8601_PATTERN.equals(pattern))
+            timestamp = expectedDateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        else if (DateProcessor.EPOCH_SECOND_PATTERN.equals(pattern))
+            timestamp = instant.getEpochSecond() + "." + String.format("%09d", instant.getNano());
+        else
+            timestamp = Long.toString(instant.toEpochMilli());
+
+        testData = getTestData();
+        testData.put("logDate", timestamp);
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        assertTimestampsAreEqual(processedRecords.get(0), mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+    }
+
+    @Test
+    void match_tries_patterns_in_order_until_one_matches_test() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Arrays.asList(pattern1, DateProcessor.EPOCH_MILLI_PATTERN, pattern2));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2)));
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        assertTimestampsAreEqual(processedRecords.get(0), mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+    }
+
+    @Test
+    void match_with_repeated_timestamps_test() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern2));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        final String timestamp = expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2));
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Map<String, Object> data = getTestData();
+            data.put("logDate", i == 1 ? "not a timestamp" : timestamp);
+            records.add(buildRecordWithEvent(data));
+        }
+
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(records);
+
+        assertTimestampsAreEqual(processedRecords.get(0), mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        Assertions.assertFalse(processedRecords.get(1).getData().containsKey(TIMESTAMP_KEY));
+        assertTimestampsAreEqual(processedRecords.get(2), mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        verify(dateProcessingMatchSuccessCounter, times(2)).increment();
+        verify(dateProcessingMatchFailureCounter, times(1)).increment();
+    }
+
+    @Test
+    void match_with_multiple_keys_test() {
+        String destination = "new_field";
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern2));
+        final DateProcessorConfig.DateMatch otherDateMatch = mock(DateProcessorConfig.DateMatch.class);
+        when(otherDateMatch.getKey()).thenReturn("otherDate");
+        when(otherDateMatch.getPatterns()).thenReturn(Arrays.asList(pattern1, DateProcessor.ISO8601_PATTERN));
+        when(otherDateMatch.getDestination()).thenReturn(destination);
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Arrays.asList(mockDateMatch, otherDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+        final Counter isoPatternMatchCounter = mock(Counter.class);
+        when(pluginMetrics.counterWithTags(DateProcessor.DATE_PROCESSING_PATTERN_MATCH,
+                DateProcessor.KEY_TAG, "otherDate", DateProcessor.PATTERN_TAG, DateProcessor.ISO8601_PATTERN))
+                .thenReturn(isoPatternMatchCounter);
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2)));
+        testData.put("otherDate", expectedDateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        assertTimestampsAreEqual(processedRecords.get(0), mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        assertTimestampsAreEqual(processedRecords.get(0), mockDateProcessorConfig.getSourceZoneId(), destination);
+        verify(dateProcessingMatchSuccessCounter, times(2)).increment();
+        verify(dateProcessingPatternMatchCounter, times(1)).increment();
+        verify(isoPatternMatchCounter, times(1)).increment();
+    }
+
+    @Test
+    void match_with_missing_key_counts_failure_for_that_key_only_test() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern2));
+        final DateProcessorConfig.DateMatch otherDateMatch = mock(DateProcessorConfig.DateMatch.class);
+        when(otherDateMatch.getKey()).thenReturn("otherDate");
+        when(otherDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern2));
+        when(otherDateMatch.getDestination()).thenReturn("new_field");
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Arrays.asList(mockDateMatch, otherDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2)));
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        assertTimestampsAreEqual(processedRecords.get(0), mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        Assertions.assertFalse(processedRecords.get(0).getData().containsKey("new_field"));
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+        verify(dateProcessingMatchFailureCounter, times(1)).increment();
+    }
+
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
         return new Record<>(JacksonEvent.builder()
                 .withData(data)
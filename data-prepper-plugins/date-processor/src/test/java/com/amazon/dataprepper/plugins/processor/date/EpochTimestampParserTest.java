@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class EpochTimestampParserTest {
+    @Test
+    void ofSeconds_parses_seconds_with_optional_fraction() {
+        final EpochTimestampParser objectUnderTest = EpochTimestampParser.ofSeconds();
+
+        assertThat(objectUnderTest.parse("1647366137"), equalTo(Instant.ofEpochSecond(1647366137L)));
+        assertThat(objectUnderTest.parse("1647366137.123"), equalTo(Instant.ofEpochSecond(1647366137L, 123_000_000)));
+        assertThat(objectUnderTest.parse("-1.5"), equalTo(Instant.ofEpochSecond(-2, 500_000_000)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "abc", "1647366137.", "1647366137.1234567891", "1647366137 ", "1234567890123456"})
+    void ofSeconds_returns_null_for_invalid_timestamps(final String timestamp) {
+        assertThat(EpochTimestampParser.ofSeconds().parse(timestamp), nullValue());
+    }
+
+    @Test
+    void ofMilliseconds_parses_milliseconds() {
+        final EpochTimestampParser objectUnderTest = EpochTimestampParser.ofMilliseconds();
+
+        assertThat(objectUnderTest.parse("1647366137123"), equalTo(Instant.ofEpochMilli(1647366137123L)));
+        assertThat(objectUnderTest.parse("-1000"), equalTo(Instant.ofEpochMilli(-1000)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "1647366137123.5", "1647366137123x", "1234567890123456789"})
+    void ofMilliseconds_returns_null_for_invalid_timestamps(final String timestamp) {
+        assertThat(EpochTimestampParser.ofMilliseconds().parse(timestamp), nullValue());
+    }
+}
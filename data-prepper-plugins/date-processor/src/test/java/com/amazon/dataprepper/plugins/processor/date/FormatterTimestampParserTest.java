@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class FormatterTimestampParserTest {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("dd/MMM/yyyy:HH:mm:ss")
+            .toFormatter(Locale.ROOT)
+            .withZone(ZoneId.of("UTC"));
+
+    @Test
+    void parse_returns_instant_for_matching_timestamp() {
+        assertThat(new FormatterTimestampParser(DATE_TIME_FORMATTER).parse("10/Feb/2000:13:55:36"),
+                equalTo(Instant.parse("2000-02-10T13:55:36Z")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2000-02-10", "10/Feb/2000:13:55", "10/Feb/2000:13:55:36 -0700"})
+    void parse_returns_null_for_timestamps_which_do_not_match(final String timestamp) {
+        assertThat(new FormatterTimestampParser(DATE_TIME_FORMATTER).parse(timestamp), nullValue());
+    }
+
+    @Test
+    void parseLikelyMatch_returns_instant_for_matching_timestamp() {
+        assertThat(new FormatterTimestampParser(DATE_TIME_FORMATTER).parseLikelyMatch("10/Feb/2000:13:55:36"),
+                equalTo(Instant.parse("2000-02-10T13:55:36Z")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2000-02-10", "10/Feb/2000:13:55", "10/Feb/2000:13:55:36 -0700"})
+    void parseLikelyMatch_returns_null_for_timestamps_which_do_not_match(final String timestamp) {
+        assertThat(new FormatterTimestampParser(DATE_TIME_FORMATTER).parseLikelyMatch(timestamp), nullValue());
+    }
+
+    @Test
+    void parse_returns_null_for_timestamps_which_do_not_resolve() {
+        final DateTimeFormatter strictFormatter = new DateTimeFormatterBuilder()
+                .appendPattern("dd/MMM/uuuu:HH:mm:ss")
+                .toFormatter(Locale.ROOT)
+                .withResolverStyle(ResolverStyle.STRICT)
+                .withZone(ZoneId.of("UTC"));
+        final FormatterTimestampParser objectUnderTest = new FormatterTimestampParser(strictFormatter);
+
+        assertThat(objectUnderTest.parse("29/Feb/2000:13:55:36"), equalTo(Instant.parse("2000-02-29T13:55:36Z")));
+        assertThat(objectUnderTest.parse("31/Feb/2000:13:55:36"), nullValue());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Iso8601TimestampParserTest {
+    private static final ZoneId SOURCE_ZONE_ID = ZoneId.of("America/Los_Angeles");
+
+    private final Iso8601TimestampParser objectUnderTest = new Iso8601TimestampParser(SOURCE_ZONE_ID);
+
+    @ParameterizedTest
+    @CsvSource({
+            "2022-03-15T10:15:30Z, 2022-03-15T10:15:30Z",
+            "2022-03-15 10:15:30.123456789Z, 2022-03-15T10:15:30.123456789Z",
+            "'2022-03-15T10:15:30,5+05:30', 2022-03-15T04:45:30.500Z",
+            "2022-03-15T10:15:30.12-08:00, 2022-03-15T18:15:30.120Z"
+    })
+    void parse_with_offset_returns_instant(final String timestamp, final String expectedInstant) {
+        assertThat(objectUnderTest.parse(timestamp), equalTo(Instant.parse(expectedInstant)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2022-03-15T10:15:30", "2022-03-15T10:15:30.123", "2022-11-06T01:30:00"})
+    void parse_without_offset_uses_source_zone(final String timestamp) {
+        final Instant expectedInstant = ZonedDateTime.parse(timestamp, DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(SOURCE_ZONE_ID)).toInstant();
+
+        assertThat(objectUnderTest.parse(timestamp), equalTo(expectedInstant));
+    }
+
+    @Test
+    void parse_with_same_seconds_prefix_uses_each_fraction_and_offset() {
+        assertThat(objectUnderTest.parse("2022-03-15T10:15:30.100Z"), equalTo(Instant.parse("2022-03-15T10:15:30.100Z")));
+        assertThat(objectUnderTest.parse("2022-03-15T10:15:30.200Z"), equalTo(Instant.parse("2022-03-15T10:15:30.200Z")));
+        assertThat(objectUnderTest.parse("2022-03-15T10:15:30.300+01:00"), equalTo(Instant.parse("2022-03-15T09:15:30.300Z")));
+        assertThat(objectUnderTest.parse("2022-03-15T10:15:31Z"), equalTo(Instant.parse("2022-03-15T10:15:31Z")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", "2022-03-15", "2022-03-15T10:15", "2022/03/15T10:15:30", "2022-03-15X10:15:30", "2022-03-15T10:15:3a",
+            "2022-02-30T10:15:30", "2022-03-15T10:15:30.", "2022-03-15T10:15:30.1234567891", "2022-03-15T10:15:30+5",
+            "2022-03-15T10:15:30+05-30", "2022-03-15T10:15:30+0a:00", "2022-03-15T10:15:30+19:00", "2022-03-15T10:15:30Zx"
+    })
+    void parse_returns_null_for_invalid_timestamps(final String timestamp) {
+        assertThat(objectUnderTest.parse(timestamp), nullValue());
+    }
+}
@@ -8,18 +8,19 @@ package com.amazon.dataprepper.plugins.processor.drop;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
-import com.amazon.dataprepper.model.annotations.SingleThread;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
-@SingleThread
 @DataPrepperPlugin(name = "drop_events", pluginType = Processor.class, pluginConfigurationType = DropEventProcessorConfig.class)
 public class DropEventsProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
 
@@ -42,9 +43,18 @@ public class DropEventsProcessor extends AbstractProcessor<Record<Event>, Record
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
         if (whenCondition.isNotAlwaysTrue()) {
-            return records.stream()
-                    .filter(record -> whenCondition.isStatementFalseWith(record.getData()))
+            final List<Record<Event>> recordList = new ArrayList<>(records);
+            final List<Event> events = recordList.stream()
+                    .map(Record::getData)
                     .collect(Collectors.toList());
+
+            final BitSet eventsToKeep = whenCondition.isStatementFalseWith(events);
+
+            final List<Record<Event>> recordsToKeep = new ArrayList<>(eventsToKeep.cardinality());
+            for (int i = eventsToKeep.nextSetBit(0); i >= 0; i = eventsToKeep.nextSetBit(i + 1)) {
+                recordsToKeep.add(recordList.get(i));
+            }
+            return recordsToKeep;
         }
         else {
             return Collections.emptyList();
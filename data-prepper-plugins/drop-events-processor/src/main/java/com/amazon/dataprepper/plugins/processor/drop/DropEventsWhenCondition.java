@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -61,6 +63,31 @@ class DropEventsWhenCondition {
         }
     }
 
+    /**
+     * @since 1.5
+     *
+     * Checks which events of a batch the {@link DropEventsProcessor} when condition evaluates to false for. The batch
+     * is evaluated at once, falling back to {@link DropEventsWhenCondition#isStatementFalseWith(Event)} for each event
+     * when the batch cannot be evaluated so failures are handled per event.
+     *
+     * @param events Sources for resolving Json Pointers
+     * @return set with bit i set if the event at index i should proceed to next
+     * {@link com.amazon.dataprepper.model.processor.Processor}
+     */
+    public BitSet isStatementFalseWith(final List<Event> events) {
+        try {
+            final BitSet results = expressionEvaluator.evaluateBatch(dropWhen, events);
+            results.flip(0, events.size());
+            return results;
+        } catch (final Exception e) {
+            final BitSet results = new BitSet(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                results.set(i, isStatementFalseWith(events.get(i)));
+            }
+            return results;
+        }
+    }
+
     /**
      * @since 1.3
      *
@@ -6,6 +6,7 @@
 package com.amazon.dataprepper.plugins.processor.drop;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.annotations.SingleThread;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.amazon.dataprepper.model.record.Record;
@@ -16,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,8 +29,10 @@ import java.util.UUID;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -53,6 +57,11 @@ public class DropEventsProcessorTests {
                 .getHandleFailedEventsOption();
     }
 
+    @Test
+    void testDropProcessorIsSharedAcrossProcessWorkers() {
+        assertThat(DropEventsProcessor.class.isAnnotationPresent(SingleThread.class), is(false));
+    }
+
     @Test
     void testSingleMessageToDropProcessor() {
         doReturn("true")
@@ -97,6 +106,34 @@ public class DropEventsProcessorTests {
 
     @Test
     void testGivenWhenSettingThenIsStatementFalseUsed() {
+        final Event event = mock(Event.class);
+        final Record<Event> record = mock(Record.class);
+        final int inputRecordCount = 10;
+        final List<Record<Event>> recordsToBeProcessed = Collections.nCopies(inputRecordCount, record);
+        final int numberOfMockedFalseEvaluations = 8;
+        final BitSet batchResult = new BitSet(inputRecordCount);
+        batchResult.set(0, inputRecordCount - numberOfMockedFalseEvaluations);
+
+        doReturn(whenSetting)
+                .when(dropEventProcessorConfig)
+                .getDropWhen();
+        doReturn(batchResult)
+                .when(expressionEvaluator)
+                .evaluateBatch(eq(whenSetting), eq(Collections.nCopies(inputRecordCount, event)));
+        doReturn(event)
+                .when(record)
+                .getData();
+
+        dropProcessor = new DropEventsProcessor(pluginMetrics, dropEventProcessorConfig, expressionEvaluator);
+
+        final Collection<Record<Event>> results = dropProcessor.doExecute(recordsToBeProcessed);
+
+        assertThat(results.size(), is(numberOfMockedFalseEvaluations));
+        verify(record, times(inputRecordCount)).getData();
+    }
+
+    @Test
+    void testGivenBatchEvaluationFailsThenIsStatementFalseUsedPerEvent() {
         final Event event = mock(Event.class);
         final Record<Event> record = mock(Record.class);
         final int inputRecordCount = 10;
@@ -107,6 +144,9 @@ public class DropEventsProcessorTests {
         doReturn(whenSetting)
                 .when(dropEventProcessorConfig)
                 .getDropWhen();
+        doThrow(RuntimeException.class)
+                .when(expressionEvaluator)
+                .evaluateBatch(eq(whenSetting), any());
         doReturn(
                 true,
                 true,
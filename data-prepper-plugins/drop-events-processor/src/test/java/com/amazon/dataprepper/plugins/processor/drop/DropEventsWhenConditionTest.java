@@ -11,6 +11,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -96,6 +99,66 @@ class DropEventsWhenConditionTest {
     }
 
 
+    @Test
+    void testIsStatementFalseWithBatchReturnsInvertedEvaluatorResult() {
+        doReturn(HandleFailedEventsOption.SKIP)
+                .when(dropEventProcessorConfig)
+                .getHandleFailedEventsOption();
+
+        final String whenStatement = UUID.randomUUID().toString();
+        final List<Event> events = Arrays.asList(mock(Event.class), mock(Event.class), mock(Event.class));
+        final BitSet evaluatorResult = new BitSet();
+        evaluatorResult.set(1);
+        doReturn(whenStatement)
+                .when(dropEventProcessorConfig)
+                .getDropWhen();
+        doReturn(evaluatorResult)
+                .when(evaluator)
+                .evaluateBatch(eq(whenStatement), eq(events));
+
+        final DropEventsWhenCondition whenCondition = new DropEventsWhenCondition.Builder()
+                .withDropEventsProcessorConfig(dropEventProcessorConfig)
+                .withExpressionEvaluator(evaluator)
+                .build();
+
+        final BitSet result = whenCondition.isStatementFalseWith(events);
+
+        assertThat(result.get(0), is(true));
+        assertThat(result.get(1), is(false));
+        assertThat(result.get(2), is(true));
+    }
+
+    @Test
+    void testIsStatementFalseWithBatchFallsBackToEachEventWhenBatchFails() {
+        doReturn(HandleFailedEventsOption.DROP)
+                .when(dropEventProcessorConfig)
+                .getHandleFailedEventsOption();
+
+        final String whenStatement = UUID.randomUUID().toString();
+        final Event trueEvent = mock(Event.class);
+        final Event falseEvent = mock(Event.class);
+        final Event failedEvent = mock(Event.class);
+        final List<Event> events = Arrays.asList(trueEvent, falseEvent, failedEvent);
+        doReturn(whenStatement)
+                .when(dropEventProcessorConfig)
+                .getDropWhen();
+        doThrow(RuntimeException.class).when(evaluator).evaluateBatch(eq(whenStatement), eq(events));
+        doReturn(true).when(evaluator).evaluate(eq(whenStatement), eq(trueEvent));
+        doReturn(false).when(evaluator).evaluate(eq(whenStatement), eq(falseEvent));
+        doThrow(RuntimeException.class).when(evaluator).evaluate(eq(whenStatement), eq(failedEvent));
+
+        final DropEventsWhenCondition whenCondition = new DropEventsWhenCondition.Builder()
+                .withDropEventsProcessorConfig(dropEventProcessorConfig)
+                .withExpressionEvaluator(evaluator)
+                .build();
+
+        final BitSet result = whenCondition.isStatementFalseWith(events);
+
+        assertThat(result.get(0), is(false));
+        assertThat(result.get(1), is(true));
+        assertThat(result.get(2), is(true));
+    }
+
     @ParameterizedTest
     @EnumSource(HandleFailedEventsOption.class)
     void testAllHandleEventOptions(final HandleFailedEventsOption option) {
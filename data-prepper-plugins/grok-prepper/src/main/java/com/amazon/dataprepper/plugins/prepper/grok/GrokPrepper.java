@@ -13,11 +13,11 @@ import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.prepper.AbstractPrepper;
 import com.amazon.dataprepper.model.prepper.Prepper;
 import com.amazon.dataprepper.model.record.Record;
+import com.google.common.base.Ticker;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.krakens.grok.api.Grok;
 import io.krakens.grok.api.GrokCompiler;
-import io.krakens.grok.api.Match;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,12 +41,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -70,22 +65,24 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, MultiPatternGrokMatcher> fieldToGrok;
     private final GrokPrepperConfig grokPrepperConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
+    private final Ticker ticker;
+    private final long timeoutNanos;
 
     public GrokPrepper(final PluginSetting pluginSetting) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor());
+        this(pluginSetting, GrokCompiler.newInstance(), Ticker.systemTicker());
     }
 
-    GrokPrepper(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService) {
+    GrokPrepper(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final Ticker ticker) {
         super(pluginSetting);
         this.grokPrepperConfig = GrokPrepperConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokPrepperConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
+        this.ticker = ticker;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(grokPrepperConfig.getTimeoutMillis());
 
         grokProcessingMatchSuccessCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH_SUCCESS);
         grokProcessingMatchFailureCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH_FAILURE);
@@ -112,26 +109,14 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
             try {
                 final Event event = record.getData();
 
-                if (grokPrepperConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                grokProcessingTime.record(() -> matchAndMerge(event));
 
                 final Record<Event> grokkedRecord = new Record<>(event, record.getMetadata());
                 recordsOut.add(grokkedRecord);
-            } catch (TimeoutException e) {
+            } catch (GrokTimeoutException e) {
                 LOG.error("Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokPrepperConfig.getTimeoutMillis());
                 recordsOut.add(record);
                 grokProcessingTimeoutsCounter.increment();
-            } catch (ExecutionException e) {
-                LOG.error("An exception occurred while matching on record [{}]", record.getData(), e);
-                recordsOut.add(record);
-                grokProcessingErrorsCounter.increment();
-            } catch (InterruptedException e) {
-                LOG.error("Matching on record [{}] was interrupted", record.getData(), e);
-                recordsOut.add(record);
-                grokProcessingErrorsCounter.increment();
             } catch (RuntimeException e) {
                 LOG.error("Unknown exception occurred when matching record [{}]", record.getData(), e);
                 recordsOut.add(record);
@@ -143,24 +128,15 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
 
     @Override
     public void prepareForShutdown() {
-        executorService.shutdown();
     }
 
     @Override
     public boolean isReadyForShutdown() {
-        try {
-            if (executorService.awaitTermination(300, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-        }
         return true;
     }
 
     @Override
     public void shutdown() {
-        executorService.shutdownNow();
     }
 
     private void registerPatterns() {
@@ -199,30 +175,31 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokPrepperConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            final List<Grok> groks = entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokPrepperConfig.isNamedCapturesOnly()))
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList());
+            fieldToGrok.put(entry.getKey(), new MultiPatternGrokMatcher(groks));
         }
     }
 
+    /**
+     * Matches the configured patterns against the Event and merges the captures into it. When a timeout is
+     * configured, the values are matched through an {@link InterruptibleCharSequence} sharing a single deadline for
+     * the Event, so a {@link GrokTimeoutException} is thrown on the calling thread before any capture is merged.
+     */
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
+        final long deadlineNanos = timeoutNanos == 0 ? 0 : ticker.read() + timeoutNanos;
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
-                    match.setKeepEmptyCaptures(grokPrepperConfig.isKeepEmptyCaptures());
-
-                    final Map<String, Object> captures = match.capture();
+        for (final Map.Entry<String, MultiPatternGrokMatcher> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value != null && !value.isEmpty()) {
+                final CharSequence subject = timeoutNanos == 0 ? value : new InterruptibleCharSequence(value, deadlineNanos, ticker);
+                entry.getValue().match(value, subject, grokPrepperConfig.isKeepEmptyCaptures(), captures -> {
                     mergeCaptures(grokkedCaptures, captures);
-
-                    if (shouldBreakOnMatch(grokkedCaptures)) {
-                        break;
-                    }
-                }
+                    return shouldBreakOnMatch(grokkedCaptures);
+                });
             }
             if (shouldBreakOnMatch(grokkedCaptures)) {
                 break;
@@ -291,9 +268,4 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
     private boolean shouldBreakOnMatch(final Map<String, Object> captures) {
         return captures.size() > 0 && grokPrepperConfig.isBreakOnMatch();
     }
-
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        Future<?> task = executorService.submit(runnable);
-        task.get(grokPrepperConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-    }
 }
\ No newline at end of file
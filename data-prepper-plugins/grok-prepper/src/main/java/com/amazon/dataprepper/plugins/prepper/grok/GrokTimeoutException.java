@@ -0,0 +1,15 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+/**
+ * Thrown by {@link InterruptibleCharSequence} when matching on an Event takes longer than the configured timeout.
+ */
+class GrokTimeoutException extends RuntimeException {
+    GrokTimeoutException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import com.google.common.base.Ticker;
+
+/**
+ * A {@link CharSequence} which aborts the regular expression matching performed on it once a deadline has passed.
+ * Matching reads its input through {@link #charAt(int)}, including while backtracking, so checking the deadline
+ * there bounds the time spent matching on the calling thread. The deadline is only checked once every
+ * {@link #ACCESSES_PER_DEADLINE_CHECK} reads to keep the overhead of reading the clock low.
+ */
+class InterruptibleCharSequence implements CharSequence {
+    static final int ACCESSES_PER_DEADLINE_CHECK = 1024;
+
+    private final CharSequence inner;
+    private final long deadlineNanos;
+    private final Ticker ticker;
+    private int accessesUntilDeadlineCheck = ACCESSES_PER_DEADLINE_CHECK;
+
+    /**
+     * @param inner The value to match on
+     * @param deadlineNanos The {@link Ticker#read()} value after which matching is aborted
+     * @param ticker The ticker to read the time from
+     */
+    InterruptibleCharSequence(final CharSequence inner, final long deadlineNanos, final Ticker ticker) {
+        this.inner = inner;
+        this.deadlineNanos = deadlineNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * @throws GrokTimeoutException if the deadline has passed
+     */
+    @Override
+    public char charAt(final int index) {
+        if (--accessesUntilDeadlineCheck <= 0) {
+            accessesUntilDeadlineCheck = ACCESSES_PER_DEADLINE_CHECK;
+            if (ticker.read() - deadlineNanos > 0) {
+                throw new GrokTimeoutException("Matching did not complete before the deadline");
+            }
+        }
+        return inner.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return inner.length();
+    }
+
+    /**
+     * Returns the subsequence of the wrapped value without a deadline, as it is only used to read captures.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return inner.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return inner.toString();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.Match;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Matches a value against all of the grok patterns configured for a key in a single pass. The literal text each
+ * pattern starts with is extracted once when the matcher is created, and patterns whose literal does not occur in the
+ * value, or does not start it for patterns anchored with {@code ^}, are skipped without running their regular
+ * expression.
+ */
+class MultiPatternGrokMatcher {
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String QUANTIFIERS = "?*+{";
+
+    private final Grok[] groks;
+    private final String[] literalPrefixes;
+    private final boolean[] anchored;
+
+    MultiPatternGrokMatcher(final List<Grok> groks) {
+        this.groks = groks.toArray(new Grok[0]);
+        this.literalPrefixes = new String[this.groks.length];
+        this.anchored = new boolean[this.groks.length];
+        for (int i = 0; i < this.groks.length; i++) {
+            final String regex = this.groks[i].getNamedRegex();
+            literalPrefixes[i] = findLiteralPrefix(regex);
+            anchored[i] = regex != null && regex.startsWith("^");
+        }
+    }
+
+    /**
+     * Matches the patterns in the order they were configured.
+     *
+     * @param value The value to match
+     * @param subject The sequence the regular expressions run on, which is either the value or a wrapper of it
+     * @param keepEmptyCaptures Whether to keep null captures
+     * @param capturesConsumer Receives the captures of every pattern which was attempted, and returns true to skip
+     *                         the remaining patterns
+     */
+    void match(final String value,
+               final CharSequence subject,
+               final boolean keepEmptyCaptures,
+               final Predicate<Map<String, Object>> capturesConsumer) {
+        for (int i = 0; i < groks.length; i++) {
+            if (!mayMatch(i, value)) {
+                continue;
+            }
+            final Match match = groks[i].match(subject);
+            match.setKeepEmptyCaptures(keepEmptyCaptures);
+            if (capturesConsumer.test(match.capture())) {
+                return;
+            }
+        }
+    }
+
+    private boolean mayMatch(final int index, final String value) {
+        final String literalPrefix = literalPrefixes[index];
+        if (literalPrefix.isEmpty()) {
+            return true;
+        }
+        return anchored[index] ? value.startsWith(literalPrefix) : value.contains(literalPrefix);
+    }
+
+    /**
+     * Finds the literal text which every match of the regular expression starts with.
+     *
+     * @param regex The regular expression, optionally anchored with {@code ^}
+     * @return The literal prefix, or an empty string if the expression does not start with literal text
+     */
+    static String findLiteralPrefix(final String regex) {
+        if (regex == null || hasTopLevelAlternation(regex)) {
+            return "";
+        }
+        final StringBuilder literalPrefix = new StringBuilder();
+        int index = regex.startsWith("^") ? 1 : 0;
+        while (index < regex.length()) {
+            final char character = regex.charAt(index);
+            final char literal;
+            final int next;
+            if (character == '\\') {
+                if (index + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(index + 1))) {
+                    break;
+                }
+                literal = regex.charAt(index + 1);
+                next = index + 2;
+            } else if (METACHARACTERS.indexOf(character) >= 0) {
+                break;
+            } else {
+                literal = character;
+                next = index + 1;
+            }
+            if (next < regex.length() && QUANTIFIERS.indexOf(regex.charAt(next)) >= 0) {
+                break;
+            }
+            literalPrefix.append(literal);
+            index = next;
+        }
+        return literalPrefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(final String regex) {
+        int groupDepth = 0;
+        int characterClassDepth = 0;
+        for (int index = 0; index < regex.length(); index++) {
+            final char character = regex.charAt(index);
+            if (character == '\\') {
+                index++;
+            } else if (character == '[') {
+                characterClassDepth++;
+            } else if (character == ']' && characterClassDepth > 0) {
+                characterClassDepth--;
+            } else if (characterClassDepth > 0) {
+                continue;
+            } else if (character == '(') {
+                groupDepth++;
+            } else if (character == ')') {
+                groupDepth--;
+            } else if (character == '|' && groupDepth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
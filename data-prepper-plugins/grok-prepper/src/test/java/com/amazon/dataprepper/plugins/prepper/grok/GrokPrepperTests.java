@@ -13,6 +13,7 @@ import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Ticker;
 import io.krakens.grok.api.Grok;
 import io.krakens.grok.api.GrokCompiler;
 import io.krakens.grok.api.Match;
@@ -34,18 +35,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
@@ -62,10 +63,7 @@ public class GrokPrepperTests {
     private String messageInput;
 
     @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
+    private Ticker ticker;
 
     @Mock
     private GrokCompiler grokCompiler;
@@ -103,7 +101,7 @@ public class GrokPrepperTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         pluginSetting = getDefaultPluginSetting();
         pluginSetting.setPipelineName("grokPipeline");
 
@@ -132,19 +130,18 @@ public class GrokPrepperTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(matchesMessageInput())).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokPrepperConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
+    }
+
+    private CharSequence matchesMessageInput() {
+        return argThat(subject -> subject != null && messageInput.equals(subject.toString()));
     }
 
     private GrokPrepper createObjectUnderTest() {
         try (MockedStatic<PluginMetrics> pluginMetricsMockedStatic = mockStatic(PluginMetrics.class)) {
             pluginMetricsMockedStatic.when(() -> PluginMetrics.fromPluginSetting(pluginSetting)).thenReturn(pluginMetrics);
-            return new GrokPrepper(pluginSetting, grokCompiler, executorService);
+            return new GrokPrepper(pluginSetting, grokCompiler, ticker);
         }
     }
 
@@ -374,8 +371,17 @@ public class GrokPrepperTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokPrepperConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        final long deadlineNanos = TimeUnit.MILLISECONDS.toNanos(GrokPrepperConfig.DEFAULT_TIMEOUT_MILLIS);
+        when(ticker.read()).thenReturn(0L, deadlineNanos + 1);
+        when(grok.match(matchesMessageInput())).then(a -> {
+            final CharSequence subject = a.getArgument(0);
+            assertThat(subject, instanceOf(InterruptibleCharSequence.class));
+            for (int i = 0; i < InterruptibleCharSequence.ACCESSES_PER_DEADLINE_CHECK; i++) {
+                subject.charAt(0);
+            }
+            return match;
+        });
 
         grokPrepper = createObjectUnderTest();
 
@@ -394,10 +400,12 @@ public class GrokPrepperTests {
         assertRecordsAreEqual(grokkedRecords.get(0), record);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
+        verify(match, never()).capture();
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchSuccessCounter, grokProcessingMatchFailureCounter);
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotReadTickerAndReturnsCorrectResult() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokPrepperConfig.TIMEOUT_MILLIS, 0);
         grokPrepper = createObjectUnderTest();
 
@@ -419,7 +427,8 @@ public class GrokPrepperTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokPrepper.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verifyNoInteractions(ticker);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -430,17 +439,13 @@ public class GrokPrepperTests {
 
 
     @Test
-    public void testPrepareForShutdown() {
+    public void testShutdownIsImmediate() {
         grokPrepper = createObjectUnderTest();
         grokPrepper.prepareForShutdown();
-        verify(executorService).shutdown();
-    }
 
-    @Test
-    public void testShutdown() {
-        grokPrepper = createObjectUnderTest();
+        assertThat(grokPrepper.isReadyForShutdown(), is(true));
+
         grokPrepper.shutdown();
-        verify(executorService).shutdownNow();
     }
 
     @Nested
@@ -459,7 +464,7 @@ public class GrokPrepperTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokPrepper = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(matchesMessageInput())).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -480,7 +485,7 @@ public class GrokPrepperTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokPrepper = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(matchesMessageInput())).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -503,7 +508,8 @@ public class GrokPrepperTests {
 
             final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokPrepper.doExecute(Collections.singletonList(record));
 
-            verifyNoInteractions(grokSecondMatch, secondMatch);
+            verify(grokSecondMatch, never()).match(any(CharSequence.class));
+            verifyNoInteractions(secondMatch);
             assertThat(grokkedRecords.size(), equalTo(1));
             assertThat(grokkedRecords.get(0), notNullValue());
             assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -517,7 +523,7 @@ public class GrokPrepperTests {
             pluginSetting.getSettings().put(GrokPrepperConfig.BREAK_ON_MATCH, false);
             grokPrepper = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(matchesMessageInput())).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InterruptibleCharSequenceTest {
+    private static final long DEADLINE_NANOS = 1_000_000L;
+
+    @Mock
+    private Ticker ticker;
+
+    private final String value = UUID.randomUUID().toString();
+
+    private InterruptibleCharSequence createObjectUnderTest() {
+        return new InterruptibleCharSequence(value, DEADLINE_NANOS, ticker);
+    }
+
+    @Test
+    void delegates_to_the_wrapped_value_without_reading_the_ticker() {
+        final InterruptibleCharSequence objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        assertThat(objectUnderTest.charAt(1), equalTo(value.charAt(1)));
+        assertThat(objectUnderTest.subSequence(2, 5), equalTo(value.subSequence(2, 5)));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+        verifyNoInteractions(ticker);
+    }
+
+    @Test
+    void charAt_checks_the_deadline_once_per_interval() {
+        when(ticker.read()).thenReturn(DEADLINE_NANOS);
+        final InterruptibleCharSequence objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < 2 * InterruptibleCharSequence.ACCESSES_PER_DEADLINE_CHECK; i++) {
+            assertThat(objectUnderTest.charAt(0), equalTo(value.charAt(0)));
+        }
+
+        verify(ticker, times(2)).read();
+    }
+
+    @Test
+    void charAt_after_the_deadline_throws() {
+        when(ticker.read()).thenReturn(DEADLINE_NANOS + 1);
+        final InterruptibleCharSequence objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < InterruptibleCharSequence.ACCESSES_PER_DEADLINE_CHECK - 1; i++) {
+            objectUnderTest.charAt(0);
+        }
+
+        assertThrows(GrokTimeoutException.class, () -> objectUnderTest.charAt(0));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import com.google.common.base.Ticker;
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.GrokCompiler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MultiPatternGrokMatcherTest {
+    private GrokCompiler grokCompiler;
+    private List<Map<String, Object>> attemptedCaptures;
+
+    @BeforeEach
+    void setUp() {
+        grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+        attemptedCaptures = new ArrayList<>();
+    }
+
+    private MultiPatternGrokMatcher createObjectUnderTest(final String... patterns) {
+        final List<Grok> groks = new ArrayList<>();
+        for (final String pattern : patterns) {
+            groks.add(grokCompiler.compile(pattern, true));
+        }
+        return new MultiPatternGrokMatcher(groks);
+    }
+
+    private void match(final MultiPatternGrokMatcher objectUnderTest, final String value, final boolean breakOnMatch) {
+        objectUnderTest.match(value, value, false, captures -> {
+            attemptedCaptures.add(captures);
+            return breakOnMatch && !captures.isEmpty();
+        });
+    }
+
+    @Test
+    void match_skips_patterns_whose_literal_prefix_is_not_in_the_value() {
+        final MultiPatternGrokMatcher objectUnderTest = createObjectUnderTest(
+                "POST %{URIPATH:path}", "^\\[%{WORD:level}\\]", "GET %{URIPATH:path}");
+
+        match(objectUnderTest, "127.0.0.1 GET /index.html [INFO]", true);
+
+        assertThat(attemptedCaptures.size(), equalTo(1));
+        assertThat(attemptedCaptures.get(0).get("path"), equalTo("/index.html"));
+    }
+
+    @Test
+    void match_attempts_patterns_without_literal_prefix_in_order_until_consumer_stops() {
+        final MultiPatternGrokMatcher objectUnderTest = createObjectUnderTest(
+                "%{IPV4:ip} POST", "%{IPV4:ip} %{WORD:method}", "%{WORD:method}");
+
+        match(objectUnderTest, "127.0.0.1 GET", true);
+
+        assertThat(attemptedCaptures.size(), equalTo(2));
+        assertThat(attemptedCaptures.get(0), anEmptyMap());
+        assertThat(attemptedCaptures.get(1).get("method"), equalTo("GET"));
+    }
+
+    @Test
+    void match_attempts_all_possible_patterns_when_consumer_does_not_stop() {
+        final MultiPatternGrokMatcher objectUnderTest = createObjectUnderTest(
+                "^GET %{URIPATH:path}", "%{WORD:method}", "DELETE");
+
+        match(objectUnderTest, "GET /index.html", false);
+
+        assertThat(attemptedCaptures.size(), equalTo(2));
+        assertThat(attemptedCaptures.get(0).get("path"), equalTo("/index.html"));
+        assertThat(attemptedCaptures.get(1).get("method"), equalTo("GET"));
+    }
+
+    @Test
+    void match_runs_the_regular_expression_on_the_subject() {
+        final Grok grok = mock(Grok.class);
+        when(grok.getNamedRegex()).thenReturn("^GET");
+        final MultiPatternGrokMatcher objectUnderTest = new MultiPatternGrokMatcher(Arrays.asList(grok));
+        final CharSequence subject = new InterruptibleCharSequence("GET", 0, Ticker.systemTicker());
+        when(grok.match(subject)).thenThrow(new GrokTimeoutException("timeout"));
+
+        assertThrows(GrokTimeoutException.class, () -> objectUnderTest.match("GET", subject, false, captures -> true));
+        verify(grok, never()).match("GET");
+    }
+
+    @Test
+    void match_skips_anchored_pattern_when_value_does_not_start_with_literal_prefix() {
+        final Grok grok = mock(Grok.class);
+        when(grok.getNamedRegex()).thenReturn("^GET");
+        final MultiPatternGrokMatcher objectUnderTest = new MultiPatternGrokMatcher(Arrays.asList(grok));
+
+        match(objectUnderTest, "x GET", true);
+
+        assertThat(attemptedCaptures.size(), equalTo(0));
+        verify(grok, never()).match(any());
+    }
+
+    @ParameterizedTest
+    @MethodSource("literalPrefixes")
+    void findLiteralPrefix_returns_the_literal_text_every_match_starts_with(final String regex, final String expectedPrefix) {
+        assertThat(MultiPatternGrokMatcher.findLiteralPrefix(regex), equalTo(expectedPrefix));
+    }
+
+    private static Stream<Arguments> literalPrefixes() {
+        return Stream.of(
+                arguments(null, ""),
+                arguments("", ""),
+                arguments("GET ", "GET "),
+                arguments("^GET (?<path>\\S+)", "GET "),
+                arguments("\\[(?<level>\\w+)\\]", "["),
+                arguments("a\\.b\\-c(", "a.b-c"),
+                arguments("abc?", "ab"),
+                arguments("ab*", "a"),
+                arguments("ab{2}", "a"),
+                arguments("a\\.?", "a"),
+                arguments("ab\\d", "ab"),
+                arguments("ab\\", "ab"),
+                arguments("ab.c", "ab"),
+                arguments("ab|cd", ""),
+                arguments("ab(c|d)", "ab"),
+                arguments("ab[|(]x", "ab"),
+                arguments("ab[(]|x", ""),
+                arguments("ab[[a-c]|]x", "ab"),
+                arguments("ab]\\|x", "ab"),
+                arguments("(?i)ab", "")
+        );
+    }
+}
@@ -5,7 +5,10 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp;
 
+import com.amazon.dataprepper.armeria.admission.AdaptiveConcurrencyLimit;
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.armeria.authentication.ArmeriaHttpAuthenticationProvider;
+import com.amazon.dataprepper.armeria.executor.VirtualThreadBlockingTaskExecutor;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -19,6 +22,7 @@ import com.amazon.dataprepper.model.source.Source;
 import com.amazon.dataprepper.plugins.certificate.CertificateProvider;
 import com.amazon.dataprepper.plugins.certificate.model.Certificate;
 import com.amazon.dataprepper.plugins.source.loghttp.certificate.CertificateProviderFactory;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.CodecRegistry;
 import com.linecorp.armeria.server.Server;
 import com.linecorp.armeria.server.ServerBuilder;
 import com.linecorp.armeria.server.throttling.ThrottlingService;
@@ -35,6 +39,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 @DataPrepperPlugin(name = "http", pluginType = Source.class, pluginConfigurationType = HTTPSourceConfig.class)
 public class HTTPSource implements Source<Record<Log>> {
     private static final Logger LOG = LoggerFactory.getLogger(HTTPSource.class);
+    static final String CONCURRENCY_LIMIT = "concurrencyLimit";
 
     private final HTTPSourceConfig sourceConfig;
     private final CertificateProviderFactory certificateProviderFactory;
@@ -98,15 +103,27 @@ public class HTTPSource implements Source<Record<Log>> {
             // Allow 2*requestTimeoutInMillis to accommodate non-blocking operations other than buffer writing.
             sb.requestTimeout(Duration.ofMillis(2*requestTimeoutInMillis));
             final int threads = sourceConfig.getThreadCount();
-            final ScheduledThreadPoolExecutor blockingTaskExecutor = new ScheduledThreadPoolExecutor(threads);
+            final ScheduledThreadPoolExecutor blockingTaskExecutor = VirtualThreadBlockingTaskExecutor.create(
+                    threads, sourceConfig.useVirtualThreads());
             sb.blockingTaskExecutor(blockingTaskExecutor, true);
             final int maxPendingRequests = sourceConfig.getMaxPendingRequests();
-            final LogThrottlingStrategy logThrottlingStrategy = new LogThrottlingStrategy(
-                    maxPendingRequests, blockingTaskExecutor.getQueue());
+            final LogThrottlingStrategy logThrottlingStrategy = blockingTaskExecutor instanceof VirtualThreadBlockingTaskExecutor
+                    ? new LogThrottlingStrategy(maxPendingRequests, ((VirtualThreadBlockingTaskExecutor) blockingTaskExecutor)::getPendingTaskCount)
+                    : new LogThrottlingStrategy(maxPendingRequests, blockingTaskExecutor.getQueue());
             final LogThrottlingRejectHandler logThrottlingRejectHandler = new LogThrottlingRejectHandler(maxPendingRequests, pluginMetrics);
             // TODO: allow customization on URI path for log ingestion
             sb.decorator(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, ThrottlingService.newDecorator(logThrottlingStrategy, logThrottlingRejectHandler));
-            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis, buffer, pluginMetrics);
+            final AdaptiveConcurrencyLimit concurrencyLimit = sourceConfig.isAdaptiveConcurrencyLimit()
+                    ? new AdaptiveConcurrencyLimit(buffer, 1, threads, requestTimeoutInMillis)
+                    : null;
+            final AdmissionController admissionController = new AdmissionController(
+                    buffer, false, 0, sourceConfig.getRetryAfterInMillis(), concurrencyLimit);
+            pluginMetrics.gauge(CONCURRENCY_LIMIT, admissionController, AdmissionController::getConcurrencyLimit);
+            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis,
+                    sourceConfig.getBufferWriteChunkSize(), sourceConfig.isPartialSuccessResponse(),
+                    buffer, pluginMetrics,
+                    CodecRegistry.defaultRegistry().withMaxDecompressedSize(sourceConfig.getMaxDecompressedRequestSize()),
+                    admissionController);
             sb.annotatedService(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, logHTTPService);
             // TODO: attach HealthCheckService
 
@@ -6,6 +6,7 @@
 package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.model.configuration.PluginModel;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.CodecRegistry;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
@@ -24,6 +25,9 @@ public class HTTPSourceConfig {
     static final int DEFAULT_THREAD_COUNT = 200;
     static final int DEFAULT_MAX_CONNECTION_COUNT = 500;
     static final int DEFAULT_MAX_PENDING_REQUESTS = 1024;
+    static final int DEFAULT_BUFFER_WRITE_CHUNK_SIZE = 0;
+    static final int DEFAULT_RETRY_AFTER_MS = 1000;
+    static final long DEFAULT_MAX_DECOMPRESSED_REQUEST_SIZE = CodecRegistry.DEFAULT_MAX_DECOMPRESSED_SIZE;
 
     @JsonProperty("port")
     @Min(0)
@@ -46,6 +50,27 @@ public class HTTPSourceConfig {
     @Min(0)
     private int maxPendingRequests = DEFAULT_MAX_PENDING_REQUESTS;
 
+    @JsonProperty("buffer_write_chunk_size")
+    @Min(0)
+    private int bufferWriteChunkSize = DEFAULT_BUFFER_WRITE_CHUNK_SIZE;
+
+    @JsonProperty("partial_success_response")
+    private boolean partialSuccessResponse;
+
+    @JsonProperty("adaptive_concurrency_limit")
+    private boolean adaptiveConcurrencyLimit;
+
+    @JsonProperty("retry_after")
+    @Min(0)
+    private int retryAfterInMillis = DEFAULT_RETRY_AFTER_MS;
+
+    @JsonProperty("use_virtual_threads")
+    private boolean useVirtualThreads;
+
+    @JsonProperty("max_decompressed_request_size")
+    @Min(1)
+    private long maxDecompressedRequestSize = DEFAULT_MAX_DECOMPRESSED_REQUEST_SIZE;
+
     @JsonProperty(SSL)
     private boolean ssl;
 
@@ -70,6 +95,11 @@ public class HTTPSourceConfig {
         return !ssl || isValidFilePath(sslKeyFile);
     }
 
+    @AssertTrue(message = "buffer_write_chunk_size must be set when partial_success_response is enabled")
+    boolean isPartialSuccessResponseValidation() {
+        return !partialSuccessResponse || bufferWriteChunkSize > 0;
+    }
+
     private static boolean isValidFilePath(final String filePath) {
         return filePath != null && !filePath.isEmpty() && Files.exists(Paths.get(filePath));
     }
@@ -95,6 +125,30 @@ public class HTTPSourceConfig {
         return maxPendingRequests;
     }
 
+    public int getBufferWriteChunkSize() {
+        return bufferWriteChunkSize;
+    }
+
+    public boolean isPartialSuccessResponse() {
+        return partialSuccessResponse;
+    }
+
+    public boolean isAdaptiveConcurrencyLimit() {
+        return adaptiveConcurrencyLimit;
+    }
+
+    public int getRetryAfterInMillis() {
+        return retryAfterInMillis;
+    }
+
+    public boolean useVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    public long getMaxDecompressedRequestSize() {
+        return maxDecompressedRequestSize;
+    }
+
     public boolean isSsl() {
         return ssl;
     }
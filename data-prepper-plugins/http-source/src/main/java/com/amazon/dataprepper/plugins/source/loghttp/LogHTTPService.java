@@ -5,16 +5,23 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp;
 
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.log.JacksonLog;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
-import com.amazon.dataprepper.plugins.source.loghttp.codec.JsonCodec;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.CodecRegistry;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.DecompressedSizeExceededException;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.LogCodec;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.server.annotation.Blocking;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
@@ -24,8 +31,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /*
 * A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
@@ -34,32 +46,73 @@ import java.util.stream.Collectors;
 public class LogHTTPService {
     public static final String REQUESTS_RECEIVED = "requestsReceived";
     public static final String SUCCESS_REQUESTS = "successRequests";
+    public static final String PARTIAL_SUCCESS_REQUESTS = "partialSuccessRequests";
     public static final String PAYLOAD_SIZE = "payloadSize";
     public static final String REQUEST_PROCESS_DURATION = "requestProcessDuration";
+    public static final String REQUEST_DECODE_DURATION = "requestDecodeDuration";
+    public static final String CODEC_TAG = "codec";
+    public static final String FIRST_UNACCEPTED_INDEX = "first_unaccepted_index";
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
 
-    // TODO: support other data-types as request body, e.g. json_lines, msgpack
-    private final JsonCodec jsonCodec = new JsonCodec();
+    private final CodecRegistry codecRegistry;
+    private final AdmissionController admissionController;
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
+    private final int bufferWriteChunkSize;
+    private final boolean partialSuccessResponse;
     private final RequestExceptionHandler requestExceptionHandler;
     private final Counter requestsReceivedCounter;
     private final Counter successRequestsCounter;
+    private final Counter partialSuccessRequestsCounter;
+    private final Counter requestsRejectedCounter;
     private final DistributionSummary payloadSizeSummary;
     private final Timer requestProcessDuration;
+    private final Map<String, Timer> requestDecodeDurationsByCodecName = new HashMap<>();
 
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
                           final Buffer<Record<Log>> buffer,
                           final PluginMetrics pluginMetrics) {
+        this(bufferWriteTimeoutInMillis, HTTPSourceConfig.DEFAULT_BUFFER_WRITE_CHUNK_SIZE, false,
+                buffer, pluginMetrics, CodecRegistry.defaultRegistry(), new AdmissionController(buffer, false, 0, 0));
+    }
+
+    /**
+     * @param bufferWriteTimeoutInMillis The timeout for writing all records of a request into the buffer
+     * @param bufferWriteChunkSize The maximum number of records written into the buffer at once, or 0 to write all
+     *                             records of a request at once
+     * @param partialSuccessResponse Whether to respond with the index of the first unaccepted record when only some
+     *                               chunks of a request could be written
+     * @param buffer The buffer to write records into
+     * @param pluginMetrics The plugin metrics
+     * @param codecRegistry The registry of the codecs to parse requests with
+     * @param admissionController Decides whether a request is admitted before it is decoded
+     */
+    public LogHTTPService(final int bufferWriteTimeoutInMillis,
+                          final int bufferWriteChunkSize,
+                          final boolean partialSuccessResponse,
+                          final Buffer<Record<Log>> buffer,
+                          final PluginMetrics pluginMetrics,
+                          final CodecRegistry codecRegistry,
+                          final AdmissionController admissionController) {
         this.buffer = buffer;
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
+        this.bufferWriteChunkSize = bufferWriteChunkSize;
+        this.partialSuccessResponse = partialSuccessResponse;
+        this.codecRegistry = codecRegistry;
+        this.admissionController = admissionController;
 
         requestExceptionHandler = new RequestExceptionHandler(pluginMetrics);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
         successRequestsCounter = pluginMetrics.counter(SUCCESS_REQUESTS);
+        partialSuccessRequestsCounter = pluginMetrics.counter(PARTIAL_SUCCESS_REQUESTS);
+        requestsRejectedCounter = pluginMetrics.counter(LogThrottlingRejectHandler.REQUESTS_REJECTED);
         payloadSizeSummary = pluginMetrics.summary(PAYLOAD_SIZE);
         requestProcessDuration = pluginMetrics.timer(REQUEST_PROCESS_DURATION);
+        for (final String codecName : codecRegistry.getCodecNames()) {
+            requestDecodeDurationsByCodecName.put(codecName,
+                    pluginMetrics.timerWithTags(REQUEST_DECODE_DURATION, CODEC_TAG, codecName));
+        }
     }
 
     @Post
@@ -70,29 +123,104 @@ public class LogHTTPService {
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
         requestsReceivedCounter.increment();
 
-        List<String> jsonList;
         final HttpData content = aggregatedHttpRequest.content();
         payloadSizeSummary.record(content.length());
-        try {
-            jsonList = jsonCodec.parse(content);
+        try (final AdmissionController.Admission admission = admissionController.tryAdmit(content.length(), 0)) {
+            if (!admission.isAdmitted()) {
+                return reject(admission);
+            }
+            return decodeAndWrite(aggregatedHttpRequest, content, admission);
+        }
+    }
+
+    private HttpResponse reject(final AdmissionController.Admission admission) {
+        LOG.warn("Rejected request: {}", admission.getRejectionReason());
+        requestsRejectedCounter.increment();
+        final long retryAfterSeconds = TimeUnit.MILLISECONDS.toSeconds(admissionController.getRetryAfterMillis() + 999);
+        final ResponseHeaders headers = ResponseHeaders.builder(HttpStatus.TOO_MANY_REQUESTS)
+                .contentType(MediaType.PLAIN_TEXT_UTF_8)
+                .set(HttpHeaderNames.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .build();
+        return HttpResponse.of(headers, HttpData.ofUtf8(admission.getRejectionReason()));
+    }
+
+    private HttpResponse decodeAndWrite(final AggregatedHttpRequest aggregatedHttpRequest, final HttpData content,
+                                        final AdmissionController.Admission admission) {
+        final List<Record<Log>> records = new ArrayList<>();
+        final String codecName = codecRegistry.getCodecName(aggregatedHttpRequest.contentType());
+        final LogCodec codec = codecRegistry.getCodec(codecName);
+        final String contentEncoding = aggregatedHttpRequest.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+        final long decodeStartTime = System.nanoTime();
+        try (final InputStream decodedContent = codecRegistry.decodeContent(content, contentEncoding)) {
+            codec.parse(decodedContent, json -> records.add(buildRecordLog(json)));
+        } catch (DecompressedSizeExceededException e) {
+            LOG.warn("Rejected request content of {} bytes with codec {} and Content-Encoding {}: {}",
+                    content.length(), codecName, contentEncoding, e.getMessage());
+            return requestExceptionHandler.handleException(e);
         } catch (IOException e) {
-            LOG.error("Failed to write the request content [{}] due to:", content.toStringUtf8(), e);
-            return requestExceptionHandler.handleException(e, "Bad request data format. Needs to be json array.");
+            LOG.error("Failed to decode the request content of {} bytes with codec {} and Content-Encoding {} due to:",
+                    content.length(), codecName, contentEncoding, e);
+            return requestExceptionHandler.handleException(e, "Bad request data format. Unable to decode the request as " + codecName + ".");
+        } finally {
+            requestDecodeDurationsByCodecName.get(codecName).record(System.nanoTime() - decodeStartTime, TimeUnit.NANOSECONDS);
         }
-        final List<Record<Log>> records = jsonList.stream()
-                .map(this::buildRecordLog)
-                .collect(Collectors.toList());
+        if (bufferWriteChunkSize > 0) {
+            return writeChunks(records, content, admission);
+        }
+        final long bufferWriteStartNanos = System.nanoTime();
         try {
             buffer.writeAll(records, bufferWriteTimeoutInMillis);
+            admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, false, records.size());
         } catch (Exception e) {
-            LOG.error("Failed to write the request content [{}] due to:", content.toStringUtf8(), e);
+            LOG.error("Failed to write the request content of {} bytes with codec {} and Content-Encoding {} due to:",
+                    content.length(), codecName, contentEncoding, e);
+            if (e instanceof TimeoutException) {
+                admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, true, records.size());
+            }
             return requestExceptionHandler.handleException(e);
         }
         successRequestsCounter.increment();
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    /**
+     * Writes the records into the buffer in chunks of at most {@link #bufferWriteChunkSize} records, sharing the
+     * write timeout between the chunks. Each chunk only waits for its own permits, so large requests are written as
+     * the buffer drains rather than waiting for all of their permits at once.
+     */
+    private HttpResponse writeChunks(final List<Record<Log>> records, final HttpData content,
+                                     final AdmissionController.Admission admission) {
+        final long bufferWriteStartNanos = System.nanoTime();
+        final long deadlineNanos = bufferWriteStartNanos + TimeUnit.MILLISECONDS.toNanos(bufferWriteTimeoutInMillis);
+        final int chunkRecordCount = Math.min(bufferWriteChunkSize, records.size());
+        int firstUnacceptedIndex = 0;
+        while (firstUnacceptedIndex < records.size()) {
+            final int chunkEndIndex = Math.min(firstUnacceptedIndex + bufferWriteChunkSize, records.size());
+            final int remainingTimeoutInMillis = (int) Math.max(0L,
+                    TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+            try {
+                buffer.writeAll(records.subList(firstUnacceptedIndex, chunkEndIndex), remainingTimeoutInMillis);
+            } catch (Exception e) {
+                LOG.error("Failed to write the request content of {} bytes from record {} due to:",
+                        content.length(), firstUnacceptedIndex, e);
+                if (e instanceof TimeoutException) {
+                    admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, true, chunkRecordCount);
+                }
+                if (partialSuccessResponse && firstUnacceptedIndex > 0) {
+                    partialSuccessRequestsCounter.increment();
+                    return HttpResponse.of(HttpStatus.MULTI_STATUS, MediaType.JSON_UTF_8,
+                            String.format("{\"%s\":%d}", FIRST_UNACCEPTED_INDEX, firstUnacceptedIndex));
+                }
+                return requestExceptionHandler.handleException(e);
+            }
+            firstUnacceptedIndex = chunkEndIndex;
+        }
+        admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, false, chunkRecordCount);
+        successRequestsCounter.increment();
+        return HttpResponse.of(HttpStatus.OK);
+    }
+
+    private Record<Log> buildRecordLog(final JsonNode json) {
 
         final JacksonLog log = JacksonLog.builder()
                 .withData(json)
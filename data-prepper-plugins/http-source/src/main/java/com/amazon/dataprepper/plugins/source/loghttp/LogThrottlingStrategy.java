@@ -13,15 +13,24 @@ import com.linecorp.armeria.server.throttling.ThrottlingStrategy;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntSupplier;
 
 public class LogThrottlingStrategy extends ThrottlingStrategy<HttpRequest> {
     private final int maxPendingRequests;
-    private final BlockingQueue<Runnable> queue;
+    private final IntSupplier pendingRequestCount;
 
     public LogThrottlingStrategy(final int maxPendingRequests, final BlockingQueue<Runnable> queue) {
-        Objects.requireNonNull(queue);
+        this(maxPendingRequests, Objects.requireNonNull(queue)::size);
+    }
+
+    /**
+     * @param maxPendingRequests The maximum number of requests waiting for the blocking task executor
+     * @param pendingRequestCount Supplies the number of requests waiting for the blocking task executor
+     */
+    public LogThrottlingStrategy(final int maxPendingRequests, final IntSupplier pendingRequestCount) {
+        Objects.requireNonNull(pendingRequestCount);
         this.maxPendingRequests = maxPendingRequests;
-        this.queue = queue;
+        this.pendingRequestCount = pendingRequestCount;
     }
 
     @Override
@@ -36,7 +45,7 @@ public class LogThrottlingStrategy extends ThrottlingStrategy<HttpRequest> {
          * {@link java.util.concurrent.ScheduledExecutorService} which uses unbounded {@link java.util.concurrent.ScheduledThreadPoolExecutor.DelayedWorkQueue}.
          * The potential workaround is in the discussion of https://github.com/line/armeria/issues/2694.
          */
-        if (queue.size() < maxPendingRequests) {
+        if (pendingRequestCount.getAsInt() < maxPendingRequests) {
             return UnmodifiableFuture.completedFuture(true);
         }
         return UnmodifiableFuture.completedFuture(false);
@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.DecompressedSizeExceededException;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
@@ -41,15 +42,15 @@ public class RequestExceptionHandler {
 
     public HttpResponse handleException(final Exception e, final String message) {
         Objects.requireNonNull(message);
-        if (e instanceof IOException) {
+        if (e instanceof SizeOverflowException || e instanceof DecompressedSizeExceededException) {
+            requestsTooLargeCounter.increment();
+            return HttpResponse.of(HttpStatus.REQUEST_ENTITY_TOO_LARGE, MediaType.ANY_TYPE, message);
+        } else if (e instanceof IOException) {
             badRequestsCounter.increment();
             return HttpResponse.of(HttpStatus.BAD_REQUEST, MediaType.ANY_TYPE, message);
         } else if (e instanceof TimeoutException) {
             requestTimeoutsCounter.increment();
             return HttpResponse.of(HttpStatus.REQUEST_TIMEOUT, MediaType.ANY_TYPE, message);
-        } else if (e instanceof SizeOverflowException) {
-            requestsTooLargeCounter.increment();
-            return HttpResponse.of(HttpStatus.REQUEST_ENTITY_TOO_LARGE, MediaType.ANY_TYPE, message);
         }
         internalServerErrorCounter.increment();
         return HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, MediaType.ANY_TYPE, message);
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * CodecRegistry selects the {@link LogCodec} of HTTP request by its {@code Content-Type} and the
+ * {@link ContentDecoder}s by its {@code Content-Encoding}.
+ * <p>
+ * Requests without a {@code Content-Type}, or with one no codec is registered for, are parsed with the default codec.
+ * The decompressed content of requests with a {@code Content-Encoding} is limited to a maximum size. Codecs, decoders
+ * and the maximum size must be set before the registry is used to parse requests.
+ *
+ * @since 1.5
+ */
+public class CodecRegistry {
+    public static final String JSON_CODEC = "json";
+    public static final String NDJSON_CODEC = "ndjson";
+    public static final String MSGPACK_CODEC = "msgpack";
+
+    public static final long DEFAULT_MAX_DECOMPRESSED_SIZE = 100L * 1024 * 1024;
+
+    static final String IDENTITY_ENCODING = "identity";
+
+    private final String defaultCodecName;
+    private long maxDecompressedSize = DEFAULT_MAX_DECOMPRESSED_SIZE;
+    private final Map<String, LogCodec> codecsByName = new LinkedHashMap<>();
+    private final Map<String, String> codecNamesByMediaType = new HashMap<>();
+    private final Map<String, ContentDecoder> contentDecodersByEncoding = new HashMap<>();
+
+    /**
+     * @param defaultCodecName The name of the codec of requests without a registered {@code Content-Type}
+     */
+    public CodecRegistry(final String defaultCodecName) {
+        this.defaultCodecName = Objects.requireNonNull(defaultCodecName);
+        contentDecodersByEncoding.put(IDENTITY_ENCODING, inputStream -> inputStream);
+    }
+
+    /**
+     * @return A registry of the json, ndjson and msgpack codecs and the gzip, deflate and zstd decoders, which parses
+     * requests with json by default
+     */
+    public static CodecRegistry defaultRegistry() {
+        return new CodecRegistry(JSON_CODEC)
+                .registerCodec(JSON_CODEC, new JsonCodec(), "application/json")
+                .registerCodec(NDJSON_CODEC, new NdjsonCodec(), "application/x-ndjson", "application/jsonl", "application/x-jsonlines")
+                .registerCodec(MSGPACK_CODEC, new MsgPackCodec(), "application/msgpack", "application/x-msgpack")
+                .registerContentDecoder("gzip", GZIPInputStream::new)
+                .registerContentDecoder("x-gzip", GZIPInputStream::new)
+                .registerContentDecoder("deflate", InflaterInputStream::new)
+                .registerContentDecoder("zstd", ZstdInputStream::new);
+    }
+
+    /**
+     * @param name The name of the codec, which is also used to tag its metrics
+     * @param codec The codec
+     * @param mediaTypes The {@code Content-Type}s, without parameters, of requests to parse with the codec
+     * @return This registry
+     */
+    public CodecRegistry registerCodec(final String name, final LogCodec codec, final String... mediaTypes) {
+        codecsByName.put(Objects.requireNonNull(name), Objects.requireNonNull(codec));
+        for (final String mediaType : mediaTypes) {
+            codecNamesByMediaType.put(mediaType.toLowerCase(Locale.ROOT), name);
+        }
+        return this;
+    }
+
+    /**
+     * @param encoding The {@code Content-Encoding} of requests to decompress with the decoder
+     * @param contentDecoder The decoder
+     * @return This registry
+     */
+    public CodecRegistry registerContentDecoder(final String encoding, final ContentDecoder contentDecoder) {
+        contentDecodersByEncoding.put(encoding.toLowerCase(Locale.ROOT), Objects.requireNonNull(contentDecoder));
+        return this;
+    }
+
+    /**
+     * @param maxDecompressedSize The maximum size in bytes of the decompressed content of a request
+     * @return This registry
+     */
+    public CodecRegistry withMaxDecompressedSize(final long maxDecompressedSize) {
+        if (maxDecompressedSize < 1) {
+            throw new IllegalArgumentException("maxDecompressedSize must be at least 1.");
+        }
+        this.maxDecompressedSize = maxDecompressedSize;
+        return this;
+    }
+
+    /**
+     * @return The names of the registered codecs
+     */
+    public Set<String> getCodecNames() {
+        return Collections.unmodifiableSet(codecsByName.keySet());
+    }
+
+    /**
+     * @param contentType The {@code Content-Type} of the request, or null if it has none
+     * @return The name of the codec to parse the request with
+     */
+    public String getCodecName(final MediaType contentType) {
+        if (contentType == null) {
+            return defaultCodecName;
+        }
+        return codecNamesByMediaType.getOrDefault(contentType.type() + "/" + contentType.subtype(), defaultCodecName);
+    }
+
+    /**
+     * @param codecName The name of a registered codec
+     * @return The codec
+     * @throws IllegalArgumentException if no codec is registered with the name
+     */
+    public LogCodec getCodec(final String codecName) {
+        final LogCodec codec = codecsByName.get(codecName);
+        if (codec == null) {
+            throw new IllegalArgumentException("No codec is registered with the name " + codecName);
+        }
+        return codec;
+    }
+
+    /**
+     * @param content The content of the request
+     * @param contentEncoding The {@code Content-Encoding} of the request, or null if it has none
+     * @return The decompressed content, which throws {@link DecompressedSizeExceededException} when it is read beyond
+     * the maximum decompressed size
+     * @throws IOException if no decoder is registered for one of the encodings
+     */
+    public InputStream decodeContent(final HttpData content, final String contentEncoding) throws IOException {
+        InputStream inputStream = content.toInputStream();
+        if (contentEncoding == null) {
+            return inputStream;
+        }
+
+        // Content codings are listed in the order they were applied, so they are removed in reverse order.
+        final String[] encodings = contentEncoding.split(",");
+        for (int i = encodings.length - 1; i >= 0; i--) {
+            final String encoding = encodings[i].trim().toLowerCase(Locale.ROOT);
+            if (encoding.isEmpty()) {
+                continue;
+            }
+            final ContentDecoder contentDecoder = contentDecodersByEncoding.get(encoding);
+            if (contentDecoder == null) {
+                throw new IOException("Unsupported Content-Encoding: " + encoding);
+            }
+            inputStream = contentDecoder.decode(inputStream);
+        }
+        return new SizeLimitedInputStream(inputStream, maxDecompressedSize);
+    }
+}
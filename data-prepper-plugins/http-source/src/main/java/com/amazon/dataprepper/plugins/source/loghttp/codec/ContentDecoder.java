@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ContentDecoder decompresses the content of HTTP request sent with a {@code Content-Encoding}.
+ *
+ * @since 1.5
+ */
+@FunctionalInterface
+public interface ContentDecoder {
+    /**
+     * @param inputStream The content of the original HTTP request
+     * @return The decompressed content
+     * @throws IOException if the content is not in the format of the encoding
+     */
+    InputStream decode(InputStream inputStream) throws IOException;
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the decompressed content of HTTP request is larger than the maximum decompressed size of the
+ * {@link CodecRegistry}.
+ *
+ * @since 1.5
+ */
+public class DecompressedSizeExceededException extends IOException {
+    public DecompressedSizeExceededException(final String message) {
+        super(message);
+    }
+}
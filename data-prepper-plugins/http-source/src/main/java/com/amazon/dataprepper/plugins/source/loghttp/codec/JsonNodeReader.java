@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Walks a stream of the format of an {@link ObjectMapper} with a streaming {@link JsonParser} and reads each object
+ * directly into a {@link JsonNode}.
+ */
+class JsonNodeReader {
+    private JsonNodeReader() {
+    }
+
+    /**
+     * Reads a stream holding a single array of objects.
+     */
+    static void readArrayOfObjects(final ObjectMapper mapper, final InputStream inputStream,
+                                   final Consumer<JsonNode> objectConsumer) throws IOException {
+        try (final JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array.");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                objectConsumer.accept(mapper.readTree(parser));
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected an object.");
+            }
+        }
+    }
+
+    /**
+     * Reads a stream holding a sequence of objects separated by whitespace.
+     */
+    static void readObjectSequence(final ObjectMapper mapper, final InputStream inputStream,
+                                   final Consumer<JsonNode> objectConsumer) throws IOException {
+        try (final JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected an object.");
+                }
+                objectConsumer.accept(mapper.readTree(parser));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * LogCodec parses the content of HTTP request into one {@link JsonNode} per log. Each log is passed on as soon as it
+ * has been read, so the content is never materialized as a whole.
+ *
+ * @since 1.5
+ */
+public interface LogCodec extends Codec<List<JsonNode>> {
+    /**
+     * Parses the content and passes each log to the consumer as soon as it has been read.
+     *
+     * @param inputStream The decompressed content of the original HTTP request
+     * @param logConsumer The consumer of the logs, in the order of the content
+     * @throws IOException if the content is not in the format of the codec
+     */
+    void parse(InputStream inputStream, Consumer<JsonNode> logConsumer) throws IOException;
+
+    /**
+     * Parses the request and passes each log to the consumer as soon as it has been read.
+     *
+     * @param httpData The content of the original HTTP request
+     * @param logConsumer The consumer of the logs, in the order of the content
+     * @throws IOException if the content is not in the format of the codec
+     */
+    default void parse(final HttpData httpData, final Consumer<JsonNode> logConsumer) throws IOException {
+        parse(httpData.toInputStream(), logConsumer);
+    }
+
+    @Override
+    default List<JsonNode> parse(final HttpData httpData) throws IOException {
+        final List<JsonNode> logs = new ArrayList<>();
+        parse(httpData, logs::add);
+        return logs;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * MsgPackCodec parses MessagePack HTTP data holding an array of maps into List&lt;{@link JsonNode}&gt;.
+ *
+ * @since 1.5
+ */
+public class MsgPackCodec implements LogCodec {
+    private static final ObjectMapper mapper = new ObjectMapper(new MessagePackFactory());
+
+    @Override
+    public void parse(final InputStream inputStream, final Consumer<JsonNode> logConsumer) throws IOException {
+        JsonNodeReader.readArrayOfObjects(mapper, inputStream, logConsumer);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * NdjsonCodec parses newline-delimited json HTTP data, one json object per line, into List&lt;{@link JsonNode}&gt;.
+ * Blank lines are skipped.
+ *
+ * @since 1.5
+ */
+public class NdjsonCodec implements LogCodec {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public void parse(final InputStream inputStream, final Consumer<JsonNode> logConsumer) throws IOException {
+        JsonNodeReader.readObjectSequence(mapper, inputStream, logConsumer);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads decompressed content and fails with {@link DecompressedSizeExceededException} once more than the maximum
+ * size has been read, so that a small compressed request cannot inflate into an unbounded amount of memory.
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+    private final long maxSize;
+    private long size;
+
+    SizeLimitedInputStream(final InputStream inputStream, final long maxSize) {
+        super(inputStream);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            addToSize(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int count = super.read(b, off, len);
+        if (count > 0) {
+            addToSize(count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final long count = super.skip(n);
+        addToSize(count);
+        return count;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void addToSize(final long count) throws DecompressedSizeExceededException {
+        size += count;
+        if (size > maxSize) {
+            throw new DecompressedSizeExceededException(
+                    String.format("The decompressed request content is larger than the maximum of %d bytes.", maxSize));
+        }
+    }
+}
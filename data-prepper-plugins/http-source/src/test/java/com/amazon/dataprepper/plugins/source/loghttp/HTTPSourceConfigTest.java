@@ -31,6 +31,12 @@ public class HTTPSourceConfigTest {
         assertEquals(HTTPSourceConfig.DEFAULT_THREAD_COUNT, sourceConfig.getThreadCount());
         assertEquals(HTTPSourceConfig.DEFAULT_MAX_CONNECTION_COUNT, sourceConfig.getMaxConnectionCount());
         assertEquals(HTTPSourceConfig.DEFAULT_MAX_PENDING_REQUESTS, sourceConfig.getMaxPendingRequests());
+        assertEquals(HTTPSourceConfig.DEFAULT_BUFFER_WRITE_CHUNK_SIZE, sourceConfig.getBufferWriteChunkSize());
+        assertEquals(false, sourceConfig.isPartialSuccessResponse());
+        assertEquals(false, sourceConfig.isAdaptiveConcurrencyLimit());
+        assertEquals(HTTPSourceConfig.DEFAULT_RETRY_AFTER_MS, sourceConfig.getRetryAfterInMillis());
+        assertEquals(false, sourceConfig.useVirtualThreads());
+        assertEquals(HTTPSourceConfig.DEFAULT_MAX_DECOMPRESSED_REQUEST_SIZE, sourceConfig.getMaxDecompressedRequestSize());
     }
 
     @Nested
@@ -100,6 +106,32 @@ public class HTTPSourceConfigTest {
             assertThat(objectUnderTest.isSslKeyFileValidation(), equalTo(true));
         }
 
+        @Test
+        void isPartialSuccessResponseValidation_should_return_true_if_partialSuccessResponse_is_false() {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            assertThat(objectUnderTest.isPartialSuccessResponseValidation(), equalTo(true));
+        }
+
+        @Test
+        void isPartialSuccessResponseValidation_should_return_false_if_partialSuccessResponse_is_true_and_bufferWriteChunkSize_is_not_set() throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "partialSuccessResponse", true);
+
+            assertThat(objectUnderTest.isPartialSuccessResponseValidation(), equalTo(false));
+        }
+
+        @Test
+        void isPartialSuccessResponseValidation_should_return_true_if_partialSuccessResponse_is_true_and_bufferWriteChunkSize_is_set() throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "partialSuccessResponse", true);
+            reflectivelySetField(objectUnderTest, "bufferWriteChunkSize", 100);
+
+            assertThat(objectUnderTest.isPartialSuccessResponseValidation(), equalTo(true));
+        }
+
         private void reflectivelySetField(final HTTPSourceConfig httpSourceConfig, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
             final Field field = HTTPSourceConfig.class.getDeclaredField(fieldName);
             try {
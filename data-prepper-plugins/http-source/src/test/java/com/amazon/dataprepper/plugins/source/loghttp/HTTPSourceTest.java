@@ -168,6 +168,7 @@ class HTTPSourceTest {
         lenient().when(sourceConfig.getThreadCount()).thenReturn(200);
         lenient().when(sourceConfig.getMaxConnectionCount()).thenReturn(500);
         lenient().when(sourceConfig.getMaxPendingRequests()).thenReturn(1024);
+        lenient().when(sourceConfig.getMaxDecompressedRequestSize()).thenReturn(HTTPSourceConfig.DEFAULT_MAX_DECOMPRESSED_REQUEST_SIZE);
 
         MetricsTestUtil.initMetrics();
         pluginMetrics = PluginMetrics.fromNames(PLUGIN_NAME, TEST_PIPELINE_NAME);
@@ -5,16 +5,20 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp;
 
+import com.amazon.dataprepper.armeria.admission.AdaptiveConcurrencyLimit;
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.CodecRegistry;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
@@ -33,15 +37,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -65,6 +76,12 @@ class LogHTTPServiceTest {
     @Mock
     private Counter successRequestsCounter;
 
+    @Mock
+    private Counter partialSuccessRequestsCounter;
+
+    @Mock
+    private Counter requestsRejectedCounter;
+
     @Mock
     private Counter badRequestsCounter;
 
@@ -80,6 +97,15 @@ class LogHTTPServiceTest {
     @Mock
     private Timer requestProcessDuration;
 
+    @Mock
+    private Timer jsonDecodeDuration;
+
+    @Mock
+    private Timer ndjsonDecodeDuration;
+
+    @Mock
+    private Timer msgpackDecodeDuration;
+
     private LogHTTPService logHTTPService;
 
     @BeforeEach
@@ -87,11 +113,19 @@ class LogHTTPServiceTest {
         when(pluginMetrics.counter(LogHTTPService.REQUESTS_RECEIVED)).thenReturn(requestsReceivedCounter);
         when(pluginMetrics.counter(RequestExceptionHandler.REQUEST_TIMEOUTS)).thenReturn(requestTimeoutsCounter);
         when(pluginMetrics.counter(LogHTTPService.SUCCESS_REQUESTS)).thenReturn(successRequestsCounter);
+        when(pluginMetrics.counter(LogHTTPService.PARTIAL_SUCCESS_REQUESTS)).thenReturn(partialSuccessRequestsCounter);
+        when(pluginMetrics.counter(LogThrottlingRejectHandler.REQUESTS_REJECTED)).thenReturn(requestsRejectedCounter);
         when(pluginMetrics.counter(RequestExceptionHandler.BAD_REQUESTS)).thenReturn(badRequestsCounter);
         when(pluginMetrics.counter(RequestExceptionHandler.REQUESTS_TOO_LARGE)).thenReturn(requestsTooLargeCounter);
         when(pluginMetrics.counter(RequestExceptionHandler.INTERNAL_SERVER_ERROR)).thenReturn(internalServerErrorCounter);
         when(pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
+        when(pluginMetrics.timerWithTags(LogHTTPService.REQUEST_DECODE_DURATION, LogHTTPService.CODEC_TAG, CodecRegistry.JSON_CODEC))
+                .thenReturn(jsonDecodeDuration);
+        when(pluginMetrics.timerWithTags(LogHTTPService.REQUEST_DECODE_DURATION, LogHTTPService.CODEC_TAG, CodecRegistry.NDJSON_CODEC))
+                .thenReturn(ndjsonDecodeDuration);
+        when(pluginMetrics.timerWithTags(LogHTTPService.REQUEST_DECODE_DURATION, LogHTTPService.CODEC_TAG, CodecRegistry.MSGPACK_CODEC))
+                .thenReturn(msgpackDecodeDuration);
         when(requestProcessDuration.record(ArgumentMatchers.<Supplier<HttpResponse>>any())).thenAnswer(
                 (Answer<HttpResponse>) invocation -> {
                     final Object[] args = invocation.getArguments();
@@ -124,6 +158,79 @@ class LogHTTPServiceTest {
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
         verify(requestProcessDuration, times(1)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
+        verify(jsonDecodeDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(ndjsonDecodeDuration, never()).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testHTTPRequestGzipNdjsonSuccess() throws InterruptedException, ExecutionException, IOException {
+        // Prepare
+        RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.parse("application/x-ndjson"))
+                .add(HttpHeaderNames.CONTENT_ENCODING, "gzip")
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        HttpData httpData = HttpData.wrap(gzip("{\"log\":\"first\"}\n{\"log\":\"second\"}\n"));
+        AggregatedHttpRequest testRequest = HttpRequest.of(requestHeaders, httpData).aggregate().get();
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(successRequestsCounter, times(1)).increment();
+        verify(badRequestsCounter, never()).increment();
+        verify(ndjsonDecodeDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(jsonDecodeDuration, never()).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testHTTPRequestGzipBeyondMaxDecompressedSizeEntityTooLarge() throws InterruptedException, ExecutionException, IOException {
+        // Prepare
+        Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, HTTPSourceConfig.DEFAULT_BUFFER_WRITE_CHUNK_SIZE, false,
+                blockingBuffer, pluginMetrics, CodecRegistry.defaultRegistry().withMaxDecompressedSize(16),
+                new AdmissionController(blockingBuffer, false, 0, 0));
+        RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.parse("application/x-ndjson"))
+                .add(HttpHeaderNames.CONTENT_ENCODING, "gzip")
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        HttpData httpData = HttpData.wrap(gzip("{\"log\":\"first\"}\n{\"log\":\"second\"}\n"));
+        AggregatedHttpRequest testRequest = HttpRequest.of(requestHeaders, httpData).aggregate().get();
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_ENTITY_TOO_LARGE, postResponse.status());
+        verify(requestsTooLargeCounter, times(1)).increment();
+        verify(badRequestsCounter, never()).increment();
+        verify(successRequestsCounter, never()).increment();
+        assertEquals(0, blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey().size());
+    }
+
+    @Test
+    public void testHTTPRequestUnsupportedContentEncodingBadRequest() throws ExecutionException, InterruptedException {
+        // Prepare
+        RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .add(HttpHeaderNames.CONTENT_ENCODING, "unsupported")
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        AggregatedHttpRequest testRequest = HttpRequest.of(requestHeaders, HttpData.ofUtf8("[{\"log\":\"first\"}]"))
+                .aggregate().get();
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(successRequestsCounter, never()).increment();
+        verify(badRequestsCounter, times(1)).increment();
     }
 
     @Test
@@ -192,6 +299,101 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(2)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
     }
 
+    @Test
+    public void testHTTPRequestChunkedWriteSuccess() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        logHTTPService = createChunkedLogHTTPService(2, false);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY);
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(successRequestsCounter, times(1)).increment();
+        verify(partialSuccessRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestChunkedWritePartialSuccess() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        logHTTPService = createChunkedLogHTTPService(2, true);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY + 1);
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.MULTI_STATUS, postResponse.status());
+        assertEquals("{\"" + LogHTTPService.FIRST_UNACCEPTED_INDEX + "\":2}", postResponse.contentUtf8());
+        verify(partialSuccessRequestsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+        verify(requestTimeoutsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestChunkedWriteWithoutPartialSuccessTimeout() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        logHTTPService = createChunkedLogHTTPService(2, false);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY + 1);
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_TIMEOUT, postResponse.status());
+        verify(requestTimeoutsCounter, times(1)).increment();
+        verify(partialSuccessRequestsCounter, never()).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestChunkedWriteFirstChunkTooLarge() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        logHTTPService = createChunkedLogHTTPService(TEST_BUFFER_CAPACITY + 1, true);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY + 1);
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_ENTITY_TOO_LARGE, postResponse.status());
+        verify(requestsTooLargeCounter, times(1)).increment();
+        verify(partialSuccessRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestAtConcurrencyLimitTooManyRequests() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        AdmissionController admissionController = new AdmissionController(blockingBuffer, false, 0, 1500,
+                new AdaptiveConcurrencyLimit(blockingBuffer, 1, 1, TEST_TIMEOUT_IN_MILLIS));
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, HTTPSourceConfig.DEFAULT_BUFFER_WRITE_CHUNK_SIZE, false,
+                blockingBuffer, pluginMetrics, CodecRegistry.defaultRegistry(), admissionController);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(1);
+
+        // When
+        AggregatedHttpResponse rejectedResponse;
+        try (AdmissionController.Admission ignored = admissionController.tryAdmit(0, 0)) {
+            rejectedResponse = logHTTPService.doPost(testRequest).aggregate().get();
+        }
+        AggregatedHttpResponse admittedResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejectedResponse.status());
+        assertEquals("2", rejectedResponse.headers().get(HttpHeaderNames.RETRY_AFTER));
+        assertEquals(HttpStatus.OK, admittedResponse.status());
+        assertEquals(1, blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey().size());
+        verify(requestsRejectedCounter, times(1)).increment();
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    private LogHTTPService createChunkedLogHTTPService(final int bufferWriteChunkSize, final boolean partialSuccessResponse) {
+        Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        return new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, bufferWriteChunkSize, partialSuccessResponse,
+                blockingBuffer, pluginMetrics, CodecRegistry.defaultRegistry(), new AdmissionController(blockingBuffer, false, 0, 0));
+    }
+
     private AggregatedHttpRequest generateRandomValidHTTPRequest(int numJson) throws JsonProcessingException,
             ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
@@ -208,6 +410,14 @@ class LogHTTPServiceTest {
         return HttpRequest.of(requestHeaders, httpData).aggregate().get();
     }
 
+    private static byte[] gzip(final String content) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
     private AggregatedHttpRequest generateBadHTTPRequest() throws ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
                 .contentType(MediaType.JSON)
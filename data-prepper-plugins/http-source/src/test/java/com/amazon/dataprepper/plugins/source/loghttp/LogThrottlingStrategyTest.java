@@ -17,6 +17,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -42,7 +44,28 @@ class LogThrottlingStrategyTest {
 
     @Test
     public void testNullWorkQueue() {
-        assertThrows(NullPointerException.class, () -> new LogThrottlingStrategy(TEST_MAX_PENDING_REQUEST, null));
+        assertThrows(NullPointerException.class, () -> new LogThrottlingStrategy(TEST_MAX_PENDING_REQUEST, (BlockingQueue<Runnable>) null));
+    }
+
+    @Test
+    public void testNullPendingRequestCount() {
+        assertThrows(NullPointerException.class, () -> new LogThrottlingStrategy(TEST_MAX_PENDING_REQUEST, (IntSupplier) null));
+    }
+
+    @Test
+    public void testAcceptWithPendingRequestCount() {
+        // Prepare
+        final AtomicInteger pendingRequestCount = new AtomicInteger();
+        objectUnderTest = new LogThrottlingStrategy(TEST_MAX_PENDING_REQUEST, pendingRequestCount::get);
+
+        // When
+        CompletionStage<Boolean> acceptedCompletionStage = objectUnderTest.accept(serviceRequestContext, httpRequest);
+        pendingRequestCount.incrementAndGet();
+        CompletionStage<Boolean> rejectedCompletionStage = objectUnderTest.accept(serviceRequestContext, httpRequest);
+
+        // Then
+        assertEquals(UnmodifiableFuture.completedFuture(true), acceptedCompletionStage);
+        assertEquals(UnmodifiableFuture.completedFuture(false), rejectedCompletionStage);
     }
 
     @Test
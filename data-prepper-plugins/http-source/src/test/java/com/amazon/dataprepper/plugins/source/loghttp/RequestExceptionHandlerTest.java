@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.DecompressedSizeExceededException;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
@@ -22,6 +23,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -154,6 +156,24 @@ class RequestExceptionHandlerTest {
         verify(requestsTooLargeCounter, times(3)).increment();
     }
 
+    @Test
+    public void testHandleDecompressedSizeExceededException() throws ExecutionException, InterruptedException {
+        // Prepare
+        final String testMessage = "test exception message";
+        final DecompressedSizeExceededException testException = new DecompressedSizeExceededException(testMessage);
+
+        // When
+        final HttpResponse httpResponse = requestExceptionHandler.handleException(testException);
+
+        // Then
+        final AggregatedHttpResponse aggregatedHttpResponse = httpResponse.aggregate().get();
+        assertEquals(HttpStatus.REQUEST_ENTITY_TOO_LARGE, aggregatedHttpResponse.status());
+        assertEquals(testMessage, aggregatedHttpResponse.contentUtf8());
+        // verify metrics
+        verify(requestsTooLargeCounter, times(1)).increment();
+        verify(badRequestsCounter, never()).increment();
+    }
+
     @Test
     public void testHandleUnknownException() throws ExecutionException, InterruptedException {
         // Prepare
@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.MediaType;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CodecRegistryTest {
+    private static final String TEST_CONTENT = "{\"a\":\"b\"}\n{\"c\":\"d\"}\n";
+
+    private final CodecRegistry objectUnderTest = CodecRegistry.defaultRegistry();
+
+    @Test
+    public void testDefaultRegistryCodecNames() {
+        assertEquals(new HashSet<>(Arrays.asList(CodecRegistry.JSON_CODEC, CodecRegistry.NDJSON_CODEC, CodecRegistry.MSGPACK_CODEC)),
+                objectUnderTest.getCodecNames());
+    }
+
+    @Test
+    public void testGetCodecNameByContentType() {
+        assertEquals(CodecRegistry.JSON_CODEC, objectUnderTest.getCodecName(MediaType.JSON));
+        assertEquals(CodecRegistry.JSON_CODEC, objectUnderTest.getCodecName(MediaType.JSON_UTF_8));
+        assertEquals(CodecRegistry.NDJSON_CODEC, objectUnderTest.getCodecName(MediaType.parse("application/x-ndjson")));
+        assertEquals(CodecRegistry.NDJSON_CODEC, objectUnderTest.getCodecName(MediaType.parse("application/jsonl; charset=utf-8")));
+        assertEquals(CodecRegistry.MSGPACK_CODEC, objectUnderTest.getCodecName(MediaType.parse("application/msgpack")));
+        assertEquals(CodecRegistry.MSGPACK_CODEC, objectUnderTest.getCodecName(MediaType.parse("application/x-msgpack")));
+    }
+
+    @Test
+    public void testGetCodecNameFallsBackToDefaultCodec() {
+        assertEquals(CodecRegistry.JSON_CODEC, objectUnderTest.getCodecName(null));
+        assertEquals(CodecRegistry.JSON_CODEC, objectUnderTest.getCodecName(MediaType.FORM_DATA));
+        assertEquals(CodecRegistry.JSON_CODEC, objectUnderTest.getCodecName(MediaType.PLAIN_TEXT_UTF_8));
+    }
+
+    @Test
+    public void testGetCodec() {
+        assertTrue(objectUnderTest.getCodec(CodecRegistry.JSON_CODEC) instanceof JsonCodec);
+        assertTrue(objectUnderTest.getCodec(CodecRegistry.NDJSON_CODEC) instanceof NdjsonCodec);
+        assertTrue(objectUnderTest.getCodec(CodecRegistry.MSGPACK_CODEC) instanceof MsgPackCodec);
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.getCodec("unknown"));
+    }
+
+    @Test
+    public void testRegisterCodec() {
+        final LogCodec customCodec = new NdjsonCodec();
+        objectUnderTest.registerCodec("custom", customCodec, "application/x-custom");
+
+        assertEquals("custom", objectUnderTest.getCodecName(MediaType.parse("application/x-custom")));
+        assertSame(customCodec, objectUnderTest.getCodec("custom"));
+        assertTrue(objectUnderTest.getCodecNames().contains("custom"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "x-gzip", "GZIP", "deflate", "zstd", "identity", "gzip, identity"})
+    public void testDecodeContent(final String contentEncoding) throws IOException {
+        final HttpData content = HttpData.wrap(encode(TEST_CONTENT, contentEncoding.split(",")[0].trim()));
+
+        try (final InputStream decodedContent = objectUnderTest.decodeContent(content, contentEncoding)) {
+            assertEquals(TEST_CONTENT, IOUtils.toString(decodedContent, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testDecodeContentWithoutEncoding() throws IOException {
+        try (final InputStream decodedContent = objectUnderTest.decodeContent(HttpData.ofUtf8(TEST_CONTENT), null)) {
+            assertEquals(TEST_CONTENT, IOUtils.toString(decodedContent, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testDecodeContentWithMultipleEncodings() throws IOException {
+        final byte[] gzipThenZstd = encode(TEST_CONTENT.getBytes(StandardCharsets.UTF_8), "gzip");
+        final HttpData content = HttpData.wrap(encode(gzipThenZstd, "zstd"));
+
+        try (final InputStream decodedContent = objectUnderTest.decodeContent(content, "gzip, zstd")) {
+            assertEquals(TEST_CONTENT, IOUtils.toString(decodedContent, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testDecodeContentWithinMaxDecompressedSize() throws IOException {
+        objectUnderTest.withMaxDecompressedSize(TEST_CONTENT.length());
+        final HttpData content = HttpData.wrap(encode(TEST_CONTENT, "gzip"));
+
+        try (final InputStream decodedContent = objectUnderTest.decodeContent(content, "gzip")) {
+            assertEquals(TEST_CONTENT, IOUtils.toString(decodedContent, StandardCharsets.UTF_8));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "deflate", "zstd"})
+    public void testDecodeContentBeyondMaxDecompressedSizeFailure(final String contentEncoding) throws IOException {
+        objectUnderTest.withMaxDecompressedSize(TEST_CONTENT.length() - 1);
+        final HttpData content = HttpData.wrap(encode(TEST_CONTENT, contentEncoding));
+
+        try (final InputStream decodedContent = objectUnderTest.decodeContent(content, contentEncoding)) {
+            assertThrows(DecompressedSizeExceededException.class, () -> IOUtils.toString(decodedContent, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testWithInvalidMaxDecompressedSizeFailure() {
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.withMaxDecompressedSize(0));
+    }
+
+    @Test
+    public void testDecodeContentWithUnsupportedEncodingFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.decodeContent(HttpData.ofUtf8(TEST_CONTENT), "br"));
+    }
+
+    @Test
+    public void testDecodeContentWithMismatchedEncodingFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.decodeContent(HttpData.ofUtf8(TEST_CONTENT), "gzip"));
+    }
+
+    private static byte[] encode(final String content, final String contentEncoding) throws IOException {
+        return encode(content.getBytes(StandardCharsets.UTF_8), contentEncoding);
+    }
+
+    private static byte[] encode(final byte[] content, final String contentEncoding) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final OutputStream outputStream = encodingOutputStream(byteArrayOutputStream, contentEncoding)) {
+            outputStream.write(content);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static OutputStream encodingOutputStream(final OutputStream outputStream, final String contentEncoding) throws IOException {
+        switch (contentEncoding.toLowerCase()) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPOutputStream(outputStream);
+            case "deflate":
+                return new DeflaterOutputStream(outputStream);
+            case "zstd":
+                return new ZstdOutputStream(outputStream);
+            default:
+                return outputStream;
+        }
+    }
+}
@@ -5,10 +5,12 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp.codec;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -19,16 +21,47 @@ class JsonCodecTest {
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData badTestDataNonObjectElement = HttpData.ofUtf8("[{\"a\":\"b\"}, \"c\"]");
+    private final HttpData badTestDataTruncatedArray = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":");
     private final JsonCodec objectUnderTest = new JsonCodec();
 
     @Test
     public void testParseSuccess() throws IOException {
         // When
-        List<String> res = objectUnderTest.parse(goodTestData);
+        List<JsonNode> res = objectUnderTest.parse(goodTestData);
 
         // Then
         assertEquals(2, res.size());
-        assertEquals("{\"a\":\"b\"}", res.get(0));
+        assertEquals("{\"a\":\"b\"}", res.get(0).toString());
+    }
+
+    @Test
+    public void testParseNestedObjects() throws IOException {
+        // When
+        List<JsonNode> res = objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":{\"b\":[1,{\"c\":null}]}}]"));
+
+        // Then
+        assertEquals(1, res.size());
+        assertEquals("{\"a\":{\"b\":[1,{\"c\":null}]}}", res.get(0).toString());
+    }
+
+    @Test
+    public void testParseEmptyArray() throws IOException {
+        assertEquals(0, objectUnderTest.parse(HttpData.ofUtf8("[]")).size());
+    }
+
+    @Test
+    public void testParseWithConsumerSuccess() throws IOException {
+        // Given
+        final List<String> consumed = new ArrayList<>();
+
+        // When
+        objectUnderTest.parse(goodTestData, json -> consumed.add(json.toString()));
+
+        // Then
+        assertEquals(2, consumed.size());
+        assertEquals("{\"a\":\"b\"}", consumed.get(0));
+        assertEquals("{\"c\":\"d\"}", consumed.get(1));
     }
 
     @Test
@@ -45,4 +78,14 @@ class JsonCodecTest {
     public void testParseNonJsonFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
+
+    @Test
+    public void testParseNonObjectElementFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonObjectElement));
+    }
+
+    @Test
+    public void testParseTruncatedArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataTruncatedArray));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpData;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MsgPackCodecTest {
+    private static final ObjectMapper MSGPACK_MAPPER = new ObjectMapper(new MessagePackFactory());
+
+    private final MsgPackCodec objectUnderTest = new MsgPackCodec();
+
+    @Test
+    public void testParseSuccess() throws IOException {
+        // Given
+        final HttpData testData = HttpData.wrap(MSGPACK_MAPPER.writeValueAsBytes(Arrays.asList(
+                Collections.singletonMap("a", "b"),
+                Collections.singletonMap("c", Collections.singletonMap("d", 1)))));
+
+        // When
+        List<JsonNode> res = objectUnderTest.parse(testData);
+
+        // Then
+        assertEquals(2, res.size());
+        assertEquals("{\"a\":\"b\"}", res.get(0).toString());
+        assertEquals("{\"c\":{\"d\":1}}", res.get(1).toString());
+    }
+
+    @Test
+    public void testParseSingleMapFailure() throws IOException {
+        final HttpData testData = HttpData.wrap(MSGPACK_MAPPER.writeValueAsBytes(Collections.singletonMap("a", "b")));
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(testData));
+    }
+
+    @Test
+    public void testParseNonMapElementFailure() throws IOException {
+        final HttpData testData = HttpData.wrap(MSGPACK_MAPPER.writeValueAsBytes(Arrays.asList("a", "b")));
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(testData));
+    }
+
+    @Test
+    public void testParseJsonFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":\"b\"}]")));
+    }
+}
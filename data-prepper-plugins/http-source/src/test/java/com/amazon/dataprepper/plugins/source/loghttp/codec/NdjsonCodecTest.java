@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NdjsonCodecTest {
+    private final HttpData goodTestData = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":\"d\"}\n");
+    private final HttpData badTestDataJsonArray = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
+    private final HttpData badTestDataNonObjectLine = HttpData.ofUtf8("{\"a\":\"b\"}\n\"c\"\n");
+    private final HttpData badTestDataTruncatedLine = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":");
+    private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final NdjsonCodec objectUnderTest = new NdjsonCodec();
+
+    @Test
+    public void testParseSuccess() throws IOException {
+        // When
+        List<JsonNode> res = objectUnderTest.parse(goodTestData);
+
+        // Then
+        assertEquals(2, res.size());
+        assertEquals("{\"a\":\"b\"}", res.get(0).toString());
+        assertEquals("{\"c\":\"d\"}", res.get(1).toString());
+    }
+
+    @Test
+    public void testParseSkipsBlankLines() throws IOException {
+        // When
+        List<JsonNode> res = objectUnderTest.parse(HttpData.ofUtf8("\n{\"a\":\"b\"}\r\n\r\n{\"c\":\"d\"}"));
+
+        // Then
+        assertEquals(2, res.size());
+    }
+
+    @Test
+    public void testParseEmptyContent() throws IOException {
+        assertEquals(0, objectUnderTest.parse(HttpData.ofUtf8("")).size());
+    }
+
+    @Test
+    public void testParseJsonArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonArray));
+    }
+
+    @Test
+    public void testParseNonObjectLineFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonObjectLine));
+    }
+
+    @Test
+    public void testParseTruncatedLineFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataTruncatedLine));
+    }
+
+    @Test
+    public void testParseNonJsonFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
+    }
+}
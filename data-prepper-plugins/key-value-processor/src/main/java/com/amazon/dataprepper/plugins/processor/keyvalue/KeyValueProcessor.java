@@ -15,9 +15,9 @@ import com.amazon.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,12 +32,21 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
+    private final KeyValueScanner keyValueScanner;
+    private final QuotedKeyValueSplitter quotedKeyValueSplitter;
+    private final Pattern deleteKeyPattern;
+    private final Pattern deleteValuePattern;
+    private final String prefix;
+    private final Object nonMatchValue;
 
     @DataPrepperPluginConstructor
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
         super(pluginMetrics);
         this.keyValueProcessorConfig = keyValueProcessorConfig;
 
+        String fieldSplitCharacters = null;
+        String valueSplitCharacters = null;
+
         if(keyValueProcessorConfig.getFieldDelimiterRegex() != null
                 && !keyValueProcessorConfig.getFieldDelimiterRegex().isEmpty()) {
             if(keyValueProcessorConfig.getFieldSplitCharacters() != null
@@ -51,8 +60,10 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         } else {
             String regex;
             if(keyValueProcessorConfig.getFieldSplitCharacters().isEmpty()) {
+                fieldSplitCharacters = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
                 regex = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
             } else {
+                fieldSplitCharacters = keyValueProcessorConfig.getFieldSplitCharacters();
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getFieldSplitCharacters());
             }
 
@@ -72,8 +83,10 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         } else {
             String regex;
             if(keyValueProcessorConfig.getValueSplitCharacters().isEmpty()) {
+                valueSplitCharacters = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
                 regex = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
             } else {
+                valueSplitCharacters = keyValueProcessorConfig.getValueSplitCharacters();
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getValueSplitCharacters());
             }
 
@@ -87,6 +100,21 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         if(!validateRegex(keyValueProcessorConfig.getDeleteValueRegex())) {
             throw new PatternSyntaxException("delete_value_regex is not a valid regex string", keyValueProcessorConfig.getDeleteValueRegex(), -1);
         }
+
+        keyValueScanner = KeyValueScanner.supports(fieldSplitCharacters, valueSplitCharacters)
+                ? new KeyValueScanner(fieldSplitCharacters.charAt(0), valueSplitCharacters.charAt(0), keyValueProcessorConfig.getQuotedValues())
+                : null;
+        quotedKeyValueSplitter = keyValueScanner == null && keyValueProcessorConfig.getQuotedValues()
+                ? new QuotedKeyValueSplitter(fieldDelimiterPattern, keyValueDelimiterPattern)
+                : null;
+        deleteKeyPattern = compileOptionalRegex(keyValueProcessorConfig.getDeleteKeyRegex());
+        deleteValuePattern = compileOptionalRegex(keyValueProcessorConfig.getDeleteValueRegex());
+        prefix = keyValueProcessorConfig.getPrefix();
+        nonMatchValue = keyValueProcessorConfig.getNonMatchValue();
+    }
+
+    private static Pattern compileOptionalRegex(final String regex) {
+        return regex == null || regex.isEmpty() ? null : Pattern.compile(regex);
     }
 
     private String buildRegexFromCharacters(String s) {
@@ -125,32 +153,16 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             final Event recordEvent = record.getData();
 
             final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
-            final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
-            for(final String group : groups) {
-                final String[] terms = keyValueDelimiterPattern.split(group, 2);
-                String key = terms[0];
-                Object value;
-
-                if(keyValueProcessorConfig.getDeleteKeyRegex() != null && !Objects.equals(keyValueProcessorConfig.getDeleteKeyRegex(), "")) {
-                    key = key.replaceAll(keyValueProcessorConfig.getDeleteKeyRegex(), "");
-                }
-                key = keyValueProcessorConfig.getPrefix() + key;
-
-                if (terms.length == 2) {
-                    value = terms[1];
-                } else {
-                    LOG.debug(String.format("Unsuccessful match: '%s'", terms[0]));
-                    value = keyValueProcessorConfig.getNonMatchValue();
-                }
-
-                if(value != null
-                        && value instanceof String
-                        && keyValueProcessorConfig.getDeleteValueRegex() != null
-                        && !Objects.equals(keyValueProcessorConfig.getDeleteValueRegex(), "")) {
-                    value = ((String)value).replaceAll(keyValueProcessorConfig.getDeleteValueRegex(), "");
+            if(keyValueScanner != null) {
+                keyValueScanner.scan(groupsRaw, (key, value) -> addKeyValueToMap(parsedMap, key, value));
+            } else if(quotedKeyValueSplitter != null) {
+                quotedKeyValueSplitter.split(groupsRaw, (key, value) -> addKeyValueToMap(parsedMap, key, value));
+            } else {
+                final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
+                for(final String group : groups) {
+                    final String[] terms = keyValueDelimiterPattern.split(group, 2);
+                    addKeyValueToMap(parsedMap, terms[0], terms.length == 2 ? terms[1] : null);
                 }
-
-                addKeyValueToMap(parsedMap, key, value);
             }
 
             recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
@@ -159,17 +171,36 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         return records;
     }
 
-    private void addKeyValueToMap(final Map<String, Object> parsedMap, final String key, final Object value) {
+    /**
+     * Adds a parsed pair to the map, where a null value means the key/value delimiter was not found. Values of
+     * duplicate keys are combined into a list.
+     */
+    private void addKeyValueToMap(final Map<String, Object> parsedMap, final String rawKey, final String rawValue) {
+        final String key = prefix + (deleteKeyPattern == null ? rawKey : deleteKeyPattern.matcher(rawKey).replaceAll(""));
+
+        Object value;
+        if (rawValue == null) {
+            LOG.debug("Unsuccessful match: '{}'", rawKey);
+            value = nonMatchValue;
+        } else {
+            value = rawValue;
+        }
+
+        if(value instanceof String && deleteValuePattern != null) {
+            value = deleteValuePattern.matcher((String) value).replaceAll("");
+        }
+
         if(!parsedMap.containsKey(key)) {
             parsedMap.put(key, value);
             return;
         }
 
-        if (parsedMap.get(key) instanceof List) {
-            ((List<Object>) parsedMap.get(key)).add(value);
+        final Object existingValue = parsedMap.get(key);
+        if (existingValue instanceof List) {
+            ((List<Object>) existingValue).add(value);
         } else {
-            final LinkedList<Object> combinedList = new LinkedList<>();
-            combinedList.add(parsedMap.get(key));
+            final List<Object> combinedList = new ArrayList<>();
+            combinedList.add(existingValue);
             combinedList.add(value);
 
             parsedMap.replace(key, combinedList);
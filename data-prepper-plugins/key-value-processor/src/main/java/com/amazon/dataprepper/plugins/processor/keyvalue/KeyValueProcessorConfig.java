@@ -52,6 +52,9 @@ public class KeyValueProcessorConfig {
     @NotNull
     private String deleteValueRegex = DEFAULT_DELETE_VALUE_REGEX;
 
+    @JsonProperty("quoted_values")
+    private boolean quotedValues = false;
+
     public String getSource() {
         return source;
     }
@@ -91,4 +94,8 @@ public class KeyValueProcessorConfig {
     public String getDeleteValueRegex() {
         return deleteValueRegex;
     }
+
+    public boolean getQuotedValues() {
+        return quotedValues;
+    }
 }
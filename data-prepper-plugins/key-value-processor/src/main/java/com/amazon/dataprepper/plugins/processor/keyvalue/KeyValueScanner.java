@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.keyvalue;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Splits a string into key/value pairs in a single pass when both the field delimiter and the key/value delimiter are
+ * single characters. Pairs are produced in the same way as splitting on the field delimiter and then splitting each
+ * field once on the key/value delimiter. If quoted values are enabled, a value wrapped in double quotes may contain the
+ * field delimiter and is produced without its quotes, as with {@link QuotedKeyValueSplitter}.
+ */
+class KeyValueScanner {
+    static final char QUOTE = '"';
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final char fieldDelimiter;
+    private final char valueDelimiter;
+    private final boolean quotedValues;
+
+    KeyValueScanner(final char fieldDelimiter, final char valueDelimiter, final boolean quotedValues) {
+        this.fieldDelimiter = fieldDelimiter;
+        this.valueDelimiter = valueDelimiter;
+        this.quotedValues = quotedValues;
+    }
+
+    /**
+     * @return True if a scanner can be used for the split characters, which must be two different single characters.
+     * Regex metacharacters are excluded, as the split characters are otherwise interpreted as a regex.
+     */
+    static boolean supports(final String fieldSplitCharacters, final String valueSplitCharacters) {
+        return isLiteralCharacter(fieldSplitCharacters) && isLiteralCharacter(valueSplitCharacters)
+                && fieldSplitCharacters.charAt(0) != valueSplitCharacters.charAt(0);
+    }
+
+    private static boolean isLiteralCharacter(final String splitCharacters) {
+        return splitCharacters != null && splitCharacters.length() == 1
+                && REGEX_METACHARACTERS.indexOf(splitCharacters.charAt(0)) < 0;
+    }
+
+    /**
+     * Scans the input and passes each pair to the consumer. Fields without the key/value delimiter are passed with a
+     * null value. As with {@link java.util.regex.Pattern#split(CharSequence)}, empty fields at the end of the input are
+     * dropped while an empty input is passed as a single empty field.
+     */
+    void scan(final String input, final BiConsumer<String, String> pairConsumer) {
+        if (input.isEmpty()) {
+            pairConsumer.accept(input, null);
+            return;
+        }
+
+        final int length = input.length();
+        int pendingEmptyFields = 0;
+        int fieldStart = 0;
+        while (true) {
+            int position = fieldStart;
+            while (position < length && input.charAt(position) != fieldDelimiter && input.charAt(position) != valueDelimiter) {
+                position++;
+            }
+            final String key = input.substring(fieldStart, position);
+            String value = null;
+            if (position < length && input.charAt(position) == valueDelimiter) {
+                final int valueStart = position + 1;
+                final int closingQuote = findClosingQuote(input, valueStart);
+                if (closingQuote >= 0) {
+                    value = input.substring(valueStart + 1, closingQuote);
+                    position = closingQuote + 1;
+                } else {
+                    position = input.indexOf(fieldDelimiter, valueStart);
+                    if (position < 0) {
+                        position = length;
+                    }
+                    value = input.substring(valueStart, position);
+                }
+            }
+
+            if (key.isEmpty() && value == null) {
+                pendingEmptyFields++;
+            } else {
+                for (; pendingEmptyFields > 0; pendingEmptyFields--) {
+                    pairConsumer.accept("", null);
+                }
+                pairConsumer.accept(key, value);
+            }
+
+            if (position >= length) {
+                return;
+            }
+            fieldStart = position + 1;
+        }
+    }
+
+    /**
+     * @return The index of the quote closing a value which starts with a quote at valueStart, or -1 if the value is not
+     * quoted or its closing quote is not followed by the field delimiter or the end of the input
+     */
+    private int findClosingQuote(final String input, final int valueStart) {
+        if (!quotedValues || valueStart >= input.length() || input.charAt(valueStart) != QUOTE) {
+            return -1;
+        }
+        final int closingQuote = input.indexOf(QUOTE, valueStart + 1);
+        if (closingQuote < 0) {
+            return -1;
+        }
+        final int afterQuote = closingQuote + 1;
+        return afterQuote == input.length() || input.charAt(afterQuote) == fieldDelimiter ? closingQuote : -1;
+    }
+}
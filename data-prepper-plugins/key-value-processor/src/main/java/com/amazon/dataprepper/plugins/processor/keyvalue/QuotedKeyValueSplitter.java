@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.keyvalue;
+
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a string into key/value pairs with the field and key/value delimiter patterns, where a value wrapped in double
+ * quotes may contain the field delimiter and is produced without its quotes. A value is quoted when it starts with a
+ * quote and the next quote is followed by the field delimiter or the end of the input. Other pairs are produced in the
+ * same way as splitting on the field delimiter and then splitting each field once on the key/value delimiter.
+ */
+class QuotedKeyValueSplitter {
+    private final Pattern fieldDelimiterPattern;
+    private final Pattern keyValueDelimiterPattern;
+
+    QuotedKeyValueSplitter(final Pattern fieldDelimiterPattern, final Pattern keyValueDelimiterPattern) {
+        this.fieldDelimiterPattern = fieldDelimiterPattern;
+        this.keyValueDelimiterPattern = keyValueDelimiterPattern;
+    }
+
+    /**
+     * Splits the input and passes each pair to the consumer. Fields without the key/value delimiter are passed with a
+     * null value. As with {@link Pattern#split(CharSequence)}, empty fields at the end of the input are dropped while an
+     * empty input is passed as a single empty field.
+     */
+    void split(final String input, final BiConsumer<String, String> pairConsumer) {
+        if (input.isEmpty()) {
+            pairConsumer.accept(input, null);
+            return;
+        }
+
+        final int length = input.length();
+        final Matcher fieldMatcher = createMatcher(fieldDelimiterPattern, input);
+        final Matcher valueMatcher = createMatcher(keyValueDelimiterPattern, input);
+        int pendingEmptyFields = 0;
+        int fieldStart = 0;
+        while (fieldStart >= 0) {
+            int fieldEnd = length;
+            int nextFieldStart = -1;
+            if (findDelimiter(fieldMatcher, fieldStart, length)) {
+                fieldEnd = fieldMatcher.start();
+                nextFieldStart = fieldMatcher.end();
+            }
+
+            final String key;
+            String value = null;
+            if (findDelimiter(valueMatcher, fieldStart, fieldEnd)) {
+                key = input.substring(fieldStart, valueMatcher.start());
+                final int valueStart = valueMatcher.end();
+                final int closingQuote = findClosingQuote(input, valueStart, fieldMatcher);
+                if (closingQuote >= 0) {
+                    value = input.substring(valueStart + 1, closingQuote);
+                    nextFieldStart = closingQuote + 1 == length ? -1 : fieldMatcher.end();
+                } else {
+                    value = input.substring(valueStart, fieldEnd);
+                }
+            } else {
+                key = input.substring(fieldStart, fieldEnd);
+            }
+
+            if (key.isEmpty() && value == null) {
+                pendingEmptyFields++;
+            } else {
+                for (; pendingEmptyFields > 0; pendingEmptyFields--) {
+                    pairConsumer.accept("", null);
+                }
+                pairConsumer.accept(key, value);
+            }
+            fieldStart = nextFieldStart;
+        }
+    }
+
+    private static Matcher createMatcher(final Pattern pattern, final String input) {
+        return pattern.matcher(input).useTransparentBounds(true).useAnchoringBounds(false);
+    }
+
+    /**
+     * Finds the first delimiter between start and end, skipping an empty match at start so that every field
+     * advances through the input.
+     */
+    private static boolean findDelimiter(final Matcher matcher, final int start, final int end) {
+        matcher.region(start, end);
+        if (!matcher.find()) {
+            return false;
+        }
+        return matcher.end() > start || matcher.find();
+    }
+
+    /**
+     * @return The index of the quote closing a value which starts with a quote at valueStart, or -1 if the value is not
+     * quoted or its closing quote is not followed by the field delimiter or the end of the input. When the closing quote
+     * is followed by the field delimiter, the field matcher is left at that delimiter.
+     */
+    private static int findClosingQuote(final String input, final int valueStart, final Matcher fieldMatcher) {
+        if (valueStart >= input.length() || input.charAt(valueStart) != KeyValueScanner.QUOTE) {
+            return -1;
+        }
+        final int closingQuote = input.indexOf(KeyValueScanner.QUOTE, valueStart + 1);
+        if (closingQuote < 0) {
+            return -1;
+        }
+        final int afterQuote = closingQuote + 1;
+        if (afterQuote == input.length()) {
+            return closingQuote;
+        }
+        fieldMatcher.region(afterQuote, input.length());
+        return fieldMatcher.lookingAt() && fieldMatcher.end() > afterQuote ? closingQuote : -1;
+    }
+}
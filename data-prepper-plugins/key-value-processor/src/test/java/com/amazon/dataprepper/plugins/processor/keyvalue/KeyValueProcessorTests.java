@@ -13,6 +13,8 @@ import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -62,6 +64,7 @@ public class KeyValueProcessorTests {
         lenient().when(mockConfig.getPrefix()).thenReturn(defaultConfig.getPrefix());
         lenient().when(mockConfig.getDeleteKeyRegex()).thenReturn(defaultConfig.getDeleteKeyRegex());
         lenient().when(mockConfig.getDeleteValueRegex()).thenReturn(defaultConfig.getDeleteValueRegex());
+        lenient().when(mockConfig.getQuotedValues()).thenReturn(defaultConfig.getQuotedValues());
 
         keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
     }
@@ -232,6 +235,7 @@ public class KeyValueProcessorTests {
     @Test
     void testCustomPrefixKvProcessor() {
         when(mockConfig.getPrefix()).thenReturn("TEST_");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
 
         final Record<Event> record = getMessage("key1=value1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -254,6 +258,7 @@ public class KeyValueProcessorTests {
     @Test
     void testCustomStringNonMatchValueKvProcessor() {
         when(mockConfig.getNonMatchValue()).thenReturn("BAD_MATCH");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
 
         final Record<Event> record = getMessage("key1+value1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -266,6 +271,7 @@ public class KeyValueProcessorTests {
     @Test
     void testCustomBoolNonMatchValueKvProcessor() {
         when(mockConfig.getNonMatchValue()).thenReturn(true);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
 
         final Record<Event> record = getMessage("key1+value1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -278,6 +284,7 @@ public class KeyValueProcessorTests {
     @Test
     void testDeleteKeyRegexKvProcessor() {
         when(mockConfig.getDeleteKeyRegex()).thenReturn("\\s");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
 
         final Record<Event> record = getMessage("key1  =value1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -290,6 +297,7 @@ public class KeyValueProcessorTests {
     @Test
     void testDeleteValueRegexKvProcessor() {
         when(mockConfig.getDeleteValueRegex()).thenReturn("\\s");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
 
         final Record<Event> record = getMessage("key1=value1   &key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -304,6 +312,7 @@ public class KeyValueProcessorTests {
     void testDeleteValueWithNonStringRegexKvProcessor() {
         when(mockConfig.getDeleteValueRegex()).thenReturn("\\s");
         when(mockConfig.getNonMatchValue()).thenReturn(3);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
 
         final Record<Event> record = getMessage("key1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -318,6 +327,7 @@ public class KeyValueProcessorTests {
     void testDeleteValueAndKeyRegexKvProcessor() {
         when(mockConfig.getDeleteKeyRegex()).thenReturn("\\s");
         when(mockConfig.getDeleteValueRegex()).thenReturn("\\s");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
 
         final Record<Event> record = getMessage("key1  =value1  &  key2 = value2 ");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -328,6 +338,79 @@ public class KeyValueProcessorTests {
         assertThatKeyEquals(parsed_message, "key2", "value2");
     }
 
+    @Test
+    void testQuotedValueKeepsQuotesByDefaultKvProcessor() {
+        final Record<Event> record = getMessage("key1=\"value1&value2\"&key2=\"value3\"");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(3));
+        assertThatKeyEquals(parsed_message, "key1", "\"value1");
+        assertThatKeyEquals(parsed_message, "value2\"", null);
+        assertThatKeyEquals(parsed_message, "key2", "\"value3\"");
+    }
+
+    @Test
+    void testQuotedValuesContainingFieldDelimiterKvProcessor() {
+        when(mockConfig.getQuotedValues()).thenReturn(true);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=\"value1&value2\"&key2=\"value3\"");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1&value2");
+        assertThatKeyEquals(parsed_message, "key2", "value3");
+    }
+
+    @Test
+    void testQuotedValuesWithFieldDelimiterRegexKvProcessor() {
+        when(mockConfig.getQuotedValues()).thenReturn(true);
+        when(mockConfig.getFieldDelimiterRegex()).thenReturn("&+");
+        when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=\"value1&&value2\"&&key2=\"value3\"&key3=value4");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(3));
+        assertThatKeyEquals(parsed_message, "key1", "value1&&value2");
+        assertThatKeyEquals(parsed_message, "key2", "value3");
+        assertThatKeyEquals(parsed_message, "key3", "value4");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "&", "&&key1=value1", "key1=&=value2&&", "key1=value1=value2&key2", "key1=\"value1&key2=value2",
+            "key1=\"value1&value2\"&key2", "key1=\"value1\"value2&key2=\"\"", "key1=\"value1&value2\"", "key1=\"&&\"&&"})
+    void testSingleCharacterSplitCharactersMatchRegexSplitKvProcessor(final String message) {
+        final List<Record<Event>> scannedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(getMessage(message)));
+
+        when(mockConfig.getFieldDelimiterRegex()).thenReturn("&");
+        when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        final List<Record<Event>> splitRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(getMessage(message)));
+
+        assertThat(getLinkedHashMap(scannedRecords), equalTo(getLinkedHashMap(splitRecords)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "&", "&&key1=value1", "key1=&=value2&&", "key1=value1=value2&key2", "key1=\"value1&key2=value2",
+            "key1=\"value1&value2\"&key2", "key1=\"value1\"value2&key2=\"\"", "key1=\"value1&value2\"", "key1=\"&&\"&&"})
+    void testSingleCharacterSplitCharactersMatchRegexSplitWithQuotedValuesKvProcessor(final String message) {
+        when(mockConfig.getQuotedValues()).thenReturn(true);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        final List<Record<Event>> scannedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(getMessage(message)));
+
+        when(mockConfig.getFieldDelimiterRegex()).thenReturn("&");
+        when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        final List<Record<Event>> splitRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(getMessage(message)));
+
+        assertThat(getLinkedHashMap(scannedRecords), equalTo(getLinkedHashMap(splitRecords)));
+    }
+
     @Test
     void testShutdownIsReady() {
         assertThat(keyValueProcessor.isReadyForShutdown(), is(true));
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.keyvalue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class KeyValueScannerTest {
+
+    @Test
+    void supports_singleDistinctCharacters() {
+        assertThat(KeyValueScanner.supports("&", "="), is(true));
+        assertThat(KeyValueScanner.supports(null, "="), is(false));
+        assertThat(KeyValueScanner.supports("&", null), is(false));
+        assertThat(KeyValueScanner.supports("&!", "="), is(false));
+        assertThat(KeyValueScanner.supports("&", "=:"), is(false));
+        assertThat(KeyValueScanner.supports("&", "&"), is(false));
+        assertThat(KeyValueScanner.supports("|", "="), is(false));
+        assertThat(KeyValueScanner.supports("&", "."), is(false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputsAndPairs")
+    void scan_producesPairs(final String input, final List<Map.Entry<String, String>> expectedPairs) {
+        final List<Map.Entry<String, String>> pairs = new ArrayList<>();
+
+        new KeyValueScanner(' ', '=', false).scan(input, (key, value) -> pairs.add(new AbstractMap.SimpleEntry<>(key, value)));
+
+        assertThat(pairs, equalTo(expectedPairs));
+    }
+
+    @ParameterizedTest
+    @MethodSource("quotedInputsAndPairs")
+    void scan_withQuotedValues_producesPairs(final String input, final List<Map.Entry<String, String>> expectedPairs) {
+        final List<Map.Entry<String, String>> pairs = new ArrayList<>();
+
+        new KeyValueScanner(' ', '=', true).scan(input, (key, value) -> pairs.add(new AbstractMap.SimpleEntry<>(key, value)));
+
+        assertThat(pairs, equalTo(expectedPairs));
+    }
+
+    private static Stream<Arguments> inputsAndPairs() {
+        return Stream.of(
+                Arguments.of("", Arrays.asList(pair("", null))),
+                Arguments.of("   ", Arrays.asList()),
+                Arguments.of("a=1 b=2", Arrays.asList(pair("a", "1"), pair("b", "2"))),
+                Arguments.of("a=1  b", Arrays.asList(pair("a", "1"), pair("", null), pair("b", null))),
+                Arguments.of("a= =1 b=x=y ", Arrays.asList(pair("a", ""), pair("", "1"), pair("b", "x=y"))),
+                Arguments.of("a=\"x y\" b=2", Arrays.asList(pair("a", "\"x"), pair("y\"", null), pair("b", "2"))),
+                Arguments.of("a=", Arrays.asList(pair("a", "")))
+        );
+    }
+
+    private static Stream<Arguments> quotedInputsAndPairs() {
+        return Stream.of(
+                Arguments.of("a=1 b=2", Arrays.asList(pair("a", "1"), pair("b", "2"))),
+                Arguments.of("ua=\"Mozilla/5.0 (X11)\" status=200",
+                        Arrays.asList(pair("ua", "Mozilla/5.0 (X11)"), pair("status", "200"))),
+                Arguments.of("a=\"\" b=\"x y\"", Arrays.asList(pair("a", ""), pair("b", "x y"))),
+                Arguments.of("a=\"x y", Arrays.asList(pair("a", "\"x"), pair("y", null))),
+                Arguments.of("a=\"x\"y z", Arrays.asList(pair("a", "\"x\"y"), pair("z", null))),
+                Arguments.of("a=", Arrays.asList(pair("a", "")))
+        );
+    }
+
+    private static Map.Entry<String, String> pair(final String key, final String value) {
+        return new AbstractMap.SimpleEntry<>(key, value);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.keyvalue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class QuotedKeyValueSplitterTest {
+    private final QuotedKeyValueSplitter objectUnderTest = new QuotedKeyValueSplitter(Pattern.compile(" +"), Pattern.compile("=|:"));
+
+    @ParameterizedTest
+    @MethodSource("inputsAndPairs")
+    void split_producesPairs(final String input, final List<Map.Entry<String, String>> expectedPairs) {
+        assertThat(split(input), equalTo(expectedPairs));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "  a=1", "a=1  b", "a= :1 b=x=y ", "a:b c", "a=\"x y"})
+    void split_withoutQuotedValues_matchesPatternSplit(final String input) {
+        final List<Map.Entry<String, String>> expectedPairs = new ArrayList<>();
+        for (final String field : Pattern.compile(" +").split(input, 0)) {
+            final String[] terms = Pattern.compile("=|:").split(field, 2);
+            expectedPairs.add(pair(terms[0], terms.length == 2 ? terms[1] : null));
+        }
+
+        assertThat(split(input), equalTo(expectedPairs));
+    }
+
+    private List<Map.Entry<String, String>> split(final String input) {
+        final List<Map.Entry<String, String>> pairs = new ArrayList<>();
+        objectUnderTest.split(input, (key, value) -> pairs.add(pair(key, value)));
+        return pairs;
+    }
+
+    private static Stream<Arguments> inputsAndPairs() {
+        return Stream.of(
+                Arguments.of("ua=\"Mozilla/5.0  (X11)\"   status:200",
+                        Arrays.asList(pair("ua", "Mozilla/5.0  (X11)"), pair("status", "200"))),
+                Arguments.of("a=\"\" b:\"x y\"", Arrays.asList(pair("a", ""), pair("b", "x y"))),
+                Arguments.of("a=\"x\"y z", Arrays.asList(pair("a", "\"x\"y"), pair("z", null))),
+                Arguments.of("a=\"x y", Arrays.asList(pair("a", "\"x"), pair("y", null)))
+        );
+    }
+
+    private static Map.Entry<String, String> pair(final String key, final String value) {
+        return new AbstractMap.SimpleEntry<>(key, value);
+    }
+}
@@ -9,15 +9,13 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.processor.AbstractEventProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
-import com.amazon.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
 
 @DataPrepperPlugin(name = "add_entries", pluginType = Processor.class, pluginConfigurationType = AddEntryProcessorConfig.class)
-public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class AddEntryProcessor extends AbstractEventProcessor {
     private final List<AddEntryProcessorConfig.Entry> entries;
 
     @DataPrepperPluginConstructor
@@ -27,18 +25,12 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-
-            for(AddEntryProcessorConfig.Entry entry : entries) {
-                if (!recordEvent.containsKey(entry.getKey()) || entry.getOverwriteIfKeyExists()) {
-                    recordEvent.put(entry.getKey(), entry.getValue());
-                }
+    public void processEvent(final Event recordEvent) {
+        for(AddEntryProcessorConfig.Entry entry : entries) {
+            if (entry.getOverwriteIfKeyExists() || !recordEvent.containsKey(entry.getKey())) {
+                recordEvent.put(entry.getKey(), entry.getValue());
             }
         }
-
-        return records;
     }
 
     @Override
@@ -9,15 +9,13 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.processor.AbstractEventProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
-import com.amazon.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
 
 @DataPrepperPlugin(name = "copy_values", pluginType = Processor.class, pluginConfigurationType = CopyValueProcessorConfig.class)
-public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class CopyValueProcessor extends AbstractEventProcessor {
     private final List<CopyValueProcessorConfig.Entry> entries;
 
     @DataPrepperPluginConstructor
@@ -27,22 +25,16 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-            for(CopyValueProcessorConfig.Entry entry : entries) {
-                if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
-                    continue;
-                }
-
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
-                }
+    public void processEvent(final Event recordEvent) {
+        for(CopyValueProcessorConfig.Entry entry : entries) {
+            if (entry.getFromKey().equals(entry.getToKey())) {
+                continue;
             }
-        }
 
-        return records;
+            if (entry.getOverwriteIfToKeyExists() || !recordEvent.containsKey(entry.getToKey())) {
+                recordEvent.copy(entry.getFromKey(), entry.getToKey());
+            }
+        }
     }
 
     @Override
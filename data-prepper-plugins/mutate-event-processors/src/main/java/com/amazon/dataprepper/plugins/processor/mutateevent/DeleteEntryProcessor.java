@@ -9,14 +9,12 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.processor.AbstractEventProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
-import com.amazon.dataprepper.model.record.Record;
 
-import java.util.Collection;
 
 @DataPrepperPlugin(name = "delete_entries", pluginType = Processor.class, pluginConfigurationType = DeleteEntryProcessorConfig.class)
-public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class DeleteEntryProcessor extends AbstractEventProcessor {
     private final String[] entries;
 
     @DataPrepperPluginConstructor
@@ -26,16 +24,10 @@ public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Recor
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-
-            for(String entry : entries) {
-                recordEvent.delete(entry);
-            }
+    public void processEvent(final Event recordEvent) {
+        for(String entry : entries) {
+            recordEvent.delete(entry);
         }
-
-        return records;
     }
 
     @Override
@@ -23,6 +23,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -164,6 +165,19 @@ public class CopyValueProcessorTests {
         assertThat(editedRecords.get(0).getData().get("entry", Object.class), equalTo("test2"));
     }
 
+    @Test
+    public void testNullValueCopyProcessorTests() {
+        when(mockConfig.getEntries()).thenReturn(createListOfEntries(createEntry("message", "newMessage", false)));
+
+        final CopyValueProcessor processor = createObjectUnderTest();
+        final Record<Event> record = getEvent(null);
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(record));
+
+        assertThat(editedRecords.get(0).getData().containsKey("newMessage"), is(true));
+        assertThat(editedRecords.get(0).getData().containsKey("message"), is(true));
+        assertThat(editedRecords.get(0).getData().get("newMessage", Object.class), nullValue());
+    }
+
     private CopyValueProcessor createObjectUnderTest() {
         return new CopyValueProcessor(pluginMetrics, mockConfig);
     }
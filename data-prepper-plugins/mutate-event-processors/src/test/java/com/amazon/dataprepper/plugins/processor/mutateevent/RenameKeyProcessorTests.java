@@ -23,6 +23,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -108,6 +109,19 @@ public class RenameKeyProcessorTests {
         assertThat(editedRecords.get(0).getData().get("message3", Object.class), equalTo("thisisamessage"));
     }
 
+    @Test
+    public void testNullValueRenameProcessorTests() {
+        when(mockConfig.getEntries()).thenReturn(createListOfEntries(createEntry("message", "newMessage", false)));
+
+        final RenameKeyProcessor processor = createObjectUnderTest();
+        final Record<Event> record = getEvent(null);
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(record));
+
+        assertThat(editedRecords.get(0).getData().containsKey("newMessage"), is(true));
+        assertThat(editedRecords.get(0).getData().containsKey("message"), is(false));
+        assertThat(editedRecords.get(0).getData().get("newMessage", Object.class), nullValue());
+    }
+
     private RenameKeyProcessor createObjectUnderTest() {
         return new RenameKeyProcessor(pluginMetrics, mockConfig);
     }
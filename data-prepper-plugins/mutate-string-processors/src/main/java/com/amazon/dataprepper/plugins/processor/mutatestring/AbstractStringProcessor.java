@@ -8,13 +8,11 @@ package com.amazon.dataprepper.plugins.processor.mutatestring;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
-import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.processor.AbstractEventProcessor;
 
-import java.util.Collection;
 import java.util.List;
 
-public abstract class AbstractStringProcessor<T> extends AbstractProcessor<Record<Event>, Record<Event>> {
+public abstract class AbstractStringProcessor<T> extends AbstractEventProcessor {
     private List<T> entries;
 
     @DataPrepperPluginConstructor
@@ -24,26 +22,14 @@ public abstract class AbstractStringProcessor<T> extends AbstractProcessor<Recor
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-            performStringAction(recordEvent);
-        }
-
-        return records;
-    }
-
-    private void performStringAction(final Event recordEvent)
+    public void processEvent(final Event recordEvent)
     {
         for(T entry : entries) {
             final String key = getKey(entry);
+            final Object value = recordEvent.get(key, Object.class);
 
-            if(recordEvent.containsKey(key)) {
-                final Object value = recordEvent.get(key, Object.class);
-
-                if(value instanceof String) {
-                    performKeyAction(recordEvent, entry, (String) value);
-                }
+            if(value instanceof String) {
+                performKeyAction(recordEvent, entry, (String) value);
             }
         }
     }
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.source.otelmetrics;
 
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.record.Record;
@@ -26,22 +27,37 @@ public class OTelMetricsGrpcService extends MetricsServiceGrpc.MetricsServiceImp
 
     public static final String REQUEST_TIMEOUTS = "requestTimeouts";
     public static final String REQUESTS_RECEIVED = "requestsReceived";
+    public static final String REQUESTS_REJECTED = "requestsRejected";
 
     private final int bufferWriteTimeoutInMillis;
     private final Buffer<Record<ExportMetricsServiceRequest>> buffer;
+    private final AdmissionController admissionController;
 
     private final Counter requestTimeoutCounter;
     private final Counter requestsReceivedCounter;
+    private final Counter requestsRejectedCounter;
 
 
     public OTelMetricsGrpcService(int bufferWriteTimeoutInMillis,
                                   Buffer<Record<ExportMetricsServiceRequest>> buffer,
                                   final PluginMetrics pluginMetrics) {
+        this(bufferWriteTimeoutInMillis, buffer, pluginMetrics, new AdmissionController(buffer, false, 0, 0));
+    }
+
+    /**
+     * @param admissionController Decides whether a request is admitted before it is written to the buffer
+     */
+    public OTelMetricsGrpcService(int bufferWriteTimeoutInMillis,
+                                  Buffer<Record<ExportMetricsServiceRequest>> buffer,
+                                  final PluginMetrics pluginMetrics,
+                                  final AdmissionController admissionController) {
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
         this.buffer = buffer;
+        this.admissionController = admissionController;
 
         requestTimeoutCounter = pluginMetrics.counter(REQUEST_TIMEOUTS);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
+        requestsRejectedCounter = pluginMetrics.counter(REQUESTS_REJECTED);
     }
 
 
@@ -55,8 +71,21 @@ public class OTelMetricsGrpcService extends MetricsServiceGrpc.MetricsServiceImp
             return;
         }
 
-        try {
-            buffer.write(new Record<>(request), bufferWriteTimeoutInMillis);
+        try (final AdmissionController.Admission admission = admissionController.tryAdmit(request.getSerializedSize(), 1)) {
+            if (!admission.isAdmitted()) {
+                LOG.warn("Rejected request: {}", admission.getRejectionReason());
+                requestsRejectedCounter.increment();
+                responseObserver.onError(admissionController.createRejectionException(admission));
+                return;
+            }
+            final long bufferWriteStartNanos = System.nanoTime();
+            try {
+                buffer.write(new Record<>(request), bufferWriteTimeoutInMillis);
+                admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, false, 1);
+            } catch (TimeoutException e) {
+                admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, true, 1);
+                throw e;
+            }
             responseObserver.onNext(ExportMetricsServiceResponse.newBuilder().build());
             responseObserver.onCompleted();
         } catch (TimeoutException e) {
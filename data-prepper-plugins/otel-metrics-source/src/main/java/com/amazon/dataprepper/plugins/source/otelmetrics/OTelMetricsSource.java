@@ -5,7 +5,10 @@
 
 package com.amazon.dataprepper.plugins.source.otelmetrics;
 
+import com.amazon.dataprepper.armeria.admission.AdaptiveConcurrencyLimit;
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.armeria.authentication.GrpcAuthenticationProvider;
+import com.amazon.dataprepper.armeria.executor.VirtualThreadBlockingTaskExecutor;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -36,11 +39,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 
 @DataPrepperPlugin(name = "otel_metrics_source", pluginType = Source.class, pluginConfigurationType = OTelMetricsSourceConfig.class)
 public class OTelMetricsSource implements Source<Record<ExportMetricsServiceRequest>> {
     private static final Logger LOG = LoggerFactory.getLogger(OTelMetricsSource.class);
+    static final String IN_FLIGHT_REQUEST_BYTES = "inFlightRequestBytes";
+    static final String CONCURRENCY_LIMIT = "concurrencyLimit";
     private final OTelMetricsSourceConfig oTelMetricsSourceConfig;
     private Server server;
     private final PluginMetrics pluginMetrics;
@@ -73,10 +77,23 @@ public class OTelMetricsSource implements Source<Record<ExportMetricsServiceRequ
 
         if (server == null) {
 
+            final AdaptiveConcurrencyLimit concurrencyLimit = oTelMetricsSourceConfig.isAdaptiveConcurrencyLimit()
+                    ? new AdaptiveConcurrencyLimit(buffer, 1, oTelMetricsSourceConfig.getThreadCount(), oTelMetricsSourceConfig.getRequestTimeoutInMillis())
+                    : null;
+            final AdmissionController admissionController = new AdmissionController(
+                    buffer,
+                    oTelMetricsSourceConfig.rejectWhenBufferFull(),
+                    oTelMetricsSourceConfig.getMaxInFlightRequestBytes(),
+                    oTelMetricsSourceConfig.getRetryAfterInMillis(),
+                    concurrencyLimit);
+            pluginMetrics.gauge(IN_FLIGHT_REQUEST_BYTES, admissionController, AdmissionController::getInFlightRequestBytes);
+            pluginMetrics.gauge(CONCURRENCY_LIMIT, admissionController, AdmissionController::getConcurrencyLimit);
+
             final OTelMetricsGrpcService oTelMetricsGrpcService = new OTelMetricsGrpcService(
                     oTelMetricsSourceConfig.getRequestTimeoutInMillis(),
                     buffer,
-                    pluginMetrics
+                    pluginMetrics,
+                    admissionController
             );
 
             final List<ServerInterceptor> serverInterceptors = getAuthenticationInterceptor();
@@ -122,7 +139,7 @@ public class OTelMetricsSource implements Source<Record<ExportMetricsServiceRequ
 
             sb.maxNumConnections(oTelMetricsSourceConfig.getMaxConnectionCount());
             sb.blockingTaskExecutor(
-                    Executors.newScheduledThreadPool(oTelMetricsSourceConfig.getThreadCount()),
+                    VirtualThreadBlockingTaskExecutor.create(oTelMetricsSourceConfig.getThreadCount(), oTelMetricsSourceConfig.useVirtualThreads()),
                     true);
 
             server = sb.build();
@@ -26,6 +26,11 @@ public class OTelMetricsSourceConfig {
     static final String THREAD_COUNT = "thread_count";
     static final String MAX_CONNECTION_COUNT = "max_connection_count";
     static final String ENABLE_UNFRAMED_REQUESTS = "unframed_requests";
+    static final String REJECT_WHEN_BUFFER_FULL = "reject_when_buffer_full";
+    static final String MAX_IN_FLIGHT_REQUEST_BYTES = "max_in_flight_request_bytes";
+    static final String RETRY_AFTER = "retry_after";
+    static final String ADAPTIVE_CONCURRENCY_LIMIT = "adaptive_concurrency_limit";
+    static final String USE_VIRTUAL_THREADS = "use_virtual_threads";
     static final int DEFAULT_REQUEST_TIMEOUT_MS = 10000;
     static final int DEFAULT_PORT = 21891;
     static final int DEFAULT_THREAD_COUNT = 200;
@@ -36,6 +41,11 @@ public class OTelMetricsSourceConfig {
     static final boolean DEFAULT_PROTO_REFLECTION_SERVICE = false;
     static final boolean DEFAULT_USE_ACM_CERT_FOR_SSL = false;
     static final int DEFAULT_ACM_CERT_ISSUE_TIME_OUT_MILLIS = 120000;
+    static final boolean DEFAULT_REJECT_WHEN_BUFFER_FULL = false;
+    static final int DEFAULT_MAX_IN_FLIGHT_REQUEST_BYTES = 0;
+    static final int DEFAULT_RETRY_AFTER_MS = 1000;
+    static final boolean DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT = false;
+    static final boolean DEFAULT_USE_VIRTUAL_THREADS = false;
     private static final String S3_PREFIX = "s3://";
 
     @JsonProperty(REQUEST_TIMEOUT)
@@ -88,6 +98,21 @@ public class OTelMetricsSourceConfig {
     @JsonProperty("authentication")
     private PluginModel authentication;
 
+    @JsonProperty(REJECT_WHEN_BUFFER_FULL)
+    private boolean rejectWhenBufferFull = DEFAULT_REJECT_WHEN_BUFFER_FULL;
+
+    @JsonProperty(MAX_IN_FLIGHT_REQUEST_BYTES)
+    private int maxInFlightRequestBytes = DEFAULT_MAX_IN_FLIGHT_REQUEST_BYTES;
+
+    @JsonProperty(RETRY_AFTER)
+    private int retryAfterInMillis = DEFAULT_RETRY_AFTER_MS;
+
+    @JsonProperty(ADAPTIVE_CONCURRENCY_LIMIT)
+    private boolean adaptiveConcurrencyLimit = DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT;
+
+    @JsonProperty(USE_VIRTUAL_THREADS)
+    private boolean useVirtualThreads = DEFAULT_USE_VIRTUAL_THREADS;
+
     public void validateAndInitializeCertAndKeyFileInS3() {
         boolean certAndKeyFileInS3 = false;
         if (useAcmCertForSSL) {
@@ -184,5 +209,25 @@ public class OTelMetricsSourceConfig {
     }
 
     public PluginModel getAuthentication() { return authentication; }
+
+    public boolean rejectWhenBufferFull() {
+        return rejectWhenBufferFull;
+    }
+
+    public int getMaxInFlightRequestBytes() {
+        return maxInFlightRequestBytes;
+    }
+
+    public int getRetryAfterInMillis() {
+        return retryAfterInMillis;
+    }
+
+    public boolean isAdaptiveConcurrencyLimit() {
+        return adaptiveConcurrencyLimit;
+    }
+
+    public boolean useVirtualThreads() {
+        return useVirtualThreads;
+    }
 }
 
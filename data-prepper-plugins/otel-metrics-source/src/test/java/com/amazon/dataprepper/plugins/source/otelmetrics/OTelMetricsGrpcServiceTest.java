@@ -5,10 +5,13 @@
 
 package com.amazon.dataprepper.plugins.source.otelmetrics;
 
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
+import io.grpc.Status;
+import io.grpc.StatusException;
 import io.grpc.stub.StreamObserver;
 import io.micrometer.core.instrument.Counter;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
@@ -53,6 +56,8 @@ public class OTelMetricsGrpcServiceTest {
     @Mock
     Counter timeoutCounter;
     @Mock
+    Counter requestsRejectedCounter;
+    @Mock
     StreamObserver responseObserver;
     @Mock
     Buffer buffer;
@@ -60,17 +65,22 @@ public class OTelMetricsGrpcServiceTest {
     @Captor
     ArgumentCaptor<Record> recordCaptor;
 
+    @Captor
+    ArgumentCaptor<StatusException> statusExceptionCaptor;
+
     private OTelMetricsGrpcService sut;
+    private PluginMetrics mockPluginMetrics;
 
     @BeforeEach
     public void setup() {
         pluginSetting = new PluginSetting("OTelMetricsGrpcService", Collections.EMPTY_MAP);
         pluginSetting.setPipelineName("pipeline");
 
-        PluginMetrics mockPluginMetrics = mock(PluginMetrics.class);
+        mockPluginMetrics = mock(PluginMetrics.class);
 
         when(mockPluginMetrics.counter(OTelMetricsGrpcService.REQUESTS_RECEIVED)).thenReturn(requestsReceivedCounter);
         when(mockPluginMetrics.counter(OTelMetricsGrpcService.REQUEST_TIMEOUTS)).thenReturn(timeoutCounter);
+        when(mockPluginMetrics.counter(OTelMetricsGrpcService.REQUESTS_REJECTED)).thenReturn(requestsRejectedCounter);
 
         sut = new OTelMetricsGrpcService(bufferWriteTimeoutInMillis, buffer, mockPluginMetrics);
     }
@@ -101,4 +111,36 @@ public class OTelMetricsGrpcServiceTest {
         verify(timeoutCounter, times(1)).increment();
         verify(requestsReceivedCounter, times(1)).increment();
     }
+
+    @Test
+    public void export_withoutBufferCapacity_responseObserverOnErrorWithRetryPushback() throws Exception {
+        when(buffer.getMaxCapacity()).thenReturn(10);
+        when(buffer.getRemainingCapacity()).thenReturn(0);
+        sut = new OTelMetricsGrpcService(bufferWriteTimeoutInMillis, buffer, mockPluginMetrics,
+                new AdmissionController(buffer, true, 0, 250));
+
+        sut.export(METRICS_REQUEST, responseObserver);
+
+        verify(buffer, times(0)).write(any(Record.class), anyInt());
+        verify(responseObserver, times(0)).onCompleted();
+        verify(responseObserver, times(1)).onError(statusExceptionCaptor.capture());
+        verify(requestsRejectedCounter, times(1)).increment();
+        verifyNoInteractions(timeoutCounter);
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, statusExceptionCaptor.getValue().getStatus().getCode());
+        assertEquals("250", statusExceptionCaptor.getValue().getTrailers().get(AdmissionController.RETRY_PUSHBACK_MS_KEY));
+    }
+
+    @Test
+    public void export_withBufferCapacity_responseObserverOnCompleted() throws Exception {
+        when(buffer.getMaxCapacity()).thenReturn(10);
+        when(buffer.getRemainingCapacity()).thenReturn(1);
+        sut = new OTelMetricsGrpcService(bufferWriteTimeoutInMillis, buffer, mockPluginMetrics,
+                new AdmissionController(buffer, true, 0, 250));
+
+        sut.export(METRICS_REQUEST, responseObserver);
+
+        verify(buffer, times(1)).write(recordCaptor.capture(), anyInt());
+        verify(responseObserver, times(1)).onCompleted();
+        verifyNoInteractions(requestsRejectedCounter);
+    }
 }
@@ -47,6 +47,11 @@ public class OtelMetricsSourceConfigTests {
         assertEquals(DEFAULT_PORT, otelMetricsSourceConfig.getPort());
         assertEquals(DEFAULT_THREAD_COUNT, otelMetricsSourceConfig.getThreadCount());
         assertEquals(OTelMetricsSourceConfig.DEFAULT_MAX_CONNECTION_COUNT, otelMetricsSourceConfig.getMaxConnectionCount());
+        assertEquals(OTelMetricsSourceConfig.DEFAULT_REJECT_WHEN_BUFFER_FULL, otelMetricsSourceConfig.rejectWhenBufferFull());
+        assertEquals(OTelMetricsSourceConfig.DEFAULT_MAX_IN_FLIGHT_REQUEST_BYTES, otelMetricsSourceConfig.getMaxInFlightRequestBytes());
+        assertEquals(OTelMetricsSourceConfig.DEFAULT_RETRY_AFTER_MS, otelMetricsSourceConfig.getRetryAfterInMillis());
+        assertEquals(OTelMetricsSourceConfig.DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT, otelMetricsSourceConfig.isAdaptiveConcurrencyLimit());
+        assertEquals(OTelMetricsSourceConfig.DEFAULT_USE_VIRTUAL_THREADS, otelMetricsSourceConfig.useVirtualThreads());
         assertFalse(otelMetricsSourceConfig.hasHealthCheck());
         assertFalse(otelMetricsSourceConfig.hasProtoReflectionService());
         assertFalse(otelMetricsSourceConfig.isSslCertAndKeyFileInS3());
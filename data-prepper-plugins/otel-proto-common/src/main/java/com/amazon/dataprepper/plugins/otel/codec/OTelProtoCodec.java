@@ -14,7 +14,11 @@ import com.amazon.dataprepper.model.trace.Span;
 import com.amazon.dataprepper.model.trace.SpanEvent;
 import com.amazon.dataprepper.model.trace.TraceGroupFields;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.protobuf.ByteString;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.common.v1.AnyValue;
@@ -37,9 +41,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * OTelProtoCodec is for encoding/decoding between {@link com.amazon.dataprepper.model.trace} and {@link io.opentelemetry.proto}.
  */
@@ -284,6 +291,182 @@ public class OTelProtoCodec {
         }
     }
 
+    /**
+     * Decoder which writes each span directly into the JSON tree backing the {@link JacksonSpan} in a single pass over
+     * the protobuf message. It produces the same spans as {@link OTelProtoDecoder} while avoiding the intermediate
+     * maps, bean serialization and byte array copies. Resource and instrumentation library attributes are converted
+     * once per {@link ResourceSpans} and {@link InstrumentationLibrarySpans} respectively.
+     * <p>
+     * Unlike {@link OTelProtoDecoder}, a duplicated attribute key overwrites the earlier value instead of failing the request.
+     */
+    public static class OTelProtoJsonNodeDecoder extends OTelProtoDecoder {
+        private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+        private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+        private static final int MAX_CACHED_KEYS = 10_000;
+        private static final ThreadLocal<char[]> HEX_BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+        private final Map<String, String> spanAttributeKeys = new ConcurrentHashMap<>();
+        private final Map<String, String> resourceAttributeKeys = new ConcurrentHashMap<>();
+        private final Map<String, String> attributeKeys = new ConcurrentHashMap<>();
+
+        @Override
+        protected List<Span> parseResourceSpans(final ResourceSpans resourceSpans) {
+            final List<Span> spans = new ArrayList<>();
+
+            final JsonNode serviceName = getServiceName(resourceSpans.getResource())
+                    .<JsonNode>map(NODE_FACTORY::textNode).orElse(NODE_FACTORY.nullNode());
+            final ObjectNode resourceAttributes = convertAttributes(resourceSpans.getResource().getAttributesList(),
+                    resourceAttributeKeys, RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+            for (InstrumentationLibrarySpans is : resourceSpans.getInstrumentationLibrarySpansList()) {
+                final ObjectNode instrumentationLibraryAttributes = getInstrumentationLibraryAttributeNode(is.getInstrumentationLibrary());
+                for (io.opentelemetry.proto.trace.v1.Span sp : is.getSpansList()) {
+                    spans.add(parseSpan(sp, serviceName, resourceAttributes, instrumentationLibraryAttributes));
+                }
+            }
+            return spans;
+        }
+
+        protected Span parseSpan(final io.opentelemetry.proto.trace.v1.Span sp, final JsonNode serviceName,
+                                 final ObjectNode resourceAttributes, final ObjectNode instrumentationLibraryAttributes) {
+            final ObjectNode spanNode = NODE_FACTORY.objectNode();
+            spanNode.put("spanId", encodeHex(sp.getSpanId()));
+            spanNode.put("traceId", encodeHex(sp.getTraceId()));
+            spanNode.put("traceState", sp.getTraceState());
+            spanNode.put("parentSpanId", encodeHex(sp.getParentSpanId()));
+            spanNode.put("name", sp.getName());
+            spanNode.set("serviceName", serviceName);
+            spanNode.put("kind", sp.getKind().name());
+            final String endTime = getEndTimeISO8601(sp);
+            spanNode.put("startTime", getStartTimeISO8601(sp));
+            spanNode.put("endTime", endTime);
+
+            final ObjectNode attributes = convertAttributes(sp.getAttributesList(), spanAttributeKeys, SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+            attributes.setAll(resourceAttributes);
+            attributes.setAll(instrumentationLibraryAttributes);
+            attributes.put(STATUS_CODE, sp.getStatus().getCodeValue());
+            if (!sp.getStatus().getMessage().isEmpty()) {
+                attributes.put(STATUS_MESSAGE, sp.getStatus().getMessage());
+            }
+            spanNode.set("attributes", attributes);
+            spanNode.put("droppedAttributesCount", sp.getDroppedAttributesCount());
+
+            final ArrayNode events = spanNode.putArray("events");
+            for (final io.opentelemetry.proto.trace.v1.Span.Event event : sp.getEventsList()) {
+                events.add(getSpanEventNode(event));
+            }
+            spanNode.put("droppedEventsCount", sp.getDroppedEventsCount());
+            final ArrayNode links = spanNode.putArray("links");
+            for (final io.opentelemetry.proto.trace.v1.Span.Link link : sp.getLinksList()) {
+                links.add(getLinkNode(link));
+            }
+            spanNode.put("droppedLinksCount", sp.getDroppedLinksCount());
+
+            final long durationInNanos = sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano();
+            final boolean isRootSpan = sp.getParentSpanId().isEmpty();
+            spanNode.put("traceGroup", getTraceGroup(sp));
+            spanNode.put("durationInNanos", durationInNanos);
+            final ObjectNode traceGroupFields = spanNode.putObject("traceGroupFields");
+            traceGroupFields.put("endTime", isRootSpan ? endTime : null);
+            traceGroupFields.put("durationInNanos", isRootSpan ? durationInNanos : null);
+            traceGroupFields.put("statusCode", isRootSpan ? sp.getStatus().getCodeValue() : null);
+
+            return JacksonSpan.builder()
+                    .withJsonNode(spanNode)
+                    .build();
+        }
+
+        protected ObjectNode getSpanEventNode(final io.opentelemetry.proto.trace.v1.Span.Event event) {
+            checkArgument(!event.getName().isEmpty(), "name cannot be an empty string");
+            final ObjectNode eventNode = NODE_FACTORY.objectNode();
+            eventNode.put("name", event.getName());
+            eventNode.put("time", getTimeISO8601(event));
+            eventNode.set("attributes", convertAttributes(event.getAttributesList(), attributeKeys, REPLACE_DOT_WITH_AT));
+            eventNode.put("droppedAttributesCount", event.getDroppedAttributesCount());
+            return eventNode;
+        }
+
+        protected ObjectNode getLinkNode(final io.opentelemetry.proto.trace.v1.Span.Link link) {
+            final String traceId = encodeHex(link.getTraceId());
+            final String spanId = encodeHex(link.getSpanId());
+            checkArgument(!traceId.isEmpty(), "traceId cannot be an empty string");
+            checkArgument(!spanId.isEmpty(), "spanId cannot be an empty String");
+            checkArgument(!link.getTraceState().isEmpty(), "traceState cannot be an empty String");
+            final ObjectNode linkNode = NODE_FACTORY.objectNode();
+            linkNode.put("traceId", traceId);
+            linkNode.put("spanId", spanId);
+            linkNode.put("traceState", link.getTraceState());
+            linkNode.set("attributes", convertAttributes(link.getAttributesList(), attributeKeys, REPLACE_DOT_WITH_AT));
+            linkNode.put("droppedAttributesCount", link.getDroppedAttributesCount());
+            return linkNode;
+        }
+
+        protected ObjectNode getInstrumentationLibraryAttributeNode(final InstrumentationLibrary instrumentationLibrary) {
+            final ObjectNode instrumentationAttr = NODE_FACTORY.objectNode();
+            if (!instrumentationLibrary.getName().isEmpty()) {
+                instrumentationAttr.put(INSTRUMENTATION_LIBRARY_NAME, instrumentationLibrary.getName());
+            }
+            if (!instrumentationLibrary.getVersion().isEmpty()) {
+                instrumentationAttr.put(INSTRUMENTATION_LIBRARY_VERSION, instrumentationLibrary.getVersion());
+            }
+            return instrumentationAttr;
+        }
+
+        private ObjectNode convertAttributes(final List<KeyValue> keyValues, final Map<String, String> keyCache,
+                                             final Function<String, String> keyFunction) {
+            final ObjectNode attributes = NODE_FACTORY.objectNode();
+            for (final KeyValue keyValue : keyValues) {
+                attributes.set(convertKey(keyValue.getKey(), keyCache, keyFunction), convertAnyValueToNode(keyValue.getValue()));
+            }
+            return attributes;
+        }
+
+        private String convertKey(final String key, final Map<String, String> keyCache, final Function<String, String> keyFunction) {
+            final String cachedKey = keyCache.get(key);
+            if (cachedKey != null) {
+                return cachedKey;
+            }
+            final String convertedKey = keyFunction.apply(key);
+            if (keyCache.size() < MAX_CACHED_KEYS) {
+                keyCache.put(key, convertedKey);
+            }
+            return convertedKey;
+        }
+
+        /**
+         * Arrays and key-value lists are rare and keep the JSON string conversion of {@link OTelProtoDecoder#convertAnyValue(AnyValue)}.
+         */
+        private JsonNode convertAnyValueToNode(final AnyValue value) {
+            switch (value.getValueCase()) {
+                case VALUE_NOT_SET:
+                case STRING_VALUE:
+                    return NODE_FACTORY.textNode(value.getStringValue());
+                case BOOL_VALUE:
+                    return NODE_FACTORY.booleanNode(value.getBoolValue());
+                case INT_VALUE:
+                    return NODE_FACTORY.numberNode(value.getIntValue());
+                case DOUBLE_VALUE:
+                    return NODE_FACTORY.numberNode(value.getDoubleValue());
+                case ARRAY_VALUE:
+                case KVLIST_VALUE:
+                    return NODE_FACTORY.textNode((String) convertAnyValue(value));
+                default:
+                    throw new OTelDecodingException("Unknown case");
+            }
+        }
+
+        private static String encodeHex(final ByteString bytes) {
+            final int size = bytes.size();
+            final char[] buffer = HEX_BUFFER.get();
+            final char[] hex = buffer.length >= size * 2 ? buffer : new char[size * 2];
+            for (int i = 0; i < size; i++) {
+                final int b = bytes.byteAt(i) & 0xFF;
+                hex[i * 2] = HEX_DIGITS[b >>> 4];
+                hex[i * 2 + 1] = HEX_DIGITS[b & 0x0F];
+            }
+            return new String(hex, 0, size * 2);
+        }
+    }
+
     public static class OTelProtoEncoder {
         protected static final String SERVICE_NAME_ATTRIBUTE = "service@name";
         protected static final String RESOURCE_ATTRIBUTES_PREFIX = RESOURCE_ATTRIBUTES + DOT;
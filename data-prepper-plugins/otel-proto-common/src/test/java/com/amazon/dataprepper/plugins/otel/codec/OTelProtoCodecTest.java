@@ -354,6 +354,157 @@ public class OTelProtoCodecTest {
         }
     }
 
+    @Nested
+    class OTelProtoJsonNodeDecoderTest {
+        private final OTelProtoCodec.OTelProtoJsonNodeDecoder jsonNodeDecoderUnderTest = new OTelProtoCodec.OTelProtoJsonNodeDecoder();
+
+        private void assertSameSpans(final ExportTraceServiceRequest exportTraceServiceRequest) throws JsonProcessingException {
+            final List<Span> expectedSpans = decoderUnderTest.parseExportTraceServiceRequest(exportTraceServiceRequest);
+            final List<Span> actualSpans = jsonNodeDecoderUnderTest.parseExportTraceServiceRequest(exportTraceServiceRequest);
+            assertThat(actualSpans.size(), equalTo(expectedSpans.size()));
+            for (int i = 0; i < expectedSpans.size(); i++) {
+                assertThat(OBJECT_MAPPER.readTree(actualSpans.get(i).toJsonString()),
+                        equalTo(OBJECT_MAPPER.readTree(expectedSpans.get(i).toJsonString())));
+                assertThat(actualSpans.get(i).getMetadata().getEventType(), equalTo(expectedSpans.get(i).getMetadata().getEventType()));
+            }
+        }
+
+        private KeyValue keyValue(final String key, final AnyValue value) {
+            return KeyValue.newBuilder().setKey(key).setValue(value).build();
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_matchesOTelProtoDecoder() throws IOException {
+            assertSameSpans(buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_JSON_FILE));
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_withAllValueTypes_matchesOTelProtoDecoder() throws JsonProcessingException {
+            final AnyValue kvListValue = AnyValue.newBuilder().setKvlistValue(KeyValueList.newBuilder().addAllValues(Arrays.asList(
+                    keyValue("ec2.instances", AnyValue.newBuilder().setIntValue(20).build()),
+                    keyValue("ec2.instance.az", AnyValue.newBuilder().setStringValue("us-east-1").build())))).build();
+            final AnyValue arrayValue = AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder().addAllValues(Arrays.asList(
+                    AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString()).build(),
+                    AnyValue.newBuilder().setDoubleValue(2000.123).build(),
+                    kvListValue))).build();
+            final List<KeyValue> attributes = Arrays.asList(
+                    keyValue("http.status_code", AnyValue.newBuilder().setIntValue(200).build()),
+                    keyValue("http.ratio", AnyValue.newBuilder().setDoubleValue(0.25).build()),
+                    keyValue("http.ok", AnyValue.newBuilder().setBoolValue(true).build()),
+                    keyValue("http.unset", AnyValue.newBuilder().build()),
+                    keyValue("db.details", kvListValue),
+                    keyValue("aws.details", arrayValue));
+
+            final byte[] traceId = getRandomBytes(16);
+            final byte[] rootSpanId = getRandomBytes(8);
+            final io.opentelemetry.proto.trace.v1.Span rootSpan = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(traceId))
+                    .setSpanId(ByteString.copyFrom(rootSpanId))
+                    .setName("GET /orders")
+                    .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                    .setStartTimeUnixNano(1598013600000000321L)
+                    .setEndTimeUnixNano(1598013600500000321L)
+                    .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_ERROR).setMessage("failed"))
+                    .addAllAttributes(attributes)
+                    .setDroppedAttributesCount(3)
+                    .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                            .setName("exception")
+                            .setTimeUnixNano(1598013600200000321L)
+                            .addAllAttributes(attributes)
+                            .setDroppedAttributesCount(1))
+                    .setDroppedEventsCount(2)
+                    .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                            .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                            .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                            .setTraceState("state")
+                            .addAllAttributes(attributes))
+                    .setDroppedLinksCount(4)
+                    .build();
+            final io.opentelemetry.proto.trace.v1.Span childSpan = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(traceId))
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setParentSpanId(ByteString.copyFrom(rootSpanId))
+                    .setName("SELECT orders")
+                    .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_CLIENT)
+                    .setStartTimeUnixNano(1598013600100000321L)
+                    .setEndTimeUnixNano(1598013600300000321L)
+                    .build();
+
+            final ExportTraceServiceRequest withServiceName = ExportTraceServiceRequest.newBuilder()
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .setResource(Resource.newBuilder()
+                                    .addAttributes(keyValue("service.name", AnyValue.newBuilder().setStringValue("orders").build()))
+                                    .addAttributes(keyValue("aws.details", arrayValue)))
+                            .addInstrumentationLibrarySpans(InstrumentationLibrarySpans.newBuilder()
+                                    .setInstrumentationLibrary(InstrumentationLibrary.newBuilder().setName("Jaeger").setVersion("0.6.0"))
+                                    .addAllSpans(Arrays.asList(rootSpan, childSpan)))
+                            .addInstrumentationLibrarySpans(InstrumentationLibrarySpans.newBuilder()
+                                    .addSpans(childSpan)))
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .addInstrumentationLibrarySpans(InstrumentationLibrarySpans.newBuilder()
+                                    .addSpans(rootSpan)))
+                    .build();
+
+            assertSameSpans(withServiceName);
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_withDuplicateAttributeKeys_usesLastValue() {
+            final io.opentelemetry.proto.trace.v1.Span span = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setName("GET /orders")
+                    .setStartTimeUnixNano(1598013600000000321L)
+                    .setEndTimeUnixNano(1598013600500000321L)
+                    .addAttributes(keyValue("http.method", AnyValue.newBuilder().setStringValue("GET").build()))
+                    .addAttributes(keyValue("http.method", AnyValue.newBuilder().setStringValue("POST").build()))
+                    .build();
+            final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .addInstrumentationLibrarySpans(InstrumentationLibrarySpans.newBuilder().addSpans(span)))
+                    .build();
+
+            final List<Span> spans = jsonNodeDecoderUnderTest.parseExportTraceServiceRequest(request);
+
+            assertThat(spans.size(), equalTo(1));
+            assertThat(spans.get(0).getAttributes().get(OTelProtoCodec.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply("http.method")), equalTo("POST"));
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_withInvalidLink_throwsIllegalArgumentException() {
+            final io.opentelemetry.proto.trace.v1.Span span = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setName("GET /orders")
+                    .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                            .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                            .setSpanId(ByteString.copyFrom(getRandomBytes(8))))
+                    .build();
+            final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .addInstrumentationLibrarySpans(InstrumentationLibrarySpans.newBuilder().addSpans(span)))
+                    .build();
+
+            assertThrows(IllegalArgumentException.class, () -> decoderUnderTest.parseExportTraceServiceRequest(request));
+            assertThrows(IllegalArgumentException.class, () -> jsonNodeDecoderUnderTest.parseExportTraceServiceRequest(request));
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_withoutSpanName_throwsIllegalArgumentException() {
+            final io.opentelemetry.proto.trace.v1.Span span = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .build();
+            final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .addInstrumentationLibrarySpans(InstrumentationLibrarySpans.newBuilder().addSpans(span)))
+                    .build();
+
+            assertThrows(IllegalArgumentException.class, () -> decoderUnderTest.parseExportTraceServiceRequest(request));
+            assertThrows(IllegalArgumentException.class, () -> jsonNodeDecoderUnderTest.parseExportTraceServiceRequest(request));
+        }
+    }
+
     @Nested
     class OTelProtoEncoderTest {
         @Test
@@ -10,37 +10,22 @@ import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
-import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
 import com.amazon.dataprepper.model.trace.Span;
-import com.amazon.dataprepper.model.trace.TraceGroupFields;
 import com.amazon.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
 import com.google.common.base.Strings;
 import io.micrometer.core.instrument.Counter;
-import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
-import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
-import org.opensearch.common.document.DocumentField;
-import org.opensearch.index.query.QueryBuilders;
-import org.opensearch.search.SearchHit;
-import org.opensearch.search.builder.SearchSourceBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.time.Instant;
-import java.util.AbstractMap;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 @DataPrepperPlugin(name = "otel_trace_group", pluginType = Processor.class)
 public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Record<Span>> {
@@ -53,6 +38,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
 
     private final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig;
     private final RestHighLevelClient restHighLevelClient;
+    private final TraceGroupLookup traceGroupLookup;
 
     private final Counter recordsInMissingTraceGroupCounter;
     private final Counter recordsOutFixedTraceGroupCounter;
@@ -62,6 +48,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         super(pluginSetting);
         otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(pluginSetting);
         restHighLevelClient = otelTraceGroupProcessorConfig.getEsConnectionConfig().createClient();
+        traceGroupLookup = new TraceGroupLookup(restHighLevelClient, otelTraceGroupProcessorConfig, pluginMetrics);
 
         recordsInMissingTraceGroupCounter = pluginMetrics.counter(RECORDS_IN_MISSING_TRACE_GROUP);
         recordsOutFixedTraceGroupCounter = pluginMetrics.counter(RECORDS_OUT_FIXED_TRACE_GROUP);
@@ -86,7 +73,8 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
             }
         }
 
-        final Map<String, TraceGroup> traceIdToTraceGroup = searchTraceGroupByTraceIds(traceIdsToLookUp);
+        final Map<String, TraceGroup> traceIdToTraceGroup = traceIdsToLookUp.isEmpty() ?
+                Collections.emptyMap() : traceGroupLookup.lookUp(traceIdsToLookUp);
         for (final Record<Span> record: recordsMissingTraceGroupInfo) {
             final Span span = record.getData();
             final String traceId = span.getTraceId();
@@ -117,78 +105,6 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
     }
 
-    private Map<String, TraceGroup> searchTraceGroupByTraceIds(final Collection<String> traceIds) {
-        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
-        final SearchRequest searchRequest = createSearchRequest(traceIds);
-
-        try {
-            final SearchResponse searchResponse = restHighLevelClient.search(searchRequest, RequestOptions.DEFAULT);
-            final SearchHit[] searchHits = searchResponse.getHits().getHits();
-            Arrays.asList(searchHits).forEach(searchHit -> {
-                final Optional<Map.Entry<String, TraceGroup>> optionalStringTraceGroupEntry = fromSearchHitToMapEntry(searchHit);
-                optionalStringTraceGroupEntry.ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
-            });
-        } catch (Exception e) {
-            // TODO: retry for status code 429 of OpenSearchException?
-            LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
-        }
-
-        return traceIdToTraceGroup;
-    }
-
-    private SearchRequest createSearchRequest(final Collection<String> traceIds) {
-        final SearchRequest searchRequest = new SearchRequest(OTelTraceGroupProcessorConfig.RAW_INDEX_ALIAS);
-        final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-        searchSourceBuilder.query(
-                QueryBuilders.boolQuery()
-                        .must(QueryBuilders.termsQuery(OTelTraceGroupProcessorConfig.TRACE_ID_FIELD, traceIds))
-                        .must(QueryBuilders.termQuery(OTelTraceGroupProcessorConfig.PARENT_SPAN_ID_FIELD, ""))
-        );
-        searchSourceBuilder.docValueField(OTelTraceGroupProcessorConfig.TRACE_ID_FIELD);
-        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_NAME_FIELD);
-        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_END_TIME_FIELD, OTelTraceGroupProcessorConfig.STRICT_DATE_TIME);
-        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD);
-        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD);
-        searchSourceBuilder.fetchSource(false);
-        searchRequest.source(searchSourceBuilder);
-
-        return searchRequest;
-    }
-
-    private Optional<Map.Entry<String, TraceGroup>> fromSearchHitToMapEntry(final SearchHit searchHit) {
-        final DocumentField traceIdDocField = searchHit.field(OTelTraceGroupProcessorConfig.TRACE_ID_FIELD);
-        final DocumentField traceGroupNameDocField = searchHit.field(TraceGroup.TRACE_GROUP_NAME_FIELD);
-        final DocumentField traceGroupEndTimeDocField = searchHit.field(TraceGroup.TRACE_GROUP_END_TIME_FIELD);
-        final DocumentField traceGroupDurationInNanosDocField = searchHit.field(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD);
-        final DocumentField traceGroupStatusCodeDocField = searchHit.field(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD);
-        if (Stream.of(traceIdDocField, traceGroupNameDocField, traceGroupEndTimeDocField, traceGroupDurationInNanosDocField,
-                traceGroupStatusCodeDocField).allMatch(Objects::nonNull)) {
-            final String traceId = traceIdDocField.getValue();
-            final String traceGroupName = traceGroupNameDocField.getValue();
-            final String traceGroupEndTime = normalizeDateTime(traceGroupEndTimeDocField.getValue());
-            final Number traceGroupDurationInNanos = traceGroupDurationInNanosDocField.getValue();
-            final Number traceGroupStatusCode = traceGroupStatusCodeDocField.getValue();
-            final TraceGroupFields traceGroupFields = DefaultTraceGroupFields.builder()
-                    .withEndTime(traceGroupEndTime)
-                    .withDurationInNanos(traceGroupDurationInNanos.longValue())
-                    .withStatusCode(traceGroupStatusCode.intValue())
-                    .build();
-            final TraceGroup traceGroup = new TraceGroup.TraceGroupBuilder()
-                    .setTraceGroup(traceGroupName)
-                    .setTraceGroupFields(traceGroupFields)
-                    .build();
-            return Optional.of(new AbstractMap.SimpleEntry<>(traceId, traceGroup));
-        }
-        return Optional.empty();
-    }
-
-    /**
-     * Restores trailing zeros for thousand, e.g. 2020-08-20T05:40:46.0895568Z -> 2020-08-20T05:40:46.089556800Z
-     */
-    private String normalizeDateTime(String dateTimeString) {
-        return Instant.parse(dateTimeString).toString();
-    }
-
     @Override
     public void prepareForShutdown() {
 
@@ -201,6 +117,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
 
     @Override
     public void shutdown() {
+        traceGroupLookup.shutdown();
         try {
             restHighLevelClient.close();
         } catch (IOException e) {
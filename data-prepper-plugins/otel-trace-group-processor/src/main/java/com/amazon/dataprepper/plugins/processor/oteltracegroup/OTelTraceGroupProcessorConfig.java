@@ -17,18 +17,85 @@ public class OTelTraceGroupProcessorConfig {
     protected static final String RAW_INDEX_ALIAS = IndexConstants.TYPE_TO_DEFAULT_ALIAS.get(IndexType.TRACE_ANALYTICS_RAW);
     protected static final String STRICT_DATE_TIME = "strict_date_time";
 
+    static final String CACHE_MAX_SIZE = "cache_max_size";
+    static final int DEFAULT_CACHE_MAX_SIZE = 100_000;
+    static final String CACHE_TTL = "cache_ttl";
+    static final int DEFAULT_CACHE_TTL = 300;
+    static final String NEGATIVE_CACHE_TTL = "negative_cache_ttl";
+    static final int DEFAULT_NEGATIVE_CACHE_TTL = 10;
+    static final String LOOKUP_INTERVAL_MILLIS = "lookup_interval_millis";
+    static final int DEFAULT_LOOKUP_INTERVAL_MILLIS = 50;
+    static final String LOOKUP_WAIT_MILLIS = "lookup_wait_millis";
+    static final int DEFAULT_LOOKUP_WAIT_MILLIS = 1_000;
+
     private final ConnectionConfiguration esConnectionConfig;
+    private final int cacheMaxSize;
+    private final int cacheTtl;
+    private final int negativeCacheTtl;
+    private final int lookupIntervalMillis;
+    private final int lookupWaitMillis;
 
     public ConnectionConfiguration getEsConnectionConfig() {
         return esConnectionConfig;
     }
 
-    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig) {
+    /**
+     * @return Maximum number of trace ids whose trace group is cached
+     */
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    /**
+     * @return Time in seconds for which a found trace group is cached
+     */
+    public int getCacheTtl() {
+        return cacheTtl;
+    }
+
+    /**
+     * @return Time in seconds for which a trace id without a trace group is cached
+     */
+    public int getNegativeCacheTtl() {
+        return negativeCacheTtl;
+    }
+
+    /**
+     * @return Interval in milliseconds over which trace id lookups are coalesced into a single search request
+     */
+    public int getLookupIntervalMillis() {
+        return lookupIntervalMillis;
+    }
+
+    /**
+     * @return Maximum time in milliseconds a batch waits for its trace group lookups
+     */
+    public int getLookupWaitMillis() {
+        return lookupWaitMillis;
+    }
+
+    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig,
+                                          final int cacheMaxSize,
+                                          final int cacheTtl,
+                                          final int negativeCacheTtl,
+                                          final int lookupIntervalMillis,
+                                          final int lookupWaitMillis) {
         this.esConnectionConfig = esConnectionConfig;
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheTtl = cacheTtl;
+        this.negativeCacheTtl = negativeCacheTtl;
+        this.lookupIntervalMillis = lookupIntervalMillis;
+        this.lookupWaitMillis = lookupWaitMillis;
     }
 
     public static OTelTraceGroupProcessorConfig buildConfig(final PluginSetting pluginSetting) {
         final ConnectionConfiguration esConnectionConfig = ConnectionConfiguration.readConnectionConfiguration(pluginSetting);
-        return new OTelTraceGroupProcessorConfig(esConnectionConfig);
+        return new OTelTraceGroupProcessorConfig(
+                esConnectionConfig,
+                pluginSetting.getIntegerOrDefault(CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE),
+                pluginSetting.getIntegerOrDefault(CACHE_TTL, DEFAULT_CACHE_TTL),
+                pluginSetting.getIntegerOrDefault(NEGATIVE_CACHE_TTL, DEFAULT_NEGATIVE_CACHE_TTL),
+                pluginSetting.getIntegerOrDefault(LOOKUP_INTERVAL_MILLIS, DEFAULT_LOOKUP_INTERVAL_MILLIS),
+                pluginSetting.getIntegerOrDefault(LOOKUP_WAIT_MILLIS, DEFAULT_LOOKUP_WAIT_MILLIS));
     }
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.oteltracegroup;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
+import com.amazon.dataprepper.model.trace.TraceGroupFields;
+import com.amazon.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Looks up trace groups by trace id on behalf of all process workers. Results are cached, including trace ids for
+ * which no trace group was found. Trace ids which are not cached are queued and searched together in a single terms
+ * query per lookup interval on a dedicated thread, while the requesting workers wait for up to the configured time.
+ * Searches rejected with status code 429 are retried in the following lookup intervals.
+ */
+class TraceGroupLookup {
+    static final String TRACE_GROUP_CACHE_HITS = "traceGroupCacheHits";
+    static final String TRACE_GROUP_CACHE_MISSES = "traceGroupCacheMisses";
+    static final String TRACE_GROUP_SEARCH_REQUESTS = "traceGroupSearchRequests";
+    static final String TRACE_GROUP_LOOKUP_TIMEOUTS = "traceGroupLookupTimeouts";
+    static final int MAX_SEARCH_RETRIES = 3;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TraceGroupLookup.class);
+    /**
+     * Matches the default index.max_result_window so that every root span in a single search can be returned.
+     */
+    private static final int MAX_TRACE_IDS_PER_SEARCH = 10_000;
+
+    private final RestHighLevelClient restHighLevelClient;
+    private final Cache<String, TraceGroup> traceGroupCache;
+    private final Cache<String, Boolean> missingTraceGroupCache;
+    private final ConcurrentMap<String, CompletableFuture<Optional<TraceGroup>>> pendingLookups = new ConcurrentHashMap<>();
+    private final Queue<String> traceIdsToSearch = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService searchExecutorService;
+    /**
+     * Number of times the search for each trace id was retried. Only used on the search thread.
+     */
+    private final Map<String, Integer> traceIdToSearchRetries = new HashMap<>();
+    private final long lookupWaitMillis;
+
+    private final Counter cacheHitsCounter;
+    private final Counter cacheMissesCounter;
+    private final Counter searchRequestsCounter;
+    private final Counter lookupTimeoutsCounter;
+
+    TraceGroupLookup(final RestHighLevelClient restHighLevelClient,
+                     final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig,
+                     final PluginMetrics pluginMetrics) {
+        this.restHighLevelClient = restHighLevelClient;
+        this.lookupWaitMillis = otelTraceGroupProcessorConfig.getLookupWaitMillis();
+        traceGroupCache = CacheBuilder.newBuilder()
+                .maximumSize(otelTraceGroupProcessorConfig.getCacheMaxSize())
+                .expireAfterWrite(otelTraceGroupProcessorConfig.getCacheTtl(), TimeUnit.SECONDS)
+                .build();
+        missingTraceGroupCache = CacheBuilder.newBuilder()
+                .maximumSize(otelTraceGroupProcessorConfig.getCacheMaxSize())
+                .expireAfterWrite(otelTraceGroupProcessorConfig.getNegativeCacheTtl(), TimeUnit.SECONDS)
+                .build();
+
+        cacheHitsCounter = pluginMetrics.counter(TRACE_GROUP_CACHE_HITS);
+        cacheMissesCounter = pluginMetrics.counter(TRACE_GROUP_CACHE_MISSES);
+        searchRequestsCounter = pluginMetrics.counter(TRACE_GROUP_SEARCH_REQUESTS);
+        lookupTimeoutsCounter = pluginMetrics.counter(TRACE_GROUP_LOOKUP_TIMEOUTS);
+
+        final long lookupIntervalMillis = otelTraceGroupProcessorConfig.getLookupIntervalMillis();
+        searchExecutorService = Executors.newSingleThreadScheduledExecutor();
+        searchExecutorService.scheduleWithFixedDelay(
+                this::searchPendingTraceIds, lookupIntervalMillis, lookupIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Finds the trace groups for the given trace ids, waiting at most the configured lookup wait time for trace ids
+     * which are not cached.
+     *
+     * @param traceIds The trace ids to look up
+     * @return Map of trace id to trace group for each trace id whose trace group was found
+     */
+    Map<String, TraceGroup> lookUp(final Collection<String> traceIds) {
+        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
+        final Map<String, CompletableFuture<Optional<TraceGroup>>> traceIdToPendingLookup = new HashMap<>();
+        for (final String traceId : traceIds) {
+            final TraceGroup cachedTraceGroup = traceGroupCache.getIfPresent(traceId);
+            if (cachedTraceGroup != null) {
+                cacheHitsCounter.increment();
+                traceIdToTraceGroup.put(traceId, cachedTraceGroup);
+            } else if (missingTraceGroupCache.getIfPresent(traceId) != null) {
+                cacheHitsCounter.increment();
+            } else {
+                cacheMissesCounter.increment();
+                traceIdToPendingLookup.put(traceId, pendingLookups.computeIfAbsent(traceId, this::enqueueLookup));
+            }
+        }
+
+        if (!traceIdToPendingLookup.isEmpty()) {
+            awaitLookups(traceIdToPendingLookup.values());
+            traceIdToPendingLookup.forEach((traceId, pendingLookup) -> pendingLookup.getNow(Optional.empty())
+                    .ifPresent(traceGroup -> traceIdToTraceGroup.put(traceId, traceGroup)));
+        }
+
+        return traceIdToTraceGroup;
+    }
+
+    void shutdown() {
+        searchExecutorService.shutdownNow();
+    }
+
+    private CompletableFuture<Optional<TraceGroup>> enqueueLookup(final String traceId) {
+        traceIdsToSearch.add(traceId);
+        return new CompletableFuture<>();
+    }
+
+    private void awaitLookups(final Collection<CompletableFuture<Optional<TraceGroup>>> lookups) {
+        try {
+            CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).get(lookupWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            lookupTimeoutsCounter.increment();
+            LOG.warn("Trace group lookups did not complete within {} ms", lookupWaitMillis);
+        } catch (final ExecutionException e) {
+            LOG.error("Trace group lookups failed", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void searchPendingTraceIds() {
+        final List<String> traceIdsToRetry = new ArrayList<>();
+        try {
+            while (!traceIdsToSearch.isEmpty()) {
+                final Set<String> traceIds = new HashSet<>();
+                String traceId;
+                while (traceIds.size() < MAX_TRACE_IDS_PER_SEARCH && (traceId = traceIdsToSearch.poll()) != null) {
+                    traceIds.add(traceId);
+                }
+                searchAndCompleteLookups(traceIds, traceIdsToRetry);
+            }
+        } catch (final Exception e) {
+            LOG.error("Unexpected exception while searching for trace groups", e);
+        } finally {
+            traceIdsToSearch.addAll(traceIdsToRetry);
+        }
+    }
+
+    private void searchAndCompleteLookups(final Set<String> traceIds, final List<String> traceIdsToRetry) {
+        final Map<String, TraceGroup> traceIdToTraceGroup;
+        try {
+            traceIdToTraceGroup = searchTraceGroupByTraceIds(traceIds);
+        } catch (final Exception e) {
+            if (isTooManyRequests(e)) {
+                LOG.warn("Search request for traceGroup was throttled for traceIds: {}", traceIds);
+                traceIds.forEach(traceId -> retryOrFailLookup(traceId, traceIdsToRetry));
+            } else {
+                LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
+                traceIds.forEach(traceId -> completeLookup(traceId, null));
+            }
+            return;
+        }
+
+        for (final String traceId : traceIds) {
+            final TraceGroup traceGroup = traceIdToTraceGroup.get(traceId);
+            if (traceGroup != null) {
+                traceGroupCache.put(traceId, traceGroup);
+            } else {
+                missingTraceGroupCache.put(traceId, Boolean.TRUE);
+            }
+            completeLookup(traceId, traceGroup);
+        }
+    }
+
+    private static boolean isTooManyRequests(final Exception e) {
+        return e instanceof OpenSearchException && ((OpenSearchException) e).status() == RestStatus.TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * Searches for the trace id again in the next lookup interval, unless it was already retried the maximum times.
+     */
+    private void retryOrFailLookup(final String traceId, final List<String> traceIdsToRetry) {
+        if (traceIdToSearchRetries.merge(traceId, 1, Integer::sum) <= MAX_SEARCH_RETRIES) {
+            traceIdsToRetry.add(traceId);
+        } else {
+            completeLookup(traceId, null);
+        }
+    }
+
+    private void completeLookup(final String traceId, final TraceGroup traceGroup) {
+        if (!traceIdToSearchRetries.isEmpty()) {
+            traceIdToSearchRetries.remove(traceId);
+        }
+        final CompletableFuture<Optional<TraceGroup>> pendingLookup = pendingLookups.remove(traceId);
+        if (pendingLookup != null) {
+            pendingLookup.complete(Optional.ofNullable(traceGroup));
+        }
+    }
+
+    private Map<String, TraceGroup> searchTraceGroupByTraceIds(final Collection<String> traceIds) throws IOException {
+        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
+        final SearchRequest searchRequest = createSearchRequest(traceIds);
+
+        searchRequestsCounter.increment();
+        final SearchResponse searchResponse = restHighLevelClient.search(searchRequest, RequestOptions.DEFAULT);
+        for (final SearchHit searchHit : searchResponse.getHits().getHits()) {
+            fromSearchHitToMapEntry(searchHit).ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
+        }
+
+        return traceIdToTraceGroup;
+    }
+
+    private SearchRequest createSearchRequest(final Collection<String> traceIds) {
+        final SearchRequest searchRequest = new SearchRequest(OTelTraceGroupProcessorConfig.RAW_INDEX_ALIAS);
+        final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.query(
+                QueryBuilders.boolQuery()
+                        .must(QueryBuilders.termsQuery(OTelTraceGroupProcessorConfig.TRACE_ID_FIELD, traceIds))
+                        .must(QueryBuilders.termQuery(OTelTraceGroupProcessorConfig.PARENT_SPAN_ID_FIELD, ""))
+        );
+        searchSourceBuilder.docValueField(OTelTraceGroupProcessorConfig.TRACE_ID_FIELD);
+        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_NAME_FIELD);
+        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_END_TIME_FIELD, OTelTraceGroupProcessorConfig.STRICT_DATE_TIME);
+        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD);
+        searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD);
+        searchSourceBuilder.fetchSource(false);
+        searchSourceBuilder.size(traceIds.size());
+        searchRequest.source(searchSourceBuilder);
+
+        return searchRequest;
+    }
+
+    private Optional<Map.Entry<String, TraceGroup>> fromSearchHitToMapEntry(final SearchHit searchHit) {
+        final DocumentField traceIdDocField = searchHit.field(OTelTraceGroupProcessorConfig.TRACE_ID_FIELD);
+        final DocumentField traceGroupNameDocField = searchHit.field(TraceGroup.TRACE_GROUP_NAME_FIELD);
+        final DocumentField traceGroupEndTimeDocField = searchHit.field(TraceGroup.TRACE_GROUP_END_TIME_FIELD);
+        final DocumentField traceGroupDurationInNanosDocField = searchHit.field(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD);
+        final DocumentField traceGroupStatusCodeDocField = searchHit.field(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD);
+        if (Stream.of(traceIdDocField, traceGroupNameDocField, traceGroupEndTimeDocField, traceGroupDurationInNanosDocField,
+                traceGroupStatusCodeDocField).allMatch(Objects::nonNull)) {
+            final String traceId = traceIdDocField.getValue();
+            final String traceGroupName = traceGroupNameDocField.getValue();
+            final String traceGroupEndTime = normalizeDateTime(traceGroupEndTimeDocField.getValue());
+            final Number traceGroupDurationInNanos = traceGroupDurationInNanosDocField.getValue();
+            final Number traceGroupStatusCode = traceGroupStatusCodeDocField.getValue();
+            final TraceGroupFields traceGroupFields = DefaultTraceGroupFields.builder()
+                    .withEndTime(traceGroupEndTime)
+                    .withDurationInNanos(traceGroupDurationInNanos.longValue())
+                    .withStatusCode(traceGroupStatusCode.intValue())
+                    .build();
+            final TraceGroup traceGroup = new TraceGroup.TraceGroupBuilder()
+                    .setTraceGroup(traceGroupName)
+                    .setTraceGroupFields(traceGroupFields)
+                    .build();
+            return Optional.of(new AbstractMap.SimpleEntry<>(traceId, traceGroup));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Restores trailing zeros for thousand, e.g. 2020-08-20T05:40:46.0895568Z -> 2020-08-20T05:40:46.089556800Z
+     */
+    private String normalizeDateTime(String dateTimeString) {
+        return Instant.parse(dateTimeString).toString();
+    }
+}
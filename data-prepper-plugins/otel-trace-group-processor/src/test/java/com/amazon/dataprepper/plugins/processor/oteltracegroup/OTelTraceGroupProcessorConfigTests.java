@@ -15,6 +15,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +34,32 @@ public class OTelTraceGroupProcessorConfigTests {
             PluginSetting testPluginSetting = new PluginSetting("otel_trace_group", new HashMap<>());
             OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(testPluginSetting);
             assertEquals(connectionConfigurationMock, otelTraceGroupProcessorConfig.getEsConnectionConfig());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_CACHE_MAX_SIZE, otelTraceGroupProcessorConfig.getCacheMaxSize());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_CACHE_TTL, otelTraceGroupProcessorConfig.getCacheTtl());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_NEGATIVE_CACHE_TTL, otelTraceGroupProcessorConfig.getNegativeCacheTtl());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_LOOKUP_INTERVAL_MILLIS, otelTraceGroupProcessorConfig.getLookupIntervalMillis());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_LOOKUP_WAIT_MILLIS, otelTraceGroupProcessorConfig.getLookupWaitMillis());
+        }
+    }
+
+    @Test
+    public void testInitializeWithLookupSettings() {
+        try (MockedStatic<ConnectionConfiguration> connectionConfigurationMockedStatic = Mockito.mockStatic(ConnectionConfiguration.class)) {
+            connectionConfigurationMockedStatic.when(() -> ConnectionConfiguration.readConnectionConfiguration(any(PluginSetting.class)))
+                    .thenReturn(connectionConfigurationMock);
+            final Map<String, Object> settings = new HashMap<>();
+            settings.put(OTelTraceGroupProcessorConfig.CACHE_MAX_SIZE, 10);
+            settings.put(OTelTraceGroupProcessorConfig.CACHE_TTL, 20);
+            settings.put(OTelTraceGroupProcessorConfig.NEGATIVE_CACHE_TTL, 30);
+            settings.put(OTelTraceGroupProcessorConfig.LOOKUP_INTERVAL_MILLIS, 40);
+            settings.put(OTelTraceGroupProcessorConfig.LOOKUP_WAIT_MILLIS, 50);
+            PluginSetting testPluginSetting = new PluginSetting("otel_trace_group", settings);
+            OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(testPluginSetting);
+            assertEquals(10, otelTraceGroupProcessorConfig.getCacheMaxSize());
+            assertEquals(20, otelTraceGroupProcessorConfig.getCacheTtl());
+            assertEquals(30, otelTraceGroupProcessorConfig.getNegativeCacheTtl());
+            assertEquals(40, otelTraceGroupProcessorConfig.getLookupIntervalMillis());
+            assertEquals(50, otelTraceGroupProcessorConfig.getLookupWaitMillis());
         }
     }
 }
@@ -18,11 +18,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Measurement;
 import org.opensearch.OpenSearchException;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.junit.After;
@@ -230,6 +232,92 @@ public class OTelTraceGroupProcessorTests {
         checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 1.0);
     }
 
+    @Test
+    public void testTraceGroupFillUsesCachedTraceGroup() throws IOException {
+        // Arrange
+        List<Record<Span>> firstRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+        List<Record<Span>> secondRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+
+        // Act
+        otelTraceGroupProcessor.doExecute(firstRecords);
+        List<Record<Span>> recordsOut = (List<Record<Span>>) otelTraceGroupProcessor.doExecute(secondRecords);
+
+        // Assert
+        assertEquals(1, recordsOut.size());
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(recordsOut.get(0)));
+        verify(restHighLevelClient, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_FIXED_TRACE_GROUP, 2.0);
+        checkMeasurementValue(TraceGroupLookup.TRACE_GROUP_CACHE_HITS, 1.0);
+        checkMeasurementValue(TraceGroupLookup.TRACE_GROUP_CACHE_MISSES, 1.0);
+    }
+
+    @Test
+    public void testTraceGroupFillUsesCachedMissingTraceGroup() throws IOException {
+        // Arrange
+        when(testSearchHits.getHits()).thenReturn(new SearchHit[] {});
+        List<Record<Span>> firstRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+        List<Record<Span>> secondRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+
+        // Act
+        otelTraceGroupProcessor.doExecute(firstRecords);
+        otelTraceGroupProcessor.doExecute(secondRecords);
+
+        // Assert
+        verify(restHighLevelClient, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 2.0);
+        checkMeasurementValue(TraceGroupLookup.TRACE_GROUP_CACHE_HITS, 1.0);
+    }
+
+    @Test
+    public void testTraceGroupFillSuccessAfterThrottledRequest() throws IOException {
+        // Arrange
+        List<Record<Span>> testRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+        when(restHighLevelClient.search(any(SearchRequest.class), any(RequestOptions.class)))
+                .thenThrow(new OpenSearchStatusException("Too many requests", RestStatus.TOO_MANY_REQUESTS))
+                .thenReturn(testSearchResponse);
+
+        // Act
+        List<Record<Span>> recordsOut = (List<Record<Span>>) otelTraceGroupProcessor.doExecute(testRecords);
+
+        // Assert
+        verify(restHighLevelClient, times(2)).search(any(SearchRequest.class), any(RequestOptions.class));
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(recordsOut.get(0)));
+        checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_FIXED_TRACE_GROUP, 1.0);
+    }
+
+    @Test
+    public void testTraceGroupFillFailsAfterMaxSearchRetriesOfThrottledRequest() throws IOException {
+        // Arrange
+        List<Record<Span>> testRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+        when(restHighLevelClient.search(any(SearchRequest.class), any(RequestOptions.class)))
+                .thenThrow(new OpenSearchStatusException("Too many requests", RestStatus.TOO_MANY_REQUESTS));
+
+        // Act
+        otelTraceGroupProcessor.doExecute(testRecords);
+
+        // Assert
+        verify(restHighLevelClient, times(TraceGroupLookup.MAX_SEARCH_RETRIES + 1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 1.0);
+        checkMeasurementValue(TraceGroupLookup.TRACE_GROUP_LOOKUP_TIMEOUTS, 0.0);
+    }
+
+    @Test
+    public void testTraceGroupFillDoesNotCacheFailedRequest() throws IOException {
+        // Arrange
+        when(restHighLevelClient.search(any(SearchRequest.class), any(RequestOptions.class)))
+                .thenThrow(new OpenSearchException("Failure due to search request"));
+        List<Record<Span>> firstRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+        List<Record<Span>> secondRecords = Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1));
+
+        // Act
+        otelTraceGroupProcessor.doExecute(firstRecords);
+        otelTraceGroupProcessor.doExecute(secondRecords);
+
+        // Assert
+        verify(restHighLevelClient, times(2)).search(any(SearchRequest.class), any(RequestOptions.class));
+        checkMeasurementValue(TraceGroupLookup.TRACE_GROUP_CACHE_MISSES, 2.0);
+    }
+
     @Test
     public void testTraceGroupFieldAlreadyPopulated() throws IOException {
         // Arrange
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.source.oteltrace;
 
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
@@ -20,11 +21,18 @@ import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
+import io.opentelemetry.proto.trace.v1.InstrumentationLibrarySpans;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
@@ -39,11 +47,18 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
     public static final String SUCCESS_REQUESTS = "successRequests";
     public static final String PAYLOAD_SIZE = "payloadSize";
     public static final String REQUEST_PROCESS_DURATION = "requestProcessDuration";
+    public static final String REQUEST_DECODE_DURATION = "requestDecodeDuration";
+    public static final String SPANS_PER_REQUEST = "spansPerRequest";
+    public static final String REQUESTS_REJECTED = "requestsRejected";
 
     private final int bufferWriteTimeoutInMillis;
     private final RecordType recordType;
     private final OTelProtoCodec.OTelProtoDecoder oTelProtoDecoder;
     private final Buffer<Record<Object>> buffer;
+    private final ExecutorService decodeExecutorService;
+    private final int decodeThreadCount;
+    private final int parallelDecodeMinSpans;
+    private final AdmissionController admissionController;
 
     private final Counter requestTimeoutCounter;
     private final Counter requestsReceivedCounter;
@@ -51,8 +66,11 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
     private final Counter badRequestsCounter;
     private final Counter requestsTooLargeCounter;
     private final Counter internalServerErrorCounter;
+    private final Counter requestsRejectedCounter;
     private final DistributionSummary payloadSizeSummary;
     private final Timer requestProcessDuration;
+    private final Timer requestDecodeDuration;
+    private final DistributionSummary spansPerRequestSummary;
 
 
     public OTelTraceGrpcService(int bufferWriteTimeoutInMillis,
@@ -60,10 +78,34 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
                                 final OTelProtoCodec.OTelProtoDecoder oTelProtoDecoder,
                                 final Buffer<Record<Object>> buffer,
                                 final PluginMetrics pluginMetrics) {
+        this(bufferWriteTimeoutInMillis, recordType, oTelProtoDecoder, buffer, pluginMetrics, null, 0, 0,
+                new AdmissionController(buffer, false, 0, 0));
+    }
+
+    /**
+     * @param decodeExecutorService Executor used to decode large requests in parallel, or null to always decode
+     *                              requests on the thread which received them
+     * @param decodeThreadCount Number of threads of the decode executor
+     * @param parallelDecodeMinSpans Minimum number of spans in a request for it to be decoded in parallel
+     * @param admissionController Decides whether a request is admitted before it is decoded
+     */
+    public OTelTraceGrpcService(int bufferWriteTimeoutInMillis,
+                                final RecordType recordType,
+                                final OTelProtoCodec.OTelProtoDecoder oTelProtoDecoder,
+                                final Buffer<Record<Object>> buffer,
+                                final PluginMetrics pluginMetrics,
+                                final ExecutorService decodeExecutorService,
+                                final int decodeThreadCount,
+                                final int parallelDecodeMinSpans,
+                                final AdmissionController admissionController) {
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
         this.recordType = recordType;
         this.buffer = buffer;
         this.oTelProtoDecoder = oTelProtoDecoder;
+        this.decodeExecutorService = decodeExecutorService;
+        this.decodeThreadCount = decodeThreadCount;
+        this.parallelDecodeMinSpans = parallelDecodeMinSpans;
+        this.admissionController = admissionController;
 
         requestTimeoutCounter = pluginMetrics.counter(REQUEST_TIMEOUTS);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
@@ -71,8 +113,11 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
         requestsTooLargeCounter = pluginMetrics.counter(REQUESTS_TOO_LARGE);
         internalServerErrorCounter = pluginMetrics.counter(INTERNAL_SERVER_ERROR);
         successRequestsCounter = pluginMetrics.counter(SUCCESS_REQUESTS);
+        requestsRejectedCounter = pluginMetrics.counter(REQUESTS_REJECTED);
         payloadSizeSummary = pluginMetrics.summary(PAYLOAD_SIZE);
         requestProcessDuration = pluginMetrics.timer(REQUEST_PROCESS_DURATION);
+        requestDecodeDuration = pluginMetrics.timer(REQUEST_DECODE_DURATION);
+        spansPerRequestSummary = pluginMetrics.summary(SPANS_PER_REQUEST);
     }
 
 
@@ -97,8 +142,19 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
             return;
         }
 
-        try {
-            buffer.write(new Record<>(request), bufferWriteTimeoutInMillis);
+        try (final AdmissionController.Admission admission = admissionController.tryAdmit(request.getSerializedSize(), 1)) {
+            if (!admission.isAdmitted()) {
+                reject(admission, responseObserver);
+                return;
+            }
+            final long bufferWriteStartNanos = System.nanoTime();
+            try {
+                buffer.write(new Record<>(request), bufferWriteTimeoutInMillis);
+                admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, false, 1);
+            } catch (TimeoutException e) {
+                admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, true, 1);
+                throw e;
+            }
             responseObserver.onNext(ExportTraceServiceResponse.newBuilder().build());
             responseObserver.onCompleted();
         } catch (TimeoutException e) {
@@ -121,27 +177,62 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
             return;
         }
 
+        final int spanCount = countSpans(request);
+        try (final AdmissionController.Admission admission = admissionController.tryAdmit(request.getSerializedSize(), spanCount)) {
+            if (!admission.isAdmitted()) {
+                reject(admission, responseObserver);
+                return;
+            }
+            decodeAndWrite(request, spanCount, admission, responseObserver);
+        }
+    }
+
+    private void reject(final AdmissionController.Admission admission, final StreamObserver<ExportTraceServiceResponse> responseObserver) {
+        LOG.warn("Rejected request before decoding: {}", admission.getRejectionReason());
+        if (admission.isTooLarge()) {
+            requestsTooLargeCounter.increment();
+            responseObserver.onError(Status.RESOURCE_EXHAUSTED.withDescription(admission.getRejectionReason()).asException());
+            return;
+        }
+        requestsRejectedCounter.increment();
+        responseObserver.onError(admissionController.createRejectionException(admission));
+    }
+
+    private void decodeAndWrite(final ExportTraceServiceRequest request, final int spanCount,
+                                final AdmissionController.Admission admission,
+                                final StreamObserver<ExportTraceServiceResponse> responseObserver) {
         Collection<Span> spans;
 
+        final long decodeStartTime = System.nanoTime();
         try {
-            spans = oTelProtoDecoder.parseExportTraceServiceRequest(request);
+            spans = decode(request, spanCount);
+        } catch (final InterruptedException e) {
+            handleInterrupt(e, responseObserver);
+            return;
         } catch (Exception e) {
             LOG.error("Failed to parse the request content [{}] due to:", request, e);
             badRequestsCounter.increment();
             responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asException());
             return;
         }
+        requestDecodeDuration.record(System.nanoTime() - decodeStartTime, TimeUnit.NANOSECONDS);
+        spansPerRequestSummary.record(spans.size());
 
         final List<Record<Object>> records = spans.stream().map(span -> new Record<Object>(span)).collect(Collectors.toList());
 
+        final long bufferWriteStartNanos = System.nanoTime();
         try {
             buffer.writeAll(records, bufferWriteTimeoutInMillis);
+            admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, false, records.size());
             successRequestsCounter.increment();
             responseObserver.onNext(ExportTraceServiceResponse.newBuilder().build());
             responseObserver.onCompleted();
+        } catch (final InterruptedException e) {
+            handleInterrupt(e, responseObserver);
         } catch (Exception e) {
             LOG.error("Failed to write the request content [{}] due to:", request, e);
             if (e instanceof TimeoutException) {
+                admission.recordBufferWrite(System.nanoTime() - bufferWriteStartNanos, true, records.size());
                 requestTimeoutCounter.increment();
                 responseObserver
                         .onError(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage())
@@ -159,4 +250,78 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
             }
         }
     }
+
+    /**
+     * Restores the interrupt status of the thread and fails the request as unavailable. Being interrupted is not a
+     * problem with the request, so it is not counted as a bad request.
+     */
+    private void handleInterrupt(final InterruptedException e, final StreamObserver<ExportTraceServiceResponse> responseObserver) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while processing the request");
+        responseObserver.onError(Status.UNAVAILABLE.withDescription("Interrupted while processing the request").withCause(e).asException());
+    }
+
+    private List<Span> decode(final ExportTraceServiceRequest request, final int spanCount) throws Exception {
+        if (decodeExecutorService == null || request.getResourceSpansCount() < 2 || spanCount < parallelDecodeMinSpans) {
+            return oTelProtoDecoder.parseExportTraceServiceRequest(request);
+        }
+
+        final List<ExportTraceServiceRequest> partitions = partitionByResourceSpans(request, spanCount);
+        final List<Future<List<Span>>> futures = new ArrayList<>(partitions.size() - 1);
+        try {
+            for (final ExportTraceServiceRequest partition : partitions.subList(1, partitions.size())) {
+                futures.add(decodeExecutorService.submit(() -> oTelProtoDecoder.parseExportTraceServiceRequest(partition)));
+            }
+            final List<Span> spans = new ArrayList<>(spanCount);
+            spans.addAll(oTelProtoDecoder.parseExportTraceServiceRequest(partitions.get(0)));
+            for (final Future<List<Span>> future : futures) {
+                spans.addAll(future.get());
+            }
+            return spans;
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Splits the request into contiguous groups of {@link ResourceSpans} holding roughly the same number of spans,
+     * at most one group per decode thread plus one for the receiving thread.
+     */
+    private List<ExportTraceServiceRequest> partitionByResourceSpans(final ExportTraceServiceRequest request, final int spanCount) {
+        final int targetSpansPerPartition = Math.max(1, spanCount / (decodeThreadCount + 1));
+        final List<ExportTraceServiceRequest> partitions = new ArrayList<>();
+        ExportTraceServiceRequest.Builder partitionBuilder = ExportTraceServiceRequest.newBuilder();
+        int partitionSpanCount = 0;
+        for (final ResourceSpans resourceSpans : request.getResourceSpansList()) {
+            partitionBuilder.addResourceSpans(resourceSpans);
+            partitionSpanCount += countSpans(resourceSpans);
+            if (partitionSpanCount >= targetSpansPerPartition) {
+                partitions.add(partitionBuilder.build());
+                partitionBuilder = ExportTraceServiceRequest.newBuilder();
+                partitionSpanCount = 0;
+            }
+        }
+        if (partitionBuilder.getResourceSpansCount() > 0) {
+            partitions.add(partitionBuilder.build());
+        }
+        return partitions;
+    }
+
+    private static int countSpans(final ExportTraceServiceRequest request) {
+        int spanCount = 0;
+        for (final ResourceSpans resourceSpans : request.getResourceSpansList()) {
+            spanCount += countSpans(resourceSpans);
+        }
+        return spanCount;
+    }
+
+    private static int countSpans(final ResourceSpans resourceSpans) {
+        int spanCount = 0;
+        for (final InstrumentationLibrarySpans instrumentationLibrarySpans : resourceSpans.getInstrumentationLibrarySpansList()) {
+            spanCount += instrumentationLibrarySpans.getSpansCount();
+        }
+        return spanCount;
+    }
 }
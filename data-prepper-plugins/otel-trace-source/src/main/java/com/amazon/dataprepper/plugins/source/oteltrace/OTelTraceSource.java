@@ -5,7 +5,10 @@
 
 package com.amazon.dataprepper.plugins.source.oteltrace;
 
+import com.amazon.dataprepper.armeria.admission.AdaptiveConcurrencyLimit;
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.armeria.authentication.GrpcAuthenticationProvider;
+import com.amazon.dataprepper.armeria.executor.VirtualThreadBlockingTaskExecutor;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -20,6 +23,7 @@ import com.amazon.dataprepper.plugins.certificate.model.Certificate;
 import com.amazon.dataprepper.plugins.health.HealthGrpcService;
 import com.amazon.dataprepper.plugins.otel.codec.OTelProtoCodec;
 import com.amazon.dataprepper.plugins.source.oteltrace.certificate.CertificateProviderFactory;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linecorp.armeria.server.Server;
 import com.linecorp.armeria.server.ServerBuilder;
 import com.linecorp.armeria.server.grpc.GrpcService;
@@ -34,14 +38,21 @@ import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @DataPrepperPlugin(name = "otel_trace_source", pluginType = Source.class, pluginConfigurationType = OTelTraceSourceConfig.class)
 public class OTelTraceSource implements Source<Record<Object>> {
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceSource.class);
+    private static final int DECODE_QUEUE_SIZE_PER_THREAD = 16;
+    static final String IN_FLIGHT_REQUEST_BYTES = "inFlightRequestBytes";
+    static final String CONCURRENCY_LIMIT = "concurrencyLimit";
     private final OTelTraceSourceConfig oTelTraceSourceConfig;
     private Server server;
+    private ExecutorService decodeExecutorService;
     private final PluginMetrics pluginMetrics;
     private final GrpcAuthenticationProvider authenticationProvider;
     private final CertificateProviderFactory certificateProviderFactory;
@@ -72,12 +83,40 @@ public class OTelTraceSource implements Source<Record<Object>> {
 
         if (server == null) {
 
+            final int decodeThreadCount = oTelTraceSourceConfig.getDecodeThreadCount();
+            if (decodeThreadCount > 0 && oTelTraceSourceConfig.getRecordType() == RecordType.EVENT) {
+                LOG.info("Decoding requests of at least {} spans in parallel with {} threads",
+                        oTelTraceSourceConfig.getParallelDecodeMinSpans(), decodeThreadCount);
+                // Rejected decode tasks run on the receiving thread, which bounds the backlog of the pool. Unlike
+                // CallerRunsPolicy, they also run after shutdown so that no request waits on a discarded task.
+                decodeExecutorService = new ThreadPoolExecutor(decodeThreadCount, decodeThreadCount,
+                        0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(decodeThreadCount * DECODE_QUEUE_SIZE_PER_THREAD),
+                        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("otel-trace-source-decode-%d").build(),
+                        (task, executor) -> task.run());
+            }
+
+            final AdaptiveConcurrencyLimit concurrencyLimit = oTelTraceSourceConfig.isAdaptiveConcurrencyLimit()
+                    ? new AdaptiveConcurrencyLimit(buffer, 1, oTelTraceSourceConfig.getThreadCount(), oTelTraceSourceConfig.getRequestTimeoutInMillis())
+                    : null;
+            final AdmissionController admissionController = new AdmissionController(
+                    buffer,
+                    oTelTraceSourceConfig.rejectWhenBufferFull(),
+                    oTelTraceSourceConfig.getMaxInFlightRequestBytes(),
+                    oTelTraceSourceConfig.getRetryAfterInMillis(),
+                    concurrencyLimit);
+            pluginMetrics.gauge(IN_FLIGHT_REQUEST_BYTES, admissionController, AdmissionController::getInFlightRequestBytes);
+            pluginMetrics.gauge(CONCURRENCY_LIMIT, admissionController, AdmissionController::getConcurrencyLimit);
+
             final OTelTraceGrpcService oTelTraceGrpcService = new OTelTraceGrpcService(
                     oTelTraceSourceConfig.getRequestTimeoutInMillis(),
                     oTelTraceSourceConfig.getRecordType(),
-                    new OTelProtoCodec.OTelProtoDecoder(),
+                    new OTelProtoCodec.OTelProtoJsonNodeDecoder(),
                     buffer,
-                    pluginMetrics
+                    pluginMetrics,
+                    decodeExecutorService,
+                    decodeThreadCount,
+                    oTelTraceSourceConfig.getParallelDecodeMinSpans(),
+                    admissionController
             );
 
             final List<ServerInterceptor> serverInterceptors = getAuthenticationInterceptor();
@@ -123,7 +162,7 @@ public class OTelTraceSource implements Source<Record<Object>> {
 
             sb.maxNumConnections(oTelTraceSourceConfig.getMaxConnectionCount());
             sb.blockingTaskExecutor(
-                    Executors.newScheduledThreadPool(oTelTraceSourceConfig.getThreadCount()),
+                    VirtualThreadBlockingTaskExecutor.create(oTelTraceSourceConfig.getThreadCount(), oTelTraceSourceConfig.useVirtualThreads()),
                     true);
 
             server = sb.build();
@@ -159,6 +198,9 @@ public class OTelTraceSource implements Source<Record<Object>> {
                 throw new RuntimeException(ex);
             }
         }
+        if (decodeExecutorService != null) {
+            decodeExecutorService.shutdown();
+        }
         LOG.info("Stopped otel_trace_source.");
     }
 
@@ -26,6 +26,13 @@ public class OTelTraceSourceConfig {
     static final String MAX_CONNECTION_COUNT = "max_connection_count";
     static final String ENABLE_UNFRAMED_REQUESTS = "unframed_requests";
     static final String RECORD_TYPE = "record_type";
+    static final String DECODE_THREAD_COUNT = "decode_thread_count";
+    static final String PARALLEL_DECODE_MIN_SPANS = "parallel_decode_min_spans";
+    static final String REJECT_WHEN_BUFFER_FULL = "reject_when_buffer_full";
+    static final String MAX_IN_FLIGHT_REQUEST_BYTES = "max_in_flight_request_bytes";
+    static final String RETRY_AFTER = "retry_after";
+    static final String ADAPTIVE_CONCURRENCY_LIMIT = "adaptive_concurrency_limit";
+    static final String USE_VIRTUAL_THREADS = "use_virtual_threads";
     static final int DEFAULT_REQUEST_TIMEOUT_MS = 10000;
     static final int DEFAULT_PORT = 21890;
     static final int DEFAULT_THREAD_COUNT = 200;
@@ -37,6 +44,13 @@ public class OTelTraceSourceConfig {
     static final boolean DEFAULT_USE_ACM_CERT_FOR_SSL = false;
     static final int DEFAULT_ACM_CERT_ISSUE_TIME_OUT_MILLIS = 120000;
     static final RecordType DEFAULT_RECORD_TYPE = RecordType.OTLP;
+    static final int DEFAULT_DECODE_THREAD_COUNT = 0;
+    static final int DEFAULT_PARALLEL_DECODE_MIN_SPANS = 1000;
+    static final boolean DEFAULT_REJECT_WHEN_BUFFER_FULL = false;
+    static final int DEFAULT_MAX_IN_FLIGHT_REQUEST_BYTES = 0;
+    static final int DEFAULT_RETRY_AFTER_MS = 1000;
+    static final boolean DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT = false;
+    static final boolean DEFAULT_USE_VIRTUAL_THREADS = false;
     private static final String S3_PREFIX = "s3://";
 
     @JsonProperty(REQUEST_TIMEOUT)
@@ -92,6 +106,27 @@ public class OTelTraceSourceConfig {
     @JsonProperty(RECORD_TYPE)
     private RecordType recordType = DEFAULT_RECORD_TYPE;
 
+    @JsonProperty(DECODE_THREAD_COUNT)
+    private int decodeThreadCount = DEFAULT_DECODE_THREAD_COUNT;
+
+    @JsonProperty(PARALLEL_DECODE_MIN_SPANS)
+    private int parallelDecodeMinSpans = DEFAULT_PARALLEL_DECODE_MIN_SPANS;
+
+    @JsonProperty(REJECT_WHEN_BUFFER_FULL)
+    private boolean rejectWhenBufferFull = DEFAULT_REJECT_WHEN_BUFFER_FULL;
+
+    @JsonProperty(MAX_IN_FLIGHT_REQUEST_BYTES)
+    private int maxInFlightRequestBytes = DEFAULT_MAX_IN_FLIGHT_REQUEST_BYTES;
+
+    @JsonProperty(RETRY_AFTER)
+    private int retryAfterInMillis = DEFAULT_RETRY_AFTER_MS;
+
+    @JsonProperty(ADAPTIVE_CONCURRENCY_LIMIT)
+    private boolean adaptiveConcurrencyLimit = DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT;
+
+    @JsonProperty(USE_VIRTUAL_THREADS)
+    private boolean useVirtualThreads = DEFAULT_USE_VIRTUAL_THREADS;
+
     public void validateAndInitializeCertAndKeyFileInS3() {
         boolean certAndKeyFileInS3 = false;
         if (useAcmCertForSSL) {
@@ -192,4 +227,32 @@ public class OTelTraceSourceConfig {
     public RecordType getRecordType() {
         return recordType;
     }
+
+    public int getDecodeThreadCount() {
+        return decodeThreadCount;
+    }
+
+    public int getParallelDecodeMinSpans() {
+        return parallelDecodeMinSpans;
+    }
+
+    public boolean rejectWhenBufferFull() {
+        return rejectWhenBufferFull;
+    }
+
+    public int getMaxInFlightRequestBytes() {
+        return maxInFlightRequestBytes;
+    }
+
+    public int getRetryAfterInMillis() {
+        return retryAfterInMillis;
+    }
+
+    public boolean isAdaptiveConcurrencyLimit() {
+        return adaptiveConcurrencyLimit;
+    }
+
+    public boolean useVirtualThreads() {
+        return useVirtualThreads;
+    }
 }
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.source.oteltrace;
 
+import com.amazon.dataprepper.armeria.admission.AdmissionController;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
@@ -36,13 +37,21 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -93,6 +102,12 @@ public class OTelTraceGrpcServiceTest {
     DistributionSummary payloadSizeSummary;
     @Mock
     Timer requestProcessDuration;
+    @Mock
+    Timer requestDecodeDuration;
+    @Mock
+    Counter requestsRejectedCounter;
+    @Mock
+    DistributionSummary spansPerRequestSummary;
 
     @Captor
     ArgumentCaptor<Record> recordCaptor;
@@ -120,6 +135,9 @@ public class OTelTraceGrpcServiceTest {
         when(mockPluginMetrics.counter(OTelTraceGrpcService.SUCCESS_REQUESTS)).thenReturn(successRequestsCounter);
         when(mockPluginMetrics.summary(OTelTraceGrpcService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(mockPluginMetrics.timer(OTelTraceGrpcService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
+        when(mockPluginMetrics.timer(OTelTraceGrpcService.REQUEST_DECODE_DURATION)).thenReturn(requestDecodeDuration);
+        when(mockPluginMetrics.counter(OTelTraceGrpcService.REQUESTS_REJECTED)).thenReturn(requestsRejectedCounter);
+        when(mockPluginMetrics.summary(OTelTraceGrpcService.SPANS_PER_REQUEST)).thenReturn(spansPerRequestSummary);
         doAnswer(invocation -> {
             invocation.<Runnable>getArgument(0).run();
             return null;
@@ -159,11 +177,114 @@ public class OTelTraceGrpcServiceTest {
         assertThat(payloadLengthCaptor.getValue().intValue(), equalTo(SUCCESS_REQUEST.getSerializedSize()));
         verify(requestProcessDuration, times(1)).record(ArgumentMatchers.<Runnable>any());
 
+        verify(requestDecodeDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(spansPerRequestSummary, times(1)).record(1);
+
         final List<Record<Span>> capturedRecords = (List<Record<Span>>) recordsCaptor.getValue();
         assertThat(capturedRecords.size(), equalTo(1));
         assertThat(capturedRecords.get(0).getData().getTraceState(), equalTo("SUCCESS"));
     }
 
+    @Test
+    public void export_withParallelDecode_writesAllSpansInRequestOrder() throws Exception {
+        final ExportTraceServiceRequest request = createRequest(5, 3);
+        final ExecutorService decodeExecutorService = Executors.newFixedThreadPool(2);
+        try {
+            objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.EVENT,
+                    new OTelProtoCodec.OTelProtoDecoder(), buffer, mockPluginMetrics, decodeExecutorService, 2, 10,
+                    new AdmissionController(buffer, false, 0, 0));
+            objectUnderTest.export(request, responseObserver);
+        } finally {
+            decodeExecutorService.shutdown();
+        }
+
+        verify(buffer, times(1)).writeAll(recordsCaptor.capture(), anyInt());
+        verify(responseObserver, times(1)).onNext(ExportTraceServiceResponse.newBuilder().build());
+        verify(responseObserver, times(1)).onCompleted();
+        verify(successRequestsCounter, times(1)).increment();
+        verify(spansPerRequestSummary, times(1)).record(15);
+
+        final List<Record<Span>> capturedRecords = (List<Record<Span>>) recordsCaptor.getValue();
+        assertThat(capturedRecords.size(), equalTo(15));
+        for (int i = 0; i < capturedRecords.size(); i++) {
+            assertThat(capturedRecords.get(i).getData().getName(), equalTo("span-" + i));
+        }
+    }
+
+    @Test
+    public void export_withParallelDecode_belowMinSpans_decodesOnReceivingThread() throws Exception {
+        final ExportTraceServiceRequest request = createRequest(2, 2);
+        final ExecutorService decodeExecutorService = mock(ExecutorService.class);
+        objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.EVENT,
+                new OTelProtoCodec.OTelProtoDecoder(), buffer, mockPluginMetrics, decodeExecutorService, 2, 10,
+                    new AdmissionController(buffer, false, 0, 0));
+        objectUnderTest.export(request, responseObserver);
+
+        verifyNoInteractions(decodeExecutorService);
+        verify(buffer, times(1)).writeAll(recordsCaptor.capture(), anyInt());
+        assertThat(recordsCaptor.getValue().size(), equalTo(4));
+        verify(responseObserver, times(1)).onCompleted();
+    }
+
+    @Test
+    public void export_withParallelDecode_decodeFailure_responseObserverOnError() throws Exception {
+        final ExportTraceServiceRequest request = createRequest(5, 3);
+        when(mockOTelProtoDecoder.parseExportTraceServiceRequest(any())).thenThrow(new RuntimeException("test message"));
+        final ExecutorService decodeExecutorService = Executors.newFixedThreadPool(2);
+        try {
+            objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.EVENT,
+                    mockOTelProtoDecoder, buffer, mockPluginMetrics, decodeExecutorService, 2, 10,
+                    new AdmissionController(buffer, false, 0, 0));
+            objectUnderTest.export(request, responseObserver);
+        } finally {
+            decodeExecutorService.shutdown();
+        }
+
+        verifyNoInteractions(buffer);
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verify(badRequestsCounter, times(1)).increment();
+        verifyNoInteractions(successRequestsCounter);
+        assertThat(statusExceptionArgumentCaptor.getValue().getStatus().getCode(), equalTo(Status.INVALID_ARGUMENT.getCode()));
+    }
+
+    @Test
+    public void export_withParallelDecode_interrupted_responseObserverOnErrorWithoutBadRequest() throws Exception {
+        final ExportTraceServiceRequest request = createRequest(5, 3);
+        final ExecutorService decodeExecutorService = mock(ExecutorService.class);
+        final Future<List<Span>> decodeFuture = mock(Future.class);
+        when(decodeExecutorService.submit(ArgumentMatchers.<Callable<List<Span>>>any())).thenReturn(decodeFuture);
+        when(decodeFuture.get()).thenThrow(new InterruptedException());
+        objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.EVENT,
+                new OTelProtoCodec.OTelProtoDecoder(), buffer, mockPluginMetrics, decodeExecutorService, 2, 10,
+                new AdmissionController(buffer, false, 0, 0));
+
+        objectUnderTest.export(request, responseObserver);
+
+        assertThat(Thread.interrupted(), equalTo(true));
+        verifyNoInteractions(buffer);
+        verify(decodeFuture, times(2)).cancel(true);
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verifyNoInteractions(badRequestsCounter);
+        verifyNoInteractions(successRequestsCounter);
+        assertThat(statusExceptionArgumentCaptor.getValue().getStatus().getCode(), equalTo(Status.UNAVAILABLE.getCode()));
+    }
+
+    @Test
+    public void export_BufferWriteInterrupted_responseObserverOnErrorWithoutInternalServerError() throws Exception {
+        doThrow(new InterruptedException()).when(buffer).writeAll(any(Collection.class), anyInt());
+        objectUnderTest = generateOTelTraceGrpcService(new OTelProtoCodec.OTelProtoDecoder(), RecordType.EVENT);
+
+        objectUnderTest.export(SUCCESS_REQUEST, responseObserver);
+
+        assertThat(Thread.interrupted(), equalTo(true));
+        verify(responseObserver, times(0)).onCompleted();
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verifyNoInteractions(badRequestsCounter);
+        verifyNoInteractions(internalServerErrorCounter);
+        verifyNoInteractions(successRequestsCounter);
+        assertThat(statusExceptionArgumentCaptor.getValue().getStatus().getCode(), equalTo(Status.UNAVAILABLE.getCode()));
+    }
+
     @Test
     public void export_BufferTimeout_responseObserverOnError_withOTLPRecordType() throws Exception {
         objectUnderTest = generateOTelTraceGrpcService(new OTelProtoCodec.OTelProtoDecoder(), RecordType.OTLP);
@@ -286,6 +407,94 @@ public class OTelTraceGrpcServiceTest {
         assertThat(capturedStatusException.getStatus().getCode(), equalTo(Status.INTERNAL.getCode()));
     }
 
+    @Test
+    public void export_withoutBufferCapacity_rejectsBeforeDecoding_withEventRecordType() throws Exception {
+        final ExportTraceServiceRequest request = createRequest(2, 3);
+        when(buffer.getMaxCapacity()).thenReturn(10);
+        when(buffer.getRemainingCapacity()).thenReturn(5);
+        objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.EVENT,
+                mockOTelProtoDecoder, buffer, mockPluginMetrics, null, 0, 0,
+                new AdmissionController(buffer, true, 0, 250));
+        objectUnderTest.export(request, responseObserver);
+
+        verifyNoInteractions(mockOTelProtoDecoder);
+        verify(buffer, times(0)).writeAll(any(Collection.class), anyInt());
+        verify(responseObserver, times(0)).onCompleted();
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verify(requestsReceivedCounter, times(1)).increment();
+        verify(requestsRejectedCounter, times(1)).increment();
+        verifyNoInteractions(successRequestsCounter);
+        verifyNoInteractions(timeoutCounter);
+
+        final StatusException capturedStatusException = statusExceptionArgumentCaptor.getValue();
+        assertThat(capturedStatusException.getStatus().getCode(), equalTo(Status.RESOURCE_EXHAUSTED.getCode()));
+        assertThat(capturedStatusException.getTrailers().get(AdmissionController.RETRY_PUSHBACK_MS_KEY), equalTo("250"));
+    }
+
+    @Test
+    public void export_withBufferCapacity_admitsRequest_withEventRecordType() throws Exception {
+        final ExportTraceServiceRequest request = createRequest(2, 3);
+        when(buffer.getMaxCapacity()).thenReturn(10);
+        when(buffer.getRemainingCapacity()).thenReturn(6);
+        objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.EVENT,
+                new OTelProtoCodec.OTelProtoDecoder(), buffer, mockPluginMetrics, null, 0, 0,
+                new AdmissionController(buffer, true, 0, 250));
+        objectUnderTest.export(request, responseObserver);
+
+        verify(buffer, times(1)).writeAll(recordsCaptor.capture(), anyInt());
+        assertThat(recordsCaptor.getValue().size(), equalTo(6));
+        verify(responseObserver, times(1)).onCompleted();
+        verifyNoInteractions(requestsRejectedCounter);
+    }
+
+    @Test
+    public void export_withoutBufferCapacity_rejects_withOTLPRecordType() throws Exception {
+        when(buffer.getMaxCapacity()).thenReturn(10);
+        when(buffer.getRemainingCapacity()).thenReturn(0);
+        objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.OTLP,
+                mockOTelProtoDecoder, buffer, mockPluginMetrics, null, 0, 0,
+                new AdmissionController(buffer, true, 0, 250));
+        objectUnderTest.export(SUCCESS_REQUEST, responseObserver);
+
+        verify(buffer, times(0)).write(any(Record.class), anyInt());
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verify(requestsRejectedCounter, times(1)).increment();
+        assertThat(statusExceptionArgumentCaptor.getValue().getStatus().getCode(), equalTo(Status.RESOURCE_EXHAUSTED.getCode()));
+    }
+
+    @Test
+    public void export_withMoreSpansThanBufferCapacity_rejectsAsTooLargeWithoutRetryPushback() throws Exception {
+        final ExportTraceServiceRequest request = createRequest(2, 3);
+        when(buffer.getMaxCapacity()).thenReturn(5);
+        objectUnderTest = new OTelTraceGrpcService(bufferWriteTimeoutInMillis, RecordType.EVENT,
+                mockOTelProtoDecoder, buffer, mockPluginMetrics, null, 0, 0,
+                new AdmissionController(buffer, true, 0, 250));
+        objectUnderTest.export(request, responseObserver);
+
+        verifyNoInteractions(mockOTelProtoDecoder);
+        verify(buffer, times(0)).writeAll(any(Collection.class), anyInt());
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verify(requestsTooLargeCounter, times(1)).increment();
+        verifyNoInteractions(requestsRejectedCounter);
+
+        final StatusException capturedStatusException = statusExceptionArgumentCaptor.getValue();
+        assertThat(capturedStatusException.getStatus().getCode(), equalTo(Status.RESOURCE_EXHAUSTED.getCode()));
+        assertThat(capturedStatusException.getTrailers(), nullValue());
+    }
+
+    private ExportTraceServiceRequest createRequest(final int resourceSpansCount, final int spansPerResourceSpans) {
+        final ExportTraceServiceRequest.Builder requestBuilder = ExportTraceServiceRequest.newBuilder();
+        int spanIndex = 0;
+        for (int i = 0; i < resourceSpansCount; i++) {
+            final InstrumentationLibrarySpans.Builder instrumentationLibrarySpans = InstrumentationLibrarySpans.newBuilder();
+            for (int j = 0; j < spansPerResourceSpans; j++) {
+                instrumentationLibrarySpans.addSpans(TEST_SPAN.toBuilder().setName("span-" + spanIndex++));
+            }
+            requestBuilder.addResourceSpans(ResourceSpans.newBuilder().addInstrumentationLibrarySpans(instrumentationLibrarySpans));
+        }
+        return requestBuilder.build();
+    }
+
     private OTelTraceGrpcService generateOTelTraceGrpcService(final OTelProtoCodec.OTelProtoDecoder decoder, final RecordType recordType) {
         return new OTelTraceGrpcService(
                 bufferWriteTimeoutInMillis, recordType, decoder, buffer, mockPluginMetrics);
@@ -49,7 +49,14 @@ public class OtelTraceSourceConfigTests {
         assertEquals(OTelTraceSourceConfig.DEFAULT_PORT, otelTraceSourceConfig.getPort());
         assertEquals(OTelTraceSourceConfig.DEFAULT_THREAD_COUNT, otelTraceSourceConfig.getThreadCount());
         assertEquals(OTelTraceSourceConfig.DEFAULT_MAX_CONNECTION_COUNT, otelTraceSourceConfig.getMaxConnectionCount());
+        assertEquals(OTelTraceSourceConfig.DEFAULT_REJECT_WHEN_BUFFER_FULL, otelTraceSourceConfig.rejectWhenBufferFull());
+        assertEquals(OTelTraceSourceConfig.DEFAULT_MAX_IN_FLIGHT_REQUEST_BYTES, otelTraceSourceConfig.getMaxInFlightRequestBytes());
+        assertEquals(OTelTraceSourceConfig.DEFAULT_RETRY_AFTER_MS, otelTraceSourceConfig.getRetryAfterInMillis());
+        assertEquals(OTelTraceSourceConfig.DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT, otelTraceSourceConfig.isAdaptiveConcurrencyLimit());
+        assertEquals(OTelTraceSourceConfig.DEFAULT_USE_VIRTUAL_THREADS, otelTraceSourceConfig.useVirtualThreads());
         assertEquals(OTelTraceSourceConfig.DEFAULT_RECORD_TYPE, otelTraceSourceConfig.getRecordType());
+        assertEquals(OTelTraceSourceConfig.DEFAULT_DECODE_THREAD_COUNT, otelTraceSourceConfig.getDecodeThreadCount());
+        assertEquals(OTelTraceSourceConfig.DEFAULT_PARALLEL_DECODE_MIN_SPANS, otelTraceSourceConfig.getParallelDecodeMinSpans());
         assertFalse(otelTraceSourceConfig.hasHealthCheck());
         assertFalse(otelTraceSourceConfig.hasProtoReflectionService());
         assertFalse(otelTraceSourceConfig.isSslCertAndKeyFileInS3());
@@ -9,4 +9,10 @@ public class ServiceMapPrepperConfig {
     static final String WINDOW_DURATION = "window_duration";
     static final int DEFAULT_WINDOW_DURATION = 180;
     static final String DEFAULT_DB_PATH = "data/service-map/";
+    static final String RELATIONSHIP_STATE_MAX_SIZE = "relationship_state_max_size";
+    static final int DEFAULT_RELATIONSHIP_STATE_MAX_SIZE = 100_000;
+    static final String RELATIONSHIP_STATE_TTL = "relationship_state_ttl";
+    static final int DEFAULT_RELATIONSHIP_STATE_TTL = 86_400;
+    static final String RELATIONSHIP_REFRESH_INTERVAL = "relationship_refresh_interval";
+    static final int DEFAULT_RELATIONSHIP_REFRESH_INTERVAL = 3_600;
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded record of the {@link ServiceMapRelationship}s which have already been emitted. Relationships are stored
+ * as 64-bit fingerprints mapped to the time they were last emitted. Entries are evicted once the maximum size is
+ * reached or when a relationship has not been seen for the configured time to live.
+ */
+class ServiceMapRelationshipState {
+
+    private static final HashFunction FINGERPRINT_FUNCTION = Hashing.farmHashFingerprint64();
+    private static final byte FIELD_SEPARATOR = 0;
+    private static final byte NULL_FIELD = 1;
+
+    private final Cache<Long, Long> emittedRelationships;
+    private final Clock clock;
+    private final long refreshIntervalMillis;
+
+    /**
+     * @param maximumSize Maximum number of relationships to track
+     * @param timeToLiveMillis Time after which a relationship which has not been seen is evicted
+     * @param refreshIntervalMillis Time after which a relationship which is still seen is emitted again
+     * @param clock Clock used for both expiration and refreshing
+     */
+    ServiceMapRelationshipState(final long maximumSize,
+                                final long timeToLiveMillis,
+                                final long refreshIntervalMillis,
+                                final Clock clock) {
+        this.clock = clock;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.emittedRelationships = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(timeToLiveMillis, TimeUnit.MILLISECONDS)
+                .ticker(new ClockTicker(clock))
+                .build();
+    }
+
+    /**
+     * Records that the relationship was seen and determines whether it should be emitted. A relationship is emitted
+     * the first time it is seen, and again once the refresh interval has passed since it was last emitted.
+     *
+     * @param serviceMapRelationship The relationship which was seen
+     * @return True if the relationship should be emitted, false if it was emitted recently
+     */
+    boolean shouldEmit(final ServiceMapRelationship serviceMapRelationship) {
+        final long fingerprint = fingerprint(serviceMapRelationship);
+        final long now = clock.millis();
+        final Long lastEmitted = emittedRelationships.getIfPresent(fingerprint);
+        if (lastEmitted != null && now - lastEmitted < refreshIntervalMillis) {
+            return false;
+        }
+        emittedRelationships.put(fingerprint, now);
+        return true;
+    }
+
+    /**
+     * Removes expired relationships. Expired entries are otherwise removed during regular cache operations.
+     */
+    void cleanUp() {
+        emittedRelationships.cleanUp();
+    }
+
+    /**
+     * @return Approximate number of relationships currently tracked
+     */
+    long size() {
+        return emittedRelationships.size();
+    }
+
+    static long fingerprint(final ServiceMapRelationship serviceMapRelationship) {
+        final Hasher hasher = FINGERPRINT_FUNCTION.newHasher();
+        putField(hasher, serviceMapRelationship.getServiceName());
+        putField(hasher, serviceMapRelationship.getKind());
+        putField(hasher, serviceMapRelationship.getTraceGroupName());
+        putEndpoint(hasher, serviceMapRelationship.getDestination());
+        putEndpoint(hasher, serviceMapRelationship.getTarget());
+        return hasher.hash().asLong();
+    }
+
+    private static void putEndpoint(final Hasher hasher, final ServiceMapRelationship.Endpoint endpoint) {
+        if (endpoint == null) {
+            hasher.putByte(NULL_FIELD);
+            return;
+        }
+        putField(hasher, endpoint.getResource());
+        putField(hasher, endpoint.getDomain());
+    }
+
+    private static void putField(final Hasher hasher, final String field) {
+        if (field == null) {
+            hasher.putByte(NULL_FIELD);
+        } else {
+            hasher.putString(field, StandardCharsets.UTF_8);
+        }
+        hasher.putByte(FIELD_SEPARATOR);
+    }
+
+    private static class ClockTicker extends Ticker {
+        private final Clock clock;
+
+        private ClockTicker(final Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long read() {
+            return TimeUnit.MILLISECONDS.toNanos(clock.millis());
+        }
+    }
+}
@@ -16,7 +16,6 @@ import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.trace.Span;
 import com.amazon.dataprepper.plugins.prepper.state.MapDbPrepperState;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Sets;
 import com.google.common.primitives.SignedBytes;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import org.apache.commons.codec.binary.Hex;
@@ -30,7 +29,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
@@ -42,6 +40,7 @@ public class ServiceMapStatefulPrepper extends AbstractProcessor<Record<Object>,
 
     public static final String SPANS_DB_SIZE = "spansDbSize";
     public static final String TRACE_GROUP_DB_SIZE = "traceGroupDbSize";
+    public static final String RELATIONSHIP_STATE_SIZE = "relationshipStateSize";
 
     private static final Logger LOG = LoggerFactory.getLogger(ServiceMapStatefulPrepper.class);
     private static final String EMPTY_SUFFIX = "-empty";
@@ -60,8 +59,7 @@ public class ServiceMapStatefulPrepper extends AbstractProcessor<Record<Object>,
     private static volatile MapDbPrepperState<ServiceMapStateData> currentWindow;
     private static volatile MapDbPrepperState<String> previousTraceGroupWindow;
     private static volatile MapDbPrepperState<String> currentTraceGroupWindow;
-    //TODO: Consider keeping this state in a db
-    private static final Set<ServiceMapRelationship> RELATIONSHIP_STATE = Sets.newConcurrentHashSet();
+    private static volatile ServiceMapRelationshipState relationshipState;
     private static File dbPath;
     private static Clock clock;
 
@@ -95,11 +93,21 @@ public class ServiceMapStatefulPrepper extends AbstractProcessor<Record<Object>,
             currentTraceGroupWindow = new MapDbPrepperState<>(dbPath, getNewTraceDbName(), processWorkers);
             previousTraceGroupWindow = new MapDbPrepperState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
 
+            relationshipState = new ServiceMapRelationshipState(
+                    pluginSetting.getIntegerOrDefault(ServiceMapPrepperConfig.RELATIONSHIP_STATE_MAX_SIZE,
+                            ServiceMapPrepperConfig.DEFAULT_RELATIONSHIP_STATE_MAX_SIZE),
+                    (long) pluginSetting.getIntegerOrDefault(ServiceMapPrepperConfig.RELATIONSHIP_STATE_TTL,
+                            ServiceMapPrepperConfig.DEFAULT_RELATIONSHIP_STATE_TTL) * TO_MILLIS,
+                    (long) pluginSetting.getIntegerOrDefault(ServiceMapPrepperConfig.RELATIONSHIP_REFRESH_INTERVAL,
+                            ServiceMapPrepperConfig.DEFAULT_RELATIONSHIP_REFRESH_INTERVAL) * TO_MILLIS,
+                    clock);
+
             allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
         }
 
         pluginMetrics.gauge(SPANS_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbSize());
         pluginMetrics.gauge(TRACE_GROUP_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbSize());
+        pluginMetrics.gauge(RELATIONSHIP_STATE_SIZE, this, serviceMapStateful -> serviceMapStateful.getRelationshipStateSize());
     }
 
     /**
@@ -282,14 +290,13 @@ public class ServiceMapStatefulPrepper extends AbstractProcessor<Record<Object>,
 
     private void addServiceMapRelationship(
             final Collection<Record<Event>> serviceDependencyRecords, final ServiceMapRelationship serviceMapRelationship) {
-        if (!RELATIONSHIP_STATE.contains(serviceMapRelationship)) {
+        if (relationshipState.shouldEmit(serviceMapRelationship)) {
             try {
                 final Event destinationRelationshipEvent = JacksonEvent.builder()
                         .withEventType(EVENT_TYPE)
                         .withData(serviceMapRelationship)
                         .build();
                 serviceDependencyRecords.add(new Record<>(destinationRelationshipEvent));
-                RELATIONSHIP_STATE.add(serviceMapRelationship);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -348,6 +355,8 @@ public class ServiceMapStatefulPrepper extends AbstractProcessor<Record<Object>,
         currentTraceGroupWindow = tempWindow;
         currentTraceGroupWindow.clear();
 
+        relationshipState.cleanUp();
+
         previousTimestamp = clock.millis();
         LOG.info("Done rotating service map windows");
     }
@@ -367,6 +376,13 @@ public class ServiceMapStatefulPrepper extends AbstractProcessor<Record<Object>,
         return currentTraceGroupWindow.sizeInBytes() + previousTraceGroupWindow.sizeInBytes();
     }
 
+    /**
+     * @return Number of service map relationships tracked for deduplication
+     */
+    public double getRelationshipStateSize() {
+        return relationshipState.size();
+    }
+
     /**
      * @return Next database name
      */
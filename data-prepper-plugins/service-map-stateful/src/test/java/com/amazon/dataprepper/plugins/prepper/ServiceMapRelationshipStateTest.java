@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMapRelationshipStateTest {
+    private static final long TIME_TO_LIVE_MILLIS = 10_000;
+    private static final long REFRESH_INTERVAL_MILLIS = 1_000;
+
+    @Mock
+    private Clock clock;
+
+    private ServiceMapRelationship destinationRelationship;
+    private ServiceMapRelationship targetRelationship;
+
+    @BeforeEach
+    void setUp() {
+        destinationRelationship = ServiceMapRelationship.newDestinationRelationship("service", "SPAN_KIND_CLIENT", "domain", "resource", "traceGroup");
+        targetRelationship = ServiceMapRelationship.newTargetRelationship("service", "SPAN_KIND_CLIENT", "domain", "resource", "traceGroup");
+    }
+
+    private ServiceMapRelationshipState createObjectUnderTest(final long maximumSize) {
+        when(clock.millis()).thenReturn(0L);
+        return new ServiceMapRelationshipState(maximumSize, TIME_TO_LIVE_MILLIS, REFRESH_INTERVAL_MILLIS, clock);
+    }
+
+    @Test
+    void shouldEmit_returns_true_only_for_first_occurrence_within_refresh_interval() {
+        final ServiceMapRelationshipState objectUnderTest = createObjectUnderTest(100);
+
+        assertThat(objectUnderTest.shouldEmit(destinationRelationship), equalTo(true));
+        when(clock.millis()).thenReturn(REFRESH_INTERVAL_MILLIS - 1);
+        assertThat(objectUnderTest.shouldEmit(destinationRelationship), equalTo(false));
+        assertThat(objectUnderTest.shouldEmit(targetRelationship), equalTo(true));
+        assertThat(objectUnderTest.size(), equalTo(2L));
+    }
+
+    @Test
+    void shouldEmit_returns_true_again_after_refresh_interval() {
+        final ServiceMapRelationshipState objectUnderTest = createObjectUnderTest(100);
+
+        assertThat(objectUnderTest.shouldEmit(destinationRelationship), equalTo(true));
+        when(clock.millis()).thenReturn(REFRESH_INTERVAL_MILLIS);
+        assertThat(objectUnderTest.shouldEmit(destinationRelationship), equalTo(true));
+        when(clock.millis()).thenReturn(REFRESH_INTERVAL_MILLIS + 1);
+        assertThat(objectUnderTest.shouldEmit(destinationRelationship), equalTo(false));
+    }
+
+    @Test
+    void relationships_not_seen_within_time_to_live_are_evicted() {
+        final ServiceMapRelationshipState objectUnderTest = createObjectUnderTest(100);
+
+        objectUnderTest.shouldEmit(destinationRelationship);
+        when(clock.millis()).thenReturn(TIME_TO_LIVE_MILLIS);
+        objectUnderTest.cleanUp();
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+
+    @Test
+    void size_does_not_exceed_maximum_size() {
+        final ServiceMapRelationshipState objectUnderTest = createObjectUnderTest(1);
+
+        objectUnderTest.shouldEmit(destinationRelationship);
+        objectUnderTest.shouldEmit(targetRelationship);
+        objectUnderTest.cleanUp();
+
+        assertThat(objectUnderTest.size(), equalTo(1L));
+    }
+
+    @Test
+    void fingerprint_is_equal_for_equal_relationships() {
+        final ServiceMapRelationship equalRelationship = ServiceMapRelationship.newDestinationRelationship("service", "SPAN_KIND_CLIENT", "domain", "resource", "traceGroup");
+
+        assertThat(ServiceMapRelationshipState.fingerprint(destinationRelationship),
+                equalTo(ServiceMapRelationshipState.fingerprint(equalRelationship)));
+        assertThat(ServiceMapRelationshipState.fingerprint(destinationRelationship),
+                not(equalTo(ServiceMapRelationshipState.fingerprint(targetRelationship))));
+    }
+}
@@ -10,7 +10,6 @@ import com.amazon.dataprepper.metrics.MetricsTestUtil;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.trace.Span;
-import com.google.common.collect.Sets;
 import io.micrometer.core.instrument.Measurement;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import org.apache.commons.codec.binary.Hex;
@@ -65,7 +64,7 @@ public class ServiceMapStatefulPrepperTest {
     }
 
     public void resetServiceMapStatefulPrepperStatic() throws NoSuchFieldException, IllegalAccessException {
-        reflectivelySetField(ServiceMapStatefulPrepper.class, "RELATIONSHIP_STATE", Sets.newConcurrentHashSet());
+        reflectivelySetField(ServiceMapStatefulPrepper.class, "relationshipState", null);
         reflectivelySetField(ServiceMapStatefulPrepper.class, "preppersCreated", new AtomicInteger(0));
         reflectivelySetField(ServiceMapStatefulPrepper.class, "previousTimestamp", 0);
         reflectivelySetField(ServiceMapStatefulPrepper.class, "windowDurationMillis", 0);
@@ -410,6 +409,12 @@ public class ServiceMapStatefulPrepperTest {
                         .add(ServiceMapStatefulPrepper.TRACE_GROUP_DB_SIZE).toString());
         Assert.assertEquals(1, traceGroupDbSizeMeasurement.size());
 
+        final List<Measurement> relationshipStateSizeMeasurement = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add("testPipelineName").add("testServiceMapPrepper")
+                        .add(ServiceMapStatefulPrepper.RELATIONSHIP_STATE_SIZE).toString());
+        Assert.assertEquals(1, relationshipStateSizeMeasurement.size());
+        Assert.assertEquals(10, relationshipStateSizeMeasurement.get(0).getValue(), 0);
+
 
         //Make sure that future relationships that are equivalent are caught by cache
         final byte[] rootSpanId3Bytes = ServiceMapTestUtils.getRandomBytes(8);